@@ -0,0 +1,422 @@
+package Math;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+public final class BinaryFormat {
+    /**
+     * Reads and writes {@link Vector}, {@link Matrix} and {@link Tensor} objects in a compact binary file format through
+     * NIO {@link FileChannel}s. A file has three parts:
+     * <ul>
+     *     <li>A header of {@link #HEADER_ALIGNMENT} byte aligned size holding the magic number "SMAT", the format
+     *     version, the byte order of the data, the data type, the rank, the number of items in each checksum block,
+     *     the size of each dimension and a CRC32 of the preceding header bytes. The header is always little endian.</li>
+     *     <li>The items as contiguous IEEE 754 doubles in row major order, written little endian. The data starts at an
+     *     aligned offset, so it can be memory mapped directly.</li>
+     *     <li>A trailer holding the CRC32 of each block of {@link #BLOCK_SIZE} items of the data, which is checked while
+     *     the data is read.</li>
+     * </ul>
+     * Values are stored exactly, unlike {@link Matrix#printToFile(String)}.
+     */
+
+    /**
+     * Alignment in bytes of the header size, and so of the start of the data.
+     */
+    static final int HEADER_ALIGNMENT = 64;
+
+    /**
+     * Number of items in each block covered by one checksum, which is also the number of items moved per I/O call.
+     */
+    static final int BLOCK_SIZE = 1 << 17;
+
+    /**
+     * Version of the format written by this class.
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * Data type code of 64 bit IEEE 754 floating point items.
+     */
+    static final byte FLOAT64 = 1;
+
+    private static final byte[] MAGIC = {'S', 'M', 'A', 'T'};
+
+    private static final int FIXED_HEADER_SIZE = 16;
+
+    private BinaryFormat() {
+    }
+
+    /**
+     * Fields of a file header.
+     */
+    static final class Header {
+        private final ByteOrder byteOrder;
+        private final long[] shape;
+        private final int blockSize;
+
+        /**
+         * Creates the header of a file holding little endian items in blocks of {@link #BLOCK_SIZE}.
+         *
+         * @param shape size of each dimension.
+         */
+        Header(long[] shape) {
+            this(ByteOrder.LITTLE_ENDIAN, shape, BLOCK_SIZE);
+        }
+
+        private Header(ByteOrder byteOrder, long[] shape, int blockSize) {
+            for (long dimension : shape) {
+                if (dimension < 0) {
+                    throw new IllegalArgumentException("Dimensions must be nonnegative.");
+                }
+            }
+            this.byteOrder = byteOrder;
+            this.shape = shape;
+            this.blockSize = blockSize;
+        }
+
+        /**
+         * Returns the byte order of the items.
+         *
+         * @return byte order of the items.
+         */
+        ByteOrder byteOrder() {
+            return byteOrder;
+        }
+
+        /**
+         * Returns the size of each dimension.
+         *
+         * @return copy of the shape.
+         */
+        long[] shape() {
+            return shape.clone();
+        }
+
+        /**
+         * Returns the number of items in each checksum block.
+         *
+         * @return number of items in each checksum block.
+         */
+        int blockSize() {
+            return blockSize;
+        }
+
+        /**
+         * Returns the number of items.
+         *
+         * @return product of the dimensions.
+         */
+        long count() {
+            long count = 1;
+            for (long dimension : shape) {
+                count *= dimension;
+            }
+            return count;
+        }
+
+        /**
+         * Returns the position of the first item in the file.
+         *
+         * @return size of the header in bytes.
+         */
+        long dataOffset() {
+            long size = FIXED_HEADER_SIZE + 8L * shape.length + 4;
+            return (size + HEADER_ALIGNMENT - 1) / HEADER_ALIGNMENT * HEADER_ALIGNMENT;
+        }
+
+        /**
+         * Returns the number of checksum blocks.
+         *
+         * @return number of checksum blocks.
+         */
+        long blockCount() {
+            return (count() + blockSize - 1) / blockSize;
+        }
+
+        /**
+         * Returns the position of the checksum table in the file.
+         *
+         * @return position just after the last item.
+         */
+        long trailerOffset() {
+            return dataOffset() + 8 * count();
+        }
+
+        /**
+         * Returns the size of a complete file with this header.
+         *
+         * @return size of the file in bytes.
+         */
+        long fileSize() {
+            return trailerOffset() + 4 * blockCount();
+        }
+
+        /**
+         * Writes the header at the start of the channel.
+         *
+         * @param channel file to write.
+         * @throws IOException if the file can not be written.
+         */
+        void write(FileChannel channel) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate((int) dataOffset()).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put(MAGIC).put(VERSION).put((byte) (byteOrder == ByteOrder.LITTLE_ENDIAN ? 0 : 1)).put(FLOAT64).put((byte) 0);
+            buffer.putInt(shape.length).putInt(blockSize);
+            for (long dimension : shape) {
+                buffer.putLong(dimension);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), 0, buffer.position());
+            buffer.putInt((int) crc.getValue());
+            buffer.clear();
+            writeFully(channel, buffer, 0);
+        }
+
+        /**
+         * Reads and validates the header at the start of the channel.
+         *
+         * @param channel file to read.
+         * @return header of the file.
+         * @throws IOException if the file can not be read, is not in this format or its header is corrupted.
+         */
+        static Header read(FileChannel channel) throws IOException {
+            ByteBuffer fixed = ByteBuffer.allocate(FIXED_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, fixed, 0);
+            for (int i = 0; i < MAGIC.length; i++) {
+                if (fixed.get(i) != MAGIC[i]) {
+                    throw new IOException("Not a binary matrix file.");
+                }
+            }
+            if (fixed.get(4) != VERSION) {
+                throw new IOException("Unsupported format version " + fixed.get(4) + ".");
+            }
+            if (fixed.get(5) != 0 && fixed.get(5) != 1) {
+                throw new IOException("Unknown byte order code " + fixed.get(5) + ".");
+            }
+            if (fixed.get(6) != FLOAT64) {
+                throw new IOException("Unsupported data type code " + fixed.get(6) + ".");
+            }
+            int rank = fixed.getInt(8);
+            int blockSize = fixed.getInt(12);
+            if (rank < 0 || rank > 64 || blockSize <= 0) {
+                throw new IOException("Corrupted header.");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(FIXED_HEADER_SIZE + 8 * rank + 4).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, buffer, 0);
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), 0, FIXED_HEADER_SIZE + 8 * rank);
+            if ((int) crc.getValue() != buffer.getInt(FIXED_HEADER_SIZE + 8 * rank)) {
+                throw new IOException("Header checksum mismatch.");
+            }
+            long[] shape = new long[rank];
+            for (int i = 0; i < rank; i++) {
+                shape[i] = buffer.getLong(FIXED_HEADER_SIZE + 8 * i);
+                if (shape[i] < 0) {
+                    throw new IOException("Corrupted header.");
+                }
+            }
+            ByteOrder byteOrder = fixed.get(5) == 0 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+            Header header = new Header(byteOrder, shape, blockSize);
+            if (channel.size() < header.fileSize()) {
+                throw new EOFException("File is shorter than its header declares.");
+            }
+            return header;
+        }
+    }
+
+    /**
+     * The write method writes the given {@link Matrix} to the file with the given name.
+     *
+     * @param fileName name of the file.
+     * @param matrix   matrix to write.
+     * @throws IOException if the file can not be written.
+     */
+    public static void write(String fileName, Matrix matrix) throws IOException {
+        write(fileName, new long[]{matrix.getRow(), matrix.getColumn()}, matrix.getData());
+    }
+
+    /**
+     * The write method writes the given {@link Vector} to the file with the given name.
+     *
+     * @param fileName name of the file.
+     * @param vector   vector to write.
+     * @throws IOException if the file can not be written.
+     */
+    public static void write(String fileName, Vector vector) throws IOException {
+        write(fileName, new long[]{vector.size()}, vector.toArray());
+    }
+
+    /**
+     * The write method writes the given {@link Tensor} to the file with the given name.
+     *
+     * @param fileName name of the file.
+     * @param tensor   tensor to write.
+     * @throws IOException if the file can not be written.
+     */
+    public static void write(String fileName, Tensor tensor) throws IOException {
+        int[] shape = tensor.getShape();
+        long[] dimensions = new long[shape.length];
+        for (int i = 0; i < shape.length; i++) {
+            dimensions[i] = shape[i];
+        }
+        write(fileName, dimensions, tensor.getData());
+    }
+
+    /**
+     * The readMatrix method reads a {@link Matrix} from the file with the given name.
+     *
+     * @param fileName name of the file.
+     * @return matrix in the file.
+     * @throws IOException if the file can not be read, is corrupted or does not hold a matrix.
+     */
+    public static Matrix readMatrix(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            Header header = Header.read(channel);
+            if (header.shape.length != 2) {
+                throw new IOException("File holds a tensor of rank " + header.shape.length + ", not a matrix.");
+            }
+            if (header.shape[0] > Integer.MAX_VALUE || header.shape[1] > Integer.MAX_VALUE) {
+                throw new IOException("Matrix dimensions do not fit in an int.");
+            }
+            return new Matrix((int) header.shape[0], (int) header.shape[1], readData(channel, header));
+        }
+    }
+
+    /**
+     * The readVector method reads a {@link Vector} from the file with the given name.
+     *
+     * @param fileName name of the file.
+     * @return vector in the file.
+     * @throws IOException if the file can not be read, is corrupted or does not hold a vector.
+     */
+    public static Vector readVector(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            Header header = Header.read(channel);
+            if (header.shape.length != 1) {
+                throw new IOException("File holds a tensor of rank " + header.shape.length + ", not a vector.");
+            }
+            return Vector.wrap(readData(channel, header));
+        }
+    }
+
+    /**
+     * The readTensor method reads a {@link Tensor} of any rank from the file with the given name.
+     *
+     * @param fileName name of the file.
+     * @return tensor in the file.
+     * @throws IOException if the file can not be read or is corrupted.
+     */
+    public static Tensor readTensor(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            Header header = Header.read(channel);
+            int[] shape = new int[header.shape.length];
+            for (int i = 0; i < shape.length; i++) {
+                if (header.shape[i] > Integer.MAX_VALUE) {
+                    throw new IOException("Dimension " + header.shape[i] + " does not fit in a tensor.");
+                }
+                shape[i] = (int) header.shape[i];
+            }
+            return new Tensor(readData(channel, header), shape);
+        }
+    }
+
+    /**
+     * Writes a header with the given shape, the items and their checksums to the file with the given name, replacing
+     * its content.
+     */
+    private static void write(String fileName, long[] shape, double[] data) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Header header = new Header(shape);
+            header.write(channel);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(8 * Math.min(BLOCK_SIZE, Math.max(data.length, 1)))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer checksums = ByteBuffer.allocate((int) (4 * header.blockCount())).order(ByteOrder.LITTLE_ENDIAN);
+            DoubleBuffer doubles = buffer.asDoubleBuffer();
+            CRC32 crc = new CRC32();
+            long position = header.dataOffset();
+            for (int start = 0; start < data.length; start += BLOCK_SIZE) {
+                int length = Math.min(BLOCK_SIZE, data.length - start);
+                doubles.clear();
+                doubles.put(data, start, length);
+                buffer.clear().limit(8 * length);
+                crc.reset();
+                crc.update(buffer);
+                checksums.putInt((int) crc.getValue());
+                buffer.flip();
+                position += writeFully(channel, buffer, position);
+            }
+            checksums.flip();
+            writeFully(channel, checksums, position);
+        }
+    }
+
+    /**
+     * Reads the items of a file with the given header, checking the checksum of every block.
+     */
+    private static double[] readData(FileChannel channel, Header header) throws IOException {
+        long count = header.count();
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IOException("File holds " + count + " items, which do not fit in an array; use MappedMatrix.");
+        }
+        double[] data = new double[(int) count];
+        ByteBuffer checksums = ByteBuffer.allocate((int) (4 * header.blockCount())).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, checksums, header.trailerOffset());
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8 * Math.min(header.blockSize, Math.max(data.length, 1)))
+                .order(header.byteOrder);
+        DoubleBuffer doubles = buffer.asDoubleBuffer();
+        CRC32 crc = new CRC32();
+        long position = header.dataOffset();
+        for (int start = 0, block = 0; start < data.length; start += header.blockSize, block++) {
+            int length = Math.min(header.blockSize, data.length - start);
+            buffer.clear().limit(8 * length);
+            position += readFully(channel, buffer, position);
+            buffer.flip();
+            crc.reset();
+            crc.update(buffer);
+            if ((int) crc.getValue() != checksums.getInt(4 * block)) {
+                throw new IOException("Checksum mismatch in block " + block + ".");
+            }
+            doubles.clear();
+            doubles.get(data, start, length);
+        }
+        return data;
+    }
+
+    /**
+     * Writes the remaining bytes of the buffer at the given position of the channel.
+     *
+     * @return number of bytes written.
+     */
+    static int writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            total += channel.write(buffer, position + total);
+        }
+        return total;
+    }
+
+    /**
+     * Fills the remaining bytes of the buffer from the given position of the channel.
+     *
+     * @return number of bytes read.
+     */
+    static int readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + total);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of file.");
+            }
+            total += read;
+        }
+        return total;
+    }
+
+}
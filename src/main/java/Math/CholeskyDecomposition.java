@@ -0,0 +1,254 @@
+package Math;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class CholeskyDecomposition {
+    /**
+     * Cholesky decomposition A = L * L^T of a symmetric positive definite {@link Matrix}. The factor is computed once
+     * and reused to solve linear systems and to find the log determinant. It can be changed by rank one updates and
+     * downdates in O(n^2), so that a covariance matrix that changes one sample at a time need not be factorized again.
+     * The factorization is blocked and left looking: each panel of columns is first updated with the panels to its
+     * left by one matrix product, and then factorized, the rows below its diagonal block being split across the pool.
+     */
+
+    static final int BLOCK_SIZE = 64;
+
+    private final int n;
+    private double[] l;
+
+    /**
+     * A constructor of {@link CholeskyDecomposition} class which takes a symmetric positive definite {@link Matrix} as
+     * an input and factorizes it. The matrix is not modified.
+     *
+     * @param matrix Matrix to factorize.
+     * @throws MatrixNotSquare           if row and column sizes do not match.
+     * @throws MatrixNotSymmetric        if the matrix is not symmetric.
+     * @throws MatrixNotPositiveDefinite if the matrix is not positive definite.
+     */
+    public CholeskyDecomposition(Matrix matrix) throws MatrixNotSquare, MatrixNotSymmetric, MatrixNotPositiveDefinite {
+        if (!matrix.isSymmetric()) {
+            throw new MatrixNotSymmetric();
+        }
+        n = matrix.getRow();
+        l = matrix.getData().clone();
+        ForkJoinPool pool = Parallelism.getPool();
+        for (int j0 = 0; j0 < n; j0 += BLOCK_SIZE) {
+            int width = Math.min(BLOCK_SIZE, n - j0);
+            if (j0 > 0) {
+                updatePanel(pool, j0, width);
+            }
+            factorizeDiagonalBlock(j0, width);
+            int rest = n - j0 - width;
+            if (rest > 0) {
+                solvePanel(pool, j0, width, rest);
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                l[i * n + j] = 0.0;
+            }
+        }
+    }
+
+    /**
+     * Subtracts L[j0 .. n, 0 .. j0) * L[j0 .. j0 + width, 0 .. j0)^T from the columns [j0, j0 + width) of the rows
+     * [j0, n).
+     */
+    private void updatePanel(ForkJoinPool pool, int j0, int width) {
+        double[] negated = new double[width * j0];
+        for (int i = 0; i < width; i++) {
+            for (int t = 0; t < j0; t++) {
+                negated[i * j0 + t] = -l[(j0 + i) * n + t];
+            }
+        }
+        Gemm.multiply(pool, l, j0 * n, n, 1, negated, 0, 1, j0,
+                l, j0 * n + j0, n, n - j0, width, j0);
+    }
+
+    /**
+     * Factorizes the diagonal block of the columns [j0, j0 + width) with the unblocked algorithm.
+     */
+    private void factorizeDiagonalBlock(int j0, int width) throws MatrixNotPositiveDefinite {
+        for (int j = j0; j < j0 + width; j++) {
+            double diagonal = l[j * n + j] - VectorKernels.dot(l, j * n + j0, l, j * n + j0, j - j0);
+            if (!(diagonal > 0.0)) {
+                throw new MatrixNotPositiveDefinite();
+            }
+            l[j * n + j] = Math.sqrt(diagonal);
+            for (int i = j + 1; i < j0 + width; i++) {
+                l[i * n + j] = (l[i * n + j] - VectorKernels.dot(l, i * n + j0, l, j * n + j0, j - j0)) / l[j * n + j];
+            }
+        }
+    }
+
+    /**
+     * Finds the rows [j0 + width, n) of the columns [j0, j0 + width) by solving with the diagonal block. The rows are
+     * independent, so they are split across the pool.
+     */
+    private void solvePanel(ForkJoinPool pool, int j0, int width, int rest) {
+        int start = j0 + width;
+        Parallelism.forChunks(Parallelism.poolFor(pool, (long) rest * width * width), rest, (first, last) -> {
+            for (int i = start + first; i < start + last; i++) {
+                for (int j = j0; j < j0 + width; j++) {
+                    l[i * n + j] = (l[i * n + j] - VectorKernels.dot(l, i * n + j0, l, j * n + j0, j - j0)) / l[j * n + j];
+                }
+            }
+        });
+    }
+
+    /**
+     * The getL method returns the lower triangular factor L.
+     *
+     * @return Matrix L.
+     */
+    public Matrix getL() {
+        return new Matrix(n, n, l.clone());
+    }
+
+    /**
+     * The logDeterminant method returns the natural logarithm of the determinant, i.e. twice the sum of the logarithms
+     * of the diagonal of L. Unlike the determinant itself, it does not overflow or underflow for large matrices.
+     *
+     * @return log determinant of the matrix.
+     */
+    public double logDeterminant() {
+        double result = 0.0;
+        for (int i = 0; i < n; i++) {
+            result += Math.log(l[i * n + i]);
+        }
+        return 2 * result;
+    }
+
+    /**
+     * The determinant method returns the determinant of the matrix, the square of the product of the diagonal of L.
+     *
+     * @return determinant of the matrix.
+     */
+    public double determinant() {
+        double result = 1.0;
+        for (int i = 0; i < n; i++) {
+            result *= l[i * n + i];
+        }
+        return result * result;
+    }
+
+    /**
+     * The solve method takes a {@link Vector} b as an input and returns x such that A * x = b, by solving L * y = b and
+     * L^T * x = y. If the size of b does not match the row number, it throws {@link MatrixRowMismatch} exception.
+     *
+     * @param b right hand side.
+     * @return solution of the system.
+     * @throws MatrixRowMismatch if the size of b does not match the row number.
+     */
+    public Vector solve(Vector b) throws MatrixRowMismatch {
+        if (b.size() != n) {
+            throw new MatrixRowMismatch();
+        }
+        double[] x = b.toArray();
+        for (int i = 0; i < n; i++) {
+            x[i] = (x[i] - VectorKernels.dot(l, i * n, x, 0, i)) / l[i * n + i];
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            x[i] /= l[i * n + i];
+            VectorKernels.axpy(x, 0, -x[i], l, i * n, i);
+        }
+        return Vector.wrap(x);
+    }
+
+    /**
+     * The solve method takes a {@link Matrix} B as an input and returns X such that A * X = B, solving for all columns
+     * of B at once. If the row number of B does not match, it throws {@link MatrixRowMismatch} exception.
+     *
+     * @param b right hand sides as columns.
+     * @return solutions as columns.
+     * @throws MatrixRowMismatch if the row number of B does not match.
+     */
+    public Matrix solve(Matrix b) throws MatrixRowMismatch {
+        if (b.getRow() != n) {
+            throw new MatrixRowMismatch();
+        }
+        int columns = b.getColumn();
+        double[] x = b.getData().clone();
+        for (int i = 0; i < n; i++) {
+            for (int t = 0; t < i; t++) {
+                double factor = l[i * n + t];
+                if (factor != 0.0) {
+                    VectorKernels.axpy(x, i * columns, -factor, x, t * columns, columns);
+                }
+            }
+            VectorKernels.scale(x, i * columns, 1.0 / l[i * n + i], x, i * columns, columns);
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            VectorKernels.scale(x, i * columns, 1.0 / l[i * n + i], x, i * columns, columns);
+            for (int t = 0; t < i; t++) {
+                double factor = l[i * n + t];
+                if (factor != 0.0) {
+                    VectorKernels.axpy(x, t * columns, -factor, x, i * columns, columns);
+                }
+            }
+        }
+        return new Matrix(n, columns, x);
+    }
+
+    /**
+     * The update method changes the factor to the factor of A + x * x^T in O(n^2) time with a sequence of rotations.
+     * If the size of x does not match the row number, it throws {@link MatrixRowMismatch} exception.
+     *
+     * @param x update vector.
+     * @throws MatrixRowMismatch if the size of x does not match the row number.
+     */
+    public void update(Vector x) throws MatrixRowMismatch {
+        if (x.size() != n) {
+            throw new MatrixRowMismatch();
+        }
+        double[] work = x.toArray();
+        for (int k = 0; k < n; k++) {
+            double diagonal = l[k * n + k];
+            double r = Math.hypot(diagonal, work[k]);
+            double c = r / diagonal;
+            double s = work[k] / diagonal;
+            l[k * n + k] = r;
+            for (int i = k + 1; i < n; i++) {
+                double value = (l[i * n + k] + s * work[i]) / c;
+                l[i * n + k] = value;
+                work[i] = c * work[i] - s * value;
+            }
+        }
+    }
+
+    /**
+     * The downdate method changes the factor to the factor of A - x * x^T in O(n^2) time with a sequence of
+     * hyperbolic rotations. If the result is not positive definite, it throws {@link MatrixNotPositiveDefinite}
+     * exception and leaves the factor unchanged. If the size of x does not match the row number, it throws
+     * {@link MatrixRowMismatch} exception.
+     *
+     * @param x downdate vector.
+     * @throws MatrixRowMismatch         if the size of x does not match the row number.
+     * @throws MatrixNotPositiveDefinite if A - x * x^T is not positive definite.
+     */
+    public void downdate(Vector x) throws MatrixRowMismatch, MatrixNotPositiveDefinite {
+        if (x.size() != n) {
+            throw new MatrixRowMismatch();
+        }
+        double[] work = x.toArray();
+        double[] result = l.clone();
+        for (int k = 0; k < n; k++) {
+            double diagonal = result[k * n + k];
+            double square = (diagonal - work[k]) * (diagonal + work[k]);
+            if (!(square > 0.0)) {
+                throw new MatrixNotPositiveDefinite();
+            }
+            double r = Math.sqrt(square);
+            double c = r / diagonal;
+            double s = work[k] / diagonal;
+            result[k * n + k] = r;
+            for (int i = k + 1; i < n; i++) {
+                double value = (result[i * n + k] - s * work[i]) / c;
+                result[i * n + k] = value;
+                work[i] = c * work[i] - s * value;
+            }
+        }
+        l = result;
+    }
+
+}
@@ -18,6 +18,19 @@ public class Eigenvector extends Vector implements Comparable<Object> {
         this.eigenValue = eigenValue;
     }
 
+    /**
+     * Another constructor of {@link Eigenvector} which takes a double eigenValue and a double values
+     * {@link java.lang.reflect.Array} as inputs. It calls its super class {@link Vector} with values
+     * {@link java.lang.reflect.Array} and initializes eigenValue variable with its eigenValue input.
+     *
+     * @param eigenValue double input.
+     * @param values     double {@link java.lang.reflect.Array} input.
+     */
+    public Eigenvector(double eigenValue, double[] values) {
+        super(values);
+        this.eigenValue = eigenValue;
+    }
+
     /**
      * The eigenValue method which returns the eigenValue variable.
      *
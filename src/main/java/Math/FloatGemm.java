@@ -0,0 +1,311 @@
+package Math;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Single precision version of {@link Gemm}, computing C += op(A) * op(B) on row-major float
+ * {@link java.lang.reflect.Array}s with the same stride convention. When the {@link VectorKernels} use SIMD
+ * instructions, a KC x NC block of B and an MC x KC block of A are packed row by row, and every row of C is updated by
+ * {@link VectorKernels#axpy4(float[], int, float[], int, float[], int, int, int)} over the packed rows of B, so that the
+ * inner loop runs on float lanes, twice as many as the double kernels have. Without SIMD the packed register tile
+ * kernel of {@link Gemm} is used on float panels. In both cases every item of C is accumulated in the same order
+ * whatever the blocking of rows and columns is, so splitting C across threads does not change the result.
+ */
+final class FloatGemm {
+
+    static final int MR = Gemm.MR;
+    static final int NR = Gemm.NR;
+    static final int MC = 128;
+    static final int KC = 256;
+
+    /**
+     * Number of columns of C updated together by the SIMD kernel, so that the packed block of B stays in the L2 cache
+     * and the updated row slice of C stays in the L1 cache.
+     */
+    static final int NC = 512;
+
+    private FloatGemm() {
+    }
+
+    /**
+     * The multiply method computes C[0 .. m, 0 .. n) += A * B, where A is m x k and B is k x n. See
+     * {@link Gemm#multiply(double[], int, int, int, double[], int, int, int, double[], int, int, int, int, int)} for
+     * the parameters.
+     */
+    static void multiply(float[] a, int aOffset, int aRowStride, int aColumnStride,
+                         float[] b, int bOffset, int bRowStride, int bColumnStride,
+                         float[] c, int cOffset, int cRowStride, int m, int n, int k) {
+        if ((long) m * n * k < Gemm.SMALL_THRESHOLD) {
+            multiplySmall(a, aOffset, aRowStride, aColumnStride, b, bOffset, bRowStride, bColumnStride, c, cOffset, cRowStride, m, n, k);
+            return;
+        }
+        multiplyBlocked(a, aOffset, aRowStride, aColumnStride, b, bOffset, bRowStride, bColumnStride, c, cOffset, cRowStride, m, n, k);
+    }
+
+    /**
+     * The multiply method computes C += A * B as the sequential multiply method does, splitting the rows, and if there
+     * are few rows also the columns, of C into tiles which are computed on the given pool. Each tile runs the blocked
+     * kernel, so the result is identical to the sequential one whatever the number of threads is. Products smaller than the parallel threshold run on the
+     * calling thread. The other parameters are as in the sequential multiply method.
+     *
+     * @param pool pool to run on, may be null.
+     */
+    static void multiply(ForkJoinPool pool, float[] a, int aOffset, int aRowStride, int aColumnStride,
+                         float[] b, int bOffset, int bRowStride, int bColumnStride,
+                         float[] c, int cOffset, int cRowStride, int m, int n, int k) {
+        long work = (long) m * n * k;
+        pool = work < Gemm.SMALL_THRESHOLD ? null : Parallelism.poolFor(pool, work);
+        if (pool == null) {
+            multiply(a, aOffset, aRowStride, aColumnStride, b, bOffset, bRowStride, bColumnStride, c, cOffset, cRowStride, m, n, k);
+            return;
+        }
+        int tasks = Parallelism.taskCount(pool);
+        int rowChunk = roundUp(Math.max(MR, (m + tasks - 1) / tasks), MR);
+        int rowChunks = (m + rowChunk - 1) / rowChunk;
+        int columnChunks = Math.max(1, Math.min(tasks / rowChunks, (n + NR - 1) / NR));
+        int columnChunk = roundUp((n + columnChunks - 1) / columnChunks, NR);
+        int columnTiles = (n + columnChunk - 1) / columnChunk;
+        Parallelism.forEach(pool, rowChunks * columnTiles, t -> {
+            int i = (t / columnTiles) * rowChunk;
+            int j = (t % columnTiles) * columnChunk;
+            multiplyBlocked(a, aOffset + i * aRowStride, aRowStride, aColumnStride,
+                    b, bOffset + j * bColumnStride, bRowStride, bColumnStride,
+                    c, cOffset + i * cRowStride + j, cRowStride, Math.min(rowChunk, m - i), Math.min(columnChunk, n - j), k);
+        });
+    }
+
+    /**
+     * Computes C += A * B with the row kernel if the vector kernels use SIMD instructions, and with the register tile
+     * kernel otherwise, whatever the size is.
+     */
+    private static void multiplyBlocked(float[] a, int aOffset, int aRowStride, int aColumnStride,
+                                        float[] b, int bOffset, int bRowStride, int bColumnStride,
+                                        float[] c, int cOffset, int cRowStride, int m, int n, int k) {
+        if (VectorKernels.isAccelerated()) {
+            multiplyRows(a, aOffset, aRowStride, aColumnStride, b, bOffset, bRowStride, bColumnStride, c, cOffset, cRowStride, m, n, k);
+        } else {
+            multiplyPanels(a, aOffset, aRowStride, aColumnStride, b, bOffset, bRowStride, bColumnStride, c, cOffset, cRowStride, m, n, k);
+        }
+    }
+
+    /**
+     * Rounds the value up to a multiple of the given step.
+     */
+    private static int roundUp(int value, int step) {
+        return (value + step - 1) / step * step;
+    }
+
+    /**
+     * Plain i-k-j product used for small sizes.
+     */
+    private static void multiplySmall(float[] a, int aOffset, int aRowStride, int aColumnStride,
+                                      float[] b, int bOffset, int bRowStride, int bColumnStride,
+                                      float[] c, int cOffset, int cRowStride, int m, int n, int k) {
+        for (int i = 0; i < m; i++) {
+            int cRow = cOffset + i * cRowStride;
+            for (int p = 0; p < k; p++) {
+                float value = a[aOffset + i * aRowStride + p * aColumnStride];
+                int bRow = bOffset + p * bRowStride;
+                for (int j = 0; j < n; j++) {
+                    c[cRow + j] += value * b[bRow + j * bColumnStride];
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes C += A * B by packing blocks of A and B row by row and adding four packed rows of B at a time to each
+     * row slice of C with the vector kernels.
+     */
+    private static void multiplyRows(float[] a, int aOffset, int aRowStride, int aColumnStride,
+                                     float[] b, int bOffset, int bRowStride, int bColumnStride,
+                                     float[] c, int cOffset, int cRowStride, int m, int n, int k) {
+        float[] packedA = new float[Math.min(MC, m) * Math.min(KC, k)];
+        float[] packedB = new float[Math.min(NC, n) * Math.min(KC, k)];
+        for (int jc = 0; jc < n; jc += NC) {
+            int nc = Math.min(NC, n - jc);
+            for (int pc = 0; pc < k; pc += KC) {
+                int kc = Math.min(KC, k - pc);
+                packRows(b, bOffset + pc * bRowStride + jc * bColumnStride, bRowStride, bColumnStride, kc, nc, packedB);
+                for (int ic = 0; ic < m; ic += MC) {
+                    int mc = Math.min(MC, m - ic);
+                    packRows(a, aOffset + ic * aRowStride + pc * aColumnStride, aRowStride, aColumnStride, mc, kc, packedA);
+                    for (int i = 0; i < mc; i++) {
+                        int cRow = cOffset + (ic + i) * cRowStride + jc;
+                        int p = 0;
+                        for (; p + 4 <= kc; p += 4) {
+                            VectorKernels.axpy4(c, cRow, packedA, i * kc + p, packedB, p * nc, nc, nc);
+                        }
+                        for (; p < kc; p++) {
+                            VectorKernels.axpy(c, cRow, packedA[i * kc + p], packedB, p * nc, nc);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies a rows x columns block of a strided operand row by row into packed, so that each row is contiguous.
+     */
+    private static void packRows(float[] source, int offset, int rowStride, int columnStride, int rows, int columns, float[] packed) {
+        for (int i = 0; i < rows; i++) {
+            int start = offset + i * rowStride;
+            if (columnStride == 1) {
+                System.arraycopy(source, start, packed, i * columns, columns);
+            } else {
+                for (int j = 0; j < columns; j++) {
+                    packed[i * columns + j] = source[start + j * columnStride];
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes C += A * B with the packed register tile kernel of {@link Gemm} on float panels.
+     */
+    private static void multiplyPanels(float[] a, int aOffset, int aRowStride, int aColumnStride,
+                                       float[] b, int bOffset, int bRowStride, int bColumnStride,
+                                       float[] c, int cOffset, int cRowStride, int m, int n, int k) {
+        float[] packedA = new float[roundUp(Math.min(MC, m), MR) * Math.min(KC, k)];
+        float[] packedB = new float[roundUp(Math.min(Gemm.NC, n), NR) * Math.min(KC, k)];
+        for (int jc = 0; jc < n; jc += Gemm.NC) {
+            int nc = Math.min(Gemm.NC, n - jc);
+            for (int pc = 0; pc < k; pc += KC) {
+                int kc = Math.min(KC, k - pc);
+                packB(b, bOffset + pc * bRowStride + jc * bColumnStride, bRowStride, bColumnStride, kc, nc, packedB);
+                for (int ic = 0; ic < m; ic += MC) {
+                    int mc = Math.min(MC, m - ic);
+                    packA(a, aOffset + ic * aRowStride + pc * aColumnStride, aRowStride, aColumnStride, mc, kc, packedA);
+                    macroKernel(packedA, packedB, c, cOffset + ic * cRowStride + jc, cRowStride, mc, nc, kc);
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs an mc x kc block of A into panels of MR rows. Within a panel the MR items of each column are consecutive.
+     * Rows beyond mc are padded with zeros.
+     */
+    private static void packA(float[] a, int offset, int rowStride, int columnStride, int mc, int kc, float[] packed) {
+        int index = 0;
+        for (int ir = 0; ir < mc; ir += MR) {
+            int rows = Math.min(MR, mc - ir);
+            for (int p = 0; p < kc; p++) {
+                int source = offset + ir * rowStride + p * columnStride;
+                for (int r = 0; r < rows; r++) {
+                    packed[index + r] = a[source + r * rowStride];
+                }
+                for (int r = rows; r < MR; r++) {
+                    packed[index + r] = 0.0f;
+                }
+                index += MR;
+            }
+        }
+    }
+
+    /**
+     * Packs a kc x nc block of B into panels of NR columns. Within a panel the NR items of each row are consecutive.
+     * Columns beyond nc are padded with zeros.
+     */
+    private static void packB(float[] b, int offset, int rowStride, int columnStride, int kc, int nc, float[] packed) {
+        int index = 0;
+        for (int jr = 0; jr < nc; jr += NR) {
+            int columns = Math.min(NR, nc - jr);
+            for (int p = 0; p < kc; p++) {
+                int source = offset + p * rowStride + jr * columnStride;
+                for (int s = 0; s < columns; s++) {
+                    packed[index + s] = b[source + s * columnStride];
+                }
+                for (int s = columns; s < NR; s++) {
+                    packed[index + s] = 0.0f;
+                }
+                index += NR;
+            }
+        }
+    }
+
+    /**
+     * Multiplies the packed blocks tile by tile and adds the tiles to C.
+     */
+    private static void macroKernel(float[] packedA, float[] packedB, float[] c, int cOffset, int cRowStride,
+                                    int mc, int nc, int kc) {
+        for (int jr = 0; jr < nc; jr += NR) {
+            int columns = Math.min(NR, nc - jr);
+            int bPanel = jr * kc;
+            for (int ir = 0; ir < mc; ir += MR) {
+                int rows = Math.min(MR, mc - ir);
+                microKernel(packedA, ir * kc, packedB, bPanel, kc, c, cOffset + ir * cRowStride + jr, cRowStride, rows, columns);
+            }
+        }
+    }
+
+    /**
+     * Accumulates an MR x NR tile of the product in sixteen local variables, which the JIT keeps in registers, and
+     * adds the valid rows x columns part of the tile to C.
+     */
+    private static void microKernel(float[] packedA, int aIndex, float[] packedB, int bIndex, int kc,
+                                    float[] c, int cIndex, int cRowStride, int rows, int columns) {
+        float c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+        float c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+        float c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+        float c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+        for (int p = 0; p < kc; p++) {
+            float a0 = packedA[aIndex];
+            float a1 = packedA[aIndex + 1];
+            float a2 = packedA[aIndex + 2];
+            float a3 = packedA[aIndex + 3];
+            float b0 = packedB[bIndex];
+            float b1 = packedB[bIndex + 1];
+            float b2 = packedB[bIndex + 2];
+            float b3 = packedB[bIndex + 3];
+            c00 += a0 * b0;
+            c01 += a0 * b1;
+            c02 += a0 * b2;
+            c03 += a0 * b3;
+            c10 += a1 * b0;
+            c11 += a1 * b1;
+            c12 += a1 * b2;
+            c13 += a1 * b3;
+            c20 += a2 * b0;
+            c21 += a2 * b1;
+            c22 += a2 * b2;
+            c23 += a2 * b3;
+            c30 += a3 * b0;
+            c31 += a3 * b1;
+            c32 += a3 * b2;
+            c33 += a3 * b3;
+            aIndex += MR;
+            bIndex += NR;
+        }
+        if (rows == MR && columns == NR) {
+            c[cIndex] += c00;
+            c[cIndex + 1] += c01;
+            c[cIndex + 2] += c02;
+            c[cIndex + 3] += c03;
+            cIndex += cRowStride;
+            c[cIndex] += c10;
+            c[cIndex + 1] += c11;
+            c[cIndex + 2] += c12;
+            c[cIndex + 3] += c13;
+            cIndex += cRowStride;
+            c[cIndex] += c20;
+            c[cIndex + 1] += c21;
+            c[cIndex + 2] += c22;
+            c[cIndex + 3] += c23;
+            cIndex += cRowStride;
+            c[cIndex] += c30;
+            c[cIndex + 1] += c31;
+            c[cIndex + 2] += c32;
+            c[cIndex + 3] += c33;
+        } else {
+            float[] tile = {c00, c01, c02, c03, c10, c11, c12, c13, c20, c21, c22, c23, c30, c31, c32, c33};
+            for (int r = 0; r < rows; r++) {
+                for (int s = 0; s < columns; s++) {
+                    c[cIndex + r * cRowStride + s] += tile[r * NR + s];
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,312 @@
+package Math;
+
+import java.io.Serializable;
+import java.util.Random;
+
+public class FloatMatrix implements Serializable {
+
+    /**
+     * Number of columns of the result of {@link #multiplyWithVectorFromLeft(FloatVector)} updated together, so that
+     * the updated slice stays in the first level cache while the rows stream past it.
+     */
+    private static final int VECTOR_PRODUCT_BLOCK = 1024;
+
+    private final int row;
+    private final int col;
+    private final float[] values;
+
+    /**
+     * A constructor of {@link FloatMatrix} class which takes row and column numbers as inputs and creates a zero
+     * matrix. Items are stored row by row in a single float {@link java.lang.reflect.Array}.
+     *
+     * @param row is used to create matrix.
+     * @param col is used to create matrix.
+     */
+    public FloatMatrix(int row, int col) {
+        this.row = row;
+        this.col = col;
+        values = new float[row * col];
+    }
+
+    /**
+     * Another constructor of {@link FloatMatrix} class which takes row, column, minimum and maximum values as inputs
+     * and fills the matrix with random numbers between minimum and maximum.
+     *
+     * @param row    is used to create matrix.
+     * @param col    is used to create matrix.
+     * @param min    minimum value.
+     * @param max    maximum value.
+     * @param random random function to set the random values in the matrix.
+     */
+    public FloatMatrix(int row, int col, float min, float max, Random random) {
+        this(row, col);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = min + (max - min) * random.nextFloat();
+        }
+    }
+
+    /**
+     * Another constructor of {@link FloatMatrix} class which takes a double precision {@link Matrix} as an input and
+     * rounds its items to single precision.
+     *
+     * @param matrix double precision matrix.
+     */
+    public FloatMatrix(Matrix matrix) {
+        this(matrix.getRow(), matrix.getColumn());
+        for (int i = 0; i < row; i++) {
+            for (int j = 0; j < col; j++) {
+                values[i * col + j] = (float) matrix.getValue(i, j);
+            }
+        }
+    }
+
+    /**
+     * The toMatrix method converts the matrix to a double precision {@link Matrix}.
+     *
+     * @return double precision copy of the matrix.
+     */
+    public Matrix toMatrix() {
+        Matrix result = new Matrix(row, col);
+        for (int i = 0; i < row; i++) {
+            for (int j = 0; j < col; j++) {
+                result.setValue(i, j, values[i * col + j]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The getter for the item at given row and column.
+     *
+     * @param rowNo integer input for row number.
+     * @param colNo integer input for column number.
+     * @return item at given row and column.
+     */
+    public float getValue(int rowNo, int colNo) {
+        return values[rowNo * col + colNo];
+    }
+
+    /**
+     * The setter for the item at given row and column.
+     *
+     * @param rowNo integer input for row number.
+     * @param colNo integer input for column number.
+     * @param value is used to set at given index.
+     */
+    public void setValue(int rowNo, int colNo, float value) {
+        values[rowNo * col + colNo] = value;
+    }
+
+    /**
+     * The addValue method adds the given value to the item at given row and column.
+     *
+     * @param rowNo integer input for row number.
+     * @param colNo integer input for column number.
+     * @param value is used to add to given item at given index.
+     */
+    public void addValue(int rowNo, int colNo, float value) {
+        values[rowNo * col + colNo] += value;
+    }
+
+    /**
+     * The getter for the row variable.
+     *
+     * @return row number.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * The getter for column variable.
+     *
+     * @return column variable.
+     */
+    public int getColumn() {
+        return col;
+    }
+
+    /**
+     * The getRow method returns a copy of the given row as a {@link FloatVector}.
+     *
+     * @param row integer input for row number.
+     * @return Vector of the given row.
+     */
+    public FloatVector getRow(int row) {
+        float[] result = new float[col];
+        System.arraycopy(values, row * col, result, 0, col);
+        return new FloatVector(result);
+    }
+
+    /**
+     * The add method takes a {@link FloatMatrix} as an input and accumulates its items into this matrix. If the sizes
+     * of both matrices do not match, it throws {@link MatrixDimensionMismatch} exception.
+     *
+     * @param m Matrix to be added.
+     * @throws MatrixDimensionMismatch exception if sizes of both matrices do not match.
+     */
+    public void add(FloatMatrix m) throws MatrixDimensionMismatch {
+        if (row != m.row || col != m.col) {
+            throw new MatrixDimensionMismatch();
+        }
+        VectorKernels.add(values, 0, m.values, 0, values.length);
+    }
+
+    /**
+     * The subtract method takes a {@link FloatMatrix} as an input and subtracts its items from this matrix. If the
+     * sizes of both matrices do not match, it throws {@link MatrixDimensionMismatch} exception.
+     *
+     * @param m Matrix to be subtracted.
+     * @throws MatrixDimensionMismatch exception if sizes of both matrices do not match.
+     */
+    public void subtract(FloatMatrix m) throws MatrixDimensionMismatch {
+        if (row != m.row || col != m.col) {
+            throw new MatrixDimensionMismatch();
+        }
+        VectorKernels.subtract(values, 0, m.values, 0, values.length);
+    }
+
+    /**
+     * The sum method takes a {@link FloatMatrix} as an input and returns the sum of both matrices as a new matrix. If
+     * the sizes of both matrices do not match, it throws {@link MatrixDimensionMismatch} exception.
+     *
+     * @param m Matrix to be added.
+     * @return Sum of current matrix and m.
+     * @throws MatrixDimensionMismatch exception if sizes of both matrices do not match.
+     */
+    public FloatMatrix sum(FloatMatrix m) throws MatrixDimensionMismatch {
+        if (row != m.row || col != m.col) {
+            throw new MatrixDimensionMismatch();
+        }
+        FloatMatrix result = new FloatMatrix(row, col);
+        System.arraycopy(values, 0, result.values, 0, values.length);
+        VectorKernels.add(result.values, 0, m.values, 0, values.length);
+        return result;
+    }
+
+    /**
+     * The elementProduct method takes a {@link FloatMatrix} as an input and returns the element wise product of both
+     * matrices. If the sizes of both matrices do not match, it throws {@link MatrixDimensionMismatch} exception.
+     *
+     * @param m Matrix type input.
+     * @return result {@link FloatMatrix}.
+     * @throws MatrixDimensionMismatch if row and column sizes do not match.
+     */
+    public FloatMatrix elementProduct(FloatMatrix m) throws MatrixDimensionMismatch {
+        if (row != m.row || col != m.col) {
+            throw new MatrixDimensionMismatch();
+        }
+        FloatMatrix result = new FloatMatrix(row, col);
+        VectorKernels.elementProduct(values, 0, m.values, 0, result.values, 0, values.length);
+        return result;
+    }
+
+    /**
+     * The multiplyWithConstant method multiplies each item of the matrix with given constant.
+     *
+     * @param constant value to multiply items of the matrix.
+     */
+    public void multiplyWithConstant(float constant) {
+        VectorKernels.scale(values, 0, constant, values, 0, values.length);
+    }
+
+    /**
+     * The sumOfElements method accumulates all the items of the matrix.
+     *
+     * @return sum of the items of the matrix.
+     */
+    public float sumOfElements() {
+        return VectorKernels.sum(values, 0, values.length);
+    }
+
+    /**
+     * The multiplyWithVectorFromRight method takes a {@link FloatVector} as an input and returns the product of the
+     * matrix with the vector. Blocks of rows are split across the pool set in {@link Parallelism}, and four rows are
+     * multiplied with each load of the input. If the sizes of both Vector and column number do not match, it throws
+     * {@link MatrixColumnMismatch} exception.
+     *
+     * @param v {@link FloatVector} type input.
+     * @return Vector that holds the result.
+     * @throws MatrixColumnMismatch exception if sizes of both input Vector and column number do not match.
+     */
+    public FloatVector multiplyWithVectorFromRight(FloatVector v) throws MatrixColumnMismatch {
+        if (col != v.size()) {
+            throw new MatrixColumnMismatch();
+        }
+        float[] vector = v.toArray();
+        float[] result = new float[row];
+        Parallelism.forChunks(Parallelism.poolFor(Parallelism.getPool(), (long) row * col), row, (start, end) -> {
+            int i = start;
+            for (; i + 4 <= end; i += 4) {
+                VectorKernels.dot4(values, i * col, col, vector, 0, col, result, i);
+            }
+            for (; i < end; i++) {
+                result[i] = VectorKernels.dot(values, i * col, vector, 0, col);
+            }
+        });
+        return new FloatVector(result);
+    }
+
+    /**
+     * The multiplyWithVectorFromLeft method takes a {@link FloatVector} as an input and returns the product of the
+     * vector with the matrix. The rows are streamed in order and added four at a time to slices of the result, and the
+     * slices are split across the pool set in {@link Parallelism}. If the sizes of both Vector and row number do not
+     * match, it throws {@link MatrixRowMismatch} exception.
+     *
+     * @param v {@link FloatVector} type input.
+     * @return Vector that holds the result.
+     * @throws MatrixRowMismatch exception if sizes of both input Vector and row number do not match.
+     */
+    public FloatVector multiplyWithVectorFromLeft(FloatVector v) throws MatrixRowMismatch {
+        if (row != v.size()) {
+            throw new MatrixRowMismatch();
+        }
+        float[] vector = v.toArray();
+        float[] result = new float[col];
+        Parallelism.forChunks(Parallelism.poolFor(Parallelism.getPool(), (long) row * col), col, (start, end) -> {
+            for (int from = start; from < end; from += VECTOR_PRODUCT_BLOCK) {
+                int length = Math.min(VECTOR_PRODUCT_BLOCK, end - from);
+                int j = 0;
+                for (; j + 4 <= row; j += 4) {
+                    VectorKernels.axpy4(result, from, vector, j, values, j * col + from, col, length);
+                }
+                for (; j < row; j++) {
+                    VectorKernels.axpy(result, from, vector[j], values, j * col + from, length);
+                }
+            }
+        });
+        return new FloatVector(result);
+    }
+
+    /**
+     * The multiply method takes a {@link FloatMatrix} as an input and returns the matrix product, computed by
+     * {@link FloatGemm} with tiles of the result split across the pool set in {@link Parallelism}. If the size of
+     * Matrix's row size and column size do not match, it throws {@link MatrixRowColumnMismatch} exception.
+     *
+     * @param m Matrix type input.
+     * @return result {@link FloatMatrix}.
+     * @throws MatrixRowColumnMismatch if row and column size does not match.
+     */
+    public FloatMatrix multiply(FloatMatrix m) throws MatrixRowColumnMismatch {
+        if (col != m.row) {
+            throw new MatrixRowColumnMismatch();
+        }
+        FloatMatrix result = new FloatMatrix(row, m.col);
+        FloatGemm.multiply(Parallelism.getPool(), values, 0, col, 1, m.values, 0, m.col, 1, result.values, 0, m.col, row, m.col, col);
+        return result;
+    }
+
+    /**
+     * The transpose method returns the transpose of the matrix. The matrix is transposed tile by tile with
+     * {@link Transpose}, and blocks of rows are split across the pool set in {@link Parallelism}.
+     *
+     * @return Matrix type output.
+     */
+    public FloatMatrix transpose() {
+        FloatMatrix result = new FloatMatrix(col, row);
+        Parallelism.forChunks(Parallelism.poolFor(Parallelism.getPool(), values.length), row, (start, end) ->
+                Transpose.transpose(values, start * col, col, end - start, col, result.values, start, row));
+        return result;
+    }
+
+}
@@ -0,0 +1,321 @@
+package Math;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+public class FloatTensor implements Serializable {
+    /**
+     * A single precision counterpart of {@link Tensor}, supporting the same element wise operations with broadcasting,
+     * batched matrix multiplication and transposition on a flattened float array.
+     */
+
+    private final int[] shape;
+    private final int[] strides;
+    private final float[] data;
+
+    /**
+     * Initializes the tensor directly with a primitive float array and shape. The array is not copied.
+     *
+     * @param data  Primitive array representing the flattened tensor data.
+     * @param shape The shape of the tensor.
+     */
+    public FloatTensor(float[] data, int[] shape) {
+        if (computeNumElements(shape) != data.length) {
+            throw new IllegalArgumentException("Shape does not match the number of elements in data.");
+        }
+        this.shape = shape;
+        this.data = data;
+        this.strides = computeStrides(shape);
+    }
+
+    /**
+     * Initializes the tensor from a double precision {@link Tensor} by rounding its items to single precision.
+     *
+     * @param tensor double precision tensor.
+     */
+    public FloatTensor(Tensor tensor) {
+        this(toFloat(tensor.getData()), tensor.getShape().clone());
+    }
+
+    /**
+     * Rounds the items of a double array to single precision.
+     */
+    private static float[] toFloat(double[] values) {
+        float[] result = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (float) values[i];
+        }
+        return result;
+    }
+
+    /**
+     * Converts the tensor to a double precision {@link Tensor}.
+     *
+     * @return double precision copy of the tensor.
+     */
+    public Tensor toTensor() {
+        double[] result = new double[data.length];
+        for (int i = 0; i < data.length; i++) {
+            result[i] = data[i];
+        }
+        return new Tensor(result, shape.clone());
+    }
+
+    /**
+     * Computes the strides for each dimension based on the shape.
+     */
+    private static int[] computeStrides(int[] shape) {
+        int[] strides = new int[shape.length];
+        int product = 1;
+        for (int i = shape.length - 1; i >= 0; i--) {
+            strides[i] = product;
+            product *= shape[i];
+        }
+        return strides;
+    }
+
+    /**
+     * Computes the total number of elements in the tensor based on its shape.
+     */
+    private static int computeNumElements(int[] shape) {
+        int product = 1;
+        for (int dim : shape) {
+            product *= dim;
+        }
+        return product;
+    }
+
+    /**
+     * Computes the flat index of the given indices after validating them.
+     */
+    private int flatIndex(int[] indices) {
+        if (indices.length != shape.length) {
+            throw new IndexOutOfBoundsException("Expected " + shape.length + " indices but got " + indices.length + ".");
+        }
+        int flatIndex = 0;
+        for (int i = 0; i < indices.length; i++) {
+            if (!(0 <= indices[i] && indices[i] < shape[i])) {
+                throw new IndexOutOfBoundsException("Index " + Arrays.toString(indices) + " is out of bounds for shape " + Arrays.toString(shape) + ".");
+            }
+            flatIndex += indices[i] * strides[i];
+        }
+        return flatIndex;
+    }
+
+    /**
+     * Retrieves the value at the given indices.
+     */
+    public float getValue(int[] indices) {
+        return data[flatIndex(indices)];
+    }
+
+    /**
+     * Sets the value at the given indices.
+     */
+    public void set(int[] indices, float value) {
+        data[flatIndex(indices)] = value;
+    }
+
+    /**
+     * Reshapes the tensor to the specified new shape. Memory is shared!
+     */
+    public FloatTensor reshape(int[] newShape) {
+        if (computeNumElements(newShape) != data.length) {
+            throw new IllegalArgumentException("Total number of elements must remain the same.");
+        }
+        return new FloatTensor(data, newShape);
+    }
+
+    /**
+     * Transposes the tensor according to the specified axes. If axes is null, the order of the axes is reversed.
+     */
+    public FloatTensor transpose(int[] axes) {
+        if (axes == null) {
+            axes = new int[shape.length];
+            for (int i = 0; i < shape.length; i++) {
+                axes[i] = shape.length - 1 - i;
+            }
+        }
+        if (axes.length != shape.length) {
+            throw new IllegalArgumentException("Invalid transpose axes.");
+        }
+        boolean[] seen = new boolean[shape.length];
+        int[] newShape = new int[shape.length];
+        int[] sourceStrides = new int[shape.length];
+        for (int i = 0; i < axes.length; i++) {
+            if (axes[i] < 0 || axes[i] >= shape.length || seen[axes[i]]) {
+                throw new IllegalArgumentException("Invalid transpose axes.");
+            }
+            seen[axes[i]] = true;
+            newShape[i] = shape[axes[i]];
+            sourceStrides[i] = strides[axes[i]];
+        }
+        float[] result = new float[data.length];
+        int[] counter = new int[shape.length];
+        int source = 0;
+        for (int i = 0; i < result.length; i++) {
+            result[i] = data[source];
+            source = advance(counter, newShape, sourceStrides, source);
+        }
+        return new FloatTensor(result, newShape);
+    }
+
+    /**
+     * Computes the shape obtained by broadcasting two shapes against each other.
+     */
+    private static int[] broadcastShape(int[] shape1, int[] shape2) {
+        int length = Math.max(shape1.length, shape2.length);
+        int[] result = new int[length];
+        for (int i = 0; i < length; i++) {
+            int dim1 = i < length - shape1.length ? 1 : shape1[i - (length - shape1.length)];
+            int dim2 = i < length - shape2.length ? 1 : shape2[i - (length - shape2.length)];
+            if (dim1 != dim2 && dim1 != 1 && dim2 != 1) {
+                throw new IllegalArgumentException("Shapes " + Arrays.toString(shape1) + " and " + Arrays.toString(shape2) + " are not broadcastable");
+            }
+            result[i] = Math.max(dim1, dim2);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the strides with which the tensor is read when it is broadcast to the target shape. Broadcast
+     * dimensions get stride zero, so that the same items are reused.
+     */
+    private int[] broadcastStrides(int[] targetShape) {
+        int diff = targetShape.length - shape.length;
+        int[] result = new int[targetShape.length];
+        for (int i = 0; i < shape.length; i++) {
+            if (shape[i] == targetShape[i + diff]) {
+                result[i + diff] = strides[i];
+            } else if (shape[i] != 1) {
+                throw new IllegalArgumentException("Cannot broadcast shape " + Arrays.toString(shape) + " to " + Arrays.toString(targetShape));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Broadcasts the tensor to the target shape.
+     */
+    public FloatTensor broadcastTo(int[] targetShape) {
+        int[] sourceStrides = broadcastStrides(targetShape);
+        float[] result = new float[computeNumElements(targetShape)];
+        int[] counter = new int[targetShape.length];
+        int source = 0;
+        for (int i = 0; i < result.length; i++) {
+            result[i] = data[source];
+            source = advance(counter, targetShape, sourceStrides, source);
+        }
+        return new FloatTensor(result, targetShape);
+    }
+
+    /**
+     * Advances the multidimensional counter by one in row major order and returns the updated flat source index.
+     */
+    private static int advance(int[] counter, int[] shape, int[] strides, int index) {
+        for (int d = shape.length - 1; d >= 0; d--) {
+            counter[d]++;
+            index += strides[d];
+            if (counter[d] < shape[d]) {
+                return index;
+            }
+            index -= counter[d] * strides[d];
+            counter[d] = 0;
+        }
+        return index;
+    }
+
+    /**
+     * Applies an element wise binary operation with broadcasting. Operations are 0: addition, 1: subtraction,
+     * 2: multiplication.
+     */
+    private FloatTensor elementWise(FloatTensor other, int operation) {
+        int[] resultShape = broadcastShape(shape, other.shape);
+        int[] strides1 = broadcastStrides(resultShape);
+        int[] strides2 = other.broadcastStrides(resultShape);
+        float[] result = new float[computeNumElements(resultShape)];
+        int[] counter1 = new int[resultShape.length];
+        int[] counter2 = new int[resultShape.length];
+        int index1 = 0, index2 = 0;
+        for (int i = 0; i < result.length; i++) {
+            float a = data[index1];
+            float b = other.data[index2];
+            switch (operation) {
+                case 0:
+                    result[i] = a + b;
+                    break;
+                case 1:
+                    result[i] = a - b;
+                    break;
+                default:
+                    result[i] = a * b;
+                    break;
+            }
+            index1 = advance(counter1, resultShape, strides1, index1);
+            index2 = advance(counter2, resultShape, strides2, index2);
+        }
+        return new FloatTensor(result, resultShape);
+    }
+
+    public FloatTensor add(FloatTensor other) {
+        return elementWise(other, 0);
+    }
+
+    public FloatTensor subtract(FloatTensor other) {
+        return elementWise(other, 1);
+    }
+
+    public FloatTensor hadamardProduct(FloatTensor other) {
+        return elementWise(other, 2);
+    }
+
+    /**
+     * Multiplies the last two dimensions of both tensors as matrices, broadcasting the leading batch dimensions. Each
+     * batch is computed by {@link FloatGemm}.
+     */
+    public FloatTensor multiply(FloatTensor other) {
+        if (shape.length < 2 || other.shape.length < 2 || shape[shape.length - 1] != other.shape[other.shape.length - 2]) {
+            throw new IllegalArgumentException("Shapes " + Arrays.toString(shape) + " and " + Arrays.toString(other.shape) + " are not aligned for multiplication.");
+        }
+        int m = shape[shape.length - 2];
+        int k = shape[shape.length - 1];
+        int n = other.shape[other.shape.length - 1];
+        int[] batchShape = broadcastShape(Arrays.copyOfRange(shape, 0, shape.length - 2),
+                Arrays.copyOfRange(other.shape, 0, other.shape.length - 2));
+        int[] selfShape = Arrays.copyOf(batchShape, batchShape.length + 2);
+        selfShape[batchShape.length] = m;
+        selfShape[batchShape.length + 1] = k;
+        int[] otherShape = Arrays.copyOf(batchShape, batchShape.length + 2);
+        otherShape[batchShape.length] = k;
+        otherShape[batchShape.length + 1] = n;
+        FloatTensor a = Arrays.equals(shape, selfShape) ? this : broadcastTo(selfShape);
+        FloatTensor b = Arrays.equals(other.shape, otherShape) ? other : other.broadcastTo(otherShape);
+        int batches = computeNumElements(batchShape);
+        int[] resultShape = Arrays.copyOf(batchShape, batchShape.length + 2);
+        resultShape[batchShape.length] = m;
+        resultShape[batchShape.length + 1] = n;
+        float[] result = new float[batches * m * n];
+        for (int batch = 0; batch < batches; batch++) {
+            FloatGemm.multiply(Parallelism.getPool(), a.data, batch * m * k, k, 1, b.data, batch * k * n, n, 1,
+                    result, batch * m * n, n, m, n, k);
+        }
+        return new FloatTensor(result, resultShape);
+    }
+
+    public int[] getShape() {
+        return shape;
+    }
+
+    /**
+     * Returns the primitive float array holding the tensor data.
+     * WARNING: Be cautious not to mutate this array directly outside the class if you want to maintain immutability.
+     */
+    public float[] getData() {
+        return data;
+    }
+
+    @Override
+    public String toString() {
+        return "FloatTensor(shape=" + Arrays.toString(shape) + ", data=" + Arrays.toString(data) + ")";
+    }
+}
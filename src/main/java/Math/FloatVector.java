@@ -0,0 +1,297 @@
+package Math;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+public class FloatVector implements Serializable {
+
+    private final int size;
+    private final float[] values;
+
+    /**
+     * A constructor of {@link FloatVector} class which takes integer size and float x as inputs and creates a vector of
+     * given size whose items are all x.
+     *
+     * @param size size of the vector.
+     * @param x    value of the items.
+     */
+    public FloatVector(int size, float x) {
+        this.size = size;
+        values = new float[size];
+        if (x != 0.0f) {
+            Arrays.fill(values, x);
+        }
+    }
+
+    /**
+     * Another constructor of {@link FloatVector} class which takes a float {@link java.lang.reflect.Array} as an input and
+     * copies it into the values {@link java.lang.reflect.Array}.
+     *
+     * @param values float {@link java.lang.reflect.Array} input.
+     */
+    public FloatVector(float[] values) {
+        this.size = values.length;
+        this.values = values.clone();
+    }
+
+    /**
+     * Another constructor of {@link FloatVector} class which takes a double precision {@link Vector} as an input and
+     * rounds its items to single precision.
+     *
+     * @param vector double precision vector.
+     */
+    public FloatVector(Vector vector) {
+        size = vector.size();
+        values = new float[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (float) vector.getValue(i);
+        }
+    }
+
+    /**
+     * The toVector method converts the vector to a double precision {@link Vector}.
+     *
+     * @return double precision copy of the vector.
+     */
+    public Vector toVector() {
+        double[] result = new double[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = values[i];
+        }
+        return Vector.wrap(result);
+    }
+
+    /**
+     * The toArray method returns a copy of the values {@link java.lang.reflect.Array}.
+     *
+     * @return copy of the items of the vector.
+     */
+    public float[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * The size method returns the size of the vector.
+     *
+     * @return size of the vector.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Getter for the item at given index of values {@link java.lang.reflect.Array}.
+     *
+     * @param index used to get an item.
+     * @return the item at given index.
+     */
+    public float getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * Setter for the setting the value at given index of values {@link java.lang.reflect.Array}.
+     *
+     * @param index to set.
+     * @param value is used to set the given index
+     */
+    public void setValue(int index, float value) {
+        values[index] = value;
+    }
+
+    /**
+     * The addValue method adds the given value to the item at given index of values {@link java.lang.reflect.Array}.
+     *
+     * @param index to add the given value.
+     * @param value value to add to given index.
+     */
+    public void addValue(int index, float value) {
+        values[index] += value;
+    }
+
+    /**
+     * The sumOfElements method sums up all elements in the vector.
+     *
+     * @return Sum of all elements in the vector.
+     */
+    public float sumOfElements() {
+        return VectorKernels.sum(values, 0, size);
+    }
+
+    /**
+     * The add method takes a {@link FloatVector} v as an input and adds its items to the corresponding items of values
+     * {@link java.lang.reflect.Array}. If their sizes do not match, it throws a VectorSizeMismatch exception.
+     *
+     * @param v Vector to add.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    public void add(FloatVector v) throws VectorSizeMismatch {
+        if (size != v.size) {
+            throw new VectorSizeMismatch();
+        }
+        VectorKernels.add(values, 0, v.values, 0, size);
+    }
+
+    /**
+     * The subtract method takes a {@link FloatVector} v as an input and subtracts its items from the corresponding
+     * items of values {@link java.lang.reflect.Array}. If their sizes do not match, it throws a VectorSizeMismatch
+     * exception.
+     *
+     * @param v Vector to subtract.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    public void subtract(FloatVector v) throws VectorSizeMismatch {
+        if (size != v.size) {
+            throw new VectorSizeMismatch();
+        }
+        VectorKernels.subtract(values, 0, v.values, 0, size);
+    }
+
+    /**
+     * The difference method takes a {@link FloatVector} v as an input and returns a new vector holding the
+     * differences of the corresponding items. If their sizes do not match, it throws a VectorSizeMismatch exception.
+     *
+     * @param v Vector to find difference.
+     * @return new {@link FloatVector} with the differences.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    public FloatVector difference(FloatVector v) throws VectorSizeMismatch {
+        if (size != v.size) {
+            throw new VectorSizeMismatch();
+        }
+        FloatVector result = new FloatVector(size, 0.0f);
+        VectorKernels.difference(values, 0, v.values, 0, result.values, 0, size);
+        return result;
+    }
+
+    /**
+     * The dotProduct method takes a {@link FloatVector} v as an input and accumulates the products of the
+     * corresponding items. If their sizes do not match, it throws a VectorSizeMismatch exception.
+     *
+     * @param v Vector to find dot product.
+     * @return dot product of the vectors.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    public float dotProduct(FloatVector v) throws VectorSizeMismatch {
+        if (size != v.size) {
+            throw new VectorSizeMismatch();
+        }
+        return VectorKernels.dot(values, 0, v.values, 0, size);
+    }
+
+    /**
+     * The dotProduct method accumulates the squares of the items of values {@link java.lang.reflect.Array}.
+     *
+     * @return sum of squares of the items.
+     */
+    public float dotProduct() {
+        return VectorKernels.sumOfSquares(values, 0, size);
+    }
+
+    /**
+     * The elementProduct method takes a {@link FloatVector} v as an input and returns a new vector holding the products
+     * of the corresponding items. If their sizes do not match, it throws a VectorSizeMismatch exception.
+     *
+     * @param v Vector to multiply.
+     * @return new {@link FloatVector} with the products.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    public FloatVector elementProduct(FloatVector v) throws VectorSizeMismatch {
+        if (size != v.size) {
+            throw new VectorSizeMismatch();
+        }
+        FloatVector result = new FloatVector(size, 0.0f);
+        VectorKernels.elementProduct(values, 0, v.values, 0, result.values, 0, size);
+        return result;
+    }
+
+    /**
+     * The multiply method takes a float value as an input and multiplies each item of values
+     * {@link java.lang.reflect.Array} with given value.
+     *
+     * @param value is used to multiply items of values {@link java.lang.reflect.Array}.
+     */
+    public void multiply(float value) {
+        VectorKernels.scale(values, 0, value, values, 0, size);
+    }
+
+    /**
+     * The divide method takes a float value as an input and divides each item of values {@link java.lang.reflect.Array}
+     * with given value.
+     *
+     * @param value is used to divide items of values {@link java.lang.reflect.Array}.
+     */
+    public void divide(float value) {
+        for (int i = 0; i < size; i++) {
+            values[i] /= value;
+        }
+    }
+
+    /**
+     * The l2Norm method returns the square root of the sum of squares of the items.
+     *
+     * @return l2 norm of the vector.
+     */
+    public float l2Norm() {
+        return (float) Math.sqrt(dotProduct());
+    }
+
+    /**
+     * The cosineSimilarity method takes a {@link FloatVector} v as an input and returns the result of
+     * dotProduct(v) / l2Norm() / v.l2Norm(). If sizes do not match it throws a {@link VectorSizeMismatch} exception.
+     *
+     * @param v Vector input.
+     * @return dotProduct(v) / l2Norm() / v.l2Norm().
+     * @throws VectorSizeMismatch exception.
+     */
+    public float cosineSimilarity(FloatVector v) throws VectorSizeMismatch {
+        return dotProduct(v) / l2Norm() / v.l2Norm();
+    }
+
+    /**
+     * The sigmoid method sets each item of values {@link java.lang.reflect.Array} with the sigmoid function.
+     */
+    public void sigmoid() {
+        for (int i = 0; i < size; i++) {
+            values[i] = (float) (1 / (1 + Math.exp(-values[i])));
+        }
+    }
+
+    /**
+     * The tanh method sets each item of values {@link java.lang.reflect.Array} with the tanh function.
+     */
+    public void tanh() {
+        for (int i = 0; i < size; i++) {
+            values[i] = (float) Math.tanh(values[i]);
+        }
+    }
+
+    /**
+     * The relu method sets each negative item of values {@link java.lang.reflect.Array} to zero.
+     */
+    public void relu() {
+        for (int i = 0; i < size; i++) {
+            if (values[i] < 0) {
+                values[i] = 0.0f;
+            }
+        }
+    }
+
+    /**
+     * The maxIndex method returns the index of the largest item of values {@link java.lang.reflect.Array}.
+     *
+     * @return index of the largest item.
+     */
+    public int maxIndex() {
+        int index = 0;
+        float max = values[0];
+        for (int i = 1; i < size; i++) {
+            if (values[i] > max) {
+                max = values[i];
+                index = i;
+            }
+        }
+        return index;
+    }
+
+}
@@ -0,0 +1,286 @@
+package Math;
+
+public class LUDecomposition {
+    /**
+     * LU decomposition with partial pivoting, P * A = L * U, of a square {@link Matrix}. The factors are computed once
+     * and reused to solve linear systems with any number of right hand sides, and to find the determinant and the
+     * inverse. The factorization is blocked and right looking: a panel of columns is factorized, the rows of U to its
+     * right are found by a triangular solve, and the trailing matrix is updated with one matrix product.
+     */
+
+    static final int BLOCK_SIZE = 64;
+
+    private final int n;
+    private final double[] lu;
+    private final int[] pivot;
+    private int pivotSign;
+    private boolean singular;
+
+    /**
+     * A constructor of {@link LUDecomposition} class which takes a square {@link Matrix} as an input and factorizes
+     * it. The matrix is not modified. If the matrix is not square, it throws {@link MatrixNotSquare} exception. A
+     * singular matrix is factorized as well, but cannot be used to solve systems.
+     *
+     * @param matrix Matrix to factorize.
+     * @throws MatrixNotSquare if row and column sizes do not match.
+     */
+    public LUDecomposition(Matrix matrix) throws MatrixNotSquare {
+        if (matrix.getRow() != matrix.getColumn()) {
+            throw new MatrixNotSquare();
+        }
+        n = matrix.getRow();
+        lu = matrix.getData().clone();
+        pivot = new int[n];
+        for (int i = 0; i < n; i++) {
+            pivot[i] = i;
+        }
+        pivotSign = 1;
+        singular = false;
+        for (int k = 0; k < n; k += BLOCK_SIZE) {
+            int width = Math.min(BLOCK_SIZE, n - k);
+            factorizePanel(k, width);
+            int rest = n - k - width;
+            if (rest > 0) {
+                solveUpperBlock(k, width);
+                updateTrailing(k, width);
+            }
+        }
+    }
+
+    /**
+     * Factorizes the columns [k, k + width) of the rows [k, n) with partial pivoting. Rows are swapped over their full
+     * length, so that the rows of L to the left and of A to the right follow the pivots.
+     */
+    private void factorizePanel(int k, int width) {
+        for (int j = k; j < k + width; j++) {
+            int p = j;
+            double max = Math.abs(lu[j * n + j]);
+            for (int i = j + 1; i < n; i++) {
+                double value = Math.abs(lu[i * n + j]);
+                if (value > max) {
+                    max = value;
+                    p = i;
+                }
+            }
+            if (p != j) {
+                for (int c = 0; c < n; c++) {
+                    double swap = lu[p * n + c];
+                    lu[p * n + c] = lu[j * n + c];
+                    lu[j * n + c] = swap;
+                }
+                int swap = pivot[p];
+                pivot[p] = pivot[j];
+                pivot[j] = swap;
+                pivotSign = -pivotSign;
+            }
+            double diagonal = lu[j * n + j];
+            if (diagonal == 0.0) {
+                singular = true;
+                continue;
+            }
+            for (int i = j + 1; i < n; i++) {
+                double factor = lu[i * n + j] / diagonal;
+                lu[i * n + j] = factor;
+                if (factor != 0.0) {
+                    for (int c = j + 1; c < k + width; c++) {
+                        lu[i * n + c] -= factor * lu[j * n + c];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the rows [k, k + width) right of the panel with the corresponding rows of U by solving with the unit
+     * lower triangular block of the panel.
+     */
+    private void solveUpperBlock(int k, int width) {
+        int start = k + width;
+        for (int i = k + 1; i < k + width; i++) {
+            for (int t = k; t < i; t++) {
+                double factor = lu[i * n + t];
+                if (factor != 0.0) {
+                    VectorKernels.axpy(lu, i * n + start, -factor, lu, t * n + start, n - start);
+                }
+            }
+        }
+    }
+
+    /**
+     * Subtracts L21 * U12 from the trailing matrix right below the panel.
+     */
+    private void updateTrailing(int k, int width) {
+        int start = k + width;
+        int rest = n - start;
+        double[] negatedL = new double[rest * width];
+        for (int i = 0; i < rest; i++) {
+            for (int t = 0; t < width; t++) {
+                negatedL[i * width + t] = -lu[(start + i) * n + k + t];
+            }
+        }
+        Gemm.multiply(Parallelism.getPool(), negatedL, 0, width, 1, lu, k * n + start, n, 1,
+                lu, start * n + start, n, rest, rest, width);
+    }
+
+    /**
+     * The isSingular method returns true if a pivot is zero, i.e. the matrix is singular.
+     *
+     * @return true if the matrix is singular, false otherwise.
+     */
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * The determinant method returns the product of the diagonal of U with the sign of the row permutation.
+     *
+     * @return determinant of the matrix.
+     */
+    public double determinant() {
+        double result = pivotSign;
+        for (int i = 0; i < n; i++) {
+            result *= lu[i * n + i];
+        }
+        return result;
+    }
+
+    /**
+     * The getL method returns the unit lower triangular factor L.
+     *
+     * @return Matrix L.
+     */
+    public Matrix getL() {
+        Matrix result = new Matrix(n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                result.setValue(i, j, lu[i * n + j]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The getU method returns the upper triangular factor U.
+     *
+     * @return Matrix U.
+     */
+    public Matrix getU() {
+        Matrix result = new Matrix(n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = i; j < n; j++) {
+                result.setValue(i, j, lu[i * n + j]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The getPivot method returns the row permutation: row i of L * U is row getPivot()[i] of the matrix.
+     *
+     * @return row permutation.
+     */
+    public int[] getPivot() {
+        return pivot.clone();
+    }
+
+    /**
+     * The solve method takes a {@link Vector} b as an input and returns x such that A * x = b. If the size of b does
+     * not match the row number, it throws {@link MatrixRowMismatch} exception; if the matrix is singular, it throws
+     * {@link DeterminantZero} exception.
+     *
+     * @param b right hand side.
+     * @return solution of the system.
+     * @throws MatrixRowMismatch if the size of b does not match the row number.
+     * @throws DeterminantZero   if the matrix is singular.
+     */
+    public Vector solve(Vector b) throws MatrixRowMismatch, DeterminantZero {
+        if (b.size() != n) {
+            throw new MatrixRowMismatch();
+        }
+        if (singular) {
+            throw new DeterminantZero();
+        }
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = b.getValue(pivot[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            x[i] -= VectorKernels.dot(lu, i * n, x, 0, i);
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            x[i] = (x[i] - VectorKernels.dot(lu, i * n + i + 1, x, i + 1, n - i - 1)) / lu[i * n + i];
+        }
+        return Vector.wrap(x);
+    }
+
+    /**
+     * The solve method takes a {@link Matrix} B as an input and returns X such that A * X = B, solving for all columns
+     * of B at once. If the row number of B does not match, it throws {@link MatrixRowMismatch} exception; if the
+     * matrix is singular, it throws {@link DeterminantZero} exception.
+     *
+     * @param b right hand sides as columns.
+     * @return solutions as columns.
+     * @throws MatrixRowMismatch if the row number of B does not match.
+     * @throws DeterminantZero   if the matrix is singular.
+     */
+    public Matrix solve(Matrix b) throws MatrixRowMismatch, DeterminantZero {
+        if (b.getRow() != n) {
+            throw new MatrixRowMismatch();
+        }
+        if (singular) {
+            throw new DeterminantZero();
+        }
+        int columns = b.getColumn();
+        double[] source = b.getData();
+        double[] x = new double[n * columns];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(source, pivot[i] * columns, x, i * columns, columns);
+        }
+        solveInPlace(x, columns);
+        return new Matrix(n, columns, x);
+    }
+
+    /**
+     * Overwrites the permuted right hand sides stored row by row in x with the solutions, updating whole rows of x
+     * at a time.
+     */
+    private void solveInPlace(double[] x, int columns) {
+        for (int i = 0; i < n; i++) {
+            for (int t = 0; t < i; t++) {
+                double factor = lu[i * n + t];
+                if (factor != 0.0) {
+                    VectorKernels.axpy(x, i * columns, -factor, x, t * columns, columns);
+                }
+            }
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            for (int t = i + 1; t < n; t++) {
+                double factor = lu[i * n + t];
+                if (factor != 0.0) {
+                    VectorKernels.axpy(x, i * columns, -factor, x, t * columns, columns);
+                }
+            }
+            VectorKernels.scale(x, i * columns, 1.0 / lu[i * n + i], x, i * columns, columns);
+        }
+    }
+
+    /**
+     * The inverse method returns the inverse of the matrix by solving for the columns of the identity matrix. If the
+     * matrix is singular, it throws {@link DeterminantZero} exception.
+     *
+     * @return inverse of the matrix.
+     * @throws DeterminantZero if the matrix is singular.
+     */
+    public Matrix inverse() throws DeterminantZero {
+        if (singular) {
+            throw new DeterminantZero();
+        }
+        double[] x = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            x[i * n + pivot[i]] = 1.0;
+        }
+        solveInPlace(x, n);
+        return new Matrix(n, n, x);
+    }
+
+}
@@ -0,0 +1,44 @@
+package Math;
+
+public interface LinearOperator {
+    /**
+     * A square linear operator known only through its product with vectors, such as a dense {@link Matrix}, a sparse
+     * matrix or an implicit product of matrices. Iterative solvers like {@link SubspaceIteration} access the operator
+     * only through this interface.
+     */
+
+    /**
+     * The size method returns the dimension of the vectors the operator acts on.
+     *
+     * @return dimension of the operator.
+     */
+    int size();
+
+    /**
+     * The multiply method writes A * x to y, where x is read from x[xOffset .. xOffset + size()) and y is written to
+     * y[yOffset .. yOffset + size()).
+     *
+     * @param x       input vector.
+     * @param xOffset index of the first item of the input vector.
+     * @param y       output vector.
+     * @param yOffset index of the first item of the output vector.
+     */
+    void multiply(double[] x, int xOffset, double[] y, int yOffset);
+
+    /**
+     * The multiply method multiplies a block of count vectors, stored one after the other in x, and writes the products
+     * one after the other to y. Operators that can multiply many vectors at once faster than one by one, as dense
+     * matrices can, should override it.
+     *
+     * @param x     input vectors, stored one after the other.
+     * @param y     output vectors, stored one after the other.
+     * @param count number of vectors.
+     */
+    default void multiply(double[] x, double[] y, int count) {
+        int size = size();
+        for (int i = 0; i < count; i++) {
+            multiply(x, i * size, y, i * size);
+        }
+    }
+
+}
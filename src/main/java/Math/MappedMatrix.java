@@ -0,0 +1,568 @@
+package Math;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+
+public class MappedMatrix implements Closeable {
+    /**
+     * A matrix stored in a file in the {@link BinaryFormat} layout and accessed through memory mapped buffers, so that it
+     * can be larger than the heap. Since a single buffer can not exceed 2 GB, the file is mapped in segments of whole
+     * rows, and each segment is mapped only when it is first accessed; the operating system then loads its pages on
+     * demand, so opening a matrix only reads its header. Products and transposes stream square tiles through a bounded
+     * amount of heap memory and write their results to new files. Writes mark the checksum blocks they touch, and the
+     * checksums of those blocks are rewritten by {@link #flush()} and {@link #close()}. A mapped matrix is not thread
+     * safe.
+     */
+
+    /**
+     * Maximum number of bytes in a mapped segment.
+     */
+    static final long SEGMENT_BYTES = 1L << 30;
+
+    /**
+     * Default number of rows and columns of the tiles streamed by {@link #multiply(MappedMatrix, String)} and
+     * {@link #transpose(String)}. Three tiles of this size take 24 MB.
+     */
+    static final int DEFAULT_TILE_SIZE = 1024;
+
+    private final FileChannel channel;
+    private final BinaryFormat.Header header;
+    private final boolean writable;
+    private final int row;
+    private final int col;
+    private final int rowsPerSegment;
+    private final ByteBuffer[] segments;
+    private final DoubleBuffer[] views;
+    private final BitSet dirtyBlocks;
+
+    /**
+     * Creates a mapped matrix over an open file with the given header.
+     */
+    private MappedMatrix(FileChannel channel, BinaryFormat.Header header, boolean writable, long segmentBytes) throws IOException {
+        long[] shape = header.shape();
+        if (shape.length != 2) {
+            throw new IOException("File holds a tensor of rank " + shape.length + ", not a matrix.");
+        }
+        if (shape[0] > Integer.MAX_VALUE || shape[1] > segmentBytes / 8) {
+            throw new IOException("Matrix dimensions " + shape[0] + " x " + shape[1] + " are too large to map.");
+        }
+        this.channel = channel;
+        this.header = header;
+        this.writable = writable;
+        row = (int) shape[0];
+        col = (int) shape[1];
+        rowsPerSegment = col == 0 ? Math.max(row, 1) : (int) Math.min(Math.max(row, 1), segmentBytes / (8L * col));
+        int segmentCount = (row + rowsPerSegment - 1) / rowsPerSegment;
+        segments = new ByteBuffer[segmentCount];
+        views = new DoubleBuffer[segmentCount];
+        dirtyBlocks = new BitSet();
+    }
+
+    /**
+     * The open method maps the matrix in the file with the given name. Only the header is read; the checksums of the
+     * data are checked by {@link #verify()}.
+     *
+     * @param fileName name of a file written by {@link BinaryFormat} or {@link #create(String, int, int)}.
+     * @param writable if true, the matrix can be modified and the changes are written to the file.
+     * @return mapped matrix.
+     * @throws IOException if the file can not be opened or does not hold a matrix.
+     */
+    public static MappedMatrix open(String fileName, boolean writable) throws IOException {
+        return open(fileName, writable, SEGMENT_BYTES);
+    }
+
+    /**
+     * Maps the matrix in the file with the given name in segments of at most the given number of bytes.
+     */
+    static MappedMatrix open(String fileName, boolean writable, long segmentBytes) throws IOException {
+        FileChannel channel = writable
+                ? FileChannel.open(Paths.get(fileName), StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+        try {
+            return new MappedMatrix(channel, BinaryFormat.Header.read(channel), writable, segmentBytes);
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * The create method creates a file holding a row x col matrix of zeros and maps it for writing. The file is
+     * extended without writing the data, so on most file systems it takes no disk space until items are set.
+     *
+     * @param fileName name of the file, which is replaced if it exists.
+     * @param row      number of rows.
+     * @param col      number of columns.
+     * @return writable mapped matrix.
+     * @throws IOException if the file can not be created.
+     */
+    public static MappedMatrix create(String fileName, int row, int col) throws IOException {
+        return create(fileName, row, col, SEGMENT_BYTES);
+    }
+
+    /**
+     * Creates a zero matrix file and maps it in segments of at most the given number of bytes.
+     */
+    static MappedMatrix create(String fileName, int row, int col, long segmentBytes) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            BinaryFormat.Header header = new BinaryFormat.Header(new long[]{row, col});
+            header.write(channel);
+            long blockCount = header.blockCount();
+            ByteBuffer checksums = ByteBuffer.allocate((int) (4 * blockCount)).order(ByteOrder.LITTLE_ENDIAN);
+            if (blockCount > 0) {
+                int fullChecksum = zeroChecksum(header.blockSize());
+                int lastLength = (int) (header.count() - (blockCount - 1) * header.blockSize());
+                for (long block = 0; block < blockCount - 1; block++) {
+                    checksums.putInt(fullChecksum);
+                }
+                checksums.putInt(zeroChecksum(lastLength));
+            }
+            checksums.flip();
+            BinaryFormat.writeFully(channel, checksums, header.trailerOffset());
+            return new MappedMatrix(channel, header, true, segmentBytes);
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the checksum of the given number of zero items.
+     */
+    private static int zeroChecksum(int length) {
+        CRC32 crc = new CRC32();
+        byte[] zeros = new byte[8 * Math.min(length, 8192)];
+        for (long remaining = 8L * length; remaining > 0; remaining -= zeros.length) {
+            crc.update(zeros, 0, (int) Math.min(zeros.length, remaining));
+        }
+        return (int) crc.getValue();
+    }
+
+    /**
+     * The getRow method returns the number of rows.
+     *
+     * @return number of rows.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * The getColumn method returns the number of columns.
+     *
+     * @return number of columns.
+     */
+    public int getColumn() {
+        return col;
+    }
+
+    /**
+     * The isWritable method returns true if the matrix was opened for writing.
+     *
+     * @return true if the matrix can be modified.
+     */
+    public boolean isWritable() {
+        return writable;
+    }
+
+    /**
+     * Returns the buffer of the given segment, mapping it on first use.
+     */
+    private ByteBuffer segment(int index) throws IOException {
+        ByteBuffer segment = segments[index];
+        if (segment == null) {
+            int rows = Math.min(rowsPerSegment, row - index * rowsPerSegment);
+            long position = header.dataOffset() + 8L * col * index * rowsPerSegment;
+            MappedByteBuffer mapped = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                    position, 8L * col * rows);
+            segment = mapped.order(header.byteOrder());
+            segments[index] = segment;
+            views[index] = segment.asDoubleBuffer();
+        }
+        return segment;
+    }
+
+    /**
+     * Returns a double view of the segment holding the given row, positioned at the given column of the row.
+     */
+    private DoubleBuffer rowView(int rowNo, int colNo) throws IOException {
+        int index = rowNo / rowsPerSegment;
+        segment(index);
+        DoubleBuffer view = views[index].duplicate();
+        view.position((rowNo - index * rowsPerSegment) * col + colNo);
+        return view;
+    }
+
+    /**
+     * Throws an exception if the given position is outside the matrix.
+     */
+    private void checkIndex(int rowNo, int colNo) {
+        if (rowNo < 0 || rowNo >= row || colNo < 0 || colNo >= col) {
+            throw new IndexOutOfBoundsException("Position (" + rowNo + ", " + colNo + ") is outside " + row + " x " + col);
+        }
+    }
+
+    /**
+     * Throws an exception if the given rows and columns are not inside the matrix.
+     */
+    private void checkRange(int rowStart, int rowCount, int colStart, int colCount) {
+        if (rowStart < 0 || rowCount < 0 || rowStart > row - rowCount || colStart < 0 || colCount < 0 || colStart > col - colCount) {
+            throw new IndexOutOfBoundsException("Rows " + rowStart + " + " + rowCount + " and columns " + colStart + " + "
+                    + colCount + " are outside " + row + " x " + col);
+        }
+    }
+
+    /**
+     * Throws an exception if the matrix was opened read only.
+     */
+    private void checkWritable() {
+        if (!writable) {
+            throw new UnsupportedOperationException("Matrix is mapped read only.");
+        }
+    }
+
+    /**
+     * The getValue method returns the item at the given position.
+     *
+     * @param rowNo row of the item.
+     * @param colNo column of the item.
+     * @return the item at the given position.
+     * @throws IOException if the segment holding the item can not be mapped.
+     */
+    public double getValue(int rowNo, int colNo) throws IOException {
+        checkIndex(rowNo, colNo);
+        int index = rowNo / rowsPerSegment;
+        return segment(index).getDouble(8 * ((rowNo - index * rowsPerSegment) * col + colNo));
+    }
+
+    /**
+     * The setValue method sets the item at the given position.
+     *
+     * @param rowNo row of the item.
+     * @param colNo column of the item.
+     * @param value new value of the item.
+     * @throws IOException if the segment holding the item can not be mapped.
+     */
+    public void setValue(int rowNo, int colNo, double value) throws IOException {
+        checkWritable();
+        checkIndex(rowNo, colNo);
+        int index = rowNo / rowsPerSegment;
+        segment(index).putDouble(8 * ((rowNo - index * rowsPerSegment) * col + colNo), value);
+        markDirty((long) rowNo * col + colNo, 1);
+    }
+
+    /**
+     * The getRow method returns a copy of the given row as a {@link Vector}.
+     *
+     * @param rowNo row number.
+     * @return copy of the row.
+     * @throws IOException if the segment holding the row can not be mapped.
+     */
+    public Vector getRow(int rowNo) throws IOException {
+        checkRange(rowNo, 1, 0, col);
+        double[] result = new double[col];
+        rowView(rowNo, 0).get(result);
+        return Vector.wrap(result);
+    }
+
+    /**
+     * The getRows method copies count rows starting from the given row into an in-memory {@link Matrix}.
+     *
+     * @param start first row.
+     * @param count number of rows.
+     * @return count x col matrix holding the rows.
+     * @throws IOException if a segment holding the rows can not be mapped.
+     */
+    public Matrix getRows(int start, int count) throws IOException {
+        checkRange(start, count, 0, col);
+        double[] result = new double[count * col];
+        readTile(start, count, 0, col, result, col);
+        return new Matrix(count, col, result);
+    }
+
+    /**
+     * The setRows method copies the rows of the given {@link Matrix} into the rows starting from the given row.
+     *
+     * @param start  first row to overwrite.
+     * @param matrix rows to write, with the same number of columns.
+     * @throws IOException if a segment holding the rows can not be mapped.
+     */
+    public void setRows(int start, Matrix matrix) throws IOException {
+        checkWritable();
+        if (matrix.getColumn() != col) {
+            throw new IllegalArgumentException("Matrix has " + matrix.getColumn() + " columns, expected " + col + ".");
+        }
+        checkRange(start, matrix.getRow(), 0, col);
+        writeTile(start, matrix.getRow(), 0, col, matrix.getData(), col);
+    }
+
+    /**
+     * The rowBlocks method returns the rows as consecutive in-memory {@link Matrix} blocks of the given number of rows,
+     * the last block holding the remaining rows. Each block is read when the iterator reaches it, so only one block is
+     * held in memory at a time. An {@link IOException} while reading a block is thrown as an
+     * {@link UncheckedIOException}.
+     *
+     * @param blockRows number of rows in each block.
+     * @return blocks of rows.
+     */
+    public Iterable<Matrix> rowBlocks(int blockRows) {
+        if (blockRows <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockRows);
+        }
+        return () -> new Iterator<Matrix>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < row;
+            }
+
+            @Override
+            public Matrix next() {
+                if (next >= row) {
+                    throw new NoSuchElementException();
+                }
+                int count = Math.min(blockRows, row - next);
+                try {
+                    Matrix block = getRows(next, count);
+                    next += count;
+                    return block;
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            }
+        };
+    }
+
+    /**
+     * Copies the given tile of the matrix into target, row by row with the given row stride.
+     */
+    private void readTile(int rowStart, int rowCount, int colStart, int colCount, double[] target, int targetStride) throws IOException {
+        for (int i = 0; i < rowCount; i++) {
+            rowView(rowStart + i, colStart).get(target, i * targetStride, colCount);
+        }
+    }
+
+    /**
+     * Copies source, stored row by row with the given row stride, into the given tile of the matrix.
+     */
+    private void writeTile(int rowStart, int rowCount, int colStart, int colCount, double[] source, int sourceStride) throws IOException {
+        for (int i = 0; i < rowCount; i++) {
+            rowView(rowStart + i, colStart).put(source, i * sourceStride, colCount);
+            markDirty((long) (rowStart + i) * col + colStart, colCount);
+        }
+    }
+
+    /**
+     * Marks the checksum blocks covering the given items as modified.
+     */
+    private void markDirty(long start, int length) {
+        if (length > 0) {
+            int blockSize = header.blockSize();
+            dirtyBlocks.set((int) (start / blockSize), (int) ((start + length - 1) / blockSize) + 1);
+        }
+    }
+
+    /**
+     * Computes the checksum of the given block from the mapped segments.
+     */
+    private int checksum(long block) throws IOException {
+        CRC32 crc = new CRC32();
+        long start = block * header.blockSize();
+        long end = Math.min(header.count(), start + header.blockSize());
+        long segmentItems = (long) rowsPerSegment * col;
+        while (start < end) {
+            int index = (int) (start / segmentItems);
+            int offset = (int) (start - index * segmentItems);
+            int length = (int) Math.min(end - start, segmentItems - offset);
+            ByteBuffer bytes = segment(index).duplicate();
+            bytes.limit(8 * (offset + length));
+            bytes.position(8 * offset);
+            crc.update(bytes);
+            start += length;
+        }
+        return (int) crc.getValue();
+    }
+
+    /**
+     * The flush method rewrites the checksums of the blocks modified since the last flush and forces the mapped
+     * segments and the checksums to the storage device.
+     *
+     * @throws IOException if the file can not be written.
+     */
+    public void flush() throws IOException {
+        if (!writable) {
+            return;
+        }
+        ByteBuffer value = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        for (int block = dirtyBlocks.nextSetBit(0); block >= 0; block = dirtyBlocks.nextSetBit(block + 1)) {
+            value.clear();
+            value.putInt(0, checksum(block));
+            BinaryFormat.writeFully(channel, value, header.trailerOffset() + 4L * block);
+        }
+        dirtyBlocks.clear();
+        for (ByteBuffer segment : segments) {
+            if (segment != null) {
+                ((MappedByteBuffer) segment).force();
+            }
+        }
+        channel.force(false);
+    }
+
+    /**
+     * The verify method reads the whole matrix and checks the checksum of every block, skipping the blocks modified
+     * since the last {@link #flush()}.
+     *
+     * @throws IOException if a checksum does not match or the file can not be read.
+     */
+    public void verify() throws IOException {
+        long blockCount = header.blockCount();
+        ByteBuffer checksums = ByteBuffer.allocate((int) (4 * blockCount)).order(ByteOrder.LITTLE_ENDIAN);
+        BinaryFormat.readFully(channel, checksums, header.trailerOffset());
+        for (int block = 0; block < blockCount; block++) {
+            if (!dirtyBlocks.get(block) && checksum(block) != checksums.getInt(4 * block)) {
+                throw new IOException("Checksum mismatch in block " + block + ".");
+            }
+        }
+    }
+
+    /**
+     * The multiply method computes the product of this matrix with the given matrix out of core and writes it to a
+     * new file. The matrices are streamed in square tiles of {@link #DEFAULT_TILE_SIZE}, so at most three tiles are
+     * held in memory; each tile product runs on the pool set in {@link Parallelism}.
+     *
+     * @param m        right operand.
+     * @param fileName name of the result file, which is replaced if it exists.
+     * @return writable mapped product.
+     * @throws MatrixRowColumnMismatch if the column number of this matrix does not match the row number of m.
+     * @throws IOException             if a file can not be read or written.
+     */
+    public MappedMatrix multiply(MappedMatrix m, String fileName) throws MatrixRowColumnMismatch, IOException {
+        return multiply(m, fileName, DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * The multiply method computes the product of this matrix with the given matrix out of core, streaming tiles of
+     * the given size, and writes it to a new file. For each tile of the result the corresponding row tiles of this
+     * matrix and column tiles of m are read in turn and accumulated in memory, then the tile is written.
+     *
+     * @param m        right operand.
+     * @param fileName name of the result file, which is replaced if it exists.
+     * @param tileSize number of rows and columns of the tiles.
+     * @return writable mapped product.
+     * @throws MatrixRowColumnMismatch if the column number of this matrix does not match the row number of m.
+     * @throws IOException             if a file can not be read or written.
+     */
+    public MappedMatrix multiply(MappedMatrix m, String fileName, int tileSize) throws MatrixRowColumnMismatch, IOException {
+        if (col != m.row) {
+            throw new MatrixRowColumnMismatch();
+        }
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        }
+        MappedMatrix result = create(fileName, row, m.col);
+        try {
+            double[] a = new double[tileSize * tileSize];
+            double[] b = new double[tileSize * tileSize];
+            double[] c = new double[tileSize * tileSize];
+            for (int i = 0; i < row; i += tileSize) {
+                int rows = Math.min(tileSize, row - i);
+                for (int j = 0; j < m.col; j += tileSize) {
+                    int columns = Math.min(tileSize, m.col - j);
+                    Arrays.fill(c, 0, rows * columns, 0.0);
+                    for (int k = 0; k < col; k += tileSize) {
+                        int inner = Math.min(tileSize, col - k);
+                        readTile(i, rows, k, inner, a, inner);
+                        m.readTile(k, inner, j, columns, b, columns);
+                        Gemm.multiply(Parallelism.getPool(), a, 0, inner, 1, b, 0, columns, 1, c, 0, columns, rows, columns, inner);
+                    }
+                    result.writeTile(i, rows, j, columns, c, columns);
+                }
+            }
+            result.flush();
+            return result;
+        } catch (IOException | RuntimeException exception) {
+            result.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * The transpose method writes the transpose of this matrix to a new file, moving square tiles of
+     * {@link #DEFAULT_TILE_SIZE} through memory.
+     *
+     * @param fileName name of the result file, which is replaced if it exists.
+     * @return writable mapped transpose.
+     * @throws IOException if a file can not be read or written.
+     */
+    public MappedMatrix transpose(String fileName) throws IOException {
+        return transpose(fileName, DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * The transpose method writes the transpose of this matrix to a new file, moving square tiles of the given size
+     * through memory.
+     *
+     * @param fileName name of the result file, which is replaced if it exists.
+     * @param tileSize number of rows and columns of the tiles.
+     * @return writable mapped transpose.
+     * @throws IOException if a file can not be read or written.
+     */
+    public MappedMatrix transpose(String fileName, int tileSize) throws IOException {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        }
+        MappedMatrix result = create(fileName, col, row);
+        try {
+            double[] tile = new double[tileSize * tileSize];
+            double[] transposed = new double[tileSize * tileSize];
+            for (int i = 0; i < row; i += tileSize) {
+                int rows = Math.min(tileSize, row - i);
+                for (int j = 0; j < col; j += tileSize) {
+                    int columns = Math.min(tileSize, col - j);
+                    readTile(i, rows, j, columns, tile, columns);
+                    Transpose.transpose(tile, 0, columns, rows, columns, transposed, 0, rows);
+                    result.writeTile(j, columns, i, rows, transposed, rows);
+                }
+            }
+            result.flush();
+            return result;
+        } catch (IOException | RuntimeException exception) {
+            result.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * The close method flushes a writable matrix and closes the file. The mapped segments are released when they are
+     * garbage collected.
+     *
+     * @throws IOException if the file can not be written or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (channel.isOpen()) {
+                flush();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+}
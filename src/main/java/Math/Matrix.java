@@ -5,15 +5,22 @@ import java.io.FileNotFoundException;
 import java.io.PrintWriter;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 public class Matrix implements Serializable {
 
+    /**
+     * Number of columns of the result of {@link #multiplyWithVectorFromLeft(Vector)} updated together, so that the
+     * updated slice stays in the first level cache while the rows stream past it.
+     */
+    private static final int VECTOR_PRODUCT_BLOCK = 512;
+
     private int row;
     private int col;
-    private double[][] values;
+    private double[] values;
 
     /**
      * A constructor of {@link Matrix} class which takes a filename as an input and reads numbers into values {@link java.lang.reflect.Array}
@@ -28,10 +35,10 @@ public class Matrix implements Serializable {
             sc = new Scanner(new File(filename));
             row = sc.nextInt();
             col = sc.nextInt();
-            values = new double[row][col];
+            values = new double[row * col];
             for (i = 0; i < row; i++) {
                 for (j = 0; j < col; j++) {
-                    values[i][j] = sc.nextDouble();
+                    values[i * col + j] = sc.nextDouble();
                 }
             }
         } catch (FileNotFoundException fileNotFoundException) {
@@ -47,7 +54,7 @@ public class Matrix implements Serializable {
      * @param col is used to create matrix.
      */
     public Matrix(int row, int col) {
-        values = new double[row][col];
+        values = new double[row * col];
         this.row = row;
         this.col = col;
     }
@@ -64,14 +71,29 @@ public class Matrix implements Serializable {
      * @param random random function to set the random values in the matrix.
      */
     public Matrix(int row, int col, double min, double max, Random random) {
-        values = new double[row][col];
+        values = new double[row * col];
         this.row = row;
         this.col = col;
-        for (int i = 0; i < row; i++) {
-            for (int j = 0; j < col; j++) {
-                values[i][j] = min + (max - min) * random.nextDouble();
-            }
+        for (int i = 0; i < values.length; i++) {
+            values[i] = min + (max - min) * random.nextDouble();
+        }
+    }
+
+    /**
+     * Another constructor of {@link Matrix} class which takes row and column numbers and a double
+     * {@link java.lang.reflect.Array} holding the items row by row. The array is not copied.
+     *
+     * @param row    is used to create matrix.
+     * @param col    is used to create matrix.
+     * @param values items of the matrix stored row by row.
+     */
+    Matrix(int row, int col, double[] values) {
+        if (values.length != row * col) {
+            throw new IllegalArgumentException("Array length " + values.length + " does not match " + row + " x " + col + ".");
         }
+        this.row = row;
+        this.col = col;
+        this.values = values;
     }
 
     /**
@@ -80,10 +102,7 @@ public class Matrix implements Serializable {
      * @return Matrix which is the copy of values {@link java.lang.reflect.Array}.
      */
     public Matrix clone() {
-        Matrix result = new Matrix(row, col);
-        for (int i = 0; i < row; i++)
-            System.arraycopy(values[i], 0, result.values[i], 0, col);
-        return result;
+        return new Matrix(row, col, values.clone());
     }
 
     /**
@@ -94,16 +113,24 @@ public class Matrix implements Serializable {
      */
     public Matrix(int size) {
         int i;
-        values = new double[size][size];
+        values = new double[size * size];
         row = size;
         col = size;
         for (i = 0; i < size; i++) {
-            values[i][i] = 1;
+            values[i * col + i] = 1;
         }
     }
 
+    /**
+     * The clear method sets all the items of values {@link java.lang.reflect.Array} to 0.0.
+     */
+    public void clear() {
+        Arrays.fill(values, 0.0);
+    }
+
     /**
      * The printToFile method takes a fileName as an input and prints values {@link java.lang.reflect.Array} into the file.
+     * The items are rounded to five decimals; use {@link BinaryFormat#write(String, Matrix)} to store them exactly.
      *
      * @param fileName String input to write to file.
      */
@@ -112,9 +139,9 @@ public class Matrix implements Serializable {
         try {
             output = new PrintWriter(fileName);
             for (int i = 0; i < row; i++) {
-                output.print(String.format("%.5f", values[i][0]));
+                output.print(String.format("%.5f", values[i * col + 0]));
                 for (int j = 1; j < col; j++) {
-                    output.print(" " + String.format("%.5f", values[i][j]));
+                    output.print(" " + String.format("%.5f", values[i * col + j]));
                 }
                 output.println();
             }
@@ -131,7 +158,7 @@ public class Matrix implements Serializable {
      * @return item at given index of values {@link java.lang.reflect.Array}.
      */
     public double getValue(int rowNo, int colNo) {
-        return values[rowNo][colNo];
+        return values[rowNo * col + colNo];
     }
 
     /**
@@ -142,7 +169,7 @@ public class Matrix implements Serializable {
      * @param value is used to set at given index.
      */
     public void setValue(int rowNo, int colNo, double value) {
-        values[rowNo][colNo] = value;
+        values[rowNo * col + colNo] = value;
     }
 
     /**
@@ -153,7 +180,7 @@ public class Matrix implements Serializable {
      * @param value is used to add to given item at given index.
      */
     public void addValue(int rowNo, int colNo, double value) {
-        values[rowNo][colNo] += value;
+        values[rowNo * col + colNo] += value;
     }
 
     /**
@@ -163,7 +190,17 @@ public class Matrix implements Serializable {
      * @param colNo integer input for column number.
      */
     public void increment(int rowNo, int colNo) {
-        values[rowNo][colNo] += 1;
+        values[rowNo * col + colNo] += 1;
+    }
+
+    /**
+     * The getData method returns the double {@link java.lang.reflect.Array} holding the items of the matrix row by row.
+     * The item at row i and column j is at index i * getColumn() + j. The array is not copied.
+     *
+     * @return items of the matrix stored row by row.
+     */
+    double[] getData() {
+        return values;
     }
 
     /**
@@ -182,7 +219,31 @@ public class Matrix implements Serializable {
      * @return Vector of values {@link java.lang.reflect.Array} at given row input.
      */
     public Vector getRow(int row) {
-        return new Vector(values[row]);
+        return Vector.wrap(Arrays.copyOfRange(values, row * col, (row + 1) * col));
+    }
+
+    /**
+     * The getRowView method returns a {@link Vector} which shares its storage with the given row of values
+     * {@link java.lang.reflect.Array}. No items are copied; changes made to the vector are visible in the matrix and
+     * vice versa.
+     *
+     * @param row integer input for row number.
+     * @return Writable view of the given row.
+     */
+    public Vector getRowView(int row) {
+        return Vector.wrap(values, row * col, col);
+    }
+
+    /**
+     * The getReadOnlyRowView method returns a {@link Vector} which shares its storage with the given row of values
+     * {@link java.lang.reflect.Array}. No items are copied, and any attempt to modify the vector throws
+     * {@link UnsupportedOperationException}.
+     *
+     * @param row integer input for row number.
+     * @return Read-only view of the given row.
+     */
+    public Vector getReadOnlyRowView(int row) {
+        return Vector.readOnlyView(values, row * col, col);
     }
 
     /**
@@ -195,7 +256,7 @@ public class Matrix implements Serializable {
     public ArrayList<Double> getColumn(int column) {
         ArrayList<Double> vector = new ArrayList<>();
         for (int i = 0; i < row; i++) {
-            vector.add(values[i][column]);
+            vector.add(values[i * col + column]);
         }
         return vector;
     }
@@ -216,10 +277,10 @@ public class Matrix implements Serializable {
         for (int i = 0; i < row; i++) {
             double sum = 0.0;
             for (int j = 0; j < col; j++) {
-                sum += values[i][j];
+                sum += values[i * col + j];
             }
             for (int j = 0; j < col; j++) {
-                values[i][j] /= sum;
+                values[i * col + j] /= sum;
             }
         }
     }
@@ -231,12 +292,7 @@ public class Matrix implements Serializable {
      * @param constant value to multiply items of values {@link java.lang.reflect.Array}.
      */
     public void multiplyWithConstant(double constant) {
-        int i, j;
-        for (i = 0; i < row; i++) {
-            for (j = 0; j < col; j++) {
-                values[i][j] *= constant;
-            }
-        }
+        VectorKernels.scale(values, 0, constant, values, 0, values.length);
     }
 
     /**
@@ -246,11 +302,8 @@ public class Matrix implements Serializable {
      * @param constant value to divide items of values {@link java.lang.reflect.Array}.
      */
     public void divideByConstant(double constant) {
-        int i, j;
-        for (i = 0; i < row; i++) {
-            for (j = 0; j < col; j++) {
-                values[i][j] /= constant;
-            }
+        for (int i = 0; i < values.length; i++) {
+            values[i] /= constant;
         }
     }
 
@@ -263,15 +316,10 @@ public class Matrix implements Serializable {
      * @throws MatrixDimensionMismatch exception if sizes of both input Matrix and values Array do not match.
      */
     public void add(Matrix m) throws MatrixDimensionMismatch {
-        int i, j;
         if (row != m.row || col != m.col) {
             throw new MatrixDimensionMismatch();
         }
-        for (i = 0; i < row; i++) {
-            for (j = 0; j < col; j++) {
-                values[i][j] += m.values[i][j];
-            }
-        }
+        VectorKernels.add(values, 0, m.values, 0, values.length);
     }
 
     /**
@@ -283,19 +331,36 @@ public class Matrix implements Serializable {
      * @throws MatrixDimensionMismatch exception if sizes of both input Matrix and values Array do not match.
      */
     public Matrix sum(Matrix m) throws MatrixDimensionMismatch{
-        int i, j;
         if (row != m.row || col != m.col) {
             throw new MatrixDimensionMismatch();
         }
-        Matrix result = new Matrix(row, col);
-        for (i = 0; i < row; i++) {
-            for (j = 0; j < col; j++) {
-                result.values[i][j] = values[i][j] + m.values[i][j];
-            }
-        }
+        Matrix result = clone();
+        VectorKernels.add(result.values, 0, m.values, 0, values.length);
         return result;
     }
 
+    /**
+     * The sumInto method takes {@link Matrix}es m and result as inputs and writes the sum of values
+     * {@link java.lang.reflect.Array} and m to result without allocating a new matrix. If the sizes of the matrices
+     * do not match, it throws {@link MatrixDimensionMismatch} exception.
+     *
+     * @param m      Matrix to be added.
+     * @param result Matrix to hold the sum. It may be this matrix or m.
+     * @throws MatrixDimensionMismatch exception if sizes of the matrices do not match.
+     */
+    public void sumInto(Matrix m, Matrix result) throws MatrixDimensionMismatch {
+        if (row != m.row || col != m.col || row != result.row || col != result.col) {
+            throw new MatrixDimensionMismatch();
+        }
+        Matrix other = m;
+        if (result == m) {
+            other = this;
+        } else if (result != this) {
+            System.arraycopy(values, 0, result.values, 0, values.length);
+        }
+        VectorKernels.add(result.values, 0, other.values, 0, values.length);
+    }
+
     /**
      * The add method which takes a row number and a Vector as inputs. It sums up the corresponding values at the given row of
      * values {@link java.lang.reflect.Array} and given {@link Vector}. If the sizes of both Matrix and values
@@ -310,7 +375,7 @@ public class Matrix implements Serializable {
             throw new MatrixColumnMismatch();
         }
         for (int i = 0; i < col; i++) {
-            values[rowNo][i] += v.getValue(i);
+            values[rowNo * col + i] += v.getValue(i);
         }
     }
 
@@ -323,15 +388,10 @@ public class Matrix implements Serializable {
      * @throws MatrixDimensionMismatch exception if sizes of both input Matrix and values Array do not match.
      */
     public void subtract(Matrix m) throws MatrixDimensionMismatch {
-        int i, j;
         if (row != m.row || col != m.col) {
             throw new MatrixDimensionMismatch();
         }
-        for (i = 0; i < row; i++) {
-            for (j = 0; j < col; j++) {
-                values[i][j] -= m.values[i][j];
-            }
-        }
+        VectorKernels.subtract(values, 0, m.values, 0, values.length);
     }
 
     /**
@@ -344,24 +404,37 @@ public class Matrix implements Serializable {
      * @throws MatrixDimensionMismatch exception if sizes of both input Matrix and values Array do not match.
      */
     public Matrix difference(Matrix m) throws MatrixDimensionMismatch {
-        int i, j;
         if (row != m.row || col != m.col) {
             throw new MatrixDimensionMismatch();
         }
         Matrix result = new Matrix(row, col);
-        for (i = 0; i < row; i++) {
-            for (j = 0; j < col; j++) {
-                result.values[i][j] = values[i][j] - m.values[i][j];
-            }
-        }
+        VectorKernels.difference(values, 0, m.values, 0, result.values, 0, values.length);
         return result;
     }
 
+    /**
+     * The differenceInto method takes {@link Matrix}es m and result as inputs and writes the difference of values
+     * {@link java.lang.reflect.Array} and m to result without allocating a new matrix. If the sizes of the matrices
+     * do not match, it throws {@link MatrixDimensionMismatch} exception.
+     *
+     * @param m      Matrix to be subtracted.
+     * @param result Matrix to hold the difference. It may be this matrix or m.
+     * @throws MatrixDimensionMismatch exception if sizes of the matrices do not match.
+     */
+    public void differenceInto(Matrix m, Matrix result) throws MatrixDimensionMismatch {
+        if (row != m.row || col != m.col || row != result.row || col != result.col) {
+            throw new MatrixDimensionMismatch();
+        }
+        VectorKernels.difference(values, 0, m.values, 0, result.values, 0, values.length);
+    }
+
     /**
      * The multiplyWithVectorFromLeft method takes a Vector as an input and creates a result {@link java.lang.reflect.Array}.
      * Then, multiplies values of input Vector starting from the left side with the values {@link java.lang.reflect.Array},
-     * accumulates the multiplication, and assigns to the result {@link java.lang.reflect.Array}. If the sizes of both Vector
-     * and row number do not match, it throws {@link MatrixRowMismatch} exception.
+     * accumulates the multiplication, and assigns to the result {@link java.lang.reflect.Array}. The rows are streamed in
+     * order and added four at a time to slices of the result, and the slices are split across the pool set in
+     * {@link Parallelism}. If the sizes of both Vector and row number do not match, it throws {@link MatrixRowMismatch}
+     * exception.
      *
      * @param v {@link Vector} type input.
      * @return Vector that holds the result.
@@ -371,53 +444,157 @@ public class Matrix implements Serializable {
         if (row != v.size()) {
             throw new MatrixRowMismatch();
         }
+        double[] vector = v.toArray();
         double[] result = new double[col];
-        for (int i = 0; i < col; i++) {
-            result[i] = 0.0;
-            for (int j = 0; j < row; j++) {
-                result[i] += v.getValue(j) * values[j][i];
+        Parallelism.forChunks(Parallelism.poolFor(Parallelism.getPool(), (long) row * col), col, (start, end) -> {
+            for (int from = start; from < end; from += VECTOR_PRODUCT_BLOCK) {
+                int length = Math.min(VECTOR_PRODUCT_BLOCK, end - from);
+                int j = 0;
+                for (; j + 4 <= row; j += 4) {
+                    VectorKernels.axpy4(result, from, vector, j, values, j * col + from, col, length);
+                }
+                for (; j < row; j++) {
+                    VectorKernels.axpy(result, from, vector[j], values, j * col + from, length);
+                }
             }
-        }
-        return new Vector(result);
+        });
+        return Vector.wrap(result);
     }
 
     /**
      * The multiplyWithVectorFromRight method takes a Vector as an input and creates a result {@link java.lang.reflect.Array}.
      * Then, multiplies values of input Vector starting from the right side with the values {@link java.lang.reflect.Array},
-     * accumulates the multiplication, and assigns to the result {@link java.lang.reflect.Array}. If the sizes of both Vector
-     * and row number do not match, it throws {@link MatrixColumnMismatch} exception.
+     * accumulates the multiplication, and assigns to the result {@link java.lang.reflect.Array}. Blocks of rows are split
+     * across the pool set in {@link Parallelism}, and four rows are multiplied with each load of the input. If the sizes
+     * of both Vector and row number do not match, it throws {@link MatrixColumnMismatch} exception.
      *
      * @param v {@link Vector} type input.
      * @return Vector that holds the result.
      * @throws MatrixColumnMismatch exception if sizes of both input Vector and column number do not match.
      */
     public Vector multiplyWithVectorFromRight(Vector v) throws MatrixColumnMismatch {
+        if (col != v.size()) {
+            throw new MatrixColumnMismatch();
+        }
+        double[] vector = v.toArray();
+        double[] result = new double[row];
+        Parallelism.forChunks(Parallelism.poolFor(Parallelism.getPool(), (long) row * col), row, (start, end) -> {
+            int i = start;
+            for (; i + 4 <= end; i += 4) {
+                VectorKernels.dot4(values, i * col, col, vector, 0, col, result, i);
+            }
+            for (; i < end; i++) {
+                result[i] = VectorKernels.dot(values, i * col, vector, 0, col);
+            }
+        });
+        return Vector.wrap(result);
+    }
+
+    /**
+     * The multiplyWithBatchFromRight method takes a {@link VectorBatch} as an input and returns the batch holding the
+     * product of the matrix with each vector of the batch, i.e. multiplyWithVectorFromRight applied to every vector.
+     * The products are computed as a single blocked matrix product of the batch with the transpose of the matrix, on
+     * the pool set in {@link Parallelism}, instead of one matrix vector product per vector. If the dimension of the
+     * batch and column number do not match, it throws {@link MatrixColumnMismatch} exception.
+     *
+     * @param batch {@link VectorBatch} type input.
+     * @return VectorBatch that holds the results.
+     * @throws MatrixColumnMismatch exception if the dimension of the batch and column number do not match.
+     */
+    public VectorBatch multiplyWithBatchFromRight(VectorBatch batch) throws MatrixColumnMismatch {
+        if (col != batch.getDimension()) {
+            throw new MatrixColumnMismatch();
+        }
+        return batch.multiplyWithMatrixRows(values, row);
+    }
+
+    /**
+     * The multiplyWithBatchFromLeft method takes a {@link VectorBatch} as an input and returns the batch holding the
+     * product of each vector of the batch with the matrix, i.e. multiplyWithVectorFromLeft applied to every vector.
+     * The products are computed as a single blocked matrix product of the batch with the matrix, on the pool set in
+     * {@link Parallelism}. If the dimension of the batch and row number do not match, it throws
+     * {@link MatrixRowMismatch} exception.
+     *
+     * @param batch {@link VectorBatch} type input.
+     * @return VectorBatch that holds the results.
+     * @throws MatrixRowMismatch exception if the dimension of the batch and row number do not match.
+     */
+    public VectorBatch multiplyWithBatchFromLeft(VectorBatch batch) throws MatrixRowMismatch {
+        if (row != batch.getDimension()) {
+            throw new MatrixRowMismatch();
+        }
+        return batch.multiplyWithMatrixColumns(values, col);
+    }
+
+    /**
+     * The multiplyWithVectorFromLeft method takes a {@link SparseVector} as an input and returns the sum of the rows of
+     * values {@link java.lang.reflect.Array} weighted by the nonzero items of the vector. Only the rows corresponding
+     * to nonzero items are visited. If the sizes of both Vector and row number do not match, it throws
+     * {@link MatrixRowMismatch} exception.
+     *
+     * @param v {@link SparseVector} type input.
+     * @return Vector that holds the result.
+     * @throws MatrixRowMismatch exception if sizes of both input Vector and row number do not match.
+     */
+    public Vector multiplyWithVectorFromLeft(SparseVector v) throws MatrixRowMismatch {
+        if (row != v.size()) {
+            throw new MatrixRowMismatch();
+        }
+        double[] result = new double[col];
+        for (int k = 0; k < v.nonZeroCount(); k++) {
+            VectorKernels.axpy(result, 0, v.getNonZeroValue(k), values, v.getIndex(k) * col, col);
+        }
+        return Vector.wrap(result);
+    }
+
+    /**
+     * The multiplyWithVectorFromRight method takes a {@link SparseVector} as an input and multiplies each row of values
+     * {@link java.lang.reflect.Array} with the vector by visiting only the nonzero items of the vector. If the sizes of
+     * both Vector and column number do not match, it throws {@link MatrixColumnMismatch} exception.
+     *
+     * @param v {@link SparseVector} type input.
+     * @return Vector that holds the result.
+     * @throws MatrixColumnMismatch exception if sizes of both input Vector and column number do not match.
+     */
+    public Vector multiplyWithVectorFromRight(SparseVector v) throws MatrixColumnMismatch {
         if (col != v.size()) {
             throw new MatrixColumnMismatch();
         }
         double[] result = new double[row];
+        int nonZeroCount = v.nonZeroCount();
         for (int i = 0; i < row; i++) {
-            result[i] = 0.0;
-            for (int j = 0; j < col; j++) {
-                result[i] += v.getValue(j) * values[i][j];
+            double sum = 0.0;
+            int rowStart = i * col;
+            for (int k = 0; k < nonZeroCount; k++) {
+                sum += values[rowStart + v.getIndex(k)] * v.getNonZeroValue(k);
             }
+            result[i] = sum;
         }
-        return new Vector(result);
+        return Vector.wrap(result);
     }
 
     /**
      * The columnSum method takes a column number as an input and accumulates items at given column number of values
-     * {@link java.lang.reflect.Array}.
+     * {@link java.lang.reflect.Array} with {@link SummationMode#NAIVE}. The column is strided, so its items are added
+     * one by one into a single accumulator.
      *
      * @param columnNo Column number input.
      * @return summation of given column of values {@link java.lang.reflect.Array}.
      */
     public double columnSum(int columnNo) {
-        double sum = 0;
-        for (int i = 0; i < row; i++) {
-            sum += values[i][columnNo];
-        }
-        return sum;
+        return Summation.sum(values, columnNo, col, row, SummationMode.NAIVE);
+    }
+
+    /**
+     * The columnSum method takes a column number and a {@link SummationMode} as inputs and accumulates items at given
+     * column number of values {@link java.lang.reflect.Array} with the given mode.
+     *
+     * @param columnNo Column number input.
+     * @param mode     accumulation strategy.
+     * @return summation of given column of values {@link java.lang.reflect.Array}.
+     */
+    public double columnSum(int columnNo, SummationMode mode) {
+        return Summation.sum(values, columnNo, col, row, mode);
     }
 
     /**
@@ -436,46 +613,157 @@ public class Matrix implements Serializable {
 
     /**
      * The rowSum method takes a row number as an input and accumulates items at given row number of values
-     * {@link java.lang.reflect.Array}.
+     * {@link java.lang.reflect.Array}. The row is summed with the same kernel as the sumOfElements method of its row
+     * view, so both give the same result.
      *
      * @param rowNo Row number input.
      * @return summation of given row of values {@link java.lang.reflect.Array}.
      */
     public double rowSum(int rowNo) {
-        double sum = 0;
-        for (int i = 0; i < col; i++) {
-            sum += values[rowNo][i];
-        }
-        return sum;
+        return VectorKernels.sum(values, rowNo * col, col);
+    }
+
+    /**
+     * The rowSum method takes a row number and a {@link SummationMode} as inputs and accumulates items at given row
+     * number of values {@link java.lang.reflect.Array} with the given mode.
+     *
+     * @param rowNo Row number input.
+     * @param mode  accumulation strategy.
+     * @return summation of given row of values {@link java.lang.reflect.Array}.
+     */
+    public double rowSum(int rowNo, SummationMode mode) {
+        return Summation.sum(values, rowNo * col, col, mode);
     }
 
     /**
      * The multiply method takes a {@link Matrix} as an input. First it creates a result {@link Matrix} and puts the
      * accumulated multiplication of values {@link java.lang.reflect.Array} and given {@link Matrix} into result
-     * {@link Matrix}. If the size of Matrix's row size and values {@link java.lang.reflect.Array}'s column size do not match,
-     * it throws {@link MatrixRowColumnMismatch} exception.
+     * {@link Matrix}. Large products are computed with a cache blocked, register tiled kernel over packed panels of
+     * both matrices, on the pool set with {@link Parallelism#setPool(ForkJoinPool)} if there is one. If the size of
+     * Matrix's row size and values {@link java.lang.reflect.Array}'s column size do not match, it throws
+     * {@link MatrixRowColumnMismatch} exception.
      *
      * @param m Matrix type input.
      * @return result {@link Matrix}.
      * @throws MatrixRowColumnMismatch if row and column size does not match.
      */
     public Matrix multiply(Matrix m) throws MatrixRowColumnMismatch {
-        int i, j, k;
-        double sum;
-        Matrix result;
+        return multiply(m, Parallelism.getPool());
+    }
+
+    /**
+     * The multiply method takes a {@link Matrix} and a {@link ForkJoinPool} as inputs and returns the matrix product,
+     * splitting tiles of the result across the given pool. Products below {@link Parallelism#getThreshold()}
+     * multiply-adds run on the calling thread. The result does not depend on the number of threads. If the size of
+     * Matrix's row size and values {@link java.lang.reflect.Array}'s column size do not match, it throws
+     * {@link MatrixRowColumnMismatch} exception.
+     *
+     * @param m    Matrix type input.
+     * @param pool pool to run on, null to run on the calling thread.
+     * @return result {@link Matrix}.
+     * @throws MatrixRowColumnMismatch if row and column size does not match.
+     */
+    public Matrix multiply(Matrix m, ForkJoinPool pool) throws MatrixRowColumnMismatch {
         if (col != m.row) {
             throw new MatrixRowColumnMismatch();
         }
-        result = new Matrix(row, m.col);
-        for (i = 0; i < row; i++) {
-            for (j = 0; j < m.col; j++) {
-                sum = 0.0;
-                for (k = 0; k < col; k++) {
-                    sum += values[i][k] * m.values[k][j];
-                }
-                result.values[i][j] = sum;
-            }
+        Matrix result = new Matrix(row, m.col);
+        Gemm.multiply(pool, values, 0, col, 1, m.values, 0, m.col, 1, result.values, 0, m.col, row, m.col, col);
+        return result;
+    }
+
+    /**
+     * The multiply method takes a {@link Matrix} and a {@link MultiplicationMode} as inputs and returns the matrix
+     * product computed with the given algorithm. With {@link MultiplicationMode#STRASSEN} the Strassen-Winograd
+     * recursion is applied while the smallest dimension is above the cutoff of 256, padding the matrices with zeros
+     * so that every level splits evenly, and the remaining products are computed as in the classical mode. If the size
+     * of Matrix's row size and values {@link java.lang.reflect.Array}'s column size do not match, it throws
+     * {@link MatrixRowColumnMismatch} exception.
+     *
+     * @param m    Matrix type input.
+     * @param mode multiplication algorithm.
+     * @return result {@link Matrix}.
+     * @throws MatrixRowColumnMismatch if row and column size does not match.
+     */
+    public Matrix multiply(Matrix m, MultiplicationMode mode) throws MatrixRowColumnMismatch {
+        if (mode == MultiplicationMode.CLASSIC) {
+            return multiply(m);
+        }
+        if (col != m.row) {
+            throw new MatrixRowColumnMismatch();
+        }
+        return new Matrix(row, m.col, Strassen.multiply(values, m.values, row, col, m.col));
+    }
+
+    /**
+     * The multiplicationErrorBound method takes a {@link Matrix} and a {@link MultiplicationMode} as inputs and returns
+     * a first order bound on the largest absolute error of an item of multiply(m, mode), in terms of the largest
+     * absolute items of both matrices and the unit roundoff. For rectangular matrices the bound of the square product
+     * of the largest padded dimension is returned. If the size of Matrix's row size and values
+     * {@link java.lang.reflect.Array}'s column size do not match, it throws {@link MatrixRowColumnMismatch} exception.
+     *
+     * @param m    Matrix type input.
+     * @param mode multiplication algorithm.
+     * @return bound on max |C - fl(C)|.
+     * @throws MatrixRowColumnMismatch if row and column size does not match.
+     */
+    public double multiplicationErrorBound(Matrix m, MultiplicationMode mode) throws MatrixRowColumnMismatch {
+        if (col != m.row) {
+            throw new MatrixRowColumnMismatch();
+        }
+        int levels = mode == MultiplicationMode.STRASSEN ? Strassen.levels(row, col, m.col) : 0;
+        int step = 1 << levels;
+        int n = (Math.max(row, Math.max(col, m.col)) + step - 1) / step * step;
+        double factor = Strassen.errorBoundFactor(n, n / step);
+        return factor * Math.ulp(1.0) / 2 * maxAbsolute() * m.maxAbsolute();
+    }
+
+    /**
+     * The maxAbsolute method returns the largest absolute value of the items of values {@link java.lang.reflect.Array}.
+     *
+     * @return largest absolute item.
+     */
+    private double maxAbsolute() {
+        double max = 0.0;
+        for (double value : values) {
+            max = Math.max(max, Math.abs(value));
         }
+        return max;
+    }
+
+    /**
+     * The transposeMultiply method takes a {@link Matrix} as an input and returns the product of the transpose of this
+     * matrix with the given matrix, i.e. transpose().multiply(m), without creating the transpose. If the row numbers
+     * of both matrices do not match, it throws {@link MatrixRowColumnMismatch} exception.
+     *
+     * @param m Matrix type input.
+     * @return result {@link Matrix}.
+     * @throws MatrixRowColumnMismatch if row numbers do not match.
+     */
+    public Matrix transposeMultiply(Matrix m) throws MatrixRowColumnMismatch {
+        if (row != m.row) {
+            throw new MatrixRowColumnMismatch();
+        }
+        Matrix result = new Matrix(col, m.col);
+        Gemm.multiply(Parallelism.getPool(), values, 0, 1, col, m.values, 0, m.col, 1, result.values, 0, m.col, col, m.col, row);
+        return result;
+    }
+
+    /**
+     * The multiplyTranspose method takes a {@link Matrix} as an input and returns the product of this matrix with the
+     * transpose of the given matrix, i.e. multiply(m.transpose()), without creating the transpose. If the column
+     * numbers of both matrices do not match, it throws {@link MatrixRowColumnMismatch} exception.
+     *
+     * @param m Matrix type input.
+     * @return result {@link Matrix}.
+     * @throws MatrixRowColumnMismatch if column numbers do not match.
+     */
+    public Matrix multiplyTranspose(Matrix m) throws MatrixRowColumnMismatch {
+        if (col != m.col) {
+            throw new MatrixRowColumnMismatch();
+        }
+        Matrix result = new Matrix(row, m.row);
+        Gemm.multiply(Parallelism.getPool(), values, 0, col, 1, m.values, 0, 1, m.col, result.values, 0, m.row, row, m.row, col);
         return result;
     }
 
@@ -489,17 +777,12 @@ public class Matrix implements Serializable {
      * @throws MatrixDimensionMismatch if row and column sizes do not match.
      */
     public Matrix elementProduct(Matrix m) throws MatrixDimensionMismatch {
-        int i, j;
         if (row != m.row || col != m.col) {
             throw new MatrixDimensionMismatch();
         }
-        Matrix result;
-        result = new Matrix(row, m.col);
-        for (i = 0; i < row; i++) {
-            for (j = 0; j < col; j++) {
-                result.values[i][j] = values[i][j] * m.values[i][j];
-            }
-        }
+        Matrix result = new Matrix(row, col);
+        Parallelism.forChunks(Parallelism.poolFor(Parallelism.getPool(), values.length), values.length, (start, end) ->
+                VectorKernels.elementProduct(values, start, m.values, start, result.values, start, end - start));
         return result;
     }
 
@@ -515,12 +798,12 @@ public class Matrix implements Serializable {
         result = new Matrix(row, col);
         if (row == 1 && col == v.size()){
             for (int i = 0; i < col; i++) {
-                result.values[0][i] = values[0][i] * v.getValue(i);
+                result.values[i] = values[i] * v.getValue(i);
             }
         } else {
             if (col == 1 && row == v.size()){
                 for (int i = 0; i < row; i++) {
-                    result.values[i][0] = values[i][0] * v.getValue(i);
+                    result.values[i] = values[i] * v.getValue(i);
                 }
             }
         }
@@ -528,20 +811,24 @@ public class Matrix implements Serializable {
     }
 
     /**
-     * The sumOfElements method accumulates all the items in values {@link java.lang.reflect.Array} and
-     * returns this summation.
+     * The sumOfElements method accumulates all the items in values {@link java.lang.reflect.Array} with the vector
+     * kernels and returns this summation, as {@link SummationMode#NAIVE} does.
      *
      * @return sum of the items of values {@link java.lang.reflect.Array}.
      */
     public double sumOfElements() {
-        int i, j;
-        double sum = 0.0;
-        for (i = 0; i < row; i++) {
-            for (j = 0; j < col; j++) {
-                sum += values[i][j];
-            }
-        }
-        return sum;
+        return VectorKernels.sum(values, 0, values.length);
+    }
+
+    /**
+     * The sumOfElements method accumulates all the items in values {@link java.lang.reflect.Array} with the given
+     * {@link SummationMode}.
+     *
+     * @param mode accumulation strategy.
+     * @return sum of the items of values {@link java.lang.reflect.Array}.
+     */
+    public double sumOfElements(SummationMode mode) {
+        return Summation.sum(values, 0, values.length, mode);
     }
 
     /**
@@ -557,28 +844,69 @@ public class Matrix implements Serializable {
         int i;
         double sum = 0.0;
         for (i = 0; i < row; i++) {
-            sum += values[i][i];
+            sum += values[i * col + i];
         }
         return sum;
     }
 
     /**
      * The transpose method creates a new {@link Matrix}, then takes the transpose of values {@link java.lang.reflect.Array}
-     * and puts transposition to the {@link Matrix}.
+     * and puts transposition to the {@link Matrix}. The items are copied tile by tile, so that reads and writes both
+     * stay in cache.
      *
      * @return Matrix type output.
      */
     public Matrix transpose() {
-        int i, j;
         Matrix result = new Matrix(col, row);
-        for (i = 0; i < row; i++) {
-            for (j = 0; j < col; j++) {
-                result.values[j][i] = values[i][j];
-            }
-        }
+        transposeTo(result);
         return result;
     }
 
+    /**
+     * The transposeTo method writes the transpose of values {@link java.lang.reflect.Array} to the given column x row
+     * matrix, splitting the rows across the pool set with {@link Parallelism#setPool(ForkJoinPool)} for large
+     * matrices.
+     *
+     * @param result Matrix to hold the transpose.
+     */
+    private void transposeTo(Matrix result) {
+        Parallelism.forChunks(Parallelism.poolFor(Parallelism.getPool(), values.length), row, (start, end) ->
+                Transpose.transpose(values, start * col, col, end - start, col, result.values, start, row));
+    }
+
+    /**
+     * The transposeInto method writes the transpose of values {@link java.lang.reflect.Array} to the given result
+     * {@link Matrix} without allocating a new matrix. If the result is not a column x row matrix, it throws
+     * {@link MatrixDimensionMismatch} exception.
+     *
+     * @param result Matrix to hold the transpose. It must be a different matrix.
+     * @throws MatrixDimensionMismatch exception if the size of the result does not match.
+     * @throws IllegalArgumentException if the result is this matrix.
+     */
+    public void transposeInto(Matrix result) throws MatrixDimensionMismatch {
+        if (result == this) {
+            throw new IllegalArgumentException("Result of transposeInto must be a different matrix");
+        }
+        if (result.row != col || result.col != row) {
+            throw new MatrixDimensionMismatch();
+        }
+        transposeTo(result);
+    }
+
+    /**
+     * The transposeInPlace method replaces values {@link java.lang.reflect.Array} with its transpose without allocating
+     * a new array. Mirror tiles above and below the diagonal are swapped. It throws {@link MatrixNotSquare} exception if
+     * the matrix is not square.
+     *
+     * @throws MatrixNotSquare if row and column sizes do not match.
+     */
+    public void transposeInPlace() throws MatrixNotSquare {
+        if (row != col) {
+            throw new MatrixNotSquare();
+        }
+        Transpose.transposeInPlace(values, row);
+    }
+
     /**
      * The partial method takes 4 integer inputs; rowStart, rowEnd, colStart, colEnd and creates a {@link Matrix} size of
      * rowEnd - rowStart + 1 x colEnd - colStart + 1. Then, puts corresponding items of values {@link java.lang.reflect.Array}
@@ -591,11 +919,10 @@ public class Matrix implements Serializable {
      * @return result Matrix.
      */
     public Matrix partial(int rowStart, int rowEnd, int colStart, int colEnd) {
-        int i, j;
         Matrix result = new Matrix(rowEnd - rowStart + 1, colEnd - colStart + 1);
-        for (i = rowStart; i <= rowEnd; i++)
-            for (j = colStart; j <= colEnd; j++)
-                result.values[i - rowStart][j - colStart] = values[i][j];
+        for (int i = rowStart; i <= rowEnd; i++) {
+            System.arraycopy(values, i * col + colStart, result.values, (i - rowStart) * result.col, result.col);
+        }
         return result;
     }
 
@@ -612,7 +939,7 @@ public class Matrix implements Serializable {
         }
         for (int i = 0; i < row - 1; i++) {
             for (int j = i + 1; j < row; j++) {
-                if (values[i][j] != values[j][i]) {
+                if (values[i * col + j] != values[j * col + i]) {
                     return false;
                 }
             }
@@ -621,259 +948,176 @@ public class Matrix implements Serializable {
     }
 
     /**
-     * The determinant method first creates a new {@link java.lang.reflect.Array}, and copies the items of  values
-     * {@link java.lang.reflect.Array} into new {@link java.lang.reflect.Array}. Then, calculates the determinant of this
-     * new {@link java.lang.reflect.Array}.
+     * The luDecomposition method factorizes the matrix as P * A = L * U with partial pivoting. The returned
+     * {@link LUDecomposition} can be reused to solve linear systems, and to find the determinant and the inverse,
+     * without factorizing the matrix again.
+     *
+     * @return LU decomposition of the matrix.
+     * @throws MatrixNotSquare if row and column sizes do not match.
+     */
+    public LUDecomposition luDecomposition() throws MatrixNotSquare {
+        return new LUDecomposition(this);
+    }
+
+    /**
+     * The qrDecomposition method factorizes the matrix as A = Q * R with Householder reflections. The returned
+     * {@link QRDecomposition} can be reused to solve least squares problems without forming A^T * A.
+     *
+     * @return QR decomposition of the matrix.
+     */
+    public QRDecomposition qrDecomposition() {
+        return new QRDecomposition(this);
+    }
+
+    /**
+     * The singularValueDecomposition method computes the thin singular value decomposition A = U * S * V^T of the
+     * matrix. Use {@link SingularValueDecomposition#randomized(Matrix, int)} when only the largest singular values of
+     * a large matrix are needed.
+     *
+     * @return singular value decomposition of the matrix.
+     */
+    public SingularValueDecomposition singularValueDecomposition() {
+        return new SingularValueDecomposition(this);
+    }
+
+    /**
+     * The determinant method factorizes the matrix with {@link LUDecomposition} and returns the product of the
+     * pivots with the sign of the row permutation.
      *
      * @return determinant of values {@link java.lang.reflect.Array}.
      * @throws MatrixNotSquare if row and column sizes do not match.
      */
     public double determinant() throws MatrixNotSquare {
-        if (row != col){
-            throw new MatrixNotSquare();
-        }
-        int i, j, k;
-        double ratio, det = 1.0;
-        double[][] copy = new double[row][col];
-        for (i = 0; i < row; i++)
-            for (j = 0; j < col; j++)
-                copy[i][j] = values[i][j];
-        for (i = 0; i < row; i++) {
-            det *= copy[i][i];
-            if (det == 0.0)
-                break;
-            for (j = i + 1; j < row; j++) {
-                ratio = copy[j][i] / copy[i][i];
-                for (k = i; k < col; k++)
-                    copy[j][k] = copy[j][k] - copy[i][k] * ratio;
-            }
-        }
-        return det;
+        return new LUDecomposition(this).determinant();
     }
 
     /**
-     * The inverse method finds the inverse of values {@link java.lang.reflect.Array}.
+     * The inverse method finds the inverse of values {@link java.lang.reflect.Array} from its {@link LUDecomposition}
+     * and replaces the items of the matrix with it.
      *
-     * @throws DeterminantZero exception.
+     * @throws DeterminantZero if the matrix is singular.
      * @throws MatrixNotSquare if row and column sizes do not match.
      */
     public void inverse() throws DeterminantZero, MatrixNotSquare {
-        if (row != col){
-            throw new MatrixNotSquare();
-        }
-        double big;
-        double dum, pivinv;
-        int i, icol, irow, j, k, l, ll;
-        Matrix b;
-        int[] indxc, indxr, ipiv;
-        b = new Matrix(row);
-        indxc = new int[row];
-        indxr = new int[row];
-        ipiv = new int[row];
-        for (j = 0; j < row; j++)
-            ipiv[j] = 0;
-        for (i = 1; i <= row; i++) {
-            big = 0.0;
-            irow = -1;
-            icol = -1;
-            for (j = 1; j <= row; j++)
-                if (ipiv[j - 1] != 1)
-                    for (k = 1; k <= row; k++)
-                        if (ipiv[k - 1] == 0)
-                            if (Math.abs(values[j - 1][k - 1]) >= big) {
-                                big = Math.abs(values[j - 1][k - 1]);
-                                irow = j;
-                                icol = k;
-                            }
-            if (irow == -1 || icol == -1)
-                throw new DeterminantZero();
-            ipiv[icol - 1] = ipiv[icol - 1] + 1;
-            if (irow != icol) {
-                for (l = 1; l <= row; l++) {
-                    dum = values[irow - 1][l - 1];
-                    values[irow - 1][l - 1] = values[icol - 1][l - 1];
-                    values[icol - 1][l - 1] = dum;
-                }
-                for (l = 1; l <= row; l++) {
-                    dum = b.values[irow - 1][l - 1];
-                    b.values[irow - 1][l - 1] = b.values[icol - 1][l - 1];
-                    b.values[icol - 1][l - 1] = dum;
-                }
-            }
-            indxr[i - 1] = irow;
-            indxc[i - 1] = icol;
-            if (values[icol - 1][icol - 1] == 0)
-                throw new DeterminantZero();
-            pivinv = (1.0) / (values[icol - 1][icol - 1]);
-            values[icol - 1][icol - 1] = 1.0;
-            for (l = 1; l <= row; l++)
-                values[icol - 1][l - 1] = values[icol - 1][l - 1] * pivinv;
-            for (l = 1; l <= row; l++)
-                b.values[icol - 1][l - 1] = b.values[icol - 1][l - 1] * pivinv;
-            for (ll = 1; ll <= row; ll++)
-                if (ll != icol) {
-                    dum = values[ll - 1][icol - 1];
-                    values[ll - 1][icol - 1] = 0.0;
-                    for (l = 1; l <= row; l++)
-                        values[ll - 1][l - 1] = values[ll - 1][l - 1] - values[icol - 1][l - 1] * dum;
-                    for (l = 1; l <= row; l++)
-                        b.values[ll - 1][l - 1] = b.values[ll - 1][l - 1] - b.values[icol - 1][l - 1] * dum;
-                }
-        }
-        for (l = row; l >= 1; l--)
-            if (indxr[l - 1] != indxc[l - 1])
-                for (k = 1; k <= row; k++) {
-                    dum = values[k - 1][indxr[l - 1] - 1];
-                    values[k - 1][indxr[l - 1] - 1] = values[k - 1][indxc[l - 1] - 1];
-                    values[k - 1][indxc[l - 1] - 1] = dum;
-                }
+        Matrix inverse = new LUDecomposition(this).inverse();
+        System.arraycopy(inverse.values, 0, values, 0, values.length);
     }
 
     /**
-     * The choleskyDecomposition method creates a new {@link Matrix} and puts the Cholesky Decomposition of values Array
-     * into this {@link Matrix}. Also, it throws {@link MatrixNotSymmetric} exception if it is not symmetric and
-     * {@link MatrixNotPositiveDefinite} exception if the summation is negative.
+     * The choleskyDecomposition method creates a new {@link Matrix} and puts the lower triangular Cholesky factor of
+     * values Array into this {@link Matrix}. Also, it throws {@link MatrixNotSymmetric} exception if it is not symmetric
+     * and {@link MatrixNotPositiveDefinite} exception if it is not positive definite. Use {@link CholeskyDecomposition}
+     * to solve systems with the factor or to update it.
      *
      * @return Matrix type output.
      * @throws MatrixNotSymmetric        if values {@link ArrayList} is not symmetric
-     * @throws MatrixNotPositiveDefinite if the summation is negative.
+     * @throws MatrixNotPositiveDefinite if the matrix is not positive definite.
+     * @throws MatrixNotSquare           if row and column sizes do not match.
      */
     public Matrix choleskyDecomposition() throws MatrixNotSymmetric, MatrixNotPositiveDefinite, MatrixNotSquare {
-        int i, j, k;
-        double sum;
-        if (!isSymmetric()) {
-            throw new MatrixNotSymmetric();
-        }
-        Matrix b = new Matrix(row, col);
-        for (i = 0; i < row; i++) {
-            for (j = i; j < row; j++) {
-                sum = values[i][j];
-                for (k = i - 1; k >= 0; k--)
-                    sum -= values[i][k] * values[j][k];
-                if (i == j) {
-                    if (sum <= 0.0)
-                        throw new MatrixNotPositiveDefinite();
-                    b.values[i][i] = Math.sqrt(sum);
-                } else
-                    b.values[j][i] = sum / b.values[i][i];
-            }
-        }
-        return b;
+        return new CholeskyDecomposition(this).getL();
     }
 
     /**
-     * The rotate method rotates values {@link java.lang.reflect.Array} according to given inputs.
+     * The characteristics method finds and returns all eigenvectors of the matrix with their eigenvalues, sorted from
+     * the largest eigenvalue to the smallest one. The eigenpairs are found by {@link SymmetricEigenDecomposition}, which
+     * can also be used directly to access them without creating {@link Eigenvector} objects. And it throws
+     * {@link MatrixNotSymmetric} exception if it is not symmetric.
      *
-     * @param s   double input.
-     * @param tau double input.
-     * @param i   integer input.
-     * @param j   integer input.
-     * @param k   integer input.
-     * @param l   integer input.
+     * @return a sorted {@link ArrayList} of {@link Eigenvector}s.
+     * @throws MatrixNotSymmetric exception if it is not symmetric.
+     * @throws MatrixNotSquare    if row and column sizes do not match.
      */
-    private void rotate(double s, double tau, int i, int j, int k, int l) {
-        double g = values[i][j];
-        double h = values[k][l];
-        values[i][j] = g - s * (h + g * tau);
-        values[k][l] = h + s * (g - h * tau);
+    public ArrayList<Eigenvector> characteristics() throws MatrixNotSymmetric, MatrixNotSquare {
+        SymmetricEigenDecomposition decomposition = new SymmetricEigenDecomposition(this);
+        ArrayList<Eigenvector> result = new ArrayList<>(row);
+        for (int i = 0; i < row; i++) {
+            result.add(decomposition.getEigenvector(i));
+        }
+        return result;
     }
 
     /**
-     * The characteristics method finds and returns a sorted {@link ArrayList} of {@link Eigenvector}s. And it throws
-     * {@link MatrixNotSymmetric} exception if it is not symmetric.
+     * The topEigenpairs method finds and returns the k eigenvectors of the matrix with the largest signed eigenvalues,
+     * sorted from the largest eigenvalue to the smallest one, without computing the other eigenpairs; for an
+     * indefinite matrix large negative eigenvalues are not selected. The eigenpairs are found by
+     * {@link SubspaceIteration}. And it throws {@link MatrixNotSymmetric} exception if it is not symmetric.
      *
-     * @return a sorted {@link ArrayList} of {@link Eigenvector}s.
+     * @param k number of eigenpairs.
+     * @return a sorted {@link ArrayList} of k {@link Eigenvector}s.
      * @throws MatrixNotSymmetric exception if it is not symmetric.
+     * @throws MatrixNotSquare    if row and column sizes do not match.
      */
-    public ArrayList<Eigenvector> characteristics() throws MatrixNotSymmetric, MatrixNotSquare {
-        int j, iq, ip, i;
-        double threshold, theta, tau, t, sm, s, h, g, c;
+    public ArrayList<Eigenvector> topEigenpairs(int k) throws MatrixNotSymmetric, MatrixNotSquare {
         if (!isSymmetric()) {
             throw new MatrixNotSymmetric();
         }
-        Matrix matrix1 = clone();
-        Matrix v = new Matrix(row, row);
-        double[] d = new double[row];
-        double[] b = new double[row];
-        double[] z = new double[row];
-        double EPS = 0.000000000000000001;
-        for (ip = 0; ip < row; ip++) {
-            for (iq = 0; iq < row; iq++) {
-                v.values[ip][iq] = 0.0;
-            }
-            v.values[ip][ip] = 1.0;
-        }
-        for (ip = 0; ip < row; ip++) {
-            b[ip] = d[ip] = matrix1.values[ip][ip];
-            z[ip] = 0.0;
-        }
-        for (i = 1; i <= 50; i++) {
-            sm = 0.0;
-            for (ip = 0; ip < row - 1; ip++)
-                for (iq = ip + 1; iq < row; iq++)
-                    sm += Math.abs(matrix1.values[ip][iq]);
-            if (sm == 0.0) {
-                break;
+        return SubspaceIteration.topEigenpairs(asOperator(), k);
+    }
+
+    /**
+     * The asOperator method returns the square matrix as a {@link LinearOperator}. The operator reads the items of the
+     * matrix, so later changes of the matrix are visible through it. Blocks of vectors are multiplied with one matrix
+     * product.
+     *
+     * @return the matrix as a linear operator.
+     * @throws MatrixNotSquare if row and column sizes do not match.
+     */
+    public LinearOperator asOperator() throws MatrixNotSquare {
+        if (row != col) {
+            throw new MatrixNotSquare();
+        }
+        return new LinearOperator() {
+            @Override
+            public int size() {
+                return row;
             }
-            if (i < 4)
-                threshold = 0.2 * sm / Math.pow(row, 2);
-            else
-                threshold = 0.0;
-            for (ip = 0; ip < row - 1; ip++) {
-                for (iq = ip + 1; iq < row; iq++) {
-                    g = 100.0 * Math.abs(matrix1.values[ip][iq]);
-                    if (i > 4 && g <= EPS * Math.abs(d[ip]) && g <= EPS * Math.abs(d[iq])) {
-                        matrix1.values[ip][iq] = 0.0;
-                    } else {
-                        if (Math.abs(matrix1.values[ip][iq]) > threshold) {
-                            h = d[iq] - d[ip];
-                            if (g <= EPS * Math.abs(h)) {
-                                t = matrix1.values[ip][iq] / h;
-                            } else {
-                                theta = 0.5 * h / matrix1.values[ip][iq];
-                                t = 1.0 / (Math.abs(theta) + Math.sqrt(1.0 + Math.pow(theta, 2)));
-                                if (theta < 0.0) {
-                                    t = -t;
-                                }
-                            }
-                            c = 1.0 / Math.sqrt(1 + Math.pow(t, 2));
-                            s = t * c;
-                            tau = s / (1.0 + c);
-                            h = t * matrix1.values[ip][iq];
-                            z[ip] -= h;
-                            z[iq] += h;
-                            d[ip] -= h;
-                            d[iq] += h;
-                            matrix1.values[ip][iq] = 0.0;
-                            for (j = 0; j < ip; j++) {
-                                matrix1.rotate(s, tau, j, ip, j, iq);
-                            }
-                            for (j = ip + 1; j < iq; j++) {
-                                matrix1.rotate(s, tau, ip, j, j, iq);
-                            }
-                            for (j = iq + 1; j < row; j++) {
-                                matrix1.rotate(s, tau, ip, j, iq, j);
-                            }
-                            for (j = 0; j < row; j++) {
-                                v.rotate(s, tau, j, ip, j, iq);
-                            }
-                        }
-                    }
+
+            @Override
+            public void multiply(double[] x, int xOffset, double[] y, int yOffset) {
+                for (int i = 0; i < row; i++) {
+                    y[yOffset + i] = VectorKernels.dot(values, i * col, x, xOffset, col);
                 }
             }
-            for (ip = 0; ip < row; ip++) {
-                b[ip] = b[ip] + z[ip];
-                d[ip] = b[ip];
-                z[ip] = 0.0;
+
+            @Override
+            public void multiply(double[] x, double[] y, int count) {
+                Arrays.fill(y, 0, count * row, 0.0);
+                Gemm.multiply(Parallelism.getPool(), x, 0, col, 1, values, 0, 1, col, y, 0, row, count, row, col);
             }
-        }
-        ArrayList<Eigenvector> result = new ArrayList<Eigenvector>();
-        for (i = 0; i < row; i++) {
-            if (d[i] > 0) {
-                result.add(new Eigenvector(d[i], v.getColumn(i)));
+        };
+    }
+
+    /**
+     * The asRectangularOperator method returns the matrix as a {@link RectangularOperator}. The operator reads the items
+     * of the matrix, so later changes of the matrix are visible through it. Both products are single matrix products
+     * on the pool set in {@link Parallelism}.
+     *
+     * @return the matrix as a rectangular operator.
+     */
+    public RectangularOperator asRectangularOperator() {
+        return new RectangularOperator() {
+            @Override
+            public int getRow() {
+                return row;
             }
-        }
-        Collections.sort(result, null);
-        return result;
+
+            @Override
+            public int getColumn() {
+                return col;
+            }
+
+            @Override
+            public void multiply(double[] x, double[] y, int count) {
+                Arrays.fill(y, 0, row * count, 0.0);
+                Gemm.multiply(Parallelism.getPool(), values, 0, col, 1, x, 0, count, 1, y, 0, count, row, count, col);
+            }
+
+            @Override
+            public void multiplyTranspose(double[] x, double[] y, int count) {
+                Arrays.fill(y, 0, col * count, 0.0);
+                Gemm.multiply(Parallelism.getPool(), values, 0, 1, col, x, 0, count, 1, y, 0, count, col, count, row);
+            }
+        };
     }
 }
@@ -0,0 +1,17 @@
+package Math;
+
+/**
+ * Algorithms for the product of two {@link Matrix}es.
+ */
+public enum MultiplicationMode {
+    /**
+     * The classical O(n^3) product computed with the cache blocked kernel. Error grows linearly with the inner
+     * dimension.
+     */
+    CLASSIC,
+    /**
+     * The Strassen-Winograd recursion, which replaces one of eight half size products with additions at each level
+     * and hands off to the classical kernel below a cutoff. Faster for large matrices, with a larger error bound.
+     */
+    STRASSEN
+}
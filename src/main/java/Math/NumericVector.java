@@ -0,0 +1,82 @@
+package Math;
+
+/**
+ * Common operations of dense and sparse vectors. {@link Vector} stores every item, {@link SparseVector} stores only
+ * the nonzero items; code that only reads vectors can be written against this interface and work with both.
+ */
+public interface NumericVector {
+
+    /**
+     * The size method returns the dimension of the vector.
+     *
+     * @return dimension of the vector.
+     */
+    int size();
+
+    /**
+     * Getter for the item at given index.
+     *
+     * @param index used to get an item.
+     * @return the item at given index.
+     */
+    double getValue(int index);
+
+    /**
+     * The nonZeroCount method returns the number of stored items. For a dense vector this is its size.
+     *
+     * @return number of stored items.
+     */
+    int nonZeroCount();
+
+    /**
+     * The sumOfElements method sums up all elements in the vector.
+     *
+     * @return Sum of all elements in the vector.
+     */
+    double sumOfElements();
+
+    /**
+     * The dotProduct method returns the dot product of the vector with itself.
+     *
+     * @return sum of squares of the items.
+     */
+    double dotProduct();
+
+    /**
+     * The dotProduct method returns the dot product of the vector with the given vector.
+     *
+     * @param v vector to find dot product.
+     * @return dot product of the vectors.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    double dotProduct(NumericVector v) throws VectorSizeMismatch;
+
+    /**
+     * The l2Norm method returns the square root of the sum of squares of the items.
+     *
+     * @return l2 norm of the vector.
+     */
+    double l2Norm();
+
+    /**
+     * The cosineSimilarity method returns the cosine of the angle between the vector and the given vector.
+     *
+     * @param v vector input.
+     * @return dotProduct(v) / l2Norm() / v.l2Norm().
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    double cosineSimilarity(NumericVector v) throws VectorSizeMismatch;
+
+    /**
+     * The l1Normalize method divides each item by the sum of the items.
+     */
+    void l1Normalize();
+
+    /**
+     * The toArray method returns a new dense double {@link java.lang.reflect.Array} containing the items of the vector.
+     *
+     * @return dense copy of the vector.
+     */
+    double[] toArray();
+
+}
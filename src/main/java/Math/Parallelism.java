@@ -0,0 +1,150 @@
+package Math;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Global setting for running large {@link Matrix} operations on a {@link ForkJoinPool}. Parallel execution is off until
+ * a pool is set. Operations whose work, counted in multiply-adds or items, is below the threshold always run on the
+ * calling thread. Work is split by rows or columns of the result only, so each item is computed by exactly one task in
+ * the same order as the sequential code, and results do not depend on the number of threads.
+ */
+public final class Parallelism {
+
+    public static final long DEFAULT_THRESHOLD = 1L << 18;
+
+    private static volatile ForkJoinPool pool = null;
+    private static volatile long threshold = DEFAULT_THRESHOLD;
+
+    private Parallelism() {
+    }
+
+    /**
+     * The setPool method sets the pool used by large matrix operations. Passing null turns parallel execution off.
+     * {@link ForkJoinPool#commonPool()} can be passed to share the pool of parallel streams.
+     *
+     * @param pool pool to run the operations on, or null.
+     */
+    public static void setPool(ForkJoinPool pool) {
+        Parallelism.pool = pool;
+    }
+
+    /**
+     * The getPool method returns the pool used by large matrix operations.
+     *
+     * @return pool to run the operations on, null if parallel execution is off.
+     */
+    public static ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * The setThreshold method sets the amount of work below which operations run on the calling thread.
+     *
+     * @param threshold number of multiply-adds or items.
+     */
+    public static void setThreshold(long threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold must be nonnegative: " + threshold);
+        }
+        Parallelism.threshold = threshold;
+    }
+
+    /**
+     * The getThreshold method returns the amount of work below which operations run on the calling thread.
+     *
+     * @return number of multiply-adds or items.
+     */
+    public static long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Returns the given pool if the given amount of work is large enough to be split, null otherwise.
+     *
+     * @param pool pool to use, may be null.
+     * @param work number of multiply-adds or items.
+     * @return pool to use, or null to run on the calling thread.
+     */
+    static ForkJoinPool poolFor(ForkJoinPool pool, long work) {
+        return pool != null && work >= threshold ? pool : null;
+    }
+
+    /**
+     * Returns the number of tasks to split an operation into on the given pool. A few tasks per worker balance the
+     * load when some workers are busy.
+     *
+     * @param pool pool to run the tasks on.
+     * @return number of tasks.
+     */
+    static int taskCount(ForkJoinPool pool) {
+        return 4 * pool.getParallelism();
+    }
+
+    /**
+     * Runs body.accept(i) for every i in [0, count) on the given pool and waits for all of them.
+     *
+     * @param pool  pool to run on.
+     * @param count number of tasks.
+     * @param body  task body.
+     */
+    static void forEach(ForkJoinPool pool, int count, IntConsumer body) {
+        if (count == 1) {
+            body.accept(0);
+        } else if (count > 1) {
+            pool.invoke(new RangeAction(0, count, body));
+        }
+    }
+
+    /**
+     * Runs body.accept(start, end) for consecutive chunks of [0, length) on the given pool, or once for the whole range
+     * if pool is null.
+     *
+     * @param pool   pool to run on, may be null.
+     * @param length number of items.
+     * @param body   chunk body.
+     */
+    static void forChunks(ForkJoinPool pool, int length, ChunkBody body) {
+        if (pool == null) {
+            body.accept(0, length);
+            return;
+        }
+        int chunks = Math.min(taskCount(pool), length);
+        int chunkSize = (length + chunks - 1) / Math.max(chunks, 1);
+        forEach(pool, chunks, c -> body.accept(c * chunkSize, Math.min(length, (c + 1) * chunkSize)));
+    }
+
+    /**
+     * Body of a chunked loop.
+     */
+    interface ChunkBody {
+        void accept(int start, int end);
+    }
+
+    /**
+     * Splits a range of task indices in halves until single tasks remain.
+     */
+    private static class RangeAction extends RecursiveAction {
+        private final int start;
+        private final int end;
+        private final IntConsumer body;
+
+        RangeAction(int start, int end, IntConsumer body) {
+            this.start = start;
+            this.end = end;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start == 1) {
+                body.accept(start);
+            } else {
+                int middle = (start + end) >>> 1;
+                invokeAll(new RangeAction(start, middle, body), new RangeAction(middle, end, body));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,512 @@
+package Math;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+
+public class QRDecomposition {
+    /**
+     * Householder QR decomposition A * P = Q * R of an m x n {@link Matrix} with m >= n, where Q is orthogonal, R is
+     * upper triangular and P is a column permutation. The columns of A are stored one after the other, so that each
+     * Householder reflection reads and updates contiguous memory. Without pivoting the factorization is blocked: a panel
+     * of columns is factorized one column at a time, and its reflections are applied to the rest of the matrix at once
+     * in the compact WY form I - V * T * V^T with two matrix products. With column pivoting, the column of the largest
+     * remaining norm is moved forward at each step, so the diagonal of R decreases in magnitude and reveals the rank.
+     * The reflections are kept in factored form and are applied blockwise to solve least squares problems and to form
+     * the thin Q. For very tall matrices, {@link #tallSkinnyR(Matrix)} and
+     * {@link #tallSkinnyLeastSquares(Matrix, Matrix)} factorize blocks of rows in parallel and combine their R factors
+     * in a binary tree.
+     */
+
+    static final int BLOCK_SIZE = 32;
+
+    static final int TALL_SKINNY_BLOCK_ROWS = 4096;
+
+    private static final double EPSILON = Math.ulp(1.0);
+
+    private final int m;
+    private final int n;
+    private final double[] qr;
+    private final double[] tau;
+    private final int[] pivot;
+    private final boolean pivoting;
+    private final double[][] factors;
+
+    /**
+     * A constructor of {@link QRDecomposition} class which takes an m x n {@link Matrix} with m >= n as an input and
+     * factorizes it without column pivoting. The matrix is not modified.
+     *
+     * @param matrix Matrix to factorize.
+     */
+    public QRDecomposition(Matrix matrix) {
+        this(matrix, false);
+    }
+
+    /**
+     * A constructor of {@link QRDecomposition} class which takes an m x n {@link Matrix} with m >= n as an input and
+     * factorizes it, with column pivoting if pivoting is true. The matrix is not modified.
+     *
+     * @param matrix   Matrix to factorize.
+     * @param pivoting true to pivot the columns, so that the rank can be detected.
+     */
+    public QRDecomposition(Matrix matrix, boolean pivoting) {
+        this(matrix.getData(), 0, matrix.getRow(), matrix.getColumn(), pivoting);
+    }
+
+    /**
+     * Factorizes the m x n matrix stored row by row in data starting from offset.
+     */
+    private QRDecomposition(double[] data, int offset, int m, int n, boolean pivoting) {
+        if (m < n) {
+            throw new IllegalArgumentException("QR decomposition needs at least as many rows as columns: " + m + " x " + n);
+        }
+        this.m = m;
+        this.n = n;
+        this.pivoting = pivoting;
+        qr = new double[n * m];
+        Transpose.transpose(data, offset, n, m, n, qr, 0, m);
+        tau = new double[n];
+        pivot = new int[n];
+        for (int j = 0; j < n; j++) {
+            pivot[j] = j;
+        }
+        factors = new double[(n + BLOCK_SIZE - 1) / BLOCK_SIZE][];
+        if (pivoting) {
+            factorizePivoted();
+            for (int block = 0; block < factors.length; block++) {
+                factors[block] = triangularFactor(block * BLOCK_SIZE, Math.min(BLOCK_SIZE, n - block * BLOCK_SIZE));
+            }
+        } else {
+            factorizeBlocked();
+        }
+    }
+
+    /**
+     * Turns the column k, from its diagonal item downwards, into a Householder vector with an implicit leading one, and
+     * writes the diagonal item of R in its place.
+     */
+    private void householder(int k) {
+        int column = k * m + k;
+        double alpha = qr[column];
+        double sigma = VectorKernels.sumOfSquares(qr, column + 1, m - k - 1);
+        if (sigma == 0.0) {
+            tau[k] = 0.0;
+            return;
+        }
+        double norm = Math.sqrt(alpha * alpha + sigma);
+        double beta = alpha <= 0 ? norm : -norm;
+        tau[k] = (beta - alpha) / beta;
+        VectorKernels.scale(qr, column + 1, 1.0 / (alpha - beta), qr, column + 1, m - k - 1);
+        qr[column] = beta;
+    }
+
+    /**
+     * Applies the reflection of the column k to the column c.
+     */
+    private void reflect(int k, int c) {
+        if (tau[k] == 0.0) {
+            return;
+        }
+        int v = k * m + k;
+        int target = c * m + k;
+        double dot = qr[target] + VectorKernels.dot(qr, v + 1, qr, target + 1, m - k - 1);
+        double s = tau[k] * dot;
+        qr[target] -= s;
+        VectorKernels.axpy(qr, target + 1, -s, qr, v + 1, m - k - 1);
+    }
+
+    /**
+     * Blocked right looking factorization without pivoting.
+     */
+    private void factorizeBlocked() {
+        for (int k0 = 0; k0 < n; k0 += BLOCK_SIZE) {
+            int b = Math.min(BLOCK_SIZE, n - k0);
+            for (int k = k0; k < k0 + b; k++) {
+                householder(k);
+                for (int c = k + 1; c < k0 + b; c++) {
+                    reflect(k, c);
+                }
+            }
+            double[] t = triangularFactor(k0, b);
+            factors[k0 / BLOCK_SIZE] = t;
+            int rest = n - k0 - b;
+            if (rest > 0) {
+                applyBlock(k0, b, t, blockVectors(k0, b), qr, (k0 + b) * m, m, rest, true);
+            }
+        }
+    }
+
+    /**
+     * Unblocked factorization with column pivoting. The squared norms of the remaining parts of the columns are
+     * downdated after each step, and recomputed when cancellation makes the downdated value unreliable.
+     */
+    private void factorizePivoted() {
+        ForkJoinPool pool = Parallelism.getPool();
+        double[] norms = new double[n];
+        double[] original = new double[n];
+        for (int j = 0; j < n; j++) {
+            norms[j] = VectorKernels.sumOfSquares(qr, j * m, m);
+            original[j] = norms[j];
+        }
+        double threshold = Math.sqrt(EPSILON);
+        for (int k = 0; k < n; k++) {
+            int p = k;
+            for (int j = k + 1; j < n; j++) {
+                if (norms[j] > norms[p]) {
+                    p = j;
+                }
+            }
+            if (p != k) {
+                double[] swap = new double[m];
+                System.arraycopy(qr, p * m, swap, 0, m);
+                System.arraycopy(qr, k * m, qr, p * m, m);
+                System.arraycopy(swap, 0, qr, k * m, m);
+                int index = pivot[p];
+                pivot[p] = pivot[k];
+                pivot[k] = index;
+                norms[p] = norms[k];
+                original[p] = original[k];
+            }
+            householder(k);
+            int step = k;
+            Parallelism.forChunks(Parallelism.poolFor(pool, (long) (n - k) * (m - k)), n - k - 1, (first, last) -> {
+                for (int c = step + 1 + first; c < step + 1 + last; c++) {
+                    reflect(step, c);
+                    double item = qr[c * m + step];
+                    norms[c] -= item * item;
+                    if (norms[c] <= threshold * original[c]) {
+                        norms[c] = VectorKernels.sumOfSquares(qr, c * m + step + 1, m - step - 1);
+                        original[c] = norms[c];
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Computes the upper triangular factor T of the b reflections starting from the column k0, such that
+     * H_k0 ... H_{k0+b-1} = I - V * T * V^T. T is stored row by row in a b x b {@link java.lang.reflect.Array}.
+     */
+    private double[] triangularFactor(int k0, int b) {
+        double[] t = new double[b * b];
+        for (int i = 0; i < b; i++) {
+            int k = k0 + i;
+            for (int s = 0; s < i; s++) {
+                int vs = (k0 + s) * m;
+                double dot = qr[vs + k] + VectorKernels.dot(qr, vs + k + 1, qr, k * m + k + 1, m - k - 1);
+                t[s * b + i] = -tau[k] * dot;
+            }
+            for (int s = 0; s < i; s++) {
+                double sum = 0.0;
+                for (int r = s; r < i; r++) {
+                    sum += t[s * b + r] * t[r * b + i];
+                }
+                t[s * b + i] = sum;
+            }
+            t[i * b + i] = tau[k];
+        }
+        return t;
+    }
+
+    /**
+     * Returns the b Householder vectors starting from the column k0 as the rows of a b x (m - k0)
+     * {@link java.lang.reflect.Array}, with the implicit ones and the zeros above them written out.
+     */
+    private double[] blockVectors(int k0, int b) {
+        int length = m - k0;
+        double[] v = new double[b * length];
+        for (int s = 0; s < b; s++) {
+            v[s * length + s] = 1.0;
+            System.arraycopy(qr, (k0 + s) * m + k0 + s + 1, v, s * length + s + 1, length - s - 1);
+        }
+        return v;
+    }
+
+    /**
+     * Applies the block of b reflections starting from the column k0 to count vectors of length m, where the item i of
+     * the vector r is y[yOffset + r * yStride + i]. If transpose is true, the transpose (I - V * T * V^T)^T of the block
+     * is applied, as when multiplying with Q^T. The vectors are updated as Y - (Y * V) * T' * V^T, where T' is T or
+     * T^T, with two matrix products.
+     */
+    private void applyBlock(int k0, int b, double[] t, double[] v, double[] y, int yOffset, int yStride, int count,
+                            boolean transpose) {
+        ForkJoinPool pool = Parallelism.getPool();
+        int length = m - k0;
+        double[] w = new double[count * b];
+        Gemm.multiply(pool, y, yOffset + k0, yStride, 1, v, 0, 1, length, w, 0, b, count, b, length);
+        double[] scaled = new double[count * b];
+        for (int r = 0; r < count; r++) {
+            for (int c = 0; c < b; c++) {
+                double sum = 0.0;
+                if (transpose) {
+                    for (int s = 0; s <= c; s++) {
+                        sum += w[r * b + s] * t[s * b + c];
+                    }
+                } else {
+                    for (int s = c; s < b; s++) {
+                        sum += w[r * b + s] * t[c * b + s];
+                    }
+                }
+                scaled[r * b + c] = -sum;
+            }
+        }
+        Gemm.multiply(pool, scaled, 0, b, 1, v, 0, length, 1, y, yOffset + k0, yStride, count, length, b);
+    }
+
+    /**
+     * Replaces the count vectors of length m stored one after the other in y with their products with Q^T.
+     */
+    private void multiplyWithQTranspose(double[] y, int count) {
+        for (int k0 = 0; k0 < n; k0 += BLOCK_SIZE) {
+            int b = Math.min(BLOCK_SIZE, n - k0);
+            applyBlock(k0, b, factors[k0 / BLOCK_SIZE], blockVectors(k0, b), y, 0, m, count, true);
+        }
+    }
+
+    /**
+     * Replaces the count vectors of length m stored one after the other in y with their products with Q.
+     */
+    private void multiplyWithQ(double[] y, int count) {
+        for (int block = factors.length - 1; block >= 0; block--) {
+            int k0 = block * BLOCK_SIZE;
+            int b = Math.min(BLOCK_SIZE, n - k0);
+            applyBlock(k0, b, factors[block], blockVectors(k0, b), y, 0, m, count, false);
+        }
+    }
+
+    /**
+     * The getR method returns the n x n upper triangular factor R.
+     *
+     * @return Matrix R.
+     */
+    public Matrix getR() {
+        double[] result = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                result[i * n + j] = qr[j * m + i];
+            }
+        }
+        return new Matrix(n, n, result);
+    }
+
+    /**
+     * The getQ method returns the m x n thin factor Q, whose orthonormal columns span the columns of the matrix.
+     *
+     * @return Matrix Q.
+     */
+    public Matrix getQ() {
+        double[] columns = new double[n * m];
+        for (int j = 0; j < n; j++) {
+            columns[j * m + j] = 1.0;
+        }
+        multiplyWithQ(columns, n);
+        double[] result = new double[m * n];
+        Transpose.transpose(columns, 0, m, n, m, result, 0, n);
+        return new Matrix(m, n, result);
+    }
+
+    /**
+     * The getPivot method returns the column permutation: column j of Q * R is column getPivot()[j] of the matrix.
+     * Without pivoting it is the identity permutation.
+     *
+     * @return column permutation.
+     */
+    public int[] getPivot() {
+        return pivot.clone();
+    }
+
+    /**
+     * The rank method returns the number of diagonal items of R whose magnitude exceeds max(m, n) * eps * |R[0][0]|.
+     * It is reliable only if the decomposition was computed with column pivoting.
+     *
+     * @return numerical rank of the matrix.
+     */
+    public int rank() {
+        if (n == 0) {
+            return 0;
+        }
+        double largest = 0.0;
+        for (int i = 0; i < n; i++) {
+            largest = Math.max(largest, Math.abs(qr[i * m + i]));
+        }
+        double tolerance = Math.max(m, n) * EPSILON * largest;
+        int result = 0;
+        for (int i = 0; i < n; i++) {
+            if (Math.abs(qr[i * m + i]) > tolerance) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The solveLeastSquares method takes an m x r {@link Matrix} B as an input and returns the n x r matrix X which
+     * minimizes ||A * X - B||, solving for all columns of B at once. With column pivoting a rank deficient matrix gives
+     * the basic solution, which has zeros at the columns beyond the rank. Without pivoting, it throws
+     * {@link DeterminantZero} exception if a diagonal item of R is zero. If the row number of B does not match, it
+     * throws {@link MatrixRowMismatch} exception.
+     *
+     * @param b right hand sides as columns.
+     * @return least squares solutions as columns.
+     * @throws MatrixRowMismatch if the row number of B does not match.
+     * @throws DeterminantZero   if the matrix is rank deficient and the decomposition has no pivoting.
+     */
+    public Matrix solveLeastSquares(Matrix b) throws MatrixRowMismatch, DeterminantZero {
+        if (b.getRow() != m) {
+            throw new MatrixRowMismatch();
+        }
+        int count = b.getColumn();
+        int rank = n;
+        if (pivoting) {
+            rank = rank();
+        } else {
+            for (int i = 0; i < n; i++) {
+                if (qr[i * m + i] == 0.0) {
+                    throw new DeterminantZero();
+                }
+            }
+        }
+        double[] y = new double[count * m];
+        Transpose.transpose(b.getData(), 0, count, m, count, y, 0, m);
+        multiplyWithQTranspose(y, count);
+        double[] result = new double[n * count];
+        for (int r = 0; r < count; r++) {
+            int row = r * m;
+            for (int j = rank - 1; j >= 0; j--) {
+                double value = y[row + j] / qr[j * m + j];
+                y[row + j] = value;
+                VectorKernels.axpy(y, row, -value, qr, j * m, j);
+            }
+            for (int j = 0; j < rank; j++) {
+                result[pivot[j] * count + r] = y[row + j];
+            }
+        }
+        return new Matrix(n, count, result);
+    }
+
+    /**
+     * The solveLeastSquares method takes a {@link Vector} b of size m as an input and returns the vector x which
+     * minimizes ||A * x - b||.
+     *
+     * @param b right hand side.
+     * @return least squares solution.
+     * @throws MatrixRowMismatch if the size of b does not match the row number.
+     * @throws DeterminantZero   if the matrix is rank deficient and the decomposition has no pivoting.
+     */
+    public Vector solveLeastSquares(Vector b) throws MatrixRowMismatch, DeterminantZero {
+        if (b.size() != m) {
+            throw new MatrixRowMismatch();
+        }
+        return Vector.wrap(solveLeastSquares(new Matrix(m, 1, b.toArray())).getData());
+    }
+
+    /**
+     * The tallSkinnyR method returns the n x n factor R of the QR decomposition of a tall m x n {@link Matrix} with
+     * m >= n. Blocks of rows are factorized independently on the pool set in {@link Parallelism}, and the stacked R
+     * factors of pairs of blocks are factorized again until one R remains. The blocks do not depend on the number of
+     * threads, so neither does the result. R agrees with the R of {@link QRDecomposition} up to the signs of its rows.
+     *
+     * @param matrix tall matrix.
+     * @return Matrix R.
+     */
+    public static Matrix tallSkinnyR(Matrix matrix) {
+        int rows = matrix.getRow(), columns = matrix.getColumn();
+        return new Matrix(columns, columns, tallSkinnyR(matrix.getData(), rows, columns));
+    }
+
+    /**
+     * The tallSkinnyLeastSquares method takes a tall m x n {@link Matrix} A and an m x r {@link Matrix} B as inputs and
+     * returns the n x r matrix X which minimizes ||A * X - B||. The R factor of [A B] is computed with
+     * {@link #tallSkinnyR(Matrix)}; its upper right block is Q^T * B, so Q is never formed. If the row numbers do not
+     * match, it throws {@link MatrixRowMismatch} exception; if A is rank deficient, it throws {@link DeterminantZero}
+     * exception.
+     *
+     * @param a tall matrix.
+     * @param b right hand sides as columns.
+     * @return least squares solutions as columns.
+     * @throws MatrixRowMismatch if the row numbers of A and B do not match.
+     * @throws DeterminantZero   if A is rank deficient.
+     */
+    public static Matrix tallSkinnyLeastSquares(Matrix a, Matrix b) throws MatrixRowMismatch, DeterminantZero {
+        int rows = a.getRow(), n = a.getColumn(), count = b.getColumn();
+        if (b.getRow() != rows) {
+            throw new MatrixRowMismatch();
+        }
+        int width = n + count;
+        if (width > rows) {
+            throw new IllegalArgumentException("Least squares needs more rows than columns: " + rows + " x " + width);
+        }
+        double[] augmented = new double[rows * width];
+        double[] left = a.getData(), right = b.getData();
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(left, i * n, augmented, i * width, n);
+            System.arraycopy(right, i * count, augmented, i * width + n, count);
+        }
+        double[] r = tallSkinnyR(augmented, rows, width);
+        double[] result = new double[n * count];
+        for (int i = 0; i < n; i++) {
+            if (r[i * width + i] == 0.0) {
+                throw new DeterminantZero();
+            }
+            System.arraycopy(r, i * width + n, result, i * count, count);
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = i + 1; j < n; j++) {
+                VectorKernels.axpy(result, i * count, -r[i * width + j], result, j * count, count);
+            }
+            VectorKernels.scale(result, i * count, 1.0 / r[i * width + i], result, i * count, count);
+        }
+        return new Matrix(n, count, result);
+    }
+
+    /**
+     * Returns the R factor, stored row by row, of the rows x columns matrix stored row by row in data.
+     */
+    private static double[] tallSkinnyR(double[] data, int rows, int columns) {
+        if (rows < columns) {
+            throw new IllegalArgumentException("QR decomposition needs at least as many rows as columns: " + rows + " x " + columns);
+        }
+        int blockRows = Math.max(TALL_SKINNY_BLOCK_ROWS, 2 * columns);
+        int leaves = Math.max(1, rows / blockRows);
+        double[][] leafFactors = new double[leaves][];
+        ForkJoinPool pool = Parallelism.poolFor(Parallelism.getPool(), (long) rows * columns * columns);
+        runBlocks(pool, leaves, i -> {
+            int first = (int) ((long) rows * i / leaves);
+            int last = (int) ((long) rows * (i + 1) / leaves);
+            leafFactors[i] = new QRDecomposition(data, first * columns, last - first, columns, false).getR().getData();
+        });
+        int length = columns * columns;
+        double[][] factors = leafFactors;
+        int blocks = leaves;
+        while (blocks > 1) {
+            int pairs = blocks / 2;
+            double[][] current = factors;
+            double[][] next = new double[(blocks + 1) / 2][];
+            runBlocks(pool, pairs, i -> {
+                double[] stacked = new double[2 * length];
+                System.arraycopy(current[2 * i], 0, stacked, 0, length);
+                System.arraycopy(current[2 * i + 1], 0, stacked, length, length);
+                next[i] = new QRDecomposition(stacked, 0, 2 * columns, columns, false).getR().getData();
+            });
+            if (blocks % 2 == 1) {
+                next[pairs] = current[blocks - 1];
+            }
+            factors = next;
+            blocks = next.length;
+        }
+        return factors[0];
+    }
+
+    /**
+     * Runs body.accept(i) for every i in [0, count), on the pool if it is not null.
+     */
+    private static void runBlocks(ForkJoinPool pool, int count, IntConsumer body) {
+        if (pool == null) {
+            for (int i = 0; i < count; i++) {
+                body.accept(i);
+            }
+        } else {
+            Parallelism.forEach(pool, count, body);
+        }
+    }
+
+}
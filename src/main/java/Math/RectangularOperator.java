@@ -0,0 +1,45 @@
+package Math;
+
+public interface RectangularOperator {
+    /**
+     * An m x n linear operator known only through its products with blocks of vectors from the right, A * X, and from
+     * the left, A^T * X, such as a dense {@link Matrix}, a {@link SparseMatrix} or an implicit product of matrices.
+     * Randomized methods like {@link SingularValueDecomposition#randomized(RectangularOperator, int)} access the
+     * operator only through this interface, so the operator itself never has to be stored as a dense array. Blocks are
+     * stored row by row, one item of each of the count vectors after the other.
+     */
+
+    /**
+     * The getRow method returns the number of rows m of the operator.
+     *
+     * @return number of rows.
+     */
+    int getRow();
+
+    /**
+     * The getColumn method returns the number of columns n of the operator.
+     *
+     * @return number of columns.
+     */
+    int getColumn();
+
+    /**
+     * The multiply method writes A * X to y, where X is an n x count block and the result is an m x count block.
+     *
+     * @param x     input block of n rows and count columns.
+     * @param y     output block of m rows and count columns.
+     * @param count number of vectors in the block.
+     */
+    void multiply(double[] x, double[] y, int count);
+
+    /**
+     * The multiplyTranspose method writes A^T * X to y, where X is an m x count block and the result is an n x count
+     * block.
+     *
+     * @param x     input block of m rows and count columns.
+     * @param y     output block of n rows and count columns.
+     * @param count number of vectors in the block.
+     */
+    void multiplyTranspose(double[] x, double[] y, int count);
+
+}
@@ -0,0 +1,358 @@
+package Math;
+
+/**
+ * Portable scalar loops behind {@link VectorKernels}. Every method works on a slice of a double or float
+ * {@link java.lang.reflect.Array} given by an offset and a length, so that wrapped vectors and matrix rows can be
+ * processed without copying.
+ */
+final class ScalarKernels {
+
+    private ScalarKernels() {
+    }
+
+    /**
+     * The dot method accumulates the products of the corresponding items of two slices.
+     *
+     * @param a       first array.
+     * @param aOffset index of the first item in the first array.
+     * @param b       second array.
+     * @param bOffset index of the first item in the second array.
+     * @param length  number of items.
+     * @return dot product of the slices.
+     */
+    static double dot(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        double result = 0;
+        for (int i = 0; i < length; i++) {
+            result += a[aOffset + i] * b[bOffset + i];
+        }
+        return result;
+    }
+
+    /**
+     * The sum method accumulates the items of a slice.
+     *
+     * @param a      array.
+     * @param offset index of the first item.
+     * @param length number of items.
+     * @return sum of the items.
+     */
+    static double sum(double[] a, int offset, int length) {
+        double result = 0;
+        for (int i = 0; i < length; i++) {
+            result += a[offset + i];
+        }
+        return result;
+    }
+
+    /**
+     * The sumOfSquares method accumulates the squares of the items of a slice.
+     *
+     * @param a      array.
+     * @param offset index of the first item.
+     * @param length number of items.
+     * @return sum of the squares of the items.
+     */
+    static double sumOfSquares(double[] a, int offset, int length) {
+        double result = 0;
+        for (int i = 0; i < length; i++) {
+            double value = a[offset + i];
+            result += value * value;
+        }
+        return result;
+    }
+
+    /**
+     * The add method adds the items of the second slice to the corresponding items of the first slice.
+     *
+     * @param a       array to be updated.
+     * @param aOffset index of the first item in the first array.
+     * @param b       array to add.
+     * @param bOffset index of the first item in the second array.
+     * @param length  number of items.
+     */
+    static void add(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            a[aOffset + i] += b[bOffset + i];
+        }
+    }
+
+    /**
+     * The subtract method subtracts the items of the second slice from the corresponding items of the first slice.
+     *
+     * @param a       array to be updated.
+     * @param aOffset index of the first item in the first array.
+     * @param b       array to subtract.
+     * @param bOffset index of the first item in the second array.
+     * @param length  number of items.
+     */
+    static void subtract(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            a[aOffset + i] -= b[bOffset + i];
+        }
+    }
+
+    /**
+     * The difference method writes the differences of the corresponding items of two slices into the result slice.
+     *
+     * @param a            first array.
+     * @param aOffset      index of the first item in the first array.
+     * @param b            second array.
+     * @param bOffset      index of the first item in the second array.
+     * @param result       output array.
+     * @param resultOffset index of the first item in the output array.
+     * @param length       number of items.
+     */
+    static void difference(double[] a, int aOffset, double[] b, int bOffset, double[] result, int resultOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            result[resultOffset + i] = a[aOffset + i] - b[bOffset + i];
+        }
+    }
+
+    /**
+     * The elementProduct method writes the products of the corresponding items of two slices into the result slice.
+     *
+     * @param a            first array.
+     * @param aOffset      index of the first item in the first array.
+     * @param b            second array.
+     * @param bOffset      index of the first item in the second array.
+     * @param result       output array.
+     * @param resultOffset index of the first item in the output array.
+     * @param length       number of items.
+     */
+    static void elementProduct(double[] a, int aOffset, double[] b, int bOffset, double[] result, int resultOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            result[resultOffset + i] = a[aOffset + i] * b[bOffset + i];
+        }
+    }
+
+    /**
+     * The scale method multiplies the items of a slice with the given value and writes them into the result slice. The
+     * result slice may be the same as the input slice.
+     *
+     * @param a            input array.
+     * @param aOffset      index of the first item in the input array.
+     * @param value        multiplier.
+     * @param result       output array.
+     * @param resultOffset index of the first item in the output array.
+     * @param length       number of items.
+     */
+    static void scale(double[] a, int aOffset, double value, double[] result, int resultOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            result[resultOffset + i] = a[aOffset + i] * value;
+        }
+    }
+
+    /**
+     * The axpy method adds the items of the second slice multiplied with the given value to the corresponding items of
+     * the first slice, i.e. a = a + value * b.
+     *
+     * @param a       array to be updated.
+     * @param aOffset index of the first item in the first array.
+     * @param value   multiplier of the second slice.
+     * @param b       array to add.
+     * @param bOffset index of the first item in the second array.
+     * @param length  number of items.
+     */
+    static void axpy(double[] a, int aOffset, double value, double[] b, int bOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            a[aOffset + i] += value * b[bOffset + i];
+        }
+    }
+
+    /**
+     * The dot4 method computes the dot products of four consecutive rows of a row major array with the same slice.
+     * Each product is accumulated in the same order as {@link #dot}, so the results equal four calls of it, but every
+     * item of the slice is loaded once for the four rows.
+     *
+     * @param a            row major array.
+     * @param aOffset      index of the first item of the first row.
+     * @param aStride      distance between the first items of consecutive rows.
+     * @param b            array holding the slice.
+     * @param bOffset      index of the first item of the slice.
+     * @param length       number of items in each row.
+     * @param result       array receiving the four products.
+     * @param resultOffset index receiving the product of the first row.
+     */
+    static void dot4(double[] a, int aOffset, int aStride, double[] b, int bOffset, int length, double[] result, int resultOffset) {
+        double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int row1 = aOffset + aStride, row2 = row1 + aStride, row3 = row2 + aStride;
+        for (int i = 0; i < length; i++) {
+            double value = b[bOffset + i];
+            sum0 += a[aOffset + i] * value;
+            sum1 += a[row1 + i] * value;
+            sum2 += a[row2 + i] * value;
+            sum3 += a[row3 + i] * value;
+        }
+        result[resultOffset] = sum0;
+        result[resultOffset + 1] = sum1;
+        result[resultOffset + 2] = sum2;
+        result[resultOffset + 3] = sum3;
+    }
+
+    /**
+     * The axpy4 method adds four consecutive rows of a row major array, multiplied with four consecutive values, to a
+     * slice. The additions are done in the order of four calls of {@link #axpy}, so the result is the same, but every
+     * item of the slice is loaded and stored once for the four rows.
+     *
+     * @param a            array to be updated.
+     * @param aOffset      index of the first item of the slice.
+     * @param values       array holding the multipliers.
+     * @param valuesOffset index of the multiplier of the first row.
+     * @param b            row major array to add.
+     * @param bOffset      index of the first item of the first row.
+     * @param bStride      distance between the first items of consecutive rows.
+     * @param length       number of items.
+     */
+    static void axpy4(double[] a, int aOffset, double[] values, int valuesOffset, double[] b, int bOffset, int bStride, int length) {
+        double value0 = values[valuesOffset], value1 = values[valuesOffset + 1];
+        double value2 = values[valuesOffset + 2], value3 = values[valuesOffset + 3];
+        int row1 = bOffset + bStride, row2 = row1 + bStride, row3 = row2 + bStride;
+        for (int i = 0; i < length; i++) {
+            double sum = a[aOffset + i];
+            sum += value0 * b[bOffset + i];
+            sum += value1 * b[row1 + i];
+            sum += value2 * b[row2 + i];
+            sum += value3 * b[row3 + i];
+            a[aOffset + i] = sum;
+        }
+    }
+
+    /**
+     * The dot method accumulates the products of the corresponding items of two slices in single precision. See
+     * {@link #dot(double[], int, double[], int, int)} for the parameters.
+     */
+    static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float result = 0;
+        for (int i = 0; i < length; i++) {
+            result += a[aOffset + i] * b[bOffset + i];
+        }
+        return result;
+    }
+
+    /**
+     * The sum method accumulates the items of a slice in single precision. See {@link #sum(double[], int, int)} for the
+     * parameters.
+     */
+    static float sum(float[] a, int offset, int length) {
+        float result = 0;
+        for (int i = 0; i < length; i++) {
+            result += a[offset + i];
+        }
+        return result;
+    }
+
+    /**
+     * The sumOfSquares method accumulates the squares of the items of a slice in single precision. See
+     * {@link #sumOfSquares(double[], int, int)} for the parameters.
+     */
+    static float sumOfSquares(float[] a, int offset, int length) {
+        float result = 0;
+        for (int i = 0; i < length; i++) {
+            float value = a[offset + i];
+            result += value * value;
+        }
+        return result;
+    }
+
+    /**
+     * The add method adds the items of the second slice to the corresponding items of the first slice in single
+     * precision. See {@link #add(double[], int, double[], int, int)} for the parameters.
+     */
+    static void add(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            a[aOffset + i] += b[bOffset + i];
+        }
+    }
+
+    /**
+     * The subtract method subtracts the items of the second slice from the corresponding items of the first slice in
+     * single precision. See {@link #subtract(double[], int, double[], int, int)} for the parameters.
+     */
+    static void subtract(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            a[aOffset + i] -= b[bOffset + i];
+        }
+    }
+
+    /**
+     * The difference method writes the differences of the corresponding items of two slices into the result slice in
+     * single precision. See {@link #difference(double[], int, double[], int, double[], int, int)} for the parameters.
+     */
+    static void difference(float[] a, int aOffset, float[] b, int bOffset, float[] result, int resultOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            result[resultOffset + i] = a[aOffset + i] - b[bOffset + i];
+        }
+    }
+
+    /**
+     * The elementProduct method writes the products of the corresponding items of two slices into the result slice in
+     * single precision. See {@link #elementProduct(double[], int, double[], int, double[], int, int)} for the
+     * parameters.
+     */
+    static void elementProduct(float[] a, int aOffset, float[] b, int bOffset, float[] result, int resultOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            result[resultOffset + i] = a[aOffset + i] * b[bOffset + i];
+        }
+    }
+
+    /**
+     * The scale method multiplies the items of a slice with the given value and writes them into the result slice in
+     * single precision. See {@link #scale(double[], int, double, double[], int, int)} for the parameters.
+     */
+    static void scale(float[] a, int aOffset, float value, float[] result, int resultOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            result[resultOffset + i] = a[aOffset + i] * value;
+        }
+    }
+
+    /**
+     * The axpy method adds the items of the second slice multiplied with the given value to the corresponding items of
+     * the first slice in single precision. See {@link #axpy(double[], int, double, double[], int, int)} for the
+     * parameters.
+     */
+    static void axpy(float[] a, int aOffset, float value, float[] b, int bOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            a[aOffset + i] += value * b[bOffset + i];
+        }
+    }
+
+    /**
+     * The dot4 method computes the dot products of four consecutive rows of a row major array with the same slice in
+     * single precision. See {@link #dot4(double[], int, int, double[], int, int, double[], int)} for the parameters.
+     */
+    static void dot4(float[] a, int aOffset, int aStride, float[] b, int bOffset, int length, float[] result, int resultOffset) {
+        float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int row1 = aOffset + aStride, row2 = row1 + aStride, row3 = row2 + aStride;
+        for (int i = 0; i < length; i++) {
+            float value = b[bOffset + i];
+            sum0 += a[aOffset + i] * value;
+            sum1 += a[row1 + i] * value;
+            sum2 += a[row2 + i] * value;
+            sum3 += a[row3 + i] * value;
+        }
+        result[resultOffset] = sum0;
+        result[resultOffset + 1] = sum1;
+        result[resultOffset + 2] = sum2;
+        result[resultOffset + 3] = sum3;
+    }
+
+    /**
+     * The axpy4 method adds four consecutive rows of a row major array, multiplied with four consecutive values, to a
+     * slice in single precision. See {@link #axpy4(double[], int, double[], int, double[], int, int, int)} for the
+     * parameters.
+     */
+    static void axpy4(float[] a, int aOffset, float[] values, int valuesOffset, float[] b, int bOffset, int bStride, int length) {
+        float value0 = values[valuesOffset], value1 = values[valuesOffset + 1];
+        float value2 = values[valuesOffset + 2], value3 = values[valuesOffset + 3];
+        int row1 = bOffset + bStride, row2 = row1 + bStride, row3 = row2 + bStride;
+        for (int i = 0; i < length; i++) {
+            float sum = a[aOffset + i];
+            sum += value0 * b[bOffset + i];
+            sum += value1 * b[row1 + i];
+            sum += value2 * b[row2 + i];
+            sum += value3 * b[row3 + i];
+            a[aOffset + i] = sum;
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+package Math;
+
+import java.util.concurrent.ForkJoinPool;
+
+class Selection {
+    /**
+     * Selection kernels over a slice of a double array. Top k selection keeps a bounded binary heap of primitive
+     * indices and values, so it costs O(n log k) and boxes nothing. The parallel variant selects the top k of each
+     * chunk on its own core and merges the partial heaps.
+     */
+
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * The before method compares two items by value, breaking ties by index, and returns true if the first item ranks
+     * before the second one.
+     */
+    private static boolean before(double value1, int index1, double value2, int index2) {
+        return value1 > value2 || (value1 == value2 && index1 < index2);
+    }
+
+    /**
+     * Bounded min heap of indices and values, whose root is the worst of the selected items.
+     */
+    private static class Heap {
+        private final int[] indices;
+        private final double[] values;
+        private int count;
+
+        Heap(int capacity) {
+            indices = new int[capacity];
+            values = new double[capacity];
+        }
+
+        /**
+         * Offers an item to the heap. The item is kept if the heap is not full or it ranks before the root.
+         */
+        void offer(int index, double value) {
+            if (count < indices.length) {
+                int i = count++;
+                while (i > 0) {
+                    int parent = (i - 1) >> 1;
+                    if (!before(values[parent], indices[parent], value, index)) {
+                        break;
+                    }
+                    indices[i] = indices[parent];
+                    values[i] = values[parent];
+                    i = parent;
+                }
+                indices[i] = index;
+                values[i] = value;
+            } else if (count > 0 && before(value, index, values[0], indices[0])) {
+                siftDown(index, value);
+            }
+        }
+
+        /**
+         * Replaces the root with the given item and restores the heap order.
+         */
+        private void siftDown(int index, double value) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= count) {
+                    break;
+                }
+                if (child + 1 < count && before(values[child], indices[child], values[child + 1], indices[child + 1])) {
+                    child++;
+                }
+                if (!before(value, index, values[child], indices[child])) {
+                    break;
+                }
+                indices[i] = indices[child];
+                values[i] = values[child];
+                i = child;
+            }
+            indices[i] = index;
+            values[i] = value;
+        }
+
+        /**
+         * Empties the heap into a {@link TopK} ordered from the best to the worst item.
+         */
+        TopK toTopK() {
+            int[] resultIndices = new int[count];
+            double[] resultValues = new double[count];
+            while (count > 0) {
+                int last = --count;
+                resultIndices[last] = indices[0];
+                resultValues[last] = values[0];
+                if (last > 0) {
+                    siftDown(indices[last], values[last]);
+                }
+            }
+            return new TopK(resultIndices, resultValues);
+        }
+    }
+
+    /**
+     * Selects the k largest items of a[offset .. offset + length).
+     *
+     * @param a      input array.
+     * @param offset index of the first item.
+     * @param length number of items.
+     * @param k      number of items to select.
+     * @return the selected items with indices relative to offset.
+     */
+    static TopK topK(double[] a, int offset, int length, int k) {
+        return select(a, offset, 0, length, k).toTopK();
+    }
+
+    /**
+     * Selects the k largest items of a[offset + start .. offset + end) into a heap.
+     */
+    private static Heap select(double[] a, int offset, int start, int end, int k) {
+        Heap heap = new Heap(Math.min(k, end - start));
+        for (int i = start; i < end; i++) {
+            heap.offer(i, a[offset + i]);
+        }
+        return heap;
+    }
+
+    /**
+     * Selects the k largest items of a[offset .. offset + length) by splitting the items into chunks selected on the
+     * pool set in {@link Parallelism}. Inputs shorter than the parallel threshold, or any input if no pool is set, are
+     * selected sequentially. The result is identical to the sequential one.
+     *
+     * @param a      input array.
+     * @param offset index of the first item.
+     * @param length number of items.
+     * @param k      number of items to select.
+     * @return the selected items with indices relative to offset.
+     */
+    static TopK parallelTopK(double[] a, int offset, int length, int k) {
+        ForkJoinPool pool = Parallelism.poolFor(Parallelism.getPool(), length);
+        if (pool == null || length < 2) {
+            return topK(a, offset, length, k);
+        }
+        int chunkSize = (length + Parallelism.taskCount(pool) - 1) / Parallelism.taskCount(pool);
+        int chunks = (length + chunkSize - 1) / chunkSize;
+        Heap[] partial = new Heap[chunks];
+        Parallelism.forEach(pool, chunks, c ->
+                partial[c] = select(a, offset, c * chunkSize, Math.min(length, (c + 1) * chunkSize), k));
+        Heap heap = new Heap(Math.min(k, length));
+        for (Heap part : partial) {
+            for (int i = 0; i < part.count; i++) {
+                heap.offer(part.indices[i], part.values[i]);
+            }
+        }
+        return heap.toTopK();
+    }
+
+    /**
+     * Returns the index of the smallest item of a[offset .. offset + length), the first one in case of ties.
+     *
+     * @param a      input array.
+     * @param offset index of the first item.
+     * @param length number of items.
+     * @return index of the smallest item relative to offset.
+     */
+    static int argmin(double[] a, int offset, int length) {
+        int index = 0;
+        double min = a[offset];
+        for (int i = 1; i < length; i++) {
+            if (a[offset + i] < min) {
+                min = a[offset + i];
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the indices of a[offset .. offset + length) sorted in ascending order of the items. The sort is a stable
+     * merge sort over primitive indices.
+     *
+     * @param a      input array.
+     * @param offset index of the first item.
+     * @param length number of items.
+     * @return indices relative to offset in ascending order of the items.
+     */
+    static int[] argsort(double[] a, int offset, int length) {
+        int[] indices = new int[length];
+        for (int i = 0; i < length; i++) {
+            indices[i] = i;
+        }
+        int[] buffer = new int[length];
+        for (int width = 1; width < length; width *= 2) {
+            for (int start = 0; start < length; start += 2 * width) {
+                int middle = Math.min(start + width, length);
+                int end = Math.min(start + 2 * width, length);
+                int i = start, j = middle, k = start;
+                while (i < middle && j < end) {
+                    if (a[offset + indices[j]] < a[offset + indices[i]]) {
+                        buffer[k++] = indices[j++];
+                    } else {
+                        buffer[k++] = indices[i++];
+                    }
+                }
+                while (i < middle) {
+                    buffer[k++] = indices[i++];
+                }
+                while (j < end) {
+                    buffer[k++] = indices[j++];
+                }
+            }
+            int[] swap = indices;
+            indices = buffer;
+            buffer = swap;
+        }
+        return indices;
+    }
+
+}
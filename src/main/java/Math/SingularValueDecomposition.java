@@ -0,0 +1,441 @@
+package Math;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class SingularValueDecomposition {
+    /**
+     * Thin singular value decomposition A = U * S * V^T of an m x n {@link Matrix}, where U is m x r and V is n x r with
+     * orthonormal columns, S is diagonal with non-increasing singular values, and r = min(m, n) for the full
+     * decomposition or k for a randomized rank k approximation. The full decomposition runs one-sided Jacobi on the
+     * columns, after a {@link QRDecomposition} shrinks a tall matrix to its square R factor. The pairs of columns are
+     * visited in round robin order, so the rotations of a round touch disjoint columns and run in parallel with the
+     * same result as sequentially. The randomized mode finds an orthonormal basis of the range of A from its products
+     * with a random block, sharpened by power iterations, and decomposes the small projection of A onto that basis. It
+     * needs only the products of A with blocks, so it also runs on a {@link SparseMatrix} or a
+     * {@link RectangularOperator} too large to be stored as a dense {@link Matrix}.
+     * Singular vectors are kept as the rows of double {@link java.lang.reflect.Array}s.
+     */
+
+    public static final int DEFAULT_OVERSAMPLING = 10;
+
+    public static final int DEFAULT_POWER_ITERATIONS = 2;
+
+    private static final int MAX_SWEEPS = 75;
+
+    private static final double EPSILON = Math.ulp(1.0);
+
+    private final int m;
+    private final int n;
+    private final double[] singularValues;
+    private final double[] u;
+    private final double[] v;
+
+    /**
+     * A constructor of {@link SingularValueDecomposition} class which takes an m x n {@link Matrix} as an input and
+     * computes its full thin singular value decomposition. The matrix is not modified.
+     *
+     * @param matrix Matrix to decompose.
+     */
+    public SingularValueDecomposition(Matrix matrix) {
+        this(decompose(matrix.getData(), matrix.getRow(), matrix.getColumn()));
+    }
+
+    /**
+     * Copies the fields of another decomposition.
+     */
+    private SingularValueDecomposition(SingularValueDecomposition other) {
+        this(other.m, other.n, other.singularValues, other.u, other.v);
+    }
+
+    /**
+     * Creates a decomposition from its singular values and the rows holding the left and right singular vectors.
+     */
+    private SingularValueDecomposition(int m, int n, double[] singularValues, double[] u, double[] v) {
+        this.m = m;
+        this.n = n;
+        this.singularValues = singularValues;
+        this.u = u;
+        this.v = v;
+    }
+
+    /**
+     * The randomized method returns a rank k approximation of the singular value decomposition of the given matrix,
+     * with the default oversampling and power iterations.
+     *
+     * @param matrix Matrix to decompose.
+     * @param k      number of singular values.
+     * @return the k largest singular values and their vectors.
+     */
+    public static SingularValueDecomposition randomized(Matrix matrix, int k) {
+        return randomized(matrix.asRectangularOperator(), k);
+    }
+
+    /**
+     * The randomized method returns a rank k approximation of the singular value decomposition of the given matrix, as
+     * {@link #randomized(RectangularOperator, int, int, int, Random)} does for the matrix as an operator.
+     *
+     * @param matrix          Matrix to decompose.
+     * @param k               number of singular values.
+     * @param oversampling    number of extra basis vectors.
+     * @param powerIterations number of power iterations.
+     * @param random          random number generator for the test matrix.
+     * @return the k largest singular values and their vectors.
+     */
+    public static SingularValueDecomposition randomized(Matrix matrix, int k, int oversampling, int powerIterations,
+                                                        Random random) {
+        return randomized(matrix.asRectangularOperator(), k, oversampling, powerIterations, random);
+    }
+
+    /**
+     * The randomized method returns a rank k approximation of the singular value decomposition of the given sparse
+     * matrix, with the default oversampling and power iterations. The matrix is never made dense.
+     *
+     * @param matrix SparseMatrix to decompose.
+     * @param k      number of singular values.
+     * @return the k largest singular values and their vectors.
+     */
+    public static SingularValueDecomposition randomized(SparseMatrix matrix, int k) {
+        return randomized(matrix.asRectangularOperator(), k);
+    }
+
+    /**
+     * The randomized method returns a rank k approximation of the singular value decomposition of the given sparse
+     * matrix, as {@link #randomized(RectangularOperator, int, int, int, Random)} does for the matrix as an operator.
+     *
+     * @param matrix          SparseMatrix to decompose.
+     * @param k               number of singular values.
+     * @param oversampling    number of extra basis vectors.
+     * @param powerIterations number of power iterations.
+     * @param random          random number generator for the test matrix.
+     * @return the k largest singular values and their vectors.
+     */
+    public static SingularValueDecomposition randomized(SparseMatrix matrix, int k, int oversampling, int powerIterations,
+                                                        Random random) {
+        return randomized(matrix.asRectangularOperator(), k, oversampling, powerIterations, random);
+    }
+
+    /**
+     * The randomized method returns a rank k approximation of the singular value decomposition of the given operator,
+     * with the default oversampling and power iterations.
+     *
+     * @param operator operator to decompose.
+     * @param k        number of singular values.
+     * @return the k largest singular values and their vectors.
+     */
+    public static SingularValueDecomposition randomized(RectangularOperator operator, int k) {
+        return randomized(operator, k, DEFAULT_OVERSAMPLING, DEFAULT_POWER_ITERATIONS, new Random(1));
+    }
+
+    /**
+     * The randomized method returns a rank k approximation of the singular value decomposition of the given m x n
+     * operator A. A basis Q of l = k + oversampling columns is found from A * Omega for a Gaussian Omega, and refined by
+     * powerIterations multiplications with A^T and A, each followed by reorthonormalization. The small matrix
+     * Q^T * A = (A^T * Q)^T is then decomposed exactly. A is accessed only through its block products, so a sparse or
+     * implicit operator whose m * n items would not fit in an array can be decomposed, as long as the m x l and n x l
+     * blocks do. Power iterations make the result accurate when the singular values decay slowly.
+     *
+     * @param operator        operator to decompose.
+     * @param k               number of singular values.
+     * @param oversampling    number of extra basis vectors.
+     * @param powerIterations number of power iterations.
+     * @param random          random number generator for the test matrix.
+     * @return the k largest singular values and their vectors.
+     */
+    public static SingularValueDecomposition randomized(RectangularOperator operator, int k, int oversampling,
+                                                        int powerIterations, Random random) {
+        int m = operator.getRow(), n = operator.getColumn();
+        if (k < 0 || k > Math.min(m, n)) {
+            throw new IllegalArgumentException("Rank must be between 0 and " + Math.min(m, n) + ": " + k);
+        }
+        if (oversampling < 0 || powerIterations < 0) {
+            throw new IllegalArgumentException("Oversampling and power iterations must be nonnegative");
+        }
+        if (k == 0) {
+            return new SingularValueDecomposition(m, n, new double[0], new double[0], new double[0]);
+        }
+        int l = Math.min(k + oversampling, Math.min(m, n));
+        double[] omega = new double[n * l];
+        for (int i = 0; i < omega.length; i++) {
+            omega[i] = random.nextGaussian();
+        }
+        double[] y = new double[m * l];
+        operator.multiply(omega, y, l);
+        double[] q = orthonormalBasis(y, m, l);
+        for (int iteration = 0; iteration < powerIterations; iteration++) {
+            double[] z = new double[n * l];
+            operator.multiplyTranspose(q, z, l);
+            z = orthonormalBasis(z, n, l);
+            y = new double[m * l];
+            operator.multiply(z, y, l);
+            q = orthonormalBasis(y, m, l);
+        }
+        double[] transposed = new double[n * l];
+        operator.multiplyTranspose(q, transposed, l);
+        SingularValueDecomposition small = decomposeTall(transposed, n, l);
+        double[] left = new double[k * m];
+        Gemm.multiply(Parallelism.getPool(), small.v, 0, l, 1, q, 0, 1, l, left, 0, m, k, m, l);
+        double[] values = new double[k];
+        System.arraycopy(small.singularValues, 0, values, 0, k);
+        double[] right = new double[k * n];
+        System.arraycopy(small.u, 0, right, 0, k * n);
+        return new SingularValueDecomposition(m, n, values, left, right);
+    }
+
+    /**
+     * Returns the thin Q factor, stored row by row, of the rows x columns matrix stored row by row in data.
+     */
+    private static double[] orthonormalBasis(double[] data, int rows, int columns) {
+        return new QRDecomposition(new Matrix(rows, columns, data)).getQ().getData();
+    }
+
+    /**
+     * Decomposes the m x n matrix stored row by row in data. A wide matrix is decomposed through its transpose.
+     */
+    private static SingularValueDecomposition decompose(double[] data, int m, int n) {
+        if (m >= n) {
+            return decomposeTall(data, m, n);
+        }
+        double[] transposed = new double[n * m];
+        Transpose.transpose(data, 0, n, m, n, transposed, 0, m);
+        SingularValueDecomposition result = decomposeTall(transposed, n, m);
+        return new SingularValueDecomposition(m, n, result.singularValues, result.v, result.u);
+    }
+
+    /**
+     * Decomposes the m x n matrix with m >= n stored row by row in data. If m > n, the square R factor of its QR
+     * decomposition is decomposed instead, and its left singular vectors are multiplied by Q.
+     */
+    private static SingularValueDecomposition decomposeTall(double[] data, int m, int n) {
+        if (m == n) {
+            return jacobi(data, n);
+        }
+        QRDecomposition qr = new QRDecomposition(new Matrix(m, n, data));
+        SingularValueDecomposition inner = jacobi(qr.getR().getData(), n);
+        double[] q = qr.getQ().getData();
+        double[] left = new double[n * m];
+        Gemm.multiply(Parallelism.getPool(), inner.u, 0, n, 1, q, 0, 1, n, left, 0, m, n, m, n);
+        return new SingularValueDecomposition(m, n, inner.singularValues, left, inner.v);
+    }
+
+    /**
+     * Decomposes the n x n matrix stored row by row in data with one-sided Jacobi. The columns are rotated in pairs
+     * until every pair is orthogonal to working precision; their norms are then the singular values, and the
+     * accumulated rotations form V.
+     */
+    private static SingularValueDecomposition jacobi(double[] data, int n) {
+        double[] columns = new double[n * n];
+        Transpose.transpose(data, 0, n, n, n, columns, 0, n);
+        double[] rotations = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            rotations[i * n + i] = 1.0;
+        }
+        int players = n + (n % 2);
+        int[] schedule = new int[players];
+        for (int i = 0; i < players; i++) {
+            schedule[i] = i;
+        }
+        int pairs = players / 2;
+        boolean[] rotated = new boolean[pairs];
+        ForkJoinPool pool = Parallelism.poolFor(Parallelism.getPool(), (long) pairs * n * 6);
+        for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+            boolean changed = false;
+            for (int round = 0; round < players - 1; round++) {
+                int[] current = schedule.clone();
+                Parallelism.forChunks(pool, pairs, (first, last) -> {
+                    for (int p = first; p < last; p++) {
+                        int i = Math.min(current[p], current[players - 1 - p]);
+                        int j = Math.max(current[p], current[players - 1 - p]);
+                        rotated[p] = j < n && rotate(columns, rotations, n, i, j);
+                    }
+                });
+                for (boolean value : rotated) {
+                    changed |= value;
+                }
+                int last = schedule[players - 1];
+                System.arraycopy(schedule, 1, schedule, 2, players - 2);
+                schedule[1] = last;
+            }
+            if (!changed) {
+                break;
+            }
+        }
+        double[] norms = new double[n];
+        for (int i = 0; i < n; i++) {
+            norms[i] = Math.sqrt(VectorKernels.sumOfSquares(columns, i * n, n));
+        }
+        int[] ascending = Selection.argsort(norms, 0, n);
+        double[] values = new double[n];
+        double[] left = new double[n * n];
+        double[] right = new double[n * n];
+        for (int r = 0; r < n; r++) {
+            int index = ascending[n - 1 - r];
+            values[r] = norms[index];
+            if (norms[index] > 0) {
+                VectorKernels.scale(columns, index * n, 1.0 / norms[index], left, r * n, n);
+            }
+            System.arraycopy(rotations, index * n, right, r * n, n);
+        }
+        completeBasis(left, values, n);
+        return new SingularValueDecomposition(n, n, values, left, right);
+    }
+
+    /**
+     * Replaces the left singular vectors of the zero singular values, which are sorted last and left as zero rows, by
+     * unit vectors orthogonal to the previous rows, so that U stays orthonormal for rank deficient matrices. Each new
+     * row starts from the unit vector e_k with the largest component outside the span of the previous rows, which is
+     * then orthogonalized against them twice with Gram-Schmidt.
+     */
+    private static void completeBasis(double[] rows, double[] values, int n) {
+        for (int r = 0; r < n; r++) {
+            if (values[r] > 0) {
+                continue;
+            }
+            int best = 0;
+            double bestResidual = -1;
+            for (int k = 0; k < n; k++) {
+                double residual = 1.0;
+                for (int s = 0; s < r; s++) {
+                    residual -= rows[s * n + k] * rows[s * n + k];
+                }
+                if (residual > bestResidual) {
+                    bestResidual = residual;
+                    best = k;
+                }
+            }
+            Arrays.fill(rows, r * n, (r + 1) * n, 0.0);
+            rows[r * n + best] = 1.0;
+            for (int pass = 0; pass < 2; pass++) {
+                for (int s = 0; s < r; s++) {
+                    VectorKernels.axpy(rows, r * n, -VectorKernels.dot(rows, s * n, rows, r * n, n), rows, s * n, n);
+                }
+            }
+            double norm = Math.sqrt(VectorKernels.sumOfSquares(rows, r * n, n));
+            VectorKernels.scale(rows, r * n, 1.0 / norm, rows, r * n, n);
+        }
+    }
+
+    /**
+     * Rotates the columns i and j, and the rows i and j of the accumulated rotations, so that the two columns become
+     * orthogonal. Returns false if they are already orthogonal to working precision.
+     */
+    private static boolean rotate(double[] columns, double[] rotations, int n, int i, int j) {
+        int first = i * n, second = j * n;
+        double alpha = VectorKernels.sumOfSquares(columns, first, n);
+        double beta = VectorKernels.sumOfSquares(columns, second, n);
+        double gamma = VectorKernels.dot(columns, first, columns, second, n);
+        if (gamma == 0.0 || Math.abs(gamma) <= EPSILON * Math.sqrt(alpha * beta)) {
+            return false;
+        }
+        double zeta = (beta - alpha) / (2 * gamma);
+        double t = Math.signum(zeta) / (Math.abs(zeta) + Math.sqrt(1 + zeta * zeta));
+        if (zeta == 0.0) {
+            t = 1.0;
+        }
+        double c = 1 / Math.sqrt(1 + t * t);
+        double s = c * t;
+        for (int k = 0; k < n; k++) {
+            double x = columns[first + k], y = columns[second + k];
+            columns[first + k] = c * x - s * y;
+            columns[second + k] = s * x + c * y;
+            x = rotations[first + k];
+            y = rotations[second + k];
+            rotations[first + k] = c * x - s * y;
+            rotations[second + k] = s * x + c * y;
+        }
+        return true;
+    }
+
+    /**
+     * The size method returns the number of singular values.
+     *
+     * @return number of singular values.
+     */
+    public int size() {
+        return singularValues.length;
+    }
+
+    /**
+     * The getSingularValue method returns the i'th largest singular value.
+     *
+     * @param i rank of the singular value, starting from 0.
+     * @return singular value.
+     */
+    public double getSingularValue(int i) {
+        return singularValues[i];
+    }
+
+    /**
+     * The getSingularValues method returns the singular values from the largest to the smallest.
+     *
+     * @return singular values.
+     */
+    public double[] getSingularValues() {
+        return singularValues.clone();
+    }
+
+    /**
+     * The rank method returns the number of singular values larger than max(m, n) * eps * the largest singular value.
+     *
+     * @return numerical rank of the matrix.
+     */
+    public int rank() {
+        if (singularValues.length == 0) {
+            return 0;
+        }
+        double tolerance = Math.max(m, n) * EPSILON * singularValues[0];
+        int result = 0;
+        for (double value : singularValues) {
+            if (value > tolerance) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The getU method returns the m x r matrix U, whose columns are the left singular vectors.
+     *
+     * @return Matrix U.
+     */
+    public Matrix getU() {
+        int r = singularValues.length;
+        double[] result = new double[m * r];
+        Transpose.transpose(u, 0, m, r, m, result, 0, r);
+        return new Matrix(m, r, result);
+    }
+
+    /**
+     * The getV method returns the n x r matrix V, whose columns are the right singular vectors.
+     *
+     * @return Matrix V.
+     */
+    public Matrix getV() {
+        int r = singularValues.length;
+        double[] result = new double[n * r];
+        Transpose.transpose(v, 0, n, r, n, result, 0, r);
+        return new Matrix(n, r, result);
+    }
+
+    /**
+     * The getLeftSingularVector method returns the left singular vector of the i'th largest singular value.
+     *
+     * @param i rank of the singular value, starting from 0.
+     * @return left singular vector.
+     */
+    public Vector getLeftSingularVector(int i) {
+        return Vector.wrap(Arrays.copyOfRange(u, i * m, i * m + m));
+    }
+
+    /**
+     * The getRightSingularVector method returns the right singular vector of the i'th largest singular value.
+     *
+     * @param i rank of the singular value, starting from 0.
+     * @return right singular vector.
+     */
+    public Vector getRightSingularVector(int i) {
+        return Vector.wrap(Arrays.copyOfRange(v, i * n, i * n + n));
+    }
+
+}
@@ -0,0 +1,17 @@
+package Math;
+
+/**
+ * Storage layouts of a {@link SparseMatrix}.
+ */
+public enum SparseFormat {
+    /**
+     * Compressed sparse row: the nonzero items are stored row by row, with the column index of each item. Rows are
+     * contiguous, so products with vectors and dense matrices from the right are split across threads by rows.
+     */
+    CSR,
+    /**
+     * Compressed sparse column: the nonzero items are stored column by column, with the row index of each item.
+     * Columns are contiguous, so products with vectors from the left and column sums are cheap.
+     */
+    CSC
+}
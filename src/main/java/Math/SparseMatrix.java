@@ -0,0 +1,728 @@
+package Math;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+public class SparseMatrix implements Serializable {
+    /**
+     * A matrix which stores only its nonzero items, in compressed sparse row ({@link SparseFormat#CSR}) or compressed
+     * sparse column ({@link SparseFormat#CSC}) form. The items of each row (CSR) or column (CSC) are stored one after
+     * the other in ascending order of their column (CSR) or row (CSC) index, and pointers give where each row or column
+     * starts. Below, the rows of a CSR matrix and the columns of a CSC matrix are called its major lines. Products that
+     * compute one output item per major line are split across threads by major lines holding similar numbers of
+     * nonzero items; products that scatter into the output run on the calling thread. Matrices are built from
+     * coordinate lists with {@link Builder}.
+     */
+
+    private final int row;
+    private final int col;
+    private final SparseFormat format;
+    private final int[] pointers;
+    private final int[] indices;
+    private final double[] values;
+
+    /**
+     * Creates a sparse matrix from its compressed arrays, which are not copied.
+     */
+    private SparseMatrix(int row, int col, SparseFormat format, int[] pointers, int[] indices, double[] values) {
+        this.row = row;
+        this.col = col;
+        this.format = format;
+        this.pointers = pointers;
+        this.indices = indices;
+        this.values = values;
+    }
+
+    /**
+     * A constructor of {@link SparseMatrix} class which takes a dense {@link Matrix} and a format as inputs, and stores
+     * the nonzero items of the matrix in the given format.
+     *
+     * @param matrix dense matrix.
+     * @param format storage format.
+     */
+    public SparseMatrix(Matrix matrix, SparseFormat format) {
+        this(matrix.getRow(), matrix.getColumn(), format, dense(matrix, format));
+    }
+
+    /**
+     * Creates a sparse matrix from the pointers, indices and values packed by the dense method.
+     */
+    private SparseMatrix(int row, int col, SparseFormat format, Object[] arrays) {
+        this(row, col, format, (int[]) arrays[0], (int[]) arrays[1], (double[]) arrays[2]);
+    }
+
+    /**
+     * Compresses the nonzero items of a dense matrix in the given format.
+     */
+    private static Object[] dense(Matrix matrix, SparseFormat format) {
+        int rows = matrix.getRow(), columns = matrix.getColumn();
+        double[] data = matrix.getData();
+        boolean rowMajor = format == SparseFormat.CSR;
+        int majors = rowMajor ? rows : columns, minors = rowMajor ? columns : rows;
+        int[] pointers = new int[majors + 1];
+        int count = 0;
+        for (double value : data) {
+            if (value != 0.0) {
+                count++;
+            }
+        }
+        int[] indices = new int[count];
+        double[] values = new double[count];
+        int k = 0;
+        for (int major = 0; major < majors; major++) {
+            for (int minor = 0; minor < minors; minor++) {
+                double value = rowMajor ? data[major * columns + minor] : data[minor * columns + major];
+                if (value != 0.0) {
+                    indices[k] = minor;
+                    values[k++] = value;
+                }
+            }
+            pointers[major + 1] = k;
+        }
+        return new Object[]{pointers, indices, values};
+    }
+
+    /**
+     * Builds a {@link SparseMatrix} from a coordinate (COO) list of items. Items may be added in any order; items added
+     * more than once at the same position are summed, and items summing to zero are not stored.
+     */
+    public static class Builder {
+        private final int row;
+        private final int col;
+        private int count;
+        private int[] rows;
+        private int[] columns;
+        private double[] values;
+
+        /**
+         * A constructor of {@link Builder} class which takes the dimensions of the matrix as inputs.
+         *
+         * @param row number of rows.
+         * @param col number of columns.
+         */
+        public Builder(int row, int col) {
+            if (row < 0 || col < 0) {
+                throw new IllegalArgumentException("Dimensions must be nonnegative: " + row + " x " + col);
+            }
+            this.row = row;
+            this.col = col;
+            rows = new int[16];
+            columns = new int[16];
+            values = new double[16];
+        }
+
+        /**
+         * The add method adds the given value to the item at the given position.
+         *
+         * @param rowNo row of the item.
+         * @param colNo column of the item.
+         * @param value value to add.
+         * @return this builder.
+         */
+        public Builder add(int rowNo, int colNo, double value) {
+            if (rowNo < 0 || rowNo >= row || colNo < 0 || colNo >= col) {
+                throw new IndexOutOfBoundsException("Position (" + rowNo + ", " + colNo + ") is outside " + row + " x " + col);
+            }
+            if (count == rows.length) {
+                rows = Arrays.copyOf(rows, 2 * count);
+                columns = Arrays.copyOf(columns, 2 * count);
+                values = Arrays.copyOf(values, 2 * count);
+            }
+            rows[count] = rowNo;
+            columns[count] = colNo;
+            values[count++] = value;
+            return this;
+        }
+
+        /**
+         * The build method sorts the items with two counting sorts, sums duplicates and returns the matrix in the given
+         * format. The builder can be used again afterwards.
+         *
+         * @param format storage format.
+         * @return sparse matrix.
+         */
+        public SparseMatrix build(SparseFormat format) {
+            boolean rowMajor = format == SparseFormat.CSR;
+            int[] major = rowMajor ? rows : columns, minor = rowMajor ? columns : rows;
+            int majors = rowMajor ? row : col, minors = rowMajor ? col : row;
+            int[] byMinor = countingSort(minor, minors, identity(count));
+            int[] order = countingSort(major, majors, byMinor);
+            int[] pointers = new int[majors + 1];
+            int[] resultIndices = new int[count];
+            double[] resultValues = new double[count];
+            int k = 0;
+            int position = 0;
+            for (int m = 0; m < majors; m++) {
+                while (position < count && major[order[position]] == m) {
+                    int index = minor[order[position]];
+                    double sum = 0.0;
+                    while (position < count && major[order[position]] == m && minor[order[position]] == index) {
+                        sum += values[order[position++]];
+                    }
+                    if (sum != 0.0) {
+                        resultIndices[k] = index;
+                        resultValues[k++] = sum;
+                    }
+                }
+                pointers[m + 1] = k;
+            }
+            return new SparseMatrix(row, col, format, pointers, Arrays.copyOf(resultIndices, k), Arrays.copyOf(resultValues, k));
+        }
+
+        /**
+         * Returns 0, 1, ..., length - 1.
+         */
+        private static int[] identity(int length) {
+            int[] result = new int[length];
+            for (int i = 0; i < length; i++) {
+                result[i] = i;
+            }
+            return result;
+        }
+
+        /**
+         * Stably sorts the item numbers in order by their keys, which are in [0, range).
+         */
+        private static int[] countingSort(int[] keys, int range, int[] order) {
+            int[] starts = new int[range + 1];
+            for (int item : order) {
+                starts[keys[item] + 1]++;
+            }
+            for (int i = 0; i < range; i++) {
+                starts[i + 1] += starts[i];
+            }
+            int[] result = new int[order.length];
+            for (int item : order) {
+                result[starts[keys[item]]++] = item;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The getRow method returns the number of rows.
+     *
+     * @return number of rows.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * The getColumn method returns the number of columns.
+     *
+     * @return number of columns.
+     */
+    public int getColumn() {
+        return col;
+    }
+
+    /**
+     * The getFormat method returns the storage format.
+     *
+     * @return storage format.
+     */
+    public SparseFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * The nonZeroCount method returns the number of stored items.
+     *
+     * @return number of stored items.
+     */
+    public int nonZeroCount() {
+        return values.length;
+    }
+
+    /**
+     * The getValue method returns the item at the given position, found by binary search in its major line.
+     *
+     * @param rowNo row of the item.
+     * @param colNo column of the item.
+     * @return the item at the given position.
+     */
+    public double getValue(int rowNo, int colNo) {
+        if (rowNo < 0 || rowNo >= row || colNo < 0 || colNo >= col) {
+            throw new IndexOutOfBoundsException("Position (" + rowNo + ", " + colNo + ") is outside " + row + " x " + col);
+        }
+        int major = format == SparseFormat.CSR ? rowNo : colNo;
+        int minor = format == SparseFormat.CSR ? colNo : rowNo;
+        int k = Arrays.binarySearch(indices, pointers[major], pointers[major + 1], minor);
+        return k >= 0 ? values[k] : 0.0;
+    }
+
+    /**
+     * Returns the number of major lines, rows for CSR and columns for CSC.
+     */
+    private int majors() {
+        return pointers.length - 1;
+    }
+
+    /**
+     * The toFormat method returns the matrix stored in the given format. Converting between CSR and CSC takes
+     * O(nonZeroCount + row + col) time.
+     *
+     * @param format storage format.
+     * @return the matrix in the given format, a copy if the format does not change.
+     */
+    public SparseMatrix toFormat(SparseFormat format) {
+        if (format == this.format) {
+            return new SparseMatrix(row, col, format, pointers.clone(), indices.clone(), values.clone());
+        }
+        int minors = format == SparseFormat.CSR ? row : col;
+        int[] resultPointers = new int[minors + 1];
+        for (int index : indices) {
+            resultPointers[index + 1]++;
+        }
+        for (int i = 0; i < minors; i++) {
+            resultPointers[i + 1] += resultPointers[i];
+        }
+        int[] next = Arrays.copyOf(resultPointers, minors);
+        int[] resultIndices = new int[values.length];
+        double[] resultValues = new double[values.length];
+        for (int major = 0; major < majors(); major++) {
+            for (int k = pointers[major]; k < pointers[major + 1]; k++) {
+                int target = next[indices[k]]++;
+                resultIndices[target] = major;
+                resultValues[target] = values[k];
+            }
+        }
+        return new SparseMatrix(row, col, format, resultPointers, resultIndices, resultValues);
+    }
+
+    /**
+     * The transpose method returns the transpose of the matrix in the other format, which has the same compressed
+     * arrays, so it takes O(nonZeroCount) time for copying them. Call {@link #toFormat(SparseFormat)} on the result to
+     * keep the format.
+     *
+     * @return transpose of the matrix.
+     */
+    public SparseMatrix transpose() {
+        SparseFormat other = format == SparseFormat.CSR ? SparseFormat.CSC : SparseFormat.CSR;
+        return new SparseMatrix(col, row, other, pointers.clone(), indices.clone(), values.clone());
+    }
+
+    /**
+     * The toMatrix method returns the matrix as a dense {@link Matrix}.
+     *
+     * @return dense matrix.
+     */
+    public Matrix toMatrix() {
+        double[] result = new double[row * col];
+        boolean rowMajor = format == SparseFormat.CSR;
+        for (int major = 0; major < majors(); major++) {
+            for (int k = pointers[major]; k < pointers[major + 1]; k++) {
+                result[rowMajor ? major * col + indices[k] : indices[k] * col + major] = values[k];
+            }
+        }
+        return new Matrix(row, col, result);
+    }
+
+    /**
+     * Runs body.accept(start, end) for consecutive ranges of major lines. If the work is large enough and a pool is set
+     * in {@link Parallelism}, the ranges are chosen to hold similar numbers of nonzero items and run on the pool.
+     */
+    private void forMajorChunks(long work, Parallelism.ChunkBody body) {
+        int majors = majors();
+        ForkJoinPool pool = Parallelism.poolFor(Parallelism.getPool(), work);
+        if (pool == null || majors < 2) {
+            body.accept(0, majors);
+            return;
+        }
+        int chunks = Math.min(Parallelism.taskCount(pool), majors);
+        int[] bounds = new int[chunks + 1];
+        for (int c = 1; c < chunks; c++) {
+            long target = (long) values.length * c / chunks;
+            int low = bounds[c - 1], high = majors;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (pointers[middle] < target) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            bounds[c] = low;
+        }
+        bounds[chunks] = majors;
+        Parallelism.forEach(pool, chunks, c -> body.accept(bounds[c], bounds[c + 1]));
+    }
+
+    /**
+     * Writes to y[major] the dot product of each major line with x.
+     */
+    private void gatherProduct(double[] x, double[] y) {
+        forMajorChunks(values.length, (start, end) -> {
+            for (int major = start; major < end; major++) {
+                double sum = 0.0;
+                for (int k = pointers[major]; k < pointers[major + 1]; k++) {
+                    sum += values[k] * x[indices[k]];
+                }
+                y[major] = sum;
+            }
+        });
+    }
+
+    /**
+     * Adds x[major] times each major line to y.
+     */
+    private void scatterProduct(double[] x, double[] y) {
+        for (int major = 0; major < majors(); major++) {
+            double factor = x[major];
+            if (factor != 0.0) {
+                for (int k = pointers[major]; k < pointers[major + 1]; k++) {
+                    y[indices[k]] += values[k] * factor;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes to each row major of the block y the rows of the block x weighted with the items of the major line, where
+     * both blocks are stored row by row with count columns.
+     */
+    private void gatherBlock(double[] x, double[] y, int count) {
+        forMajorChunks((long) values.length * count, (start, end) -> {
+            for (int major = start; major < end; major++) {
+                Arrays.fill(y, major * count, (major + 1) * count, 0.0);
+                for (int k = pointers[major]; k < pointers[major + 1]; k++) {
+                    VectorKernels.axpy(y, major * count, values[k], x, indices[k] * count, count);
+                }
+            }
+        });
+    }
+
+    /**
+     * The multiplyWithVectorFromRight method takes a {@link Vector} v as an input and returns A * v. For CSR matrices
+     * the rows are split across the pool set in {@link Parallelism}. If the size of v does not match the column number,
+     * it throws {@link MatrixColumnMismatch} exception.
+     *
+     * @param v Vector to multiply.
+     * @return Vector that holds the result.
+     * @throws MatrixColumnMismatch if the size of v does not match the column number.
+     */
+    public Vector multiplyWithVectorFromRight(Vector v) throws MatrixColumnMismatch {
+        if (v.size() != col) {
+            throw new MatrixColumnMismatch();
+        }
+        double[] x = v.toArray();
+        double[] result = new double[row];
+        if (format == SparseFormat.CSR) {
+            gatherProduct(x, result);
+        } else {
+            scatterProduct(x, result);
+        }
+        return Vector.wrap(result);
+    }
+
+    /**
+     * The multiplyWithVectorFromLeft method takes a {@link Vector} v as an input and returns v^T * A. For CSC matrices
+     * the columns are split across the pool set in {@link Parallelism}. If the size of v does not match the row number,
+     * it throws {@link MatrixRowMismatch} exception.
+     *
+     * @param v Vector to multiply.
+     * @return Vector that holds the result.
+     * @throws MatrixRowMismatch if the size of v does not match the row number.
+     */
+    public Vector multiplyWithVectorFromLeft(Vector v) throws MatrixRowMismatch {
+        if (v.size() != row) {
+            throw new MatrixRowMismatch();
+        }
+        double[] x = v.toArray();
+        double[] result = new double[col];
+        if (format == SparseFormat.CSC) {
+            gatherProduct(x, result);
+        } else {
+            scatterProduct(x, result);
+        }
+        return Vector.wrap(result);
+    }
+
+    /**
+     * The multiply method takes a dense {@link Matrix} B as an input and returns the dense product A * B. Each stored
+     * item a[i][k] adds a[i][k] times the row k of B to the row i of the result, so rows of B are read contiguously.
+     * For CSR matrices the rows of the result are split across the pool set in {@link Parallelism}. If the column
+     * number of A does not match the row number of B, it throws {@link MatrixRowColumnMismatch} exception.
+     *
+     * @param m dense matrix to multiply.
+     * @return dense product.
+     * @throws MatrixRowColumnMismatch if the column number of A does not match the row number of B.
+     */
+    public Matrix multiply(Matrix m) throws MatrixRowColumnMismatch {
+        if (col != m.getRow()) {
+            throw new MatrixRowColumnMismatch();
+        }
+        int width = m.getColumn();
+        double[] b = m.getData();
+        double[] result = new double[row * width];
+        if (format == SparseFormat.CSR) {
+            gatherBlock(b, result, width);
+        } else {
+            for (int j = 0; j < col; j++) {
+                for (int k = pointers[j]; k < pointers[j + 1]; k++) {
+                    VectorKernels.axpy(result, indices[k] * width, values[k], b, j * width, width);
+                }
+            }
+        }
+        return new Matrix(row, width, result);
+    }
+
+    /**
+     * The elementProduct method takes a {@link SparseMatrix} as an input and returns the element wise product, which
+     * stores only the positions stored in both matrices. The result has the format of this matrix. If the dimensions
+     * do not match, it throws {@link MatrixDimensionMismatch} exception.
+     *
+     * @param m sparse matrix to multiply.
+     * @return element wise product.
+     * @throws MatrixDimensionMismatch if the dimensions do not match.
+     */
+    public SparseMatrix elementProduct(SparseMatrix m) throws MatrixDimensionMismatch {
+        if (row != m.row || col != m.col) {
+            throw new MatrixDimensionMismatch();
+        }
+        SparseMatrix other = m.format == format ? m : m.toFormat(format);
+        int capacity = Math.min(values.length, other.values.length);
+        int[] resultPointers = new int[pointers.length];
+        int[] resultIndices = new int[capacity];
+        double[] resultValues = new double[capacity];
+        int count = 0;
+        for (int major = 0; major < majors(); major++) {
+            int k = pointers[major], l = other.pointers[major];
+            while (k < pointers[major + 1] && l < other.pointers[major + 1]) {
+                if (indices[k] < other.indices[l]) {
+                    k++;
+                } else if (indices[k] > other.indices[l]) {
+                    l++;
+                } else {
+                    double product = values[k++] * other.values[l++];
+                    if (product != 0.0) {
+                        resultIndices[count] = indices[k - 1];
+                        resultValues[count++] = product;
+                    }
+                }
+            }
+            resultPointers[major + 1] = count;
+        }
+        return new SparseMatrix(row, col, format, resultPointers, Arrays.copyOf(resultIndices, count),
+                Arrays.copyOf(resultValues, count));
+    }
+
+    /**
+     * The elementProduct method takes a dense {@link Matrix} as an input and returns the element wise product as a
+     * sparse matrix in the format of this matrix. If the dimensions do not match, it throws
+     * {@link MatrixDimensionMismatch} exception.
+     *
+     * @param m dense matrix to multiply.
+     * @return element wise product.
+     * @throws MatrixDimensionMismatch if the dimensions do not match.
+     */
+    public SparseMatrix elementProduct(Matrix m) throws MatrixDimensionMismatch {
+        if (row != m.getRow() || col != m.getColumn()) {
+            throw new MatrixDimensionMismatch();
+        }
+        double[] dense = m.getData();
+        boolean rowMajor = format == SparseFormat.CSR;
+        int[] resultPointers = new int[pointers.length];
+        int[] resultIndices = new int[values.length];
+        double[] resultValues = new double[values.length];
+        int count = 0;
+        for (int major = 0; major < majors(); major++) {
+            for (int k = pointers[major]; k < pointers[major + 1]; k++) {
+                double product = values[k] * dense[rowMajor ? major * col + indices[k] : indices[k] * col + major];
+                if (product != 0.0) {
+                    resultIndices[count] = indices[k];
+                    resultValues[count++] = product;
+                }
+            }
+            resultPointers[major + 1] = count;
+        }
+        return new SparseMatrix(row, col, format, resultPointers, Arrays.copyOf(resultIndices, count),
+                Arrays.copyOf(resultValues, count));
+    }
+
+    /**
+     * The multiplyWithConstant method multiplies each stored item with the given constant.
+     *
+     * @param constant value to multiply the items with.
+     */
+    public void multiplyWithConstant(double constant) {
+        VectorKernels.scale(values, 0, constant, values, 0, values.length);
+    }
+
+    /**
+     * Returns the sums of the major lines.
+     */
+    private double[] majorSums() {
+        double[] result = new double[majors()];
+        for (int major = 0; major < result.length; major++) {
+            result[major] = VectorKernels.sum(values, pointers[major], pointers[major + 1] - pointers[major]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the sums of the minor lines, columns for CSR and rows for CSC.
+     */
+    private double[] minorSums() {
+        double[] result = new double[format == SparseFormat.CSR ? col : row];
+        for (int k = 0; k < values.length; k++) {
+            result[indices[k]] += values[k];
+        }
+        return result;
+    }
+
+    /**
+     * The rowSum method returns the sum of the items at the given row.
+     *
+     * @param rowNo row number.
+     * @return sum of the row.
+     */
+    public double rowSum(int rowNo) {
+        if (format == SparseFormat.CSR) {
+            return VectorKernels.sum(values, pointers[rowNo], pointers[rowNo + 1] - pointers[rowNo]);
+        }
+        return lineSum(rowNo);
+    }
+
+    /**
+     * The columnSum method returns the sum of the items at the given column.
+     *
+     * @param columnNo column number.
+     * @return sum of the column.
+     */
+    public double columnSum(int columnNo) {
+        if (format == SparseFormat.CSC) {
+            return VectorKernels.sum(values, pointers[columnNo], pointers[columnNo + 1] - pointers[columnNo]);
+        }
+        return lineSum(columnNo);
+    }
+
+    /**
+     * Returns the sum of the items with the given minor index, found by binary search in each major line.
+     */
+    private double lineSum(int minor) {
+        double sum = 0.0;
+        for (int major = 0; major < majors(); major++) {
+            int k = Arrays.binarySearch(indices, pointers[major], pointers[major + 1], minor);
+            if (k >= 0) {
+                sum += values[k];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * The sumOfRows method returns the sum of the rows, i.e. the {@link Vector} of column sums, as
+     * {@link Matrix#sumOfRows()} does.
+     *
+     * @return Vector of column sums.
+     */
+    public Vector sumOfRows() {
+        return Vector.wrap(format == SparseFormat.CSC ? majorSums() : minorSums());
+    }
+
+    /**
+     * The sumOfColumns method returns the sum of the columns, i.e. the {@link Vector} of row sums.
+     *
+     * @return Vector of row sums.
+     */
+    public Vector sumOfColumns() {
+        return Vector.wrap(format == SparseFormat.CSR ? majorSums() : minorSums());
+    }
+
+    /**
+     * The sumOfElements method returns the sum of all items.
+     *
+     * @return sum of the items.
+     */
+    public double sumOfElements() {
+        return VectorKernels.sum(values, 0, values.length);
+    }
+
+    /**
+     * The columnWiseNormalize method divides each item by the sum of its row, as {@link Matrix#columnWiseNormalize()}
+     * does, so that each row sums to one.
+     */
+    public void columnWiseNormalize() {
+        if (format == SparseFormat.CSR) {
+            for (int i = 0; i < row; i++) {
+                double sum = VectorKernels.sum(values, pointers[i], pointers[i + 1] - pointers[i]);
+                VectorKernels.scale(values, pointers[i], 1.0 / sum, values, pointers[i], pointers[i + 1] - pointers[i]);
+            }
+        } else {
+            double[] sums = minorSums();
+            for (int k = 0; k < values.length; k++) {
+                values[k] /= sums[indices[k]];
+            }
+        }
+    }
+
+    /**
+     * The asOperator method returns the square matrix as a {@link LinearOperator}, so that iterative solvers such as
+     * {@link SubspaceIteration} can run on it.
+     *
+     * @return the matrix as a linear operator.
+     * @throws MatrixNotSquare if row and column sizes do not match.
+     */
+    public LinearOperator asOperator() throws MatrixNotSquare {
+        if (row != col) {
+            throw new MatrixNotSquare();
+        }
+        return new LinearOperator() {
+            @Override
+            public int size() {
+                return row;
+            }
+
+            @Override
+            public void multiply(double[] x, int xOffset, double[] y, int yOffset) {
+                double[] input = Arrays.copyOfRange(x, xOffset, xOffset + row);
+                double[] output = new double[row];
+                if (format == SparseFormat.CSR) {
+                    gatherProduct(input, output);
+                } else {
+                    scatterProduct(input, output);
+                }
+                System.arraycopy(output, 0, y, yOffset, row);
+            }
+        };
+    }
+
+    /**
+     * The asRectangularOperator method returns the matrix as a {@link RectangularOperator}, so that randomized methods
+     * such as {@link SingularValueDecomposition#randomized(RectangularOperator, int)} can run on it without a dense
+     * copy. The operator keeps a copy of the matrix in the other format, so that both products sum rows of the input
+     * block weighted by a major line and are split across the pool set in {@link Parallelism}. The matrix must not be
+     * changed while the operator is in use.
+     *
+     * @return the matrix as a rectangular operator.
+     */
+    public RectangularOperator asRectangularOperator() {
+        SparseMatrix rows = format == SparseFormat.CSR ? this : toFormat(SparseFormat.CSR);
+        SparseMatrix columns = format == SparseFormat.CSC ? this : toFormat(SparseFormat.CSC);
+        return new RectangularOperator() {
+            @Override
+            public int getRow() {
+                return row;
+            }
+
+            @Override
+            public int getColumn() {
+                return col;
+            }
+
+            @Override
+            public void multiply(double[] x, double[] y, int count) {
+                rows.gatherBlock(x, y, count);
+            }
+
+            @Override
+            public void multiplyTranspose(double[] x, double[] y, int count) {
+                columns.gatherBlock(x, y, count);
+            }
+        };
+    }
+
+}
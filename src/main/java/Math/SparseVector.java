@@ -0,0 +1,418 @@
+package Math;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+public class SparseVector implements NumericVector, Serializable {
+
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private final int size;
+    private int nonZeroCount;
+    private int[] indices;
+    private double[] values;
+
+    /**
+     * A constructor of {@link SparseVector} class which takes the dimension of the vector as an input and creates an
+     * all zero vector.
+     *
+     * @param size dimension of the vector.
+     */
+    public SparseVector(int size) {
+        this.size = size;
+        indices = new int[DEFAULT_CAPACITY];
+        values = new double[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Another constructor of {@link SparseVector} class which takes integer size, integer index and double x as inputs
+     * and creates a vector whose only nonzero item is x at the given index. This is the sparse counterpart of
+     * {@link Vector#Vector(int, int, double)}.
+     *
+     * @param size  dimension of the vector.
+     * @param index index of the nonzero item.
+     * @param x     value of the nonzero item.
+     */
+    public SparseVector(int size, int index, double x) {
+        this(size);
+        setValue(index, x);
+    }
+
+    /**
+     * Another constructor of {@link SparseVector} class which takes the dimension of the vector and parallel index and
+     * value {@link java.lang.reflect.Array}s as inputs. Indices need not be sorted, but must be distinct. Zero values
+     * are not stored. The items are sorted as primitive keys holding the index in the high and the position in the low
+     * 32 bits, so nothing is boxed.
+     *
+     * @param size    dimension of the vector.
+     * @param indices indices of the items.
+     * @param values  values of the items.
+     */
+    public SparseVector(int size, int[] indices, double[] values) {
+        if (indices.length != values.length) {
+            throw new IllegalArgumentException("Indices and values must have the same length.");
+        }
+        this.size = size;
+        this.indices = new int[Math.max(indices.length, DEFAULT_CAPACITY)];
+        this.values = new double[this.indices.length];
+        long[] keys = new long[indices.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ((long) indices[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        int previous = -1;
+        for (long key : keys) {
+            int index = (int) (key >> 32);
+            int position = (int) key;
+            checkIndex(index);
+            if (index == previous) {
+                throw new IllegalArgumentException("Duplicate index " + index + ".");
+            }
+            previous = index;
+            if (values[position] != 0.0) {
+                this.indices[nonZeroCount] = index;
+                this.values[nonZeroCount] = values[position];
+                nonZeroCount++;
+            }
+        }
+    }
+
+    /**
+     * Another constructor of {@link SparseVector} class which takes a dense {@link NumericVector} as an input and
+     * stores its nonzero items.
+     *
+     * @param vector vector to convert.
+     */
+    public SparseVector(NumericVector vector) {
+        this(vector.size());
+        for (int i = 0; i < size; i++) {
+            double value = vector.getValue(i);
+            if (value != 0.0) {
+                ensureCapacity(nonZeroCount + 1);
+                indices[nonZeroCount] = i;
+                values[nonZeroCount] = value;
+                nonZeroCount++;
+            }
+        }
+    }
+
+    /**
+     * The checkIndex method throws an {@link IndexOutOfBoundsException} if the given index is not in the range [0, size).
+     *
+     * @param index index to check.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * The ensureCapacity method grows the indices and values {@link java.lang.reflect.Array}s so that they can hold at
+     * least the given number of nonzero items.
+     *
+     * @param minCapacity minimum number of nonzero items.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > indices.length) {
+            int newCapacity = Math.max(indices.length + (indices.length >> 1), minCapacity);
+            indices = Arrays.copyOf(indices, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+    }
+
+    /**
+     * The position method searches the given index among the stored indices.
+     *
+     * @param index index to search.
+     * @return position of the index if it is stored, (-(insertion point) - 1) otherwise.
+     */
+    private int position(int index) {
+        return Arrays.binarySearch(indices, 0, nonZeroCount, index);
+    }
+
+    /**
+     * The size method returns the dimension of the vector.
+     *
+     * @return dimension of the vector.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The nonZeroCount method returns the number of stored nonzero items.
+     *
+     * @return number of nonzero items.
+     */
+    public int nonZeroCount() {
+        return nonZeroCount;
+    }
+
+    /**
+     * The getIndex method returns the index of the k'th stored item. Stored items are sorted by their indices.
+     *
+     * @param k position among the stored items.
+     * @return index of the k'th stored item.
+     */
+    public int getIndex(int k) {
+        return indices[k];
+    }
+
+    /**
+     * The getNonZeroValue method returns the value of the k'th stored item.
+     *
+     * @param k position among the stored items.
+     * @return value of the k'th stored item.
+     */
+    public double getNonZeroValue(int k) {
+        return values[k];
+    }
+
+    /**
+     * Getter for the item at given index. The stored indices are searched with binary search.
+     *
+     * @param index used to get an item.
+     * @return the item at given index, 0.0 if it is not stored.
+     */
+    public double getValue(int index) {
+        checkIndex(index);
+        int position = position(index);
+        return position >= 0 ? values[position] : 0.0;
+    }
+
+    /**
+     * Setter for the item at given index. Setting an item to 0.0 removes it from the stored items.
+     *
+     * @param index to set.
+     * @param value is used to set the given index
+     */
+    public void setValue(int index, double value) {
+        checkIndex(index);
+        int position = position(index);
+        if (position >= 0) {
+            if (value != 0.0) {
+                values[position] = value;
+            } else {
+                System.arraycopy(indices, position + 1, indices, position, nonZeroCount - position - 1);
+                System.arraycopy(values, position + 1, values, position, nonZeroCount - position - 1);
+                nonZeroCount--;
+            }
+        } else if (value != 0.0) {
+            position = -position - 1;
+            ensureCapacity(nonZeroCount + 1);
+            System.arraycopy(indices, position, indices, position + 1, nonZeroCount - position);
+            System.arraycopy(values, position, values, position + 1, nonZeroCount - position);
+            indices[position] = index;
+            values[position] = value;
+            nonZeroCount++;
+        }
+    }
+
+    /**
+     * The addValue method adds the given value to the item at given index.
+     *
+     * @param index to add the given value.
+     * @param value value to add to given index.
+     */
+    public void addValue(int index, double value) {
+        setValue(index, getValue(index) + value);
+    }
+
+    /**
+     * The sumOfElements method sums up the stored items.
+     *
+     * @return Sum of all elements in the vector.
+     */
+    public double sumOfElements() {
+        return VectorKernels.sum(values, 0, nonZeroCount);
+    }
+
+    /**
+     * The dotProduct method returns the sum of squares of the stored items.
+     *
+     * @return sum of squares of the items.
+     */
+    public double dotProduct() {
+        return VectorKernels.sumOfSquares(values, 0, nonZeroCount);
+    }
+
+    /**
+     * The dotProduct method takes a {@link SparseVector} v as an input and merges the sorted indices of both vectors,
+     * multiplying the items stored in both. The cost is proportional to the number of stored items.
+     *
+     * @param v Vector to find dot product.
+     * @return double result.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    public double dotProduct(SparseVector v) throws VectorSizeMismatch {
+        if (size != v.size) {
+            throw new VectorSizeMismatch();
+        }
+        double result = 0;
+        int i = 0, j = 0;
+        while (i < nonZeroCount && j < v.nonZeroCount) {
+            if (indices[i] == v.indices[j]) {
+                result += values[i] * v.values[j];
+                i++;
+                j++;
+            } else {
+                if (indices[i] < v.indices[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The dotProduct method takes a dense {@link Vector} v as an input and multiplies the stored items with the
+     * corresponding items of v.
+     *
+     * @param v Vector to find dot product.
+     * @return double result.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    public double dotProduct(Vector v) throws VectorSizeMismatch {
+        return v.dotProduct(this);
+    }
+
+    /**
+     * The dotProduct method takes a {@link NumericVector} v as an input and dispatches to the sparse or dense dot
+     * product.
+     *
+     * @param v Vector to find dot product.
+     * @return double result.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    public double dotProduct(NumericVector v) throws VectorSizeMismatch {
+        if (v instanceof SparseVector) {
+            return dotProduct((SparseVector) v);
+        }
+        if (v instanceof Vector) {
+            return ((Vector) v).dotProduct(this);
+        }
+        if (size != v.size()) {
+            throw new VectorSizeMismatch();
+        }
+        double result = 0;
+        for (int i = 0; i < nonZeroCount; i++) {
+            result += values[i] * v.getValue(indices[i]);
+        }
+        return result;
+    }
+
+    /**
+     * The l2Norm method returns the square root of the sum of squares of the stored items.
+     *
+     * @return square root of this summation.
+     */
+    public double l2Norm() {
+        return Math.sqrt(dotProduct());
+    }
+
+    /**
+     * The cosineSimilarity method takes a {@link NumericVector} v as an input and returns the result of
+     * dotProduct(v) / l2Norm() / v.l2Norm().
+     *
+     * @param v Vector input.
+     * @return dotProduct(v) / l2Norm() / v.l2Norm().
+     * @throws VectorSizeMismatch exception.
+     */
+    public double cosineSimilarity(NumericVector v) throws VectorSizeMismatch {
+        return dotProduct(v) / l2Norm() / v.l2Norm();
+    }
+
+    /**
+     * The add method takes a {@link SparseVector} v as an input and adds it to this vector by merging the sorted
+     * indices of both vectors. Items which become zero are removed.
+     *
+     * @param v Vector to add.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    public void add(SparseVector v) throws VectorSizeMismatch {
+        if (size != v.size) {
+            throw new VectorSizeMismatch();
+        }
+        int capacity = Math.max(nonZeroCount + v.nonZeroCount, DEFAULT_CAPACITY);
+        int[] newIndices = new int[capacity];
+        double[] newValues = new double[capacity];
+        int i = 0, j = 0, k = 0;
+        while (i < nonZeroCount || j < v.nonZeroCount) {
+            int index;
+            double value;
+            if (j == v.nonZeroCount || (i < nonZeroCount && indices[i] < v.indices[j])) {
+                index = indices[i];
+                value = values[i++];
+            } else {
+                if (i == nonZeroCount || v.indices[j] < indices[i]) {
+                    index = v.indices[j];
+                    value = v.values[j++];
+                } else {
+                    index = indices[i];
+                    value = values[i++] + v.values[j++];
+                }
+            }
+            if (value != 0.0) {
+                newIndices[k] = index;
+                newValues[k] = value;
+                k++;
+            }
+        }
+        indices = newIndices;
+        values = newValues;
+        nonZeroCount = k;
+    }
+
+    /**
+     * The multiply method multiplies each stored item with the given value.
+     *
+     * @param value is used to multiply the items.
+     */
+    public void multiply(double value) {
+        VectorKernels.scale(values, 0, value, values, 0, nonZeroCount);
+    }
+
+    /**
+     * The divide method divides each stored item with the given value.
+     *
+     * @param value is used to divide the items.
+     */
+    public void divide(double value) {
+        for (int i = 0; i < nonZeroCount; i++) {
+            values[i] /= value;
+        }
+    }
+
+    /**
+     * The l1Normalize method accumulates the stored items and divides each stored item by the summation value.
+     */
+    public void l1Normalize() {
+        divide(sumOfElements());
+    }
+
+    /**
+     * The toArray method returns a new dense double {@link java.lang.reflect.Array} containing the items of the vector.
+     *
+     * @return dense copy of the vector.
+     */
+    public double[] toArray() {
+        double[] result = new double[size];
+        for (int i = 0; i < nonZeroCount; i++) {
+            result[indices[i]] = values[i];
+        }
+        return result;
+    }
+
+    /**
+     * The toVector method returns a dense {@link Vector} with the same items.
+     *
+     * @return dense copy of the vector.
+     */
+    public Vector toVector() {
+        return Vector.wrap(toArray());
+    }
+
+}
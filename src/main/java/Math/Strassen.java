@@ -0,0 +1,179 @@
+package Math;
+
+/**
+ * Strassen-Winograd multiplication of row-major double {@link java.lang.reflect.Array}s. Each level splits the operands
+ * into quadrants and computes the product with 7 half size products and 15 additions. The recursion stops when the
+ * smallest dimension is not above {@link #CUTOFF}, and the half size products are then computed with {@link Gemm}.
+ * Dimensions are padded with zeros up to a multiple of 2^levels once at the top, so that every level splits evenly.
+ */
+final class Strassen {
+
+    static final int CUTOFF = 256;
+
+    private Strassen() {
+    }
+
+    /**
+     * The levels method returns the number of recursion levels used for an m x k by k x n product.
+     *
+     * @param m number of rows of the left operand.
+     * @param k inner dimension.
+     * @param n number of columns of the right operand.
+     * @return number of recursion levels.
+     */
+    static int levels(int m, int k, int n) {
+        int smallest = Math.min(m, Math.min(k, n));
+        int levels = 0;
+        while ((smallest >> levels) > CUTOFF) {
+            levels++;
+        }
+        return levels;
+    }
+
+    /**
+     * The errorBoundFactor method returns the first order bound on max |C - fl(C)| of the Strassen-Winograd product of
+     * n x n matrices with leaf size n0, relative to u max |A| max |B|, where u is the unit roundoff. For a product
+     * without recursion, i.e. n = n0, it reduces to the bound n^2 of the classical product.
+     *
+     * @param n  padded dimension.
+     * @param n0 dimension of the leaf products.
+     * @return bound factor.
+     */
+    static double errorBoundFactor(double n, double n0) {
+        double exponent = Math.log(18) / Math.log(2);
+        return Math.pow(n / n0, exponent) * (n0 * n0 + 6 * n0) - 6 * n;
+    }
+
+    /**
+     * The multiply method computes C = A * B, where A is m x k and B is k x n, all three stored row by row without
+     * gaps.
+     *
+     * @param a left operand.
+     * @param b right operand.
+     * @param m number of rows of A.
+     * @param k inner dimension.
+     * @param n number of columns of B.
+     * @return the m x n product.
+     */
+    static double[] multiply(double[] a, double[] b, int m, int k, int n) {
+        int levels = levels(m, k, n);
+        int step = 1 << levels;
+        int pm = roundUp(m, step), pk = roundUp(k, step), pn = roundUp(n, step);
+        double[] pa = pad(a, m, k, pm, pk);
+        double[] pb = pad(b, k, n, pk, pn);
+        double[] pc = recurse(pa, pb, pm, pk, pn, levels);
+        return pm == m && pn == n ? pc : crop(pc, pm, pn, m, n);
+    }
+
+    /**
+     * Rounds the value up to a multiple of the given step.
+     */
+    private static int roundUp(int value, int step) {
+        return (value + step - 1) / step * step;
+    }
+
+    /**
+     * Copies a rows x columns matrix into the top left corner of a zero paddedRows x paddedColumns matrix.
+     */
+    private static double[] pad(double[] x, int rows, int columns, int paddedRows, int paddedColumns) {
+        if (rows == paddedRows && columns == paddedColumns) {
+            return x;
+        }
+        double[] result = new double[paddedRows * paddedColumns];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(x, i * columns, result, i * paddedColumns, columns);
+        }
+        return result;
+    }
+
+    /**
+     * Copies the top left rows x columns corner of a paddedRows x paddedColumns matrix.
+     */
+    private static double[] crop(double[] x, int paddedRows, int paddedColumns, int rows, int columns) {
+        double[] result = new double[rows * columns];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(x, i * paddedColumns, result, i * columns, columns);
+        }
+        return result;
+    }
+
+    /**
+     * Copies the quadrant of a rows x columns matrix whose top left item is at (rowStart, columnStart).
+     */
+    private static double[] quadrant(double[] x, int columns, int rowStart, int columnStart, int rows, int quadrantColumns) {
+        double[] result = new double[rows * quadrantColumns];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(x, (rowStart + i) * columns + columnStart, result, i * quadrantColumns, quadrantColumns);
+        }
+        return result;
+    }
+
+    /**
+     * Returns x + y.
+     */
+    private static double[] sum(double[] x, double[] y) {
+        double[] result = x.clone();
+        VectorKernels.add(result, 0, y, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Returns x - y.
+     */
+    private static double[] difference(double[] x, double[] y) {
+        double[] result = new double[x.length];
+        VectorKernels.difference(x, 0, y, 0, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Copies a quadrant into its place in a rows x columns matrix.
+     */
+    private static void place(double[] quadrant, double[] x, int columns, int rowStart, int columnStart, int rows, int quadrantColumns) {
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(quadrant, i * quadrantColumns, x, (rowStart + i) * columns + columnStart, quadrantColumns);
+        }
+    }
+
+    /**
+     * One level of the Strassen-Winograd recursion on an m x k by k x n product whose dimensions are divisible by
+     * 2^levels.
+     */
+    private static double[] recurse(double[] a, double[] b, int m, int k, int n, int levels) {
+        double[] c = new double[m * n];
+        if (levels == 0) {
+            Gemm.multiply(Parallelism.getPool(), a, 0, k, 1, b, 0, n, 1, c, 0, n, m, n, k);
+            return c;
+        }
+        int hm = m / 2, hk = k / 2, hn = n / 2;
+        double[] a11 = quadrant(a, k, 0, 0, hm, hk), a12 = quadrant(a, k, 0, hk, hm, hk);
+        double[] a21 = quadrant(a, k, hm, 0, hm, hk), a22 = quadrant(a, k, hm, hk, hm, hk);
+        double[] b11 = quadrant(b, n, 0, 0, hk, hn), b12 = quadrant(b, n, 0, hn, hk, hn);
+        double[] b21 = quadrant(b, n, hk, 0, hk, hn), b22 = quadrant(b, n, hk, hn, hk, hn);
+        double[] s1 = sum(a21, a22);
+        double[] s2 = difference(s1, a11);
+        double[] s3 = difference(a11, a21);
+        double[] s4 = difference(a12, s2);
+        double[] t1 = difference(b12, b11);
+        double[] t2 = difference(b22, t1);
+        double[] t3 = difference(b22, b12);
+        double[] t4 = difference(t2, b21);
+        int next = levels - 1;
+        double[] p1 = recurse(a11, b11, hm, hk, hn, next);
+        double[] p2 = recurse(a12, b21, hm, hk, hn, next);
+        double[] p3 = recurse(s4, b22, hm, hk, hn, next);
+        double[] p4 = recurse(a22, t4, hm, hk, hn, next);
+        double[] p5 = recurse(s1, t1, hm, hk, hn, next);
+        double[] p6 = recurse(s2, t2, hm, hk, hn, next);
+        double[] p7 = recurse(s3, t3, hm, hk, hn, next);
+        double[] u2 = sum(p1, p6);
+        double[] u3 = sum(u2, p7);
+        double[] u4 = sum(u2, p5);
+        place(sum(p1, p2), c, n, 0, 0, hm, hn);
+        place(sum(u4, p3), c, n, 0, hn, hm, hn);
+        place(difference(u3, p4), c, n, hm, 0, hm, hn);
+        place(sum(u3, p5), c, n, hm, hn, hm, hn);
+        return c;
+    }
+
+}
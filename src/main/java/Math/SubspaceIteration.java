@@ -0,0 +1,185 @@
+package Math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+public class SubspaceIteration {
+    /**
+     * Finds the k eigenpairs with the largest signed (algebraic) eigenvalues of a symmetric {@link LinearOperator} with
+     * randomized block subspace iteration. A random block of k + oversampling orthonormal vectors is multiplied by the
+     * operator, reorthonormalized, and multiplied again until the Ritz pairs of the block, found by a small dense
+     * {@link SymmetricEigenDecomposition}, have residuals ||A * x - lambda * x|| below the tolerance times the largest
+     * absolute Ritz value. Plain subspace iteration converges to the eigenvalues of largest magnitude, so the block is
+     * advanced with A + sigma * I, where sigma is the negated smallest Ritz value seen so far; this moves the spectrum
+     * of an indefinite operator to the nonnegative half line, where the largest eigenvalues are also the dominant
+     * ones. For positive semi definite operators such as covariance matrices sigma stays zero. The operator is accessed
+     * only through block products, so each iteration costs one product with k + oversampling vectors and O(n * p^2)
+     * further work, where p is the block size.
+     */
+
+    public static final double DEFAULT_TOLERANCE = 1e-8;
+
+    public static final int DEFAULT_MAX_ITERATIONS = 500;
+
+    private static final int MIN_OVERSAMPLING = 10;
+
+    /**
+     * The topEigenpairs method returns the k eigenpairs with the largest signed eigenvalues of the given symmetric
+     * operator, so large negative eigenvalues are never selected over smaller positive ones, with the default tolerance
+     * and iteration cap.
+     *
+     * @param operator symmetric operator.
+     * @param k        number of eigenpairs.
+     * @return k eigenpairs sorted from the largest eigenvalue to the smallest.
+     */
+    public static ArrayList<Eigenvector> topEigenpairs(LinearOperator operator, int k) {
+        return topEigenpairs(operator, k, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS, new Random(1));
+    }
+
+    /**
+     * The topEigenpairs method returns the k eigenpairs with the largest signed eigenvalues of the given symmetric
+     * operator, so large negative eigenvalues are never selected over smaller positive ones. Iteration stops when the
+     * residual of each of the k Ritz pairs is below tolerance times the largest absolute Ritz value, or after
+     * maxIterations iterations, in which case the current Ritz pairs are returned.
+     *
+     * @param operator      symmetric operator.
+     * @param k             number of eigenpairs.
+     * @param tolerance     relative residual tolerance.
+     * @param maxIterations maximum number of iterations.
+     * @param random        random number generator for the starting block.
+     * @return k eigenpairs sorted from the largest eigenvalue to the smallest.
+     */
+    public static ArrayList<Eigenvector> topEigenpairs(LinearOperator operator, int k, double tolerance,
+                                                       int maxIterations, Random random) {
+        int n = operator.size();
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("Number of eigenpairs must be between 0 and " + n + ": " + k);
+        }
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("Iteration cap must be positive: " + maxIterations);
+        }
+        ArrayList<Eigenvector> result = new ArrayList<>(k);
+        if (k == 0) {
+            return result;
+        }
+        int p = Math.min(n, Math.max(2 * k, k + MIN_OVERSAMPLING));
+        double[] x = new double[p * n];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = random.nextGaussian();
+        }
+        orthonormalize(x, p, n, random);
+        double[] y = new double[p * n];
+        double[] ritzValues = new double[p];
+        double[] ritzVectors = new double[p * n];
+        double[] ritzProducts = new double[p * n];
+        double[] projection = new double[p * p];
+        int[] selected = new int[k];
+        double shift = 0.0;
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            operator.multiply(x, y, p);
+            rayleighRitz(x, y, p, n, projection, ritzValues, ritzVectors, ritzProducts);
+            System.arraycopy(Selection.topK(ritzValues, 0, p, k).getIndices(), 0, selected, 0, k);
+            double scale = 0.0;
+            for (int i = 0; i < p; i++) {
+                scale = Math.max(scale, Math.abs(ritzValues[i]));
+                shift = Math.max(shift, -ritzValues[i]);
+            }
+            if (converged(ritzValues, ritzVectors, ritzProducts, selected, n, tolerance * scale)) {
+                break;
+            }
+            System.arraycopy(ritzProducts, 0, x, 0, p * n);
+            if (shift > 0.0) {
+                VectorKernels.axpy(x, 0, shift, ritzVectors, 0, p * n);
+            }
+            orthonormalize(x, p, n, random);
+        }
+        double[] values = new double[k];
+        for (int i = 0; i < k; i++) {
+            values[i] = ritzValues[selected[i]];
+        }
+        int[] ascending = Selection.argsort(values, 0, k);
+        for (int i = k - 1; i >= 0; i--) {
+            int index = selected[ascending[i]];
+            double[] vector = new double[n];
+            System.arraycopy(ritzVectors, index * n, vector, 0, n);
+            result.add(new Eigenvector(ritzValues[index], vector));
+        }
+        return result;
+    }
+
+    /**
+     * Projects the operator onto the span of the rows of x, H = X * (A * X)^T, and rotates the rows of x and y = A * x
+     * onto the eigenvectors of H. The Ritz vectors are written to ritzVectors and their products with the operator to
+     * ritzProducts.
+     */
+    private static void rayleighRitz(double[] x, double[] y, int p, int n, double[] projection, double[] ritzValues,
+                                     double[] ritzVectors, double[] ritzProducts) {
+        Arrays.fill(projection, 0.0);
+        Gemm.multiply(Parallelism.getPool(), x, 0, n, 1, y, 0, 1, n, projection, 0, p, p, p, n);
+        for (int i = 0; i < p; i++) {
+            for (int j = 0; j < i; j++) {
+                double average = 0.5 * (projection[i * p + j] + projection[j * p + i]);
+                projection[i * p + j] = average;
+                projection[j * p + i] = average;
+            }
+        }
+        SymmetricEigenDecomposition decomposition;
+        try {
+            decomposition = new SymmetricEigenDecomposition(new Matrix(p, p, projection.clone()));
+        } catch (MatrixNotSquare | MatrixNotSymmetric e) {
+            throw new IllegalStateException(e);
+        }
+        double[] rotation = decomposition.getEigenvectors().getData();
+        for (int i = 0; i < p; i++) {
+            ritzValues[i] = decomposition.getEigenvalue(i);
+        }
+        Arrays.fill(ritzVectors, 0.0);
+        Arrays.fill(ritzProducts, 0.0);
+        Gemm.multiply(Parallelism.getPool(), rotation, 0, 1, p, x, 0, n, 1, ritzVectors, 0, n, p, n, p);
+        Gemm.multiply(Parallelism.getPool(), rotation, 0, 1, p, y, 0, n, 1, ritzProducts, 0, n, p, n, p);
+    }
+
+    /**
+     * Returns true if the residual of every selected Ritz pair is at most the given absolute threshold.
+     */
+    private static boolean converged(double[] ritzValues, double[] ritzVectors, double[] ritzProducts, int[] selected,
+                                     int n, double threshold) {
+        double[] residual = new double[n];
+        for (int index : selected) {
+            VectorKernels.scale(ritzVectors, index * n, -ritzValues[index], residual, 0, n);
+            VectorKernels.add(residual, 0, ritzProducts, index * n, n);
+            if (Math.sqrt(VectorKernels.sumOfSquares(residual, 0, n)) > threshold) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Orthonormalizes the count rows of x with modified Gram-Schmidt, applied twice for numerical orthogonality. A
+     * row that is linearly dependent on the previous ones is replaced with a random vector.
+     */
+    static void orthonormalize(double[] x, int count, int n, Random random) {
+        for (int i = 0; i < count; i++) {
+            int row = i * n;
+            double original = Math.sqrt(VectorKernels.sumOfSquares(x, row, n));
+            for (int pass = 0; pass < 2; pass++) {
+                for (int j = 0; j < i; j++) {
+                    double dot = VectorKernels.dot(x, row, x, j * n, n);
+                    VectorKernels.axpy(x, row, -dot, x, j * n, n);
+                }
+            }
+            double norm = Math.sqrt(VectorKernels.sumOfSquares(x, row, n));
+            if (norm <= 1e-10 * original || norm == 0.0) {
+                for (int t = 0; t < n; t++) {
+                    x[row + t] = random.nextGaussian();
+                }
+                i--;
+                continue;
+            }
+            VectorKernels.scale(x, row, 1.0 / norm, x, row, n);
+        }
+    }
+
+}
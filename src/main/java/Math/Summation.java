@@ -0,0 +1,183 @@
+package Math;
+
+/**
+ * Reductions over slices of double {@link java.lang.reflect.Array}s with selectable {@link SummationMode}. The pairwise
+ * mode sums blocks of {@link #BLOCK_SIZE} items with four independent accumulators and combines the block sums
+ * recursively; the Kahan mode keeps four compensated accumulators, so that neither mode serializes on a single
+ * floating point addition chain.
+ */
+final class Summation {
+
+    static final int BLOCK_SIZE = 128;
+
+    private Summation() {
+    }
+
+    /**
+     * The sum method accumulates the items of a strided slice with the given mode.
+     *
+     * @param a      array.
+     * @param offset index of the first item.
+     * @param stride distance between consecutive items.
+     * @param length number of items.
+     * @param mode   accumulation strategy.
+     * @return sum of the items.
+     */
+    static double sum(double[] a, int offset, int stride, int length, SummationMode mode) {
+        switch (mode) {
+            case PAIRWISE:
+                return pairwise(a, null, offset, 0, stride, length, false);
+            case KAHAN:
+                return kahan(a, null, offset, 0, stride, length, false);
+            default:
+                if (stride == 1) {
+                    return VectorKernels.sum(a, offset, length);
+                }
+                double result = 0;
+                for (int i = 0; i < length; i++) {
+                    result += a[offset + i * stride];
+                }
+                return result;
+        }
+    }
+
+    /**
+     * The sum method accumulates the items of a contiguous slice with the given mode.
+     *
+     * @param a      array.
+     * @param offset index of the first item.
+     * @param length number of items.
+     * @param mode   accumulation strategy.
+     * @return sum of the items.
+     */
+    static double sum(double[] a, int offset, int length, SummationMode mode) {
+        return sum(a, offset, 1, length, mode);
+    }
+
+    /**
+     * The dot method accumulates the products of the corresponding items of two contiguous slices with the given mode.
+     *
+     * @param a       first array.
+     * @param aOffset index of the first item in the first array.
+     * @param b       second array.
+     * @param bOffset index of the first item in the second array.
+     * @param length  number of items.
+     * @param mode    accumulation strategy.
+     * @return dot product of the slices.
+     */
+    static double dot(double[] a, int aOffset, double[] b, int bOffset, int length, SummationMode mode) {
+        switch (mode) {
+            case PAIRWISE:
+                return pairwise(a, b, aOffset, bOffset, 1, length, true);
+            case KAHAN:
+                return kahan(a, b, aOffset, bOffset, 1, length, true);
+            default:
+                return VectorKernels.dot(a, aOffset, b, bOffset, length);
+        }
+    }
+
+    /**
+     * The sumOfSquares method accumulates the squares of the items of a contiguous slice with the given mode.
+     *
+     * @param a      array.
+     * @param offset index of the first item.
+     * @param length number of items.
+     * @param mode   accumulation strategy.
+     * @return sum of the squares of the items.
+     */
+    static double sumOfSquares(double[] a, int offset, int length, SummationMode mode) {
+        if (mode == SummationMode.NAIVE) {
+            return VectorKernels.sumOfSquares(a, offset, length);
+        }
+        return dot(a, offset, a, offset, length, mode);
+    }
+
+    /**
+     * The item method returns the i'th term of the reduction, which is either an item of the first array or the
+     * product of the corresponding items of both arrays.
+     */
+    private static double item(double[] a, double[] b, int aOffset, int bOffset, int stride, int i, boolean product) {
+        if (product) {
+            return a[aOffset + i] * b[bOffset + i];
+        }
+        return a[aOffset + i * stride];
+    }
+
+    /**
+     * The pairwise method sums a block of at most {@link #BLOCK_SIZE} terms with four interleaved accumulators, and
+     * splits longer ranges into two halves which are summed recursively.
+     */
+    private static double pairwise(double[] a, double[] b, int aOffset, int bOffset, int stride, int length, boolean product) {
+        if (length <= BLOCK_SIZE) {
+            double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+            int i = 0;
+            for (; i + 3 < length; i += 4) {
+                s0 += item(a, b, aOffset, bOffset, stride, i, product);
+                s1 += item(a, b, aOffset, bOffset, stride, i + 1, product);
+                s2 += item(a, b, aOffset, bOffset, stride, i + 2, product);
+                s3 += item(a, b, aOffset, bOffset, stride, i + 3, product);
+            }
+            for (; i < length; i++) {
+                s0 += item(a, b, aOffset, bOffset, stride, i, product);
+            }
+            return (s0 + s1) + (s2 + s3);
+        }
+        int half = (length / 2 + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+        return pairwise(a, b, aOffset, bOffset, stride, half, product)
+                + pairwise(a, b, aOffset + half * stride, bOffset + half, stride, length - half, product);
+    }
+
+    /**
+     * The error method returns the rounding error of the floating point addition t = s + x, whichever of the operands is
+     * larger in magnitude.
+     */
+    private static double error(double s, double x, double t) {
+        return Math.abs(s) >= Math.abs(x) ? (s - t) + x : (x - t) + s;
+    }
+
+    /**
+     * The kahan method sums the terms with four Neumaier compensated accumulators, each taking every fourth term, and
+     * combines the accumulators with compensation at the end.
+     */
+    private static double kahan(double[] a, double[] b, int aOffset, int bOffset, int stride, int length, boolean product) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        double c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+        double x, t;
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            x = item(a, b, aOffset, bOffset, stride, i, product);
+            t = s0 + x;
+            c0 += error(s0, x, t);
+            s0 = t;
+            x = item(a, b, aOffset, bOffset, stride, i + 1, product);
+            t = s1 + x;
+            c1 += error(s1, x, t);
+            s1 = t;
+            x = item(a, b, aOffset, bOffset, stride, i + 2, product);
+            t = s2 + x;
+            c2 += error(s2, x, t);
+            s2 = t;
+            x = item(a, b, aOffset, bOffset, stride, i + 3, product);
+            t = s3 + x;
+            c3 += error(s3, x, t);
+            s3 = t;
+        }
+        for (; i < length; i++) {
+            x = item(a, b, aOffset, bOffset, stride, i, product);
+            t = s0 + x;
+            c0 += error(s0, x, t);
+            s0 = t;
+        }
+        double compensation = c0 + c1 + c2 + c3;
+        t = s0 + s1;
+        compensation += error(s0, s1, t);
+        s0 = t;
+        t = s0 + s2;
+        compensation += error(s0, s2, t);
+        s0 = t;
+        t = s0 + s3;
+        compensation += error(s0, s3, t);
+        return t + compensation;
+    }
+
+}
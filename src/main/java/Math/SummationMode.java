@@ -0,0 +1,24 @@
+package Math;
+
+/**
+ * Accumulation strategies for the reductions of {@link Vector} and {@link Matrix} such as sums, dot products and norms.
+ */
+public enum SummationMode {
+    /**
+     * Items are added with the plain loop of the vector kernels: one by one into a single accumulator, or into one
+     * accumulator per lane when the SIMD kernels of the Java 17 layer are enabled, so the order of the additions, and
+     * the rounding error, depend on the kernels in use. Strided reductions, such as the column sums of a
+     * {@link Matrix}, have no vector kernel and always use a single accumulator. Fastest, error grows linearly with the
+     * number of items.
+     */
+    NAIVE,
+    /**
+     * Items are summed in blocks, and block sums are combined in a balanced binary tree. Error grows logarithmically
+     * with the number of items at nearly the cost of the naive loop.
+     */
+    PAIRWISE,
+    /**
+     * Items are added with Kahan-Babuska (Neumaier) compensation. Error is independent of the number of items.
+     */
+    KAHAN
+}
@@ -0,0 +1,327 @@
+package Math;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+public class SymmetricEigenDecomposition {
+    /**
+     * Eigendecomposition A = Q * D * Q^T of a symmetric {@link Matrix}. The matrix is first reduced to tridiagonal form
+     * with Householder reflections, whose symmetric rank two updates run row by row over the pool. The reflections are
+     * accumulated into Q in blocks of the compact WY form I - V * T * V^T, so that most of the work is done by matrix
+     * products. The eigenpairs of the tridiagonal matrix are then found by the implicit QL algorithm. Eigenvectors are
+     * kept as the rows of a single double {@link java.lang.reflect.Array}, so that each rotation of the QL algorithm
+     * updates two contiguous rows. The eigenpairs are ordered from the largest eigenvalue to the smallest only when
+     * they are first accessed by rank.
+     */
+
+    static final int BLOCK_SIZE = 32;
+
+    private static final double EPSILON = Math.ulp(1.0);
+
+    private final int n;
+    private final double[] eigenvalues;
+    private final double[] eigenvectors;
+    private int[] order;
+
+    /**
+     * A constructor of {@link SymmetricEigenDecomposition} class which takes a symmetric {@link Matrix} as an input and
+     * finds all of its eigenvalues and eigenvectors. The matrix is not modified.
+     *
+     * @param matrix Matrix to decompose.
+     * @throws MatrixNotSquare    if row and column sizes do not match.
+     * @throws MatrixNotSymmetric if the matrix is not symmetric.
+     */
+    public SymmetricEigenDecomposition(Matrix matrix) throws MatrixNotSquare, MatrixNotSymmetric {
+        if (!matrix.isSymmetric()) {
+            throw new MatrixNotSymmetric();
+        }
+        n = matrix.getRow();
+        eigenvalues = new double[n];
+        eigenvectors = new double[n * n];
+        double[] offDiagonal = new double[n];
+        double[] householder = new double[n * n];
+        double[] tau = new double[n];
+        tridiagonalize(matrix.getData().clone(), householder, tau, offDiagonal);
+        accumulate(householder, tau);
+        diagonalize(offDiagonal);
+    }
+
+    /**
+     * Reduces the symmetric matrix a to tridiagonal form. The diagonal is written to eigenvalues and the super
+     * diagonal to offDiagonal. The k'th reflection I - tau[k] * v * v^T is stored in the row k of householder, with
+     * v[k + 1] = 1 and zeros before it.
+     */
+    private void tridiagonalize(double[] a, double[] householder, double[] tau, double[] offDiagonal) {
+        ForkJoinPool pool = Parallelism.getPool();
+        double[] p = new double[n];
+        double[] w = new double[n];
+        for (int k = 0; k < n - 2; k++) {
+            int start = k + 1;
+            int m = n - start;
+            int v = k * n;
+            eigenvalues[k] = a[k * n + k];
+            double alpha = a[k * n + start];
+            double sigma = VectorKernels.sumOfSquares(a, k * n + start + 1, m - 1);
+            householder[v + start] = 1.0;
+            if (sigma == 0.0) {
+                offDiagonal[k] = alpha;
+                continue;
+            }
+            double norm = Math.sqrt(alpha * alpha + sigma);
+            double beta = alpha <= 0 ? norm : -norm;
+            tau[k] = (beta - alpha) / beta;
+            VectorKernels.scale(a, k * n + start + 1, 1.0 / (alpha - beta), householder, v + start + 1, m - 1);
+            offDiagonal[k] = beta;
+            double t = tau[k];
+            ForkJoinPool rowPool = Parallelism.poolFor(pool, (long) m * m);
+            Parallelism.forChunks(rowPool, m, (first, last) -> {
+                for (int i = first; i < last; i++) {
+                    p[i] = t * VectorKernels.dot(a, (start + i) * n + start, householder, v + start, m);
+                }
+            });
+            double factor = -0.5 * t * VectorKernels.dot(p, 0, householder, v + start, m);
+            for (int i = 0; i < m; i++) {
+                w[i] = p[i] + factor * householder[v + start + i];
+            }
+            Parallelism.forChunks(rowPool, m, (first, last) -> {
+                for (int i = first; i < last; i++) {
+                    int row = (start + i) * n + start;
+                    VectorKernels.axpy(a, row, -householder[v + start + i], w, 0, m);
+                    VectorKernels.axpy(a, row, -w[i], householder, v + start, m);
+                }
+            });
+        }
+        if (n >= 2) {
+            eigenvalues[n - 2] = a[(n - 2) * n + n - 2];
+            offDiagonal[n - 2] = a[(n - 1) * n + n - 2];
+        }
+        if (n >= 1) {
+            eigenvalues[n - 1] = a[(n - 1) * n + n - 1];
+        }
+    }
+
+    /**
+     * Forms Q^T = H_{n-3} ... H_0 in eigenvectors, applying the reflections from the last block to the first one. A
+     * block of reflections H_j ... H_{j+b-1} equals I - V * T * V^T with an upper triangular T, so the rows R are
+     * updated as R - (R * V) * T^T * V^T with two matrix products.
+     */
+    private void accumulate(double[] householder, double[] tau) {
+        ForkJoinPool pool = Parallelism.getPool();
+        for (int i = 0; i < n; i++) {
+            eigenvectors[i * n + i] = 1.0;
+        }
+        int reflections = Math.max(0, n - 2);
+        int blocks = (reflections + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        double[] t = new double[BLOCK_SIZE * BLOCK_SIZE];
+        double[] products = new double[n * BLOCK_SIZE];
+        double[] scaled = new double[n * BLOCK_SIZE];
+        for (int block = blocks - 1; block >= 0; block--) {
+            int j = block * BLOCK_SIZE;
+            int b = Math.min(BLOCK_SIZE, reflections - j);
+            int start = j + 1;
+            int length = n - start;
+            triangularFactor(householder, tau, j, b, t);
+            Arrays.fill(products, 0, n * b, 0.0);
+            Gemm.multiply(pool, eigenvectors, start, n, 1, householder, j * n + start, 1, n,
+                    products, 0, b, n, b, length);
+            for (int r = 0; r < n; r++) {
+                for (int c = 0; c < b; c++) {
+                    double sum = 0.0;
+                    for (int s = c; s < b; s++) {
+                        sum += products[r * b + s] * t[c * BLOCK_SIZE + s];
+                    }
+                    scaled[r * b + c] = -sum;
+                }
+            }
+            Gemm.multiply(pool, scaled, 0, b, 1, householder, j * n + start, n, 1,
+                    eigenvectors, start, n, n, length, b);
+        }
+    }
+
+    /**
+     * Computes the upper triangular factor T of the block of b reflections starting from the reflection j, such that
+     * H_j ... H_{j+b-1} = I - V * T * V^T.
+     */
+    private void triangularFactor(double[] householder, double[] tau, int j, int b, double[] t) {
+        for (int i = 0; i < b; i++) {
+            int vi = (j + i) * n;
+            int start = j + i + 1;
+            for (int s = 0; s < i; s++) {
+                t[s * BLOCK_SIZE + i] = -tau[j + i] * VectorKernels.dot(householder, (j + s) * n + start, householder, vi + start, n - start);
+            }
+            for (int s = 0; s < i; s++) {
+                double sum = 0.0;
+                for (int r = s; r < i; r++) {
+                    sum += t[s * BLOCK_SIZE + r] * t[r * BLOCK_SIZE + i];
+                }
+                t[s * BLOCK_SIZE + i] = sum;
+            }
+            t[i * BLOCK_SIZE + i] = tau[j + i];
+        }
+    }
+
+    /**
+     * Finds the eigenvalues of the tridiagonal matrix with the implicit QL algorithm, rotating the rows of
+     * eigenvectors along with it.
+     */
+    private void diagonalize(double[] e) {
+        double[] d = eigenvalues;
+        double shift = 0.0;
+        double norm = 0.0;
+        for (int l = 0; l < n; l++) {
+            norm = Math.max(norm, Math.abs(d[l]) + Math.abs(e[l]));
+            int m = l;
+            while (m < n - 1 && Math.abs(e[m]) > EPSILON * norm) {
+                m++;
+            }
+            if (m > l) {
+                do {
+                    double g = d[l];
+                    double p = (d[l + 1] - g) / (2.0 * e[l]);
+                    double r = hypot(p, 1.0);
+                    if (p < 0) {
+                        r = -r;
+                    }
+                    d[l] = e[l] / (p + r);
+                    d[l + 1] = e[l] * (p + r);
+                    double next = d[l + 1];
+                    double h = g - d[l];
+                    for (int i = l + 2; i < n; i++) {
+                        d[i] -= h;
+                    }
+                    shift += h;
+                    p = d[m];
+                    double c = 1.0, c2 = 1.0, c3 = 1.0;
+                    double el1 = e[l + 1];
+                    double s = 0.0, s2 = 0.0;
+                    for (int i = m - 1; i >= l; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c * e[i];
+                        h = c * p;
+                        r = hypot(p, e[i]);
+                        e[i + 1] = s * r;
+                        s = e[i] / r;
+                        c = p / r;
+                        p = c * d[i] - s * g;
+                        d[i + 1] = h + s * (c * g + s * d[i]);
+                        rotateRows(i, c, s);
+                    }
+                    p = -s * s2 * c3 * el1 * e[l] / next;
+                    e[l] = s * p;
+                    d[l] = c * p;
+                } while (Math.abs(e[l]) > EPSILON * norm);
+            }
+            d[l] += shift;
+            e[l] = 0.0;
+        }
+    }
+
+    /**
+     * Rotates the rows i and i + 1 of eigenvectors.
+     */
+    private void rotateRows(int i, double c, double s) {
+        int first = i * n;
+        int second = first + n;
+        for (int k = 0; k < n; k++) {
+            double h = eigenvectors[second + k];
+            eigenvectors[second + k] = s * eigenvectors[first + k] + c * h;
+            eigenvectors[first + k] = c * eigenvectors[first + k] - s * h;
+        }
+    }
+
+    /**
+     * Returns sqrt(a^2 + b^2) without overflow or underflow, and faster than {@link Math#hypot}.
+     */
+    private static double hypot(double a, double b) {
+        double x = Math.abs(a), y = Math.abs(b);
+        if (x > y) {
+            double ratio = y / x;
+            return x * Math.sqrt(1 + ratio * ratio);
+        } else if (y != 0) {
+            double ratio = x / y;
+            return y * Math.sqrt(1 + ratio * ratio);
+        }
+        return 0.0;
+    }
+
+    /**
+     * Returns the indices of the eigenpairs from the largest eigenvalue to the smallest, sorting them on first use.
+     */
+    private int[] order() {
+        if (order == null) {
+            int[] ascending = Selection.argsort(eigenvalues, 0, n);
+            int[] descending = new int[n];
+            for (int i = 0; i < n; i++) {
+                descending[i] = ascending[n - 1 - i];
+            }
+            order = descending;
+        }
+        return order;
+    }
+
+    /**
+     * The size method returns the number of eigenpairs, which is the dimension of the matrix.
+     *
+     * @return number of eigenpairs.
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * The getEigenvalue method returns the eigenvalue with the given rank, rank 0 being the largest one.
+     *
+     * @param rank rank of the eigenvalue.
+     * @return eigenvalue with the given rank.
+     */
+    public double getEigenvalue(int rank) {
+        return eigenvalues[order()[rank]];
+    }
+
+    /**
+     * The getEigenvalues method returns all eigenvalues from the largest to the smallest.
+     *
+     * @return eigenvalues in descending order.
+     */
+    public double[] getEigenvalues() {
+        int[] indices = order();
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = eigenvalues[indices[i]];
+        }
+        return result;
+    }
+
+    /**
+     * The getEigenvector method returns the unit eigenvector of the eigenvalue with the given rank, rank 0 being the
+     * largest one.
+     *
+     * @param rank rank of the eigenvalue.
+     * @return eigenvector with its eigenvalue.
+     */
+    public Eigenvector getEigenvector(int rank) {
+        int index = order()[rank];
+        return new Eigenvector(eigenvalues[index], Arrays.copyOfRange(eigenvectors, index * n, index * n + n));
+    }
+
+    /**
+     * The getEigenvectors method returns the matrix Q, whose columns are the unit eigenvectors in the order of
+     * {@link #getEigenvalues()}.
+     *
+     * @return matrix of eigenvectors.
+     */
+    public Matrix getEigenvectors() {
+        int[] indices = order();
+        double[] result = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            int source = indices[i] * n;
+            for (int k = 0; k < n; k++) {
+                result[k * n + i] = eigenvectors[source + k];
+            }
+        }
+        return new Matrix(n, n, result);
+    }
+
+}
@@ -2,7 +2,6 @@ package Math;
 
 import java.io.Serializable;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class Tensor implements Serializable {
     /**
@@ -250,7 +249,8 @@ public class Tensor implements Serializable {
     }
 
     /**
-     * Transposes the tensor according to the specified axes.
+     * Transposes the tensor according to the specified axes. The data is copied by walking the permuted strides of
+     * the source, transposing two dimensional slices tile by tile when the last axis moves.
      */
     public Tensor transpose(int[] axes) {
         if (axes == null) {
@@ -259,47 +259,23 @@ public class Tensor implements Serializable {
                 axes[i] = shape.length - 1 - i;
             }
         }
-        List<Integer> sortedAxes = Arrays.stream(axes).boxed().sorted().collect(Collectors.toList());
-        List<Integer> expectedAxes = new ArrayList<>();
-        for (int i = 0; i < shape.length; i++) {
-            expectedAxes.add(i);
-        }
-        if (!sortedAxes.equals(expectedAxes)) {
+        if (axes.length != shape.length) {
             throw new IllegalArgumentException("Invalid transpose axes.");
         }
+        boolean[] seen = new boolean[shape.length];
         int[] newShape = new int[shape.length];
+        int[] sourceStrides = new int[shape.length];
         for (int i = 0; i < axes.length; i++) {
-            newShape[i] = shape[axes[i]];
-        }
-        double[] flattenedData = transposeFlattenedData(axes, newShape);
-        return new Tensor(flattenedData, newShape);
-    }
-
-    /**
-     * Rearranges the flattened data for transposition.
-     */
-    private double[] transposeFlattenedData(int[] axes, int[] newShape) {
-        int[] newStrides = computeStrides(newShape);
-        int numElements = computeNumElements(newShape);
-        double[] flattenedData = new double[numElements];
-        for (int i = 0; i < numElements; i++) {
-            int[] newIndices = unflattenIndex(i, newStrides);
-            int[] originalIndices = new int[shape.length];
-            for (int dim = 0; dim < shape.length; dim++) {
-                int originalDimIndex = -1;
-                for (int j = 0; j < axes.length; j++) {
-                    if (axes[j] == dim) {
-                        originalDimIndex = j;
-                        break;
-                    }
-                }
-                if (originalDimIndex != -1) {
-                    originalIndices[dim] = newIndices[originalDimIndex];
-                }
+            if (axes[i] < 0 || axes[i] >= shape.length || seen[axes[i]]) {
+                throw new IllegalArgumentException("Invalid transpose axes.");
             }
-            flattenedData[i] = getValue(originalIndices);
+            seen[axes[i]] = true;
+            newShape[i] = shape[axes[i]];
+            sourceStrides[i] = strides[axes[i]];
         }
-        return flattenedData;
+        double[] result = new double[data.length];
+        Transpose.permute(data, sourceStrides, newShape, result);
+        return new Tensor(result, newShape);
     }
 
     private int[] unflattenIndex(int flatIndex, int[] strides) {
@@ -0,0 +1,71 @@
+package Math;
+
+public class TopK {
+    /**
+     * The result of a top k selection: the indices of the selected items and their values, ordered from the largest
+     * value to the smallest. Ties are broken in favour of the smaller index.
+     */
+
+    private final int[] indices;
+    private final double[] values;
+
+    /**
+     * A constructor of {@link TopK} class which takes parallel index and value {@link java.lang.reflect.Array}s as
+     * inputs. The arrays are not copied.
+     *
+     * @param indices indices of the selected items.
+     * @param values  values of the selected items.
+     */
+    TopK(int[] indices, double[] values) {
+        this.indices = indices;
+        this.values = values;
+    }
+
+    /**
+     * The size method returns the number of selected items.
+     *
+     * @return number of selected items.
+     */
+    public int size() {
+        return indices.length;
+    }
+
+    /**
+     * The getIndex method returns the index of the i'th largest item.
+     *
+     * @param i rank of the item, starting from 0.
+     * @return index of the item.
+     */
+    public int getIndex(int i) {
+        return indices[i];
+    }
+
+    /**
+     * The getValue method returns the value of the i'th largest item.
+     *
+     * @param i rank of the item, starting from 0.
+     * @return value of the item.
+     */
+    public double getValue(int i) {
+        return values[i];
+    }
+
+    /**
+     * The getIndices method returns a copy of the indices of the selected items.
+     *
+     * @return indices of the selected items.
+     */
+    public int[] getIndices() {
+        return indices.clone();
+    }
+
+    /**
+     * The getValues method returns a copy of the values of the selected items.
+     *
+     * @return values of the selected items.
+     */
+    public double[] getValues() {
+        return values.clone();
+    }
+
+}
@@ -0,0 +1,164 @@
+package Math;
+
+/**
+ * Transposition kernels over double and float {@link java.lang.reflect.Array}s. Matrices are transposed tile by tile,
+ * so that both the rows read and the rows written by a tile stay in the L1 cache, instead of writing one item per cache
+ * line.
+ * N dimensional permutations are reduced to a batch of such matrix transposes, or to contiguous copies when the last
+ * axis does not move.
+ */
+final class Transpose {
+
+    static final int TILE = 32;
+
+    private Transpose() {
+    }
+
+    /**
+     * The transpose method writes the transpose of a rows x columns matrix to dst, i.e.
+     * dst[dstOffset + j * dstRowStride + i] = src[srcOffset + i * srcRowStride + j].
+     *
+     * @param src          source array.
+     * @param srcOffset    index of the item (0, 0) of the source.
+     * @param srcRowStride distance between rows of the source.
+     * @param rows         number of rows of the source.
+     * @param columns      number of columns of the source.
+     * @param dst          destination array.
+     * @param dstOffset    index of the item (0, 0) of the destination.
+     * @param dstRowStride distance between rows of the destination.
+     */
+    static void transpose(double[] src, int srcOffset, int srcRowStride, int rows, int columns,
+                          double[] dst, int dstOffset, int dstRowStride) {
+        for (int i0 = 0; i0 < rows; i0 += TILE) {
+            int i1 = Math.min(i0 + TILE, rows);
+            for (int j0 = 0; j0 < columns; j0 += TILE) {
+                int j1 = Math.min(j0 + TILE, columns);
+                for (int j = j0; j < j1; j++) {
+                    int target = dstOffset + j * dstRowStride;
+                    for (int i = i0; i < i1; i++) {
+                        dst[target + i] = src[srcOffset + i * srcRowStride + j];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The transpose method writes the transpose of a rows x columns float matrix to dst tile by tile. See
+     * {@link #transpose(double[], int, int, int, int, double[], int, int)} for the parameters.
+     */
+    static void transpose(float[] src, int srcOffset, int srcRowStride, int rows, int columns,
+                          float[] dst, int dstOffset, int dstRowStride) {
+        for (int i0 = 0; i0 < rows; i0 += TILE) {
+            int i1 = Math.min(i0 + TILE, rows);
+            for (int j0 = 0; j0 < columns; j0 += TILE) {
+                int j1 = Math.min(j0 + TILE, columns);
+                for (int j = j0; j < j1; j++) {
+                    int target = dstOffset + j * dstRowStride;
+                    for (int i = i0; i < i1; i++) {
+                        dst[target + i] = src[srcOffset + i * srcRowStride + j];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The transposeInPlace method transposes the n x n matrix stored row by row in a. Tiles above the diagonal are
+     * swapped with their mirror tiles below it.
+     *
+     * @param a array holding the matrix.
+     * @param n dimension of the matrix.
+     */
+    static void transposeInPlace(double[] a, int n) {
+        for (int i0 = 0; i0 < n; i0 += TILE) {
+            int i1 = Math.min(i0 + TILE, n);
+            for (int j0 = i0; j0 < n; j0 += TILE) {
+                int j1 = Math.min(j0 + TILE, n);
+                for (int i = i0; i < i1; i++) {
+                    for (int j = Math.max(j0, i + 1); j < j1; j++) {
+                        double swap = a[i * n + j];
+                        a[i * n + j] = a[j * n + i];
+                        a[j * n + i] = swap;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The permute method writes the items of src to dst in row major order of shape, where the item with index
+     * (k_0, ..., k_{d-1}) is read from src[sum k_i * srcStrides[i]]. If the axis with source stride 1 is not the last
+     * one, each two dimensional slice spanned by that axis and the last axis is transposed with the tiled kernel.
+     *
+     * @param src        source array.
+     * @param srcStrides source stride of each output dimension.
+     * @param shape      output shape.
+     * @param dst        destination array, stored row by row in shape.
+     */
+    static void permute(double[] src, int[] srcStrides, int[] shape, double[] dst) {
+        int rank = shape.length;
+        if (rank == 0) {
+            dst[0] = src[0];
+            return;
+        }
+        for (int dim : shape) {
+            if (dim == 0) {
+                return;
+            }
+        }
+        int[] dstStrides = new int[rank];
+        int product = 1;
+        for (int i = rank - 1; i >= 0; i--) {
+            dstStrides[i] = product;
+            product *= shape[i];
+        }
+        int last = rank - 1;
+        int contiguous = -1;
+        for (int i = 0; i < last; i++) {
+            if (srcStrides[i] == 1 && shape[i] > 1) {
+                contiguous = i;
+            }
+        }
+        if (srcStrides[last] == 1 || shape[last] == 1) {
+            contiguous = -1;
+        }
+        int[] outer = new int[contiguous == -1 ? last : last - 1];
+        int count = 0;
+        for (int i = 0; i < last; i++) {
+            if (i != contiguous) {
+                outer[count++] = i;
+            }
+        }
+        int[] counter = new int[outer.length];
+        int srcBase = 0, dstBase = 0;
+        while (true) {
+            if (contiguous == -1) {
+                int stride = srcStrides[last];
+                for (int j = 0; j < shape[last]; j++) {
+                    dst[dstBase + j] = src[srcBase + j * stride];
+                }
+            } else {
+                transpose(src, srcBase, srcStrides[last], shape[last], shape[contiguous], dst, dstBase, dstStrides[contiguous]);
+            }
+            int d = outer.length - 1;
+            while (d >= 0) {
+                int axis = outer[d];
+                counter[d]++;
+                srcBase += srcStrides[axis];
+                dstBase += dstStrides[axis];
+                if (counter[d] < shape[axis]) {
+                    break;
+                }
+                srcBase -= counter[d] * srcStrides[axis];
+                dstBase -= counter[d] * dstStrides[axis];
+                counter[d] = 0;
+                d--;
+            }
+            if (d < 0) {
+                return;
+            }
+        }
+    }
+
+}
@@ -2,125 +2,312 @@ package Math;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 
-public class Vector implements Serializable {
+public class Vector implements NumericVector, Serializable {
+
+    private static final int DEFAULT_CAPACITY = 10;
 
     private int size;
-    private final ArrayList<Double> values;
+    private double[] values;
+    private int offset;
+    private boolean shared;
+    private boolean readOnly;
 
     /**
-     * A constructor of {@link Vector} class which takes an {@link ArrayList} values as an input. Then, initializes
-     * values {@link ArrayList} and size variable with given input and ts size.
+     * A constructor of {@link Vector} class which takes an {@link ArrayList} values as an input. Then, copies the items
+     * of the given {@link ArrayList} into the values {@link java.lang.reflect.Array} and initializes size variable with
+     * its size.
      *
      * @param values {@link ArrayList} input.
      */
     public Vector(ArrayList<Double> values) {
-        this.values = values;
         size = values.size();
+        this.values = new double[Math.max(size, DEFAULT_CAPACITY)];
+        for (int i = 0; i < size; i++) {
+            this.values[i] = values.get(i);
+        }
     }
 
 
     /**
      * Another constructor of {@link Vector} class which takes integer size and double x as inputs. Then, initializes size
-     * variable with given size input and creates new values {@link ArrayList} and adds given input x to values {@link ArrayList}.
+     * variable with given size input and creates new values {@link java.lang.reflect.Array} and fills it with the given
+     * input x.
      *
-     * @param size {@link ArrayList} size.
-     * @param x    item to add values {@link ArrayList}.
+     * @param size {@link java.lang.reflect.Array} size.
+     * @param x    item to fill values {@link java.lang.reflect.Array}.
      */
     public Vector(int size, double x) {
         this.size = size;
-        values = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            values.add(x);
+        values = new double[Math.max(size, DEFAULT_CAPACITY)];
+        if (x != 0.0) {
+            Arrays.fill(values, 0, size, x);
         }
     }
 
     /**
      * Another constructor of {@link Vector} class which takes integer size, integer index and double x as inputs. Then, initializes size
-     * variable with given size input and creates new values {@link ArrayList} and adds 0.0 to values {@link ArrayList}.
-     * Then, sets the item of values {@link ArrayList} at given index as given input x.
+     * variable with given size input and creates new values {@link java.lang.reflect.Array} filled with 0.0.
+     * Then, sets the item of values {@link java.lang.reflect.Array} at given index as given input x.
      *
-     * @param size  {@link ArrayList} size.
+     * @param size  {@link java.lang.reflect.Array} size.
      * @param index to set a particular item.
-     * @param x     item to add values {@link ArrayList}'s given index.
+     * @param x     item to add values {@link java.lang.reflect.Array}'s given index.
      */
     public Vector(int size, int index, double x) {
         this.size = size;
-        values = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            values.add(0.0);
-        }
-        values.set(index, x);
+        values = new double[Math.max(size, DEFAULT_CAPACITY)];
+        checkIndex(index);
+        values[index] = x;
     }
 
     /**
      * Another constructor of {@link Vector} class which takes double values {@link java.lang.reflect.Array} as an input.
-     * It creates new values {@link ArrayList} and adds given input values {@link java.lang.reflect.Array}'s each item to the values {@link ArrayList}.
+     * It copies the given input values {@link java.lang.reflect.Array} into a new values {@link java.lang.reflect.Array}.
      * Then, initializes size with given values input {@link java.lang.reflect.Array}'s length.
      *
      * @param values double {@link java.lang.reflect.Array} input.
      */
     public Vector(double[] values) {
-        this.values = new ArrayList<>();
-        for (double value : values) {
-            this.values.add(value);
-        }
         size = values.length;
+        this.values = Arrays.copyOf(values, Math.max(size, DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Private constructor used by the wrap factories. The given values {@link java.lang.reflect.Array} is used as the
+     * storage of the vector without copying, starting from the given offset.
+     *
+     * @param values   double {@link java.lang.reflect.Array} to wrap.
+     * @param offset   index of the first item of the vector in the values {@link java.lang.reflect.Array}.
+     * @param size     number of items of the vector.
+     * @param readOnly if true, the items of the vector can not be modified.
+     */
+    private Vector(double[] values, int offset, int size, boolean readOnly) {
+        if (offset < 0 || size < 0 || offset + size > values.length) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Size: " + size + ", Length: " + values.length);
+        }
+        this.values = values;
+        this.offset = offset;
+        this.size = size;
+        this.shared = true;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * The wrap method creates a {@link Vector} which uses the given double {@link java.lang.reflect.Array} as its storage
+     * without copying. Changes made to the vector are visible in the array and vice versa. If the size of the vector is
+     * changed with add, insert or remove methods, the vector is first detached from the array by copying its items.
+     *
+     * @param values double {@link java.lang.reflect.Array} to wrap.
+     * @return Vector which shares its storage with the given array.
+     */
+    public static Vector wrap(double[] values) {
+        return new Vector(values, 0, values.length, false);
+    }
+
+    /**
+     * The wrap method creates a {@link Vector} which uses the length items of the given double
+     * {@link java.lang.reflect.Array} starting from the given offset as its storage without copying.
+     *
+     * @param values double {@link java.lang.reflect.Array} to wrap.
+     * @param offset index of the first item of the vector in the array.
+     * @param length number of items of the vector.
+     * @return Vector which shares its storage with the given array.
+     */
+    public static Vector wrap(double[] values, int offset, int length) {
+        return new Vector(values, offset, length, false);
+    }
+
+    /**
+     * The readOnlyView method creates a {@link Vector} which uses the length items of the given double
+     * {@link java.lang.reflect.Array} starting from the given offset as its storage without copying. Any attempt to
+     * modify the returned vector throws {@link UnsupportedOperationException}.
+     *
+     * @param values double {@link java.lang.reflect.Array} to wrap.
+     * @param offset index of the first item of the vector in the array.
+     * @param length number of items of the vector.
+     * @return Read-only vector which shares its storage with the given array.
+     */
+    static Vector readOnlyView(double[] values, int offset, int length) {
+        return new Vector(values, offset, length, true);
+    }
+
+    /**
+     * The isReadOnly method returns true if the vector is a read-only view, false otherwise.
+     *
+     * @return true if the vector can not be modified, false otherwise.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * The checkWritable method throws an {@link UnsupportedOperationException} if the vector is a read-only view.
+     */
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("Vector is a read-only view.");
+        }
+    }
+
+    /**
+     * The detach method copies the items of a vector sharing its storage with another array into a newly allocated
+     * values {@link java.lang.reflect.Array} with at least the given capacity.
+     *
+     * @param minCapacity minimum number of items the new values {@link java.lang.reflect.Array} should hold.
+     */
+    private void detach(int minCapacity) {
+        double[] copy = new double[Math.max(minCapacity, DEFAULT_CAPACITY)];
+        System.arraycopy(values, offset, copy, 0, size);
+        values = copy;
+        offset = 0;
+        shared = false;
+    }
+
+    /**
+     * The ensureCapacity method grows the values {@link java.lang.reflect.Array} so that it can hold at least the given
+     * number of items. The capacity grows by half of its current length to amortize the cost of repeated additions.
+     *
+     * @param minCapacity minimum number of items the values {@link java.lang.reflect.Array} should hold.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (shared) {
+            detach(Math.max(minCapacity, size + (size >> 1)));
+        } else if (minCapacity > values.length) {
+            int newCapacity = Math.max(values.length + (values.length >> 1), DEFAULT_CAPACITY);
+            if (newCapacity < minCapacity) {
+                newCapacity = minCapacity;
+            }
+            values = Arrays.copyOf(values, newCapacity);
+        }
+    }
+
+    /**
+     * The checkIndex method throws an {@link IndexOutOfBoundsException} if the given index is not in the range [0, size).
+     * Since the values {@link java.lang.reflect.Array} may have more capacity than size, the array bound check alone is
+     * not enough.
+     *
+     * @param index index to check.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
     }
 
     /**
-     * The biased method creates a {@link Vector} result, add adds each item of values {@link ArrayList} into the result Vector.
-     * Then, insert 1.0 to 0th position and return result {@link Vector}.
+     * The trimToSize method shrinks the capacity of the values {@link java.lang.reflect.Array} to the size of the vector.
+     */
+    public void trimToSize() {
+        if (!shared && values.length > size) {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * The toArray method returns a new double {@link java.lang.reflect.Array} containing the items of the vector.
+     *
+     * @return Copy of the items of the vector.
+     */
+    public double[] toArray() {
+        return Arrays.copyOfRange(values, offset, offset + size);
+    }
+
+    /**
+     * The copyInto method copies the items of the vector into the given double {@link java.lang.reflect.Array} starting
+     * from the given offset.
+     *
+     * @param target double {@link java.lang.reflect.Array} to copy into.
+     * @param offset index of the target array where the first item is written.
+     */
+    public void copyInto(double[] target, int offset) {
+        System.arraycopy(values, this.offset, target, offset, size);
+    }
+
+    /**
+     * The biased method creates a {@link Vector} result, copies each item of values {@link java.lang.reflect.Array} into
+     * the result Vector starting from the 1st position and puts 1.0 to 0th position and return result {@link Vector}.
      *
      * @return result {@link Vector}.
      */
     public Vector biased() {
-        Vector result = new Vector(0, 0);
-        for (Double value : values) {
-            result.add(value);
-        }
-        result.insert(0, 1.0);
+        Vector result = new Vector(size + 1, 0.0);
+        result.values[0] = 1.0;
+        System.arraycopy(values, offset, result.values, 1, size);
         return result;
     }
 
     /**
-     * The add method adds given input to the values {@link ArrayList} and increments the size variable by one.
+     * The biasedInto method writes 1.0 to the 0th position of the given result {@link Vector} and copies the items of
+     * values {@link java.lang.reflect.Array} after it. If the size of the result is not one more than the size of
+     * this vector, it throws a VectorSizeMismatch exception.
+     *
+     * @param result vector to hold the biased vector.
+     * @throws VectorSizeMismatch exception if the size of the result does not match.
+     */
+    public void biasedInto(Vector result) throws VectorSizeMismatch {
+        if (result.size != size + 1) {
+            throw new VectorSizeMismatch();
+        }
+        result.checkWritable();
+        result.values[result.offset] = 1.0;
+        System.arraycopy(values, offset, result.values, result.offset + 1, size);
+    }
+
+    /**
+     * The add method adds given input to the end of values {@link java.lang.reflect.Array} and increments the size variable
+     * by one. The values {@link java.lang.reflect.Array} is grown if its capacity is exhausted.
      *
-     * @param x double input to add values {@link ArrayList}.
+     * @param x double input to add values {@link java.lang.reflect.Array}.
      */
     public void add(double x) {
-        values.add(x);
+        checkWritable();
+        ensureCapacity(size + 1);
+        values[size] = x;
         size++;
     }
 
     /**
-     * The insert method puts given input to the given index of values {@link ArrayList} and increments the size variable by one.
+     * The insert method puts given input to the given index of values {@link java.lang.reflect.Array}, shifts the items
+     * after the index one position right and increments the size variable by one.
      *
      * @param pos index to insert input.
-     * @param x   input to insert to given index of values {@link ArrayList}.
+     * @param x   input to insert to given index of values {@link java.lang.reflect.Array}.
      */
     public void insert(int pos, double x) {
-        values.add(pos, x);
+        checkWritable();
+        if (pos < 0 || pos > size) {
+            throw new IndexOutOfBoundsException("Index: " + pos + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(values, pos, values, pos + 1, size - pos);
+        values[pos] = x;
         size++;
     }
 
     /**
-     * The remove method deletes the item at given input position of values {@link ArrayList} and decrements the size variable by one.
+     * The remove method deletes the item at given input position of values {@link java.lang.reflect.Array}, shifts the
+     * items after the position one position left and decrements the size variable by one.
      *
-     * @param pos index to remove from values {@link ArrayList}.
+     * @param pos index to remove from values {@link java.lang.reflect.Array}.
      */
     public void remove(int pos) {
-        values.remove(pos);
+        checkWritable();
+        checkIndex(pos);
+        if (shared) {
+            detach(size);
+        }
+        System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
         size--;
     }
 
     /**
-     * The clear method sets all the elements of values {@link ArrayList} to 0.0.
+     * The clear method sets all the elements of values {@link java.lang.reflect.Array} to 0.0.
      */
     public void clear() {
-        for (int i = 0; i < values.size(); i++) {
-            values.set(i, 0.0);
-        }
+        checkWritable();
+        Arrays.fill(values, offset, offset + size, 0.0);
     }
 
     /**
@@ -129,26 +316,33 @@ public class Vector implements Serializable {
      * @return Sum of all elements in the vector.
      */
     public double sumOfElements() {
-        double total = 0;
-        for (int i = 0; i < size; i++) {
-            total += values.get(i);
-        }
-        return total;
+        return VectorKernels.sum(values, offset, size);
     }
 
     /**
-     * The maxIndex method gets the first item of values {@link ArrayList} as maximum item, then it loops through the indices
-     * and if a greater value than the current maximum item comes, it updates the maximum item and returns the final
-     * maximum item's index.
+     * The sumOfElements method sums up all elements in the vector with the given {@link SummationMode}.
+     *
+     * @param mode accumulation strategy.
+     * @return Sum of all elements in the vector.
+     */
+    public double sumOfElements(SummationMode mode) {
+        return Summation.sum(values, offset, size, mode);
+    }
+
+    /**
+     * The maxIndex method gets the first item of values {@link java.lang.reflect.Array} as maximum item, then it loops
+     * through the indices and if a greater value than the current maximum item comes, it updates the maximum item and
+     * returns the final maximum item's index.
      *
      * @return final maximum item's index.
      */
     public int maxIndex() {
+        checkIndex(0);
         int index = 0;
-        double max = values.get(0);
+        double max = values[offset];
         for (int i = 1; i < size; i++) {
-            if (values.get(i) > max) {
-                max = values.get(i);
+            if (values[offset + i] > max) {
+                max = values[offset + i];
                 index = i;
             }
         }
@@ -156,179 +350,684 @@ public class Vector implements Serializable {
     }
 
     /**
-     * The sigmoid method loops through the values {@link ArrayList} and sets each ith item with sigmoid function, i.e
-     * 1 / (1 + Math.exp(-values.get(i))), i ranges from 0 to size.
+     * The argmin method returns the index of the smallest item of values {@link java.lang.reflect.Array}. In case of
+     * ties the first index is returned.
+     *
+     * @return index of the smallest item.
+     */
+    public int argmin() {
+        checkIndex(0);
+        return Selection.argmin(values, offset, size);
+    }
+
+    /**
+     * The argsort method returns the indices of values {@link java.lang.reflect.Array} sorted in ascending order of
+     * their items. Equal items keep their original order.
+     *
+     * @return indices in ascending order of the items.
+     */
+    public int[] argsort() {
+        return Selection.argsort(values, offset, size);
+    }
+
+    /**
+     * The topK method returns the indices and values of the k largest items of values {@link java.lang.reflect.Array}
+     * ordered from the largest to the smallest. A bounded heap of k items is kept, so the selection costs O(n log k).
+     * If k is larger than the size of the vector, all items are returned.
+     *
+     * @param k number of items to select.
+     * @return the k largest items.
+     */
+    public TopK topK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be nonnegative: " + k);
+        }
+        return Selection.topK(values, offset, size, k);
+    }
+
+    /**
+     * The parallelTopK method returns the same result as topK, but splits vectors at least as long as the parallel
+     * threshold into chunks, selects the top k of each chunk on the pool set in {@link Parallelism} and merges the
+     * partial results. Without a pool the items are selected on the calling thread.
+     *
+     * @param k number of items to select.
+     * @return the k largest items.
+     */
+    public TopK parallelTopK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be nonnegative: " + k);
+        }
+        return Selection.parallelTopK(values, offset, size, k);
+    }
+
+    /**
+     * The sigmoid method loops through the values {@link java.lang.reflect.Array} and sets each ith item with sigmoid
+     * function, i.e 1 / (1 + Math.exp(-values[offset + i])), i ranges from 0 to size.
      */
     public void sigmoid() {
+        checkWritable();
         for (int i = 0; i < size; i++) {
-            values.set(i, 1 / (1 + Math.exp(-values.get(i))));
+            values[offset + i] = 1 / (1 + Math.exp(-values[offset + i]));
         }
     }
 
     /**
-     * The tanh method loops through the values {@link ArrayList} and sets each ith item with tanh function.
+     * The tanh method loops through the values {@link java.lang.reflect.Array} and sets each ith item with tanh function.
      */
     public void tanh() {
+        checkWritable();
         for (int i = 0; i < size; i++) {
-            values.set(i, Math.tanh(values.get(i)));
+            values[offset + i] = Math.tanh(values[offset + i]);
         }
     }
 
     /**
-     * The relu method loops through the values {@link ArrayList} and sets each ith item with relu function.
+     * The relu method loops through the values {@link java.lang.reflect.Array} and sets each ith item with relu function.
      */
     public void relu() {
+        checkWritable();
         for (int i = 0; i < size; i++) {
-            if (values.get(i) < 0){
-                values.set(i, 0.0);
+            if (values[offset + i] < 0) {
+                values[offset + i] = 0.0;
             }
         }
     }
 
     /**
-     * The reluDerivative method loops through the values {@link ArrayList} and sets each ith item with the derivative of
-     * relu function.
+     * The reluDerivative method loops through the values {@link java.lang.reflect.Array} and sets each ith item with the
+     * derivative of relu function.
      */
     public void reluDerivative() {
+        checkWritable();
         for (int i = 0; i < size; i++) {
-            if (values.get(i) > 0){
-                values.set(i, 1.0);
+            if (values[offset + i] > 0) {
+                values[offset + i] = 1.0;
             } else {
-                values.set(i, 0.0);
+                values[offset + i] = 0.0;
             }
         }
     }
 
+    /**
+     * The checkOutput method checks that the given output vector can hold the result of an element wise operation on
+     * this vector.
+     *
+     * @param output output vector.
+     * @throws VectorSizeMismatch if the sizes of the vectors do not match.
+     */
+    private void checkOutput(Vector output) throws VectorSizeMismatch {
+        if (size != output.size) {
+            throw new VectorSizeMismatch();
+        }
+        output.checkWritable();
+    }
+
+    /**
+     * The sigmoid method applies the sigmoid function to each item of values {@link java.lang.reflect.Array} and writes
+     * the results to the given output vector. The output vector may be this vector itself.
+     *
+     * @param output vector to hold the results.
+     * @throws VectorSizeMismatch if the sizes of the vectors do not match.
+     */
+    public void sigmoid(Vector output) throws VectorSizeMismatch {
+        checkOutput(output);
+        double[] result = output.values;
+        int resultOffset = output.offset;
+        for (int i = 0; i < size; i++) {
+            result[resultOffset + i] = 1 / (1 + Math.exp(-values[offset + i]));
+        }
+    }
+
+    /**
+     * The sigmoidWithDerivative method applies the sigmoid function to each item of values
+     * {@link java.lang.reflect.Array} in place, and in the same pass writes the derivative of the sigmoid function,
+     * i.e. s * (1 - s), to the given derivative vector.
+     *
+     * @param derivative vector to hold the derivatives.
+     * @throws VectorSizeMismatch if the sizes of the vectors do not match.
+     */
+    public void sigmoidWithDerivative(Vector derivative) throws VectorSizeMismatch {
+        sigmoidWithDerivative(this, derivative);
+    }
+
+    /**
+     * The sigmoidWithDerivative method applies the sigmoid function to each item of values
+     * {@link java.lang.reflect.Array}, writes the results to the given output vector and in the same pass writes the
+     * derivative of the sigmoid function, i.e. s * (1 - s), to the given derivative vector.
+     *
+     * @param output     vector to hold the results. It may be this vector itself.
+     * @param derivative vector to hold the derivatives.
+     * @throws VectorSizeMismatch if the sizes of the vectors do not match.
+     */
+    public void sigmoidWithDerivative(Vector output, Vector derivative) throws VectorSizeMismatch {
+        checkOutput(output);
+        checkOutput(derivative);
+        double[] result = output.values;
+        int resultOffset = output.offset;
+        double[] gradient = derivative.values;
+        int gradientOffset = derivative.offset;
+        for (int i = 0; i < size; i++) {
+            double s = 1 / (1 + Math.exp(-values[offset + i]));
+            result[resultOffset + i] = s;
+            gradient[gradientOffset + i] = s * (1 - s);
+        }
+    }
+
+    /**
+     * The tanh method applies the tanh function to each item of values {@link java.lang.reflect.Array} and writes the
+     * results to the given output vector. The output vector may be this vector itself.
+     *
+     * @param output vector to hold the results.
+     * @throws VectorSizeMismatch if the sizes of the vectors do not match.
+     */
+    public void tanh(Vector output) throws VectorSizeMismatch {
+        checkOutput(output);
+        double[] result = output.values;
+        int resultOffset = output.offset;
+        for (int i = 0; i < size; i++) {
+            result[resultOffset + i] = Math.tanh(values[offset + i]);
+        }
+    }
+
+    /**
+     * The tanhWithDerivative method applies the tanh function to each item of values {@link java.lang.reflect.Array}
+     * in place, and in the same pass writes the derivative of the tanh function, i.e. 1 - t * t, to the given derivative
+     * vector.
+     *
+     * @param derivative vector to hold the derivatives.
+     * @throws VectorSizeMismatch if the sizes of the vectors do not match.
+     */
+    public void tanhWithDerivative(Vector derivative) throws VectorSizeMismatch {
+        checkWritable();
+        checkOutput(derivative);
+        double[] gradient = derivative.values;
+        int gradientOffset = derivative.offset;
+        for (int i = 0; i < size; i++) {
+            double t = Math.tanh(values[offset + i]);
+            values[offset + i] = t;
+            gradient[gradientOffset + i] = 1 - t * t;
+        }
+    }
+
+    /**
+     * The reluWithDerivative method applies the relu function to each item of values {@link java.lang.reflect.Array}
+     * in place, and in the same pass writes the derivative of the relu function to the given derivative vector.
+     *
+     * @param derivative vector to hold the derivatives.
+     * @throws VectorSizeMismatch if the sizes of the vectors do not match.
+     */
+    public void reluWithDerivative(Vector derivative) throws VectorSizeMismatch {
+        checkWritable();
+        checkOutput(derivative);
+        double[] gradient = derivative.values;
+        int gradientOffset = derivative.offset;
+        for (int i = 0; i < size; i++) {
+            if (values[offset + i] > 0) {
+                gradient[gradientOffset + i] = 1.0;
+            } else {
+                values[offset + i] = 0.0;
+                gradient[gradientOffset + i] = 0.0;
+            }
+        }
+    }
+
+    /**
+     * The leakyRelu method loops through the values {@link java.lang.reflect.Array} and multiplies each negative item
+     * with the given slope.
+     *
+     * @param alpha slope of the function for negative inputs.
+     */
+    public void leakyRelu(double alpha) {
+        checkWritable();
+        for (int i = 0; i < size; i++) {
+            if (values[offset + i] < 0) {
+                values[offset + i] *= alpha;
+            }
+        }
+    }
+
+    /**
+     * The leakyRelu method applies the leaky relu function with the given slope to each item of values
+     * {@link java.lang.reflect.Array} and writes the results to the given output vector.
+     *
+     * @param alpha  slope of the function for negative inputs.
+     * @param output vector to hold the results. It may be this vector itself.
+     * @throws VectorSizeMismatch if the sizes of the vectors do not match.
+     */
+    public void leakyRelu(double alpha, Vector output) throws VectorSizeMismatch {
+        checkOutput(output);
+        double[] result = output.values;
+        int resultOffset = output.offset;
+        for (int i = 0; i < size; i++) {
+            double value = values[offset + i];
+            result[resultOffset + i] = value < 0 ? alpha * value : value;
+        }
+    }
+
+    /**
+     * The leakyReluDerivative method loops through the values {@link java.lang.reflect.Array} and sets each item with
+     * the derivative of the leaky relu function with the given slope.
+     *
+     * @param alpha slope of the function for negative inputs.
+     */
+    public void leakyReluDerivative(double alpha) {
+        checkWritable();
+        for (int i = 0; i < size; i++) {
+            values[offset + i] = values[offset + i] > 0 ? 1.0 : alpha;
+        }
+    }
+
+    /**
+     * The gelu method loops through the values {@link java.lang.reflect.Array} and sets each item with the tanh
+     * approximation of the gelu function, i.e. 0.5 x (1 + tanh(sqrt(2 / pi) (x + 0.044715 x^3))).
+     */
+    public void gelu() {
+        checkWritable();
+        geluInto(values, offset);
+    }
+
+    /**
+     * The gelu method applies the tanh approximation of the gelu function to each item of values
+     * {@link java.lang.reflect.Array} and writes the results to the given output vector.
+     *
+     * @param output vector to hold the results. It may be this vector itself.
+     * @throws VectorSizeMismatch if the sizes of the vectors do not match.
+     */
+    public void gelu(Vector output) throws VectorSizeMismatch {
+        checkOutput(output);
+        geluInto(output.values, output.offset);
+    }
+
+    /**
+     * The geluInto method writes the gelu of the items of values {@link java.lang.reflect.Array} to the given array.
+     *
+     * @param result       output array.
+     * @param resultOffset index of the first item in the output array.
+     */
+    private void geluInto(double[] result, int resultOffset) {
+        double c = Math.sqrt(2 / Math.PI);
+        for (int i = 0; i < size; i++) {
+            double x = values[offset + i];
+            result[resultOffset + i] = 0.5 * x * (1 + Math.tanh(c * (x + 0.044715 * x * x * x)));
+        }
+    }
+
+    /**
+     * The maxValue method returns the largest item of values {@link java.lang.reflect.Array}.
+     *
+     * @return largest item.
+     */
+    private double maxValue() {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            if (values[offset + i] > max) {
+                max = values[offset + i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * The logSumExp method returns log(sum(exp(x_i))) of the items of values {@link java.lang.reflect.Array}. The
+     * largest item is subtracted before exponentiation so that the result does not overflow.
+     *
+     * @return log of the sum of exponentials of the items.
+     */
+    public double logSumExp() {
+        double max = maxValue();
+        if (Double.isInfinite(max)) {
+            return max;
+        }
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += Math.exp(values[offset + i] - max);
+        }
+        return max + Math.log(sum);
+    }
+
+    /**
+     * The softmax method replaces the items of values {@link java.lang.reflect.Array} with exp(x_i) / sum(exp(x_j)).
+     * The largest item is subtracted before exponentiation so that the result does not overflow.
+     */
+    public void softmax() {
+        checkWritable();
+        softmaxInto(values, offset);
+    }
+
+    /**
+     * The softmax method writes exp(x_i) / sum(exp(x_j)) of the items of values {@link java.lang.reflect.Array} to the
+     * given output vector. No temporary arrays are allocated.
+     *
+     * @param output vector to hold the results. It may be this vector itself.
+     * @throws VectorSizeMismatch if the sizes of the vectors do not match.
+     */
+    public void softmax(Vector output) throws VectorSizeMismatch {
+        checkOutput(output);
+        softmaxInto(output.values, output.offset);
+    }
+
+    /**
+     * The softmaxInto method writes the softmax of the items of values {@link java.lang.reflect.Array} to the given
+     * array.
+     *
+     * @param result       output array.
+     * @param resultOffset index of the first item in the output array.
+     */
+    private void softmaxInto(double[] result, int resultOffset) {
+        double max = maxValue();
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            double e = Math.exp(values[offset + i] - max);
+            result[resultOffset + i] = e;
+            sum += e;
+        }
+        double inverse = 1 / sum;
+        for (int i = 0; i < size; i++) {
+            result[resultOffset + i] *= inverse;
+        }
+    }
+
+    /**
+     * The logSoftmax method replaces the items of values {@link java.lang.reflect.Array} with
+     * x_i - log(sum(exp(x_j))).
+     */
+    public void logSoftmax() {
+        checkWritable();
+        logSoftmaxInto(values, offset);
+    }
+
+    /**
+     * The logSoftmax method writes x_i - log(sum(exp(x_j))) of the items of values {@link java.lang.reflect.Array} to
+     * the given output vector.
+     *
+     * @param output vector to hold the results. It may be this vector itself.
+     * @throws VectorSizeMismatch if the sizes of the vectors do not match.
+     */
+    public void logSoftmax(Vector output) throws VectorSizeMismatch {
+        checkOutput(output);
+        logSoftmaxInto(output.values, output.offset);
+    }
+
+    /**
+     * The logSoftmaxInto method writes the log softmax of the items of values {@link java.lang.reflect.Array} to the
+     * given array.
+     *
+     * @param result       output array.
+     * @param resultOffset index of the first item in the output array.
+     */
+    private void logSoftmaxInto(double[] result, int resultOffset) {
+        double logSum = logSumExp();
+        for (int i = 0; i < size; i++) {
+            result[resultOffset + i] = values[offset + i] - logSum;
+        }
+    }
+
+    /**
+     * The axpy method adds the given vector multiplied with the given constant to this vector, i.e. this = this + a * x,
+     * without allocating a temporary vector.
+     *
+     * @param a constant to multiply the given vector.
+     * @param x vector to add.
+     * @throws VectorSizeMismatch if the sizes of the vectors do not match.
+     */
+    public void axpy(double a, Vector x) throws VectorSizeMismatch {
+        if (size != x.size) {
+            throw new VectorSizeMismatch();
+        }
+        checkWritable();
+        VectorKernels.axpy(values, offset, a, x.values, x.offset, size);
+    }
+
     /**
      * The skipVector method takes a mod and a value as inputs. It creates a new result Vector, and assigns given input value to i.
-     * While i is less than the size, it adds the ith item of values {@link ArrayList} to the result and increments i by given mod input.
+     * While i is less than the size, it adds the ith item of values {@link java.lang.reflect.Array} to the result and
+     * increments i by given mod input.
      *
      * @param mod   integer input.
      * @param value integer input.
      * @return result Vector.
      */
     public Vector skipVector(int mod, int value) {
-        Vector result = new Vector(0, 0);
-        int i = value;
+        Vector result = new Vector(skipVectorSize(mod, value), 0.0);
+        int i = value, j = 0;
         while (i < size) {
-            result.add(values.get(i));
+            result.values[j++] = values[offset + i];
             i += mod;
         }
         return result;
     }
 
+    /**
+     * The skipVectorSize method returns the size of the vector returned by skipVector with the same inputs.
+     *
+     * @param mod   integer input.
+     * @param value integer input.
+     * @return number of items taken by skipVector.
+     */
+    public int skipVectorSize(int mod, int value) {
+        return value < size ? (size - value + mod - 1) / mod : 0;
+    }
+
+    /**
+     * The skipVectorInto method writes the items at positions value, value + mod, value + 2 * mod, ... of values
+     * {@link java.lang.reflect.Array} to the given result {@link Vector}. If the size of the result is not
+     * skipVectorSize(mod, value), it throws a VectorSizeMismatch exception.
+     *
+     * @param mod    integer input.
+     * @param value  integer input.
+     * @param result vector to hold the items.
+     * @throws VectorSizeMismatch exception if the size of the result does not match.
+     */
+    public void skipVectorInto(int mod, int value, Vector result) throws VectorSizeMismatch {
+        if (result.size != skipVectorSize(mod, value)) {
+            throw new VectorSizeMismatch();
+        }
+        result.checkWritable();
+        int i = value, j = result.offset;
+        while (i < size) {
+            result.values[j++] = values[offset + i];
+            i += mod;
+        }
+    }
+
     /**
      * The add method takes a {@link Vector} v as an input. It sums up the corresponding elements of both given vector's
-     * values {@link ArrayList} and values {@link ArrayList} and puts result back to the values {@link ArrayList}.
-     * If their sizes do not match, it throws a VectorSizeMismatch exception.
+     * values {@link java.lang.reflect.Array} and values {@link java.lang.reflect.Array} and puts result back to the values
+     * {@link java.lang.reflect.Array}. If their sizes do not match, it throws a VectorSizeMismatch exception.
      *
      * @param v Vector to add.
      * @throws VectorSizeMismatch exception if sizes do not match.
      */
     public void add(Vector v) throws VectorSizeMismatch {
-        if (size() != v.size()) {
+        checkWritable();
+        if (size != v.size) {
             throw new VectorSizeMismatch();
         }
-        for (int i = 0; i < size; i++) {
-            values.set(i, values.get(i) + v.values.get(i));
+        VectorKernels.add(values, offset, v.values, v.offset, size);
+    }
+
+    /**
+     * The add method takes a {@link SparseVector} v as an input and adds its nonzero items to the corresponding items
+     * of values {@link java.lang.reflect.Array}. If their sizes do not match, it throws a VectorSizeMismatch exception.
+     *
+     * @param v Vector to add.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    public void add(SparseVector v) throws VectorSizeMismatch {
+        if (size != v.size()) {
+            throw new VectorSizeMismatch();
+        }
+        checkWritable();
+        for (int k = 0; k < v.nonZeroCount(); k++) {
+            values[offset + v.getIndex(k)] += v.getNonZeroValue(k);
         }
     }
 
     /**
      * The subtract method takes a {@link Vector} v as an input. It subtracts the corresponding elements of given vector's
-     * values {@link ArrayList} from values {@link ArrayList} and puts result back to the values {@link ArrayList}.
-     * If their sizes do not match, it throws a VectorSizeMismatch exception.
+     * values {@link java.lang.reflect.Array} from values {@link java.lang.reflect.Array} and puts result back to the values
+     * {@link java.lang.reflect.Array}. If their sizes do not match, it throws a VectorSizeMismatch exception.
      *
-     * @param v Vector to subtract from values {@link ArrayList}.
+     * @param v Vector to subtract from values {@link java.lang.reflect.Array}.
      * @throws VectorSizeMismatch exception if sizes do not match.
      */
     public void subtract(Vector v) throws VectorSizeMismatch {
-        if (size() != v.size()) {
+        checkWritable();
+        if (size != v.size) {
             throw new VectorSizeMismatch();
         }
-        for (int i = 0; i < size; i++) {
-            values.set(i, values.get(i) - v.values.get(i));
-        }
+        VectorKernels.subtract(values, offset, v.values, v.offset, size);
     }
 
     /**
      * The difference method takes a {@link Vector} v as an input. It creates a new double {@link java.lang.reflect.Array} result, then
-     * subtracts the corresponding elements of given vector's values {@link ArrayList} from values {@link ArrayList} and puts
-     * result back to the result {@link java.lang.reflect.Array}. If their sizes do not match, it throws a VectorSizeMismatch exception.
+     * subtracts the corresponding elements of given vector's values {@link java.lang.reflect.Array} from values
+     * {@link java.lang.reflect.Array} and puts result back to the result {@link java.lang.reflect.Array}. If their sizes
+     * do not match, it throws a VectorSizeMismatch exception.
      *
-     * @param v Vector to find difference from values {@link ArrayList}.
+     * @param v Vector to find difference from values {@link java.lang.reflect.Array}.
      * @return new {@link Vector} with result {@link java.lang.reflect.Array}.
      * @throws VectorSizeMismatch exception if sizes do not match.
      */
     public Vector difference(Vector v) throws VectorSizeMismatch {
-        if (size() != v.size()) {
+        if (size != v.size) {
             throw new VectorSizeMismatch();
         }
-        double[] result = new double[v.size()];
-        for (int i = 0; i < size; i++) {
-            result[i] = values.get(i) - v.values.get(i);
+        Vector result = new Vector(size, 0.0);
+        VectorKernels.difference(values, offset, v.values, v.offset, result.values, 0, size);
+        return result;
+    }
+
+    /**
+     * The differenceInto method takes {@link Vector}s v and result as inputs and writes the differences of the
+     * corresponding items of values {@link java.lang.reflect.Array} and v to result. If their sizes do not match, it
+     * throws a VectorSizeMismatch exception.
+     *
+     * @param v      Vector to find difference from values {@link java.lang.reflect.Array}.
+     * @param result vector to hold the differences. It may be this vector or v.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    public void differenceInto(Vector v, Vector result) throws VectorSizeMismatch {
+        if (size != v.size || size != result.size) {
+            throw new VectorSizeMismatch();
         }
-        return new Vector(result);
+        result.checkWritable();
+        VectorKernels.difference(values, offset, v.values, v.offset, result.values, result.offset, size);
     }
 
     /**
      * The dotProduct method takes a {@link Vector} v as an input. It creates a new double variable result, then
-     * multiplies the corresponding elements of given vector's values {@link ArrayList} with values {@link ArrayList} and assigns
-     * the multiplication to the result. If their sizes do not match, it throws a VectorSizeMismatch exception.
+     * multiplies the corresponding elements of given vector's values {@link java.lang.reflect.Array} with values
+     * {@link java.lang.reflect.Array} and assigns the multiplication to the result. If their sizes do not match, it
+     * throws a VectorSizeMismatch exception.
      *
      * @param v Vector to find dot product.
      * @return double result.
      * @throws VectorSizeMismatch exception if sizes do not match.
      */
     public double dotProduct(Vector v) throws VectorSizeMismatch {
-        if (size() != v.size()) {
+        if (size != v.size) {
+            throw new VectorSizeMismatch();
+        }
+        return VectorKernels.dot(values, offset, v.values, v.offset, size);
+    }
+
+    /**
+     * The dotProduct method creates a new double variable result, then squares the elements of values
+     * {@link java.lang.reflect.Array} and assigns the accumulation to the result.
+     *
+     * @return double result.
+     */
+    public double dotProduct() {
+        return VectorKernels.sumOfSquares(values, offset, size);
+    }
+
+    /**
+     * The dotProduct method takes a {@link Vector} v and a {@link SummationMode} as inputs and accumulates the
+     * products of the corresponding items of both vectors with the given mode. If their sizes do not match, it throws
+     * a VectorSizeMismatch exception.
+     *
+     * @param v    Vector to find dot product.
+     * @param mode accumulation strategy.
+     * @return double result.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    public double dotProduct(Vector v, SummationMode mode) throws VectorSizeMismatch {
+        if (size != v.size) {
+            throw new VectorSizeMismatch();
+        }
+        return Summation.dot(values, offset, v.values, v.offset, size, mode);
+    }
+
+    /**
+     * The dotProduct method takes a {@link SparseVector} v as an input and multiplies the nonzero items of v with the
+     * corresponding items of values {@link java.lang.reflect.Array}. The cost is proportional to the number of nonzero
+     * items of v. If their sizes do not match, it throws a VectorSizeMismatch exception.
+     *
+     * @param v Vector to find dot product.
+     * @return double result.
+     * @throws VectorSizeMismatch exception if sizes do not match.
+     */
+    public double dotProduct(SparseVector v) throws VectorSizeMismatch {
+        if (size != v.size()) {
             throw new VectorSizeMismatch();
         }
         double result = 0;
-        for (int i = 0; i < size; i++) {
-            result += values.get(i) * v.values.get(i);
+        for (int k = 0; k < v.nonZeroCount(); k++) {
+            result += values[offset + v.getIndex(k)] * v.getNonZeroValue(k);
         }
         return result;
     }
 
     /**
-     * The dotProduct method creates a new double variable result, then squares the elements of values {@link ArrayList} and assigns
-     * the accumulation to the result.
+     * The dotProduct method takes a {@link NumericVector} v as an input and dispatches to the dense or sparse dot
+     * product.
      *
+     * @param v Vector to find dot product.
      * @return double result.
+     * @throws VectorSizeMismatch exception if sizes do not match.
      */
-    public double dotProduct() {
+    public double dotProduct(NumericVector v) throws VectorSizeMismatch {
+        if (v instanceof Vector) {
+            return dotProduct((Vector) v);
+        }
+        if (v instanceof SparseVector) {
+            return dotProduct((SparseVector) v);
+        }
+        if (size != v.size()) {
+            throw new VectorSizeMismatch();
+        }
         double result = 0;
         for (int i = 0; i < size; i++) {
-            result += values.get(i) * values.get(i);
+            result += values[offset + i] * v.getValue(i);
         }
         return result;
     }
 
     /**
      * The elementProduct method takes a {@link Vector} v as an input. It creates a new double {@link java.lang.reflect.Array} result, then
-     * multiplies the corresponding elements of given vector's values {@link ArrayList} with values {@link ArrayList} and assigns
-     * the multiplication to the result {@link java.lang.reflect.Array}. If their sizes do not match, it throws a VectorSizeMismatch exception.
+     * multiplies the corresponding elements of given vector's values {@link java.lang.reflect.Array} with values
+     * {@link java.lang.reflect.Array} and assigns the multiplication to the result {@link java.lang.reflect.Array}. If
+     * their sizes do not match, it throws a VectorSizeMismatch exception.
      *
      * @param v Vector to find dot product.
      * @return Vector with result {@link java.lang.reflect.Array}.
      * @throws VectorSizeMismatch exception if sizes do not match.
      */
     public Vector elementProduct(Vector v) throws VectorSizeMismatch {
-        if (size() != v.size()) {
+        if (size != v.size) {
             throw new VectorSizeMismatch();
         }
-        double[] result = new double[v.size()];
-        for (int i = 0; i < size; i++) {
-            result[i] = values.get(i) * v.values.get(i);
-        }
-        return new Vector(result);
+        Vector result = new Vector(size, 0.0);
+        VectorKernels.elementProduct(values, offset, v.values, v.offset, result.values, 0, size);
+        return result;
     }
 
     /**
      * The multiply method takes a {@link Vector} v as an input and creates new {@link Matrix} m of [size x size of input v].
-     * It loops through the the both values {@link ArrayList} and given vector's values {@link ArrayList}, then multiply
-     * each item with other with other items and puts to the new {@link Matrix} m.
+     * It loops through the the both values {@link java.lang.reflect.Array} and given vector's values
+     * {@link java.lang.reflect.Array}, then multiply each item with other with other items and puts to the new
+     * {@link Matrix} m.
      *
      * @param v Vector input.
      * @return Matrix that has multiplication of two vectors.
@@ -337,75 +1036,97 @@ public class Vector implements Serializable {
         Matrix m = new Matrix(size, v.size);
         for (int i = 0; i < size; i++) {
             for (int j = 0; j < v.size; j++) {
-                m.setValue(i, j, values.get(i) * v.values.get(j));
+                m.setValue(i, j, values[offset + i] * v.values[v.offset + j]);
             }
         }
         return m;
     }
 
     /**
-     * The divide method takes a double value as an input and divides each item of values {@link ArrayList} with given value.
+     * The divide method takes a double value as an input and divides each item of values {@link java.lang.reflect.Array}
+     * with given value.
      *
-     * @param value is used to divide items of values {@link ArrayList}.
+     * @param value is used to divide items of values {@link java.lang.reflect.Array}.
      */
     public void divide(double value) {
+        checkWritable();
         for (int i = 0; i < size; i++) {
-            values.set(i, values.get(i) / value);
+            values[offset + i] /= value;
         }
     }
 
     /**
-     * The multiply method takes a double value as an input and multiplies each item of values {@link ArrayList} with given value.
+     * The multiply method takes a double value as an input and multiplies each item of values
+     * {@link java.lang.reflect.Array} with given value.
      *
-     * @param value is used to multiply items of values {@link ArrayList}.
+     * @param value is used to multiply items of values {@link java.lang.reflect.Array}.
      */
     public void multiply(double value) {
-        for (int i = 0; i < size; i++) {
-            values.set(i, values.get(i) * value);
-        }
+        checkWritable();
+        VectorKernels.scale(values, offset, value, values, offset, size);
     }
 
     /**
      * The product method takes a double value as an input and creates a new result {@link Vector}, then multiplies each
-     * item of values {@link ArrayList} with given value and adds to the result {@link Vector}.
+     * item of values {@link java.lang.reflect.Array} with given value and puts to the result {@link Vector}.
      *
-     * @param value is used to multiply items of values {@link ArrayList}.
+     * @param value is used to multiply items of values {@link java.lang.reflect.Array}.
      * @return Vector result.
      */
     public Vector product(double value) {
-        Vector result = new Vector(0, 0);
-        for (int i = 0; i < size; i++) {
-            result.add(values.get(i) * value);
-        }
+        Vector result = new Vector(size, 0.0);
+        VectorKernels.scale(values, offset, value, result.values, 0, size);
         return result;
     }
 
     /**
-     * The l1Normalize method is used to apply Least Absolute Errors, it accumulates items of values {@link ArrayList} and sets
-     * each item by dividing it by the summation value.
+     * The productInto method takes a double value and a result {@link Vector} as inputs, multiplies each item of values
+     * {@link java.lang.reflect.Array} with given value and writes the products to the result. If their sizes do not
+     * match, it throws a VectorSizeMismatch exception.
+     *
+     * @param value  is used to multiply items of values {@link java.lang.reflect.Array}.
+     * @param result vector to hold the products.
+     * @throws VectorSizeMismatch exception if sizes do not match.
      */
-    public void l1Normalize() {
-        double sum = 0;
-        for (int i = 0; i < size; i++) {
-            sum += values.get(i);
+    public void productInto(double value, Vector result) throws VectorSizeMismatch {
+        if (size != result.size) {
+            throw new VectorSizeMismatch();
         }
+        result.checkWritable();
+        VectorKernels.scale(values, offset, value, result.values, result.offset, size);
+    }
+
+    /**
+     * The l1Normalize method is used to apply Least Absolute Errors, it accumulates items of values
+     * {@link java.lang.reflect.Array} and sets each item by dividing it by the summation value.
+     */
+    public void l1Normalize() {
+        checkWritable();
+        double sum = VectorKernels.sum(values, offset, size);
         for (int i = 0; i < size; i++) {
-            values.set(i, values.get(i) / sum);
+            values[offset + i] /= sum;
         }
     }
 
     /**
-     * The l2Norm method is used to apply Least Squares, it accumulates second power of each items of values {@link ArrayList}
-     * and returns the square root of this summation.
+     * The l2Norm method is used to apply Least Squares, it accumulates second power of each items of values
+     * {@link java.lang.reflect.Array} and returns the square root of this summation.
      *
      * @return square root of this summation.
      */
     public double l2Norm() {
-        double sum = 0;
-        for (int i = 0; i < size; i++) {
-            sum += Math.pow(values.get(i), 2);
-        }
-        return Math.sqrt(sum);
+        return Math.sqrt(VectorKernels.sumOfSquares(values, offset, size));
+    }
+
+    /**
+     * The l2Norm method accumulates the squares of the items of values {@link java.lang.reflect.Array} with the given
+     * {@link SummationMode} and returns the square root of this summation.
+     *
+     * @param mode accumulation strategy.
+     * @return square root of this summation.
+     */
+    public double l2Norm(SummationMode mode) {
+        return Math.sqrt(Summation.sumOfSquares(values, offset, size, mode));
     }
 
     /**
@@ -417,49 +1138,75 @@ public class Vector implements Serializable {
      * @throws VectorSizeMismatch exception.
      */
     public double cosineSimilarity(Vector v) throws VectorSizeMismatch {
-        if (size() != v.size) {
+        if (size != v.size) {
             throw new VectorSizeMismatch();
         }
+        return VectorKernels.dot(values, offset, v.values, v.offset, size) / l2Norm() / v.l2Norm();
+    }
+
+    /**
+     * The cosineSimilarity method takes a {@link NumericVector} v as an input and returns the result of
+     * dotProduct(v) / l2Norm() / v.l2Norm(). For a {@link SparseVector} only its nonzero items are visited.
+     *
+     * @param v Vector input.
+     * @return dotProduct(v) / l2Norm() / v.l2Norm().
+     * @throws VectorSizeMismatch exception.
+     */
+    public double cosineSimilarity(NumericVector v) throws VectorSizeMismatch {
         return dotProduct(v) / l2Norm() / v.l2Norm();
     }
 
     /**
-     * The size method returns the size of the values {@link ArrayList}.
+     * The nonZeroCount method returns the number of stored items, which is the size for a dense vector.
+     *
+     * @return size of the vector.
+     */
+    public int nonZeroCount() {
+        return size;
+    }
+
+    /**
+     * The size method returns the size of the vector.
      *
-     * @return size of the values {@link ArrayList}.
+     * @return size of the vector.
      */
     public int size() {
-        return values.size();
+        return size;
     }
 
     /**
-     * Getter for the item at given index of values {@link ArrayList}.
+     * Getter for the item at given index of values {@link java.lang.reflect.Array}.
      *
      * @param index used to get an item.
      * @return the item at given index.
      */
     public double getValue(int index) {
-        return values.get(index);
+        checkIndex(index);
+        return values[offset + index];
     }
 
     /**
-     * Setter for the setting the value at given index of values {@link ArrayList}.
+     * Setter for the setting the value at given index of values {@link java.lang.reflect.Array}.
      *
      * @param index to set.
      * @param value is used to set the given index
      */
     public void setValue(int index, double value) {
-        values.set(index, value);
+        checkWritable();
+        checkIndex(index);
+        values[offset + index] = value;
     }
 
     /**
-     * The addValue method adds the given value to the item at given index of values {@link ArrayList}.
+     * The addValue method adds the given value to the item at given index of values {@link java.lang.reflect.Array}.
      *
      * @param index to add the given value.
      * @param value value to add to given index.
      */
     public void addValue(int index, double value) {
-        values.set(index, values.get(index) + value);
+        checkWritable();
+        checkIndex(index);
+        values[offset + index] += value;
     }
 
 }
@@ -0,0 +1,331 @@
+package Math;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+
+public class VectorBatch implements Serializable {
+    /**
+     * A batch of vectors of the same dimension stored row by row in a single contiguous double array. Operations on
+     * the whole batch stream the storage once, and multiplying a batch with a {@link Matrix} is a single matrix product
+     * instead of one matrix vector product per vector.
+     */
+
+    private final int count;
+    private final int dimension;
+    private final double[] values;
+
+    /**
+     * A constructor of {@link VectorBatch} class which takes the number of vectors and their dimension as inputs and
+     * creates a batch of zero vectors.
+     *
+     * @param count     number of vectors.
+     * @param dimension dimension of each vector.
+     */
+    public VectorBatch(int count, int dimension) {
+        this.count = count;
+        this.dimension = dimension;
+        values = new double[count * dimension];
+    }
+
+    /**
+     * Another constructor of {@link VectorBatch} class which takes an {@link ArrayList} of {@link Vector}s as an input
+     * and copies them into the batch. If the vectors do not have the same size, it throws a VectorSizeMismatch
+     * exception.
+     *
+     * @param vectors vectors to copy.
+     * @throws VectorSizeMismatch if the sizes of the vectors do not match.
+     */
+    public VectorBatch(ArrayList<Vector> vectors) throws VectorSizeMismatch {
+        this(vectors.size(), vectors.isEmpty() ? 0 : vectors.get(0).size());
+        for (int i = 0; i < count; i++) {
+            setVector(i, vectors.get(i));
+        }
+    }
+
+    /**
+     * Another constructor of {@link VectorBatch} class which takes the number of vectors, their dimension and a
+     * primitive array holding the vectors row by row. The array is not copied.
+     *
+     * @param count     number of vectors.
+     * @param dimension dimension of each vector.
+     * @param values    vectors stored row by row.
+     */
+    public VectorBatch(int count, int dimension, double[] values) {
+        if (values.length != count * dimension) {
+            throw new IllegalArgumentException("Array length " + values.length + " does not match " + count + " x " + dimension + ".");
+        }
+        this.count = count;
+        this.dimension = dimension;
+        this.values = values;
+    }
+
+    /**
+     * The getter for the number of vectors in the batch.
+     *
+     * @return number of vectors.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * The getter for the dimension of the vectors.
+     *
+     * @return dimension of the vectors.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Returns the primitive array holding the vectors row by row.
+     * WARNING: The array is not copied, changes are reflected to the batch.
+     *
+     * @return storage of the batch.
+     */
+    public double[] getData() {
+        return values;
+    }
+
+    /**
+     * The getter for the item at given vector and position.
+     *
+     * @param index    index of the vector.
+     * @param position position in the vector.
+     * @return item at given vector and position.
+     */
+    public double getValue(int index, int position) {
+        return values[index * dimension + position];
+    }
+
+    /**
+     * The setter for the item at given vector and position.
+     *
+     * @param index    index of the vector.
+     * @param position position in the vector.
+     * @param value    is used to set at given vector and position.
+     */
+    public void setValue(int index, int position, double value) {
+        values[index * dimension + position] = value;
+    }
+
+    /**
+     * The getVector method returns the vector at given index as a {@link Vector} view. Changes made through the view
+     * are reflected to the batch.
+     *
+     * @param index index of the vector.
+     * @return view of the vector.
+     */
+    public Vector getVector(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Count: " + count);
+        }
+        return Vector.wrap(values, index * dimension, dimension);
+    }
+
+    /**
+     * The setVector method copies the given {@link Vector} to the given index of the batch. If the size of the vector
+     * does not match the dimension, it throws a VectorSizeMismatch exception.
+     *
+     * @param index index of the vector.
+     * @param v     vector to copy.
+     * @throws VectorSizeMismatch if the size of the vector does not match the dimension.
+     */
+    public void setVector(int index, Vector v) throws VectorSizeMismatch {
+        if (v.size() != dimension) {
+            throw new VectorSizeMismatch();
+        }
+        v.copyInto(values, index * dimension);
+    }
+
+    /**
+     * The dotProduct method takes a {@link Vector} v as an input and returns the dot products of each vector of the
+     * batch with v.
+     *
+     * @param v Vector to find dot products.
+     * @return Vector holding one dot product per vector of the batch.
+     * @throws VectorSizeMismatch if the size of v does not match the dimension.
+     */
+    public Vector dotProduct(Vector v) throws VectorSizeMismatch {
+        if (v.size() != dimension) {
+            throw new VectorSizeMismatch();
+        }
+        double[] other = v.toArray();
+        double[] result = new double[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = VectorKernels.dot(values, i * dimension, other, 0, dimension);
+        }
+        return Vector.wrap(result);
+    }
+
+    /**
+     * The dotProduct method takes a {@link VectorBatch} as an input and returns the dot products of the corresponding
+     * vectors of both batches.
+     *
+     * @param batch batch to find dot products.
+     * @return Vector holding one dot product per pair of vectors.
+     * @throws VectorSizeMismatch if the shapes of the batches do not match.
+     */
+    public Vector dotProduct(VectorBatch batch) throws VectorSizeMismatch {
+        if (count != batch.count || dimension != batch.dimension) {
+            throw new VectorSizeMismatch();
+        }
+        double[] result = new double[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = VectorKernels.dot(values, i * dimension, batch.values, i * dimension, dimension);
+        }
+        return Vector.wrap(result);
+    }
+
+    /**
+     * The l2Norm method returns the l2 norms of the vectors of the batch.
+     *
+     * @return Vector holding one norm per vector of the batch.
+     */
+    public Vector l2Norm() {
+        double[] result = new double[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = Math.sqrt(VectorKernels.sumOfSquares(values, i * dimension, dimension));
+        }
+        return Vector.wrap(result);
+    }
+
+    /**
+     * The cosineSimilarity method takes a {@link Vector} v as an input and returns the cosine similarities of each
+     * vector of the batch with v.
+     *
+     * @param v Vector input.
+     * @return Vector holding one similarity per vector of the batch.
+     * @throws VectorSizeMismatch if the size of v does not match the dimension.
+     */
+    public Vector cosineSimilarity(Vector v) throws VectorSizeMismatch {
+        Vector result = dotProduct(v);
+        Vector norms = l2Norm();
+        double norm = v.l2Norm();
+        for (int i = 0; i < count; i++) {
+            result.setValue(i, result.getValue(i) / norms.getValue(i) / norm);
+        }
+        return result;
+    }
+
+    /**
+     * The cosineSimilarity method takes a {@link VectorBatch} as an input and returns the cosine similarities of the
+     * corresponding vectors of both batches.
+     *
+     * @param batch batch input.
+     * @return Vector holding one similarity per pair of vectors.
+     * @throws VectorSizeMismatch if the shapes of the batches do not match.
+     */
+    public Vector cosineSimilarity(VectorBatch batch) throws VectorSizeMismatch {
+        Vector result = dotProduct(batch);
+        Vector norms = l2Norm();
+        Vector otherNorms = batch.l2Norm();
+        for (int i = 0; i < count; i++) {
+            result.setValue(i, result.getValue(i) / norms.getValue(i) / otherNorms.getValue(i));
+        }
+        return result;
+    }
+
+    /**
+     * The add method takes a {@link Vector} v as an input and adds it to each vector of the batch, as in adding a bias
+     * to a batch of activations.
+     *
+     * @param v Vector to add.
+     * @throws VectorSizeMismatch if the size of v does not match the dimension.
+     */
+    public void add(Vector v) throws VectorSizeMismatch {
+        if (v.size() != dimension) {
+            throw new VectorSizeMismatch();
+        }
+        double[] other = v.toArray();
+        for (int i = 0; i < count; i++) {
+            VectorKernels.add(values, i * dimension, other, 0, dimension);
+        }
+    }
+
+    /**
+     * The sigmoid method sets each item of the batch with the sigmoid function.
+     */
+    public void sigmoid() {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1 / (1 + Math.exp(-values[i]));
+        }
+    }
+
+    /**
+     * The tanh method sets each item of the batch with the tanh function.
+     */
+    public void tanh() {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.tanh(values[i]);
+        }
+    }
+
+    /**
+     * The relu method sets each negative item of the batch to zero.
+     */
+    public void relu() {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < 0) {
+                values[i] = 0.0;
+            }
+        }
+    }
+
+    /**
+     * The softmax method applies the softmax function to each vector of the batch separately. The largest item of
+     * each vector is subtracted before exponentiation so that the result does not overflow.
+     */
+    public void softmax() {
+        for (int i = 0; i < count; i++) {
+            int start = i * dimension;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < dimension; j++) {
+                if (values[start + j] > max) {
+                    max = values[start + j];
+                }
+            }
+            double sum = 0;
+            for (int j = 0; j < dimension; j++) {
+                double e = Math.exp(values[start + j] - max);
+                values[start + j] = e;
+                sum += e;
+            }
+            VectorKernels.scale(values, start, 1 / sum, values, start, dimension);
+        }
+    }
+
+    /**
+     * The multiplyWithMatrixRows method takes a matrix stored row by row and returns the batch holding m * v for each
+     * vector v of the batch. The batch is the count x dimension left operand and the transpose of the matrix, read
+     * through swapped strides, is the right operand of a single {@link Gemm} product on the pool set in
+     * {@link Parallelism}.
+     *
+     * @param matrix items of the matrix stored row by row, each row of length dimension.
+     * @param rows   number of rows of the matrix.
+     * @return batch of the products.
+     */
+    VectorBatch multiplyWithMatrixRows(double[] matrix, int rows) {
+        VectorBatch result = new VectorBatch(count, rows);
+        Gemm.multiply(Parallelism.getPool(), values, 0, dimension, 1, matrix, 0, 1, dimension,
+                result.values, 0, rows, count, rows, dimension);
+        return result;
+    }
+
+    /**
+     * The multiplyWithMatrixColumns method takes a matrix stored row by row and returns the batch holding v * m for
+     * each vector v of the batch. The batch is the count x dimension left operand and the matrix the right operand of
+     * a single {@link Gemm} product on the pool set in {@link Parallelism}.
+     *
+     * @param matrix  items of the matrix stored row by row, whose row count is the dimension of the batch.
+     * @param columns number of columns of the matrix.
+     * @return batch of the products.
+     */
+    VectorBatch multiplyWithMatrixColumns(double[] matrix, int columns) {
+        VectorBatch result = new VectorBatch(count, columns);
+        Gemm.multiply(Parallelism.getPool(), values, 0, dimension, 1, matrix, 0, columns, 1,
+                result.values, 0, columns, count, columns, dimension);
+        return result;
+    }
+
+}
@@ -0,0 +1,220 @@
+package Math;
+
+import java.util.ArrayList;
+
+public class Workspace {
+    /**
+     * A workspace hands out temporary {@link Vector} and {@link Matrix} buffers by shape and recycles them when the
+     * {@link Scope} they were taken in is closed. Once every shape used in a loop has been allocated once, later
+     * iterations reuse the same buffers and allocate nothing. A workspace is not thread safe.
+     */
+
+    private final ArrayList<Vector> freeVectors;
+    private final ArrayList<Matrix> freeMatrices;
+    private final ArrayList<Vector> usedVectors;
+    private final ArrayList<Matrix> usedMatrices;
+    private final ArrayList<Scope> scopes;
+    private int depth;
+
+    /**
+     * A constructor of {@link Workspace} class which creates an empty workspace.
+     */
+    public Workspace() {
+        freeVectors = new ArrayList<>();
+        freeMatrices = new ArrayList<>();
+        usedVectors = new ArrayList<>();
+        usedMatrices = new ArrayList<>();
+        scopes = new ArrayList<>();
+        depth = 0;
+    }
+
+    /**
+     * The scope method opens a new scope. Buffers taken from the returned scope are recycled when it is closed, so it
+     * is meant to be used in a try-with-resources statement. Scopes may be nested, but must be closed in the reverse
+     * order they are opened. Scope objects are reused as well, so opening a scope does not allocate in steady state.
+     *
+     * @return a new innermost scope.
+     */
+    public Scope scope() {
+        if (depth == scopes.size()) {
+            scopes.add(new Scope(depth));
+        }
+        Scope scope = scopes.get(depth);
+        scope.vectorMark = usedVectors.size();
+        scope.matrixMark = usedMatrices.size();
+        scope.open = true;
+        depth++;
+        return scope;
+    }
+
+    /**
+     * The vector method returns a zero {@link Vector} of the given size which stays valid until the innermost open
+     * scope is closed. A pooled vector of the same size is reused if there is one.
+     *
+     * @param size size of the vector.
+     * @return a zero vector of the given size.
+     */
+    private Vector vector(int size) {
+        Vector result = null;
+        for (int i = freeVectors.size() - 1; i >= 0; i--) {
+            if (freeVectors.get(i).size() == size) {
+                result = removeAt(freeVectors, i);
+                result.clear();
+                break;
+            }
+        }
+        if (result == null) {
+            result = new Vector(size, 0.0);
+        }
+        usedVectors.add(result);
+        return result;
+    }
+
+    /**
+     * The matrix method returns a zero row x col {@link Matrix} which stays valid until the innermost open scope is
+     * closed. A pooled matrix of the same shape is reused if there is one.
+     *
+     * @param row number of rows.
+     * @param col number of columns.
+     * @return a zero matrix of the given shape.
+     */
+    private Matrix matrix(int row, int col) {
+        Matrix result = null;
+        for (int i = freeMatrices.size() - 1; i >= 0; i--) {
+            Matrix candidate = freeMatrices.get(i);
+            if (candidate.getRow() == row && candidate.getColumn() == col) {
+                result = removeAt(freeMatrices, i);
+                result.clear();
+                break;
+            }
+        }
+        if (result == null) {
+            result = new Matrix(row, col);
+        }
+        usedMatrices.add(result);
+        return result;
+    }
+
+    /**
+     * The removeAt method removes the item at the given position by moving the last item into its place.
+     *
+     * @param list     list to remove from.
+     * @param position position of the item.
+     * @return removed item.
+     */
+    private static <T> T removeAt(ArrayList<T> list, int position) {
+        T item = list.get(position);
+        T last = list.remove(list.size() - 1);
+        if (position < list.size()) {
+            list.set(position, last);
+        }
+        return item;
+    }
+
+    /**
+     * The release method moves the buffers taken after the given marks back to the pools.
+     *
+     * @param vectorMark number of vectors in use when the scope was opened.
+     * @param matrixMark number of matrices in use when the scope was opened.
+     */
+    private void release(int vectorMark, int matrixMark) {
+        for (int i = usedVectors.size() - 1; i >= vectorMark; i--) {
+            freeVectors.add(usedVectors.remove(i));
+        }
+        for (int i = usedMatrices.size() - 1; i >= matrixMark; i--) {
+            freeMatrices.add(usedMatrices.remove(i));
+        }
+    }
+
+    /**
+     * The pooledVectorCount method returns the number of vectors waiting in the pool.
+     *
+     * @return number of pooled vectors.
+     */
+    public int pooledVectorCount() {
+        return freeVectors.size();
+    }
+
+    /**
+     * The pooledMatrixCount method returns the number of matrices waiting in the pool.
+     *
+     * @return number of pooled matrices.
+     */
+    public int pooledMatrixCount() {
+        return freeMatrices.size();
+    }
+
+    /**
+     * The clear method drops all pooled buffers so that they can be garbage collected. Buffers of open scopes are not
+     * affected.
+     */
+    public void clear() {
+        freeVectors.clear();
+        freeMatrices.clear();
+    }
+
+    public class Scope implements AutoCloseable {
+        /**
+         * A scope of a {@link Workspace}. Buffers taken from a scope must not be used after it is closed.
+         */
+
+        private final int level;
+        private int vectorMark;
+        private int matrixMark;
+        private boolean open;
+
+        /**
+         * A constructor of {@link Scope} class which takes its nesting level as an input.
+         *
+         * @param level nesting level of the scope.
+         */
+        private Scope(int level) {
+            this.level = level;
+        }
+
+        /**
+         * The checkOpen method throws an {@link IllegalStateException} if the scope is closed or is not the innermost
+         * open scope.
+         */
+        private void checkOpen() {
+            if (!open || level != depth - 1) {
+                throw new IllegalStateException("Scope is closed or is not the innermost open scope.");
+            }
+        }
+
+        /**
+         * The vector method returns a zero {@link Vector} of the given size which is recycled when this scope is
+         * closed.
+         *
+         * @param size size of the vector.
+         * @return a zero vector of the given size.
+         */
+        public Vector vector(int size) {
+            checkOpen();
+            return Workspace.this.vector(size);
+        }
+
+        /**
+         * The matrix method returns a zero row x col {@link Matrix} which is recycled when this scope is closed.
+         *
+         * @param row number of rows.
+         * @param col number of columns.
+         * @return a zero matrix of the given shape.
+         */
+        public Matrix matrix(int row, int col) {
+            checkOpen();
+            return Workspace.this.matrix(row, col);
+        }
+
+        /**
+         * The close method returns the buffers taken from this scope to the pools of the workspace.
+         */
+        public void close() {
+            checkOpen();
+            release(vectorMark, matrixMark);
+            open = false;
+            depth--;
+        }
+    }
+
+}
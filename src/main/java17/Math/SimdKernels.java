@@ -0,0 +1,488 @@
+package Math;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementations of the loops in {@link VectorKernels} written with the incubating Vector API. Each method
+ * processes the largest multiple of the preferred lane count with vector instructions and finishes the tail with a
+ * scalar loop. The float versions use twice as many lanes as the double ones. This class is only loaded when the
+ * jdk.incubator.vector module is available. Inside this class FloatVector is the Vector API type, not
+ * {@link Math.FloatVector}.
+ */
+final class SimdKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private SimdKernels() {
+    }
+
+    /**
+     * The dot method accumulates the products of the corresponding items of two slices using vector lanes. See {@link ScalarKernels#dot} for the parameters.
+     */
+    static double dot(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        int step = SPECIES.length();
+        int bound = SPECIES.loopBound(length);
+        DoubleVector accumulator = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += step) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+            accumulator = accumulator.add(x.mul(y));
+        }
+        double result = accumulator.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += a[aOffset + i] * b[bOffset + i];
+        }
+        return result;
+    }
+
+    /**
+     * The sum method accumulates the items of a slice using vector lanes. See {@link ScalarKernels#sum} for the parameters.
+     */
+    static double sum(double[] a, int offset, int length) {
+        int step = SPECIES.length();
+        int bound = SPECIES.loopBound(length);
+        DoubleVector accumulator = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += step) {
+            accumulator = accumulator.add(DoubleVector.fromArray(SPECIES, a, offset + i));
+        }
+        double result = accumulator.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += a[offset + i];
+        }
+        return result;
+    }
+
+    /**
+     * The sumOfSquares method accumulates the squares of the items of a slice using vector lanes. See {@link ScalarKernels#sumOfSquares} for the parameters.
+     */
+    static double sumOfSquares(double[] a, int offset, int length) {
+        int step = SPECIES.length();
+        int bound = SPECIES.loopBound(length);
+        DoubleVector accumulator = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += step) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, a, offset + i);
+            accumulator = accumulator.add(x.mul(x));
+        }
+        double result = accumulator.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double value = a[offset + i];
+            result += value * value;
+        }
+        return result;
+    }
+
+    /**
+     * The add method adds the items of the second slice to the corresponding items of the first slice using vector lanes. See {@link ScalarKernels#add} for the parameters.
+     */
+    static void add(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        int step = SPECIES.length();
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+            x.add(y).intoArray(a, aOffset + i);
+        }
+        for (; i < length; i++) {
+            a[aOffset + i] += b[bOffset + i];
+        }
+    }
+
+    /**
+     * The subtract method subtracts the items of the second slice from the corresponding items of the first slice using vector lanes. See {@link ScalarKernels#subtract} for the parameters.
+     */
+    static void subtract(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        int step = SPECIES.length();
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+            x.sub(y).intoArray(a, aOffset + i);
+        }
+        for (; i < length; i++) {
+            a[aOffset + i] -= b[bOffset + i];
+        }
+    }
+
+    /**
+     * The difference method writes the differences of the corresponding items of two slices into the result slice using vector lanes. See {@link ScalarKernels#difference} for the parameters.
+     */
+    static void difference(double[] a, int aOffset, double[] b, int bOffset, double[] result, int resultOffset, int length) {
+        int step = SPECIES.length();
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+            x.sub(y).intoArray(result, resultOffset + i);
+        }
+        for (; i < length; i++) {
+            result[resultOffset + i] = a[aOffset + i] - b[bOffset + i];
+        }
+    }
+
+    /**
+     * The elementProduct method writes the products of the corresponding items of two slices into the result slice using vector lanes. See {@link ScalarKernels#elementProduct} for the parameters.
+     */
+    static void elementProduct(double[] a, int aOffset, double[] b, int bOffset, double[] result, int resultOffset, int length) {
+        int step = SPECIES.length();
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+            x.mul(y).intoArray(result, resultOffset + i);
+        }
+        for (; i < length; i++) {
+            result[resultOffset + i] = a[aOffset + i] * b[bOffset + i];
+        }
+    }
+
+    /**
+     * The scale method multiplies the items of a slice with the given value and writes them into the result slice using vector lanes. See {@link ScalarKernels#scale} for the parameters.
+     */
+    static void scale(double[] a, int aOffset, double value, double[] result, int resultOffset, int length) {
+        int step = SPECIES.length();
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            DoubleVector.fromArray(SPECIES, a, aOffset + i).mul(value).intoArray(result, resultOffset + i);
+        }
+        for (; i < length; i++) {
+            result[resultOffset + i] = a[aOffset + i] * value;
+        }
+    }
+
+    /**
+     * The axpy method adds the items of the second slice multiplied with the given value to the corresponding items of
+     * the first slice using vector lanes. See {@link ScalarKernels#axpy} for the parameters.
+     */
+    static void axpy(double[] a, int aOffset, double value, double[] b, int bOffset, int length) {
+        int step = SPECIES.length();
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+            x.add(y.mul(value)).intoArray(a, aOffset + i);
+        }
+        for (; i < length; i++) {
+            a[aOffset + i] += value * b[bOffset + i];
+        }
+    }
+
+    /**
+     * The dot4 method computes the dot products of four consecutive rows with the same slice using one vector
+     * accumulator per row, reduced as in {@link #dot}. See {@link ScalarKernels#dot4} for the parameters.
+     */
+    static void dot4(double[] a, int aOffset, int aStride, double[] b, int bOffset, int length, double[] result, int resultOffset) {
+        int step = SPECIES.length();
+        int bound = SPECIES.loopBound(length);
+        int row1 = aOffset + aStride, row2 = row1 + aStride, row3 = row2 + aStride;
+        DoubleVector accumulator0 = DoubleVector.zero(SPECIES);
+        DoubleVector accumulator1 = DoubleVector.zero(SPECIES);
+        DoubleVector accumulator2 = DoubleVector.zero(SPECIES);
+        DoubleVector accumulator3 = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += step) {
+            DoubleVector y = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+            accumulator0 = accumulator0.add(DoubleVector.fromArray(SPECIES, a, aOffset + i).mul(y));
+            accumulator1 = accumulator1.add(DoubleVector.fromArray(SPECIES, a, row1 + i).mul(y));
+            accumulator2 = accumulator2.add(DoubleVector.fromArray(SPECIES, a, row2 + i).mul(y));
+            accumulator3 = accumulator3.add(DoubleVector.fromArray(SPECIES, a, row3 + i).mul(y));
+        }
+        double sum0 = accumulator0.reduceLanes(VectorOperators.ADD);
+        double sum1 = accumulator1.reduceLanes(VectorOperators.ADD);
+        double sum2 = accumulator2.reduceLanes(VectorOperators.ADD);
+        double sum3 = accumulator3.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double value = b[bOffset + i];
+            sum0 += a[aOffset + i] * value;
+            sum1 += a[row1 + i] * value;
+            sum2 += a[row2 + i] * value;
+            sum3 += a[row3 + i] * value;
+        }
+        result[resultOffset] = sum0;
+        result[resultOffset + 1] = sum1;
+        result[resultOffset + 2] = sum2;
+        result[resultOffset + 3] = sum3;
+    }
+
+    /**
+     * The axpy4 method adds four consecutive rows, multiplied with four consecutive values, to a slice using vector
+     * lanes, in the order of four calls of {@link #axpy}. See {@link ScalarKernels#axpy4} for the parameters.
+     */
+    static void axpy4(double[] a, int aOffset, double[] values, int valuesOffset, double[] b, int bOffset, int bStride, int length) {
+        double value0 = values[valuesOffset], value1 = values[valuesOffset + 1];
+        double value2 = values[valuesOffset + 2], value3 = values[valuesOffset + 3];
+        int row1 = bOffset + bStride, row2 = row1 + bStride, row3 = row2 + bStride;
+        int step = SPECIES.length();
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+            x = x.add(DoubleVector.fromArray(SPECIES, b, bOffset + i).mul(value0));
+            x = x.add(DoubleVector.fromArray(SPECIES, b, row1 + i).mul(value1));
+            x = x.add(DoubleVector.fromArray(SPECIES, b, row2 + i).mul(value2));
+            x = x.add(DoubleVector.fromArray(SPECIES, b, row3 + i).mul(value3));
+            x.intoArray(a, aOffset + i);
+        }
+        for (; i < length; i++) {
+            double sum = a[aOffset + i];
+            sum += value0 * b[bOffset + i];
+            sum += value1 * b[row1 + i];
+            sum += value2 * b[row2 + i];
+            sum += value3 * b[row3 + i];
+            a[aOffset + i] = sum;
+        }
+    }
+
+    /**
+     * The dot method accumulates the products of the corresponding items of two slices using float vector lanes. See
+     * {@link ScalarKernels#dot(float[], int, float[], int, int)} for the parameters.
+     */
+    static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        int step = FLOAT_SPECIES.length();
+        int bound = FLOAT_SPECIES.loopBound(length);
+        FloatVector accumulator = FloatVector.zero(FLOAT_SPECIES);
+        int i = 0;
+        for (; i < bound; i += step) {
+            FloatVector x = FloatVector.fromArray(FLOAT_SPECIES, a, aOffset + i);
+            FloatVector y = FloatVector.fromArray(FLOAT_SPECIES, b, bOffset + i);
+            accumulator = accumulator.add(x.mul(y));
+        }
+        float result = accumulator.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += a[aOffset + i] * b[bOffset + i];
+        }
+        return result;
+    }
+
+    /**
+     * The sum method accumulates the items of a slice using float vector lanes. See
+     * {@link ScalarKernels#sum(float[], int, int)} for the parameters.
+     */
+    static float sum(float[] a, int offset, int length) {
+        int step = FLOAT_SPECIES.length();
+        int bound = FLOAT_SPECIES.loopBound(length);
+        FloatVector accumulator = FloatVector.zero(FLOAT_SPECIES);
+        int i = 0;
+        for (; i < bound; i += step) {
+            accumulator = accumulator.add(FloatVector.fromArray(FLOAT_SPECIES, a, offset + i));
+        }
+        float result = accumulator.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += a[offset + i];
+        }
+        return result;
+    }
+
+    /**
+     * The sumOfSquares method accumulates the squares of the items of a slice using float vector lanes. See
+     * {@link ScalarKernels#sumOfSquares(float[], int, int)} for the parameters.
+     */
+    static float sumOfSquares(float[] a, int offset, int length) {
+        int step = FLOAT_SPECIES.length();
+        int bound = FLOAT_SPECIES.loopBound(length);
+        FloatVector accumulator = FloatVector.zero(FLOAT_SPECIES);
+        int i = 0;
+        for (; i < bound; i += step) {
+            FloatVector x = FloatVector.fromArray(FLOAT_SPECIES, a, offset + i);
+            accumulator = accumulator.add(x.mul(x));
+        }
+        float result = accumulator.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            float value = a[offset + i];
+            result += value * value;
+        }
+        return result;
+    }
+
+    /**
+     * The add method adds the items of the second slice to the corresponding items of the first slice using float
+     * vector lanes. See {@link ScalarKernels#add(float[], int, float[], int, int)} for the parameters.
+     */
+    static void add(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        int step = FLOAT_SPECIES.length();
+        int bound = FLOAT_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            FloatVector x = FloatVector.fromArray(FLOAT_SPECIES, a, aOffset + i);
+            FloatVector y = FloatVector.fromArray(FLOAT_SPECIES, b, bOffset + i);
+            x.add(y).intoArray(a, aOffset + i);
+        }
+        for (; i < length; i++) {
+            a[aOffset + i] += b[bOffset + i];
+        }
+    }
+
+    /**
+     * The subtract method subtracts the items of the second slice from the corresponding items of the first slice using
+     * float vector lanes. See {@link ScalarKernels#subtract(float[], int, float[], int, int)} for the parameters.
+     */
+    static void subtract(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        int step = FLOAT_SPECIES.length();
+        int bound = FLOAT_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            FloatVector x = FloatVector.fromArray(FLOAT_SPECIES, a, aOffset + i);
+            FloatVector y = FloatVector.fromArray(FLOAT_SPECIES, b, bOffset + i);
+            x.sub(y).intoArray(a, aOffset + i);
+        }
+        for (; i < length; i++) {
+            a[aOffset + i] -= b[bOffset + i];
+        }
+    }
+
+    /**
+     * The difference method writes the differences of the corresponding items of two slices into the result slice using
+     * float vector lanes. See {@link ScalarKernels#difference(float[], int, float[], int, float[], int, int)} for
+     * the parameters.
+     */
+    static void difference(float[] a, int aOffset, float[] b, int bOffset, float[] result, int resultOffset, int length) {
+        int step = FLOAT_SPECIES.length();
+        int bound = FLOAT_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            FloatVector x = FloatVector.fromArray(FLOAT_SPECIES, a, aOffset + i);
+            FloatVector y = FloatVector.fromArray(FLOAT_SPECIES, b, bOffset + i);
+            x.sub(y).intoArray(result, resultOffset + i);
+        }
+        for (; i < length; i++) {
+            result[resultOffset + i] = a[aOffset + i] - b[bOffset + i];
+        }
+    }
+
+    /**
+     * The elementProduct method writes the products of the corresponding items of two slices into the result slice
+     * using float vector lanes. See
+     * {@link ScalarKernels#elementProduct(float[], int, float[], int, float[], int, int)} for the parameters.
+     */
+    static void elementProduct(float[] a, int aOffset, float[] b, int bOffset, float[] result, int resultOffset, int length) {
+        int step = FLOAT_SPECIES.length();
+        int bound = FLOAT_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            FloatVector x = FloatVector.fromArray(FLOAT_SPECIES, a, aOffset + i);
+            FloatVector y = FloatVector.fromArray(FLOAT_SPECIES, b, bOffset + i);
+            x.mul(y).intoArray(result, resultOffset + i);
+        }
+        for (; i < length; i++) {
+            result[resultOffset + i] = a[aOffset + i] * b[bOffset + i];
+        }
+    }
+
+    /**
+     * The scale method multiplies the items of a slice with the given value and writes them into the result slice using
+     * float vector lanes. See {@link ScalarKernels#scale(float[], int, float, float[], int, int)} for the
+     * parameters.
+     */
+    static void scale(float[] a, int aOffset, float value, float[] result, int resultOffset, int length) {
+        int step = FLOAT_SPECIES.length();
+        int bound = FLOAT_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            FloatVector.fromArray(FLOAT_SPECIES, a, aOffset + i).mul(value).intoArray(result, resultOffset + i);
+        }
+        for (; i < length; i++) {
+            result[resultOffset + i] = a[aOffset + i] * value;
+        }
+    }
+
+    /**
+     * The axpy method adds the items of the second slice multiplied with the given value to the corresponding items of
+     * the first slice using float vector lanes. See
+     * {@link ScalarKernels#axpy(float[], int, float, float[], int, int)} for the parameters.
+     */
+    static void axpy(float[] a, int aOffset, float value, float[] b, int bOffset, int length) {
+        int step = FLOAT_SPECIES.length();
+        int bound = FLOAT_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            FloatVector x = FloatVector.fromArray(FLOAT_SPECIES, a, aOffset + i);
+            FloatVector y = FloatVector.fromArray(FLOAT_SPECIES, b, bOffset + i);
+            x.add(y.mul(value)).intoArray(a, aOffset + i);
+        }
+        for (; i < length; i++) {
+            a[aOffset + i] += value * b[bOffset + i];
+        }
+    }
+
+    /**
+     * The dot4 method computes the dot products of four consecutive rows with the same slice using one float vector
+     * accumulator per row, reduced as in {@link #dot}. See
+     * {@link ScalarKernels#dot4(float[], int, int, float[], int, int, float[], int)} for the parameters.
+     */
+    static void dot4(float[] a, int aOffset, int aStride, float[] b, int bOffset, int length, float[] result, int resultOffset) {
+        int step = FLOAT_SPECIES.length();
+        int bound = FLOAT_SPECIES.loopBound(length);
+        int row1 = aOffset + aStride, row2 = row1 + aStride, row3 = row2 + aStride;
+        FloatVector accumulator0 = FloatVector.zero(FLOAT_SPECIES);
+        FloatVector accumulator1 = FloatVector.zero(FLOAT_SPECIES);
+        FloatVector accumulator2 = FloatVector.zero(FLOAT_SPECIES);
+        FloatVector accumulator3 = FloatVector.zero(FLOAT_SPECIES);
+        int i = 0;
+        for (; i < bound; i += step) {
+            FloatVector y = FloatVector.fromArray(FLOAT_SPECIES, b, bOffset + i);
+            accumulator0 = accumulator0.add(FloatVector.fromArray(FLOAT_SPECIES, a, aOffset + i).mul(y));
+            accumulator1 = accumulator1.add(FloatVector.fromArray(FLOAT_SPECIES, a, row1 + i).mul(y));
+            accumulator2 = accumulator2.add(FloatVector.fromArray(FLOAT_SPECIES, a, row2 + i).mul(y));
+            accumulator3 = accumulator3.add(FloatVector.fromArray(FLOAT_SPECIES, a, row3 + i).mul(y));
+        }
+        float sum0 = accumulator0.reduceLanes(VectorOperators.ADD);
+        float sum1 = accumulator1.reduceLanes(VectorOperators.ADD);
+        float sum2 = accumulator2.reduceLanes(VectorOperators.ADD);
+        float sum3 = accumulator3.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            float value = b[bOffset + i];
+            sum0 += a[aOffset + i] * value;
+            sum1 += a[row1 + i] * value;
+            sum2 += a[row2 + i] * value;
+            sum3 += a[row3 + i] * value;
+        }
+        result[resultOffset] = sum0;
+        result[resultOffset + 1] = sum1;
+        result[resultOffset + 2] = sum2;
+        result[resultOffset + 3] = sum3;
+    }
+
+    /**
+     * The axpy4 method adds four consecutive rows, multiplied with four consecutive values, to a slice using float
+     * vector lanes, in the order of four calls of {@link #axpy}. See
+     * {@link ScalarKernels#axpy4(float[], int, float[], int, float[], int, int, int)} for the parameters.
+     */
+    static void axpy4(float[] a, int aOffset, float[] values, int valuesOffset, float[] b, int bOffset, int bStride, int length) {
+        float value0 = values[valuesOffset], value1 = values[valuesOffset + 1];
+        float value2 = values[valuesOffset + 2], value3 = values[valuesOffset + 3];
+        int row1 = bOffset + bStride, row2 = row1 + bStride, row3 = row2 + bStride;
+        int step = FLOAT_SPECIES.length();
+        int bound = FLOAT_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            FloatVector x = FloatVector.fromArray(FLOAT_SPECIES, a, aOffset + i);
+            x = x.add(FloatVector.fromArray(FLOAT_SPECIES, b, bOffset + i).mul(value0));
+            x = x.add(FloatVector.fromArray(FLOAT_SPECIES, b, row1 + i).mul(value1));
+            x = x.add(FloatVector.fromArray(FLOAT_SPECIES, b, row2 + i).mul(value2));
+            x = x.add(FloatVector.fromArray(FLOAT_SPECIES, b, row3 + i).mul(value3));
+            x.intoArray(a, aOffset + i);
+        }
+        for (; i < length; i++) {
+            float sum = a[aOffset + i];
+            sum += value0 * b[bOffset + i];
+            sum += value1 * b[row1 + i];
+            sum += value2 * b[row2 + i];
+            sum += value3 * b[row3 + i];
+            a[aOffset + i] = sum;
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package Math;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BinaryFormatTest {
+
+    private String temporaryFile() throws IOException {
+        File file = File.createTempFile("binary", ".smat");
+        file.deleteOnExit();
+        return file.getPath();
+    }
+
+    @Test
+    public void testMatrix() throws IOException {
+        String fileName = temporaryFile();
+        for (int[] shape : new int[][]{{0, 0}, {1, 1}, {3, 7}, {400, 401}}) {
+            Matrix matrix = new Matrix(shape[0], shape[1], -1e6, 1e6, new Random(shape[0]));
+            BinaryFormat.write(fileName, matrix);
+            Matrix read = BinaryFormat.readMatrix(fileName);
+            assertEquals(shape[0], read.getRow());
+            assertEquals(shape[1], read.getColumn());
+            assertArrayEquals(matrix.getData(), read.getData(), 0.0);
+        }
+        assertEquals(64 + 8 * 400 * 401 + 4 * 2, new File(fileName).length());
+    }
+
+    @Test
+    public void testVectorAndTensor() throws IOException {
+        String fileName = temporaryFile();
+        Vector vector = new Vector(new double[]{Double.NaN, -0.0, Double.MIN_VALUE, Double.POSITIVE_INFINITY, Math.PI});
+        BinaryFormat.write(fileName, vector);
+        assertArrayEquals(vector.toArray(), BinaryFormat.readVector(fileName).toArray(), 0.0);
+        assertThrows(IOException.class, () -> BinaryFormat.readMatrix(fileName));
+        double[] data = new double[2 * 3 * 4];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i * 0.1;
+        }
+        Tensor tensor = new Tensor(data, new int[]{2, 3, 4});
+        BinaryFormat.write(fileName, tensor);
+        Tensor read = BinaryFormat.readTensor(fileName);
+        assertArrayEquals(new int[]{2, 3, 4}, read.getShape());
+        assertArrayEquals(data, read.getData(), 0.0);
+        assertThrows(IOException.class, () -> BinaryFormat.readVector(fileName));
+        BinaryFormat.write(fileName, new Matrix(2, 5));
+        assertArrayEquals(new int[]{2, 5}, BinaryFormat.readTensor(fileName).getShape());
+    }
+
+    @Test
+    public void testCorruption() throws IOException {
+        String fileName = temporaryFile();
+        BinaryFormat.write(fileName, new Matrix(500, 300, -1, 1, new Random(1)));
+        try (RandomAccessFile file = new RandomAccessFile(fileName, "rw")) {
+            file.seek(64 + 8 * 140000 + 3);
+            int value = file.read();
+            file.seek(64 + 8 * 140000 + 3);
+            file.write(value ^ 1);
+        }
+        IOException exception = assertThrows(IOException.class, () -> BinaryFormat.readMatrix(fileName));
+        assertTrue(exception.getMessage().contains("block 1"));
+        BinaryFormat.write(fileName, new Matrix(4, 4));
+        try (RandomAccessFile file = new RandomAccessFile(fileName, "rw")) {
+            file.seek(16);
+            file.write(5);
+        }
+        assertThrows(IOException.class, () -> BinaryFormat.readMatrix(fileName));
+        try (RandomAccessFile file = new RandomAccessFile(fileName, "rw")) {
+            file.seek(0);
+            file.write('X');
+        }
+        assertThrows(IOException.class, () -> BinaryFormat.readMatrix(fileName));
+        BinaryFormat.write(fileName, new Matrix(4, 4));
+        try (RandomAccessFile file = new RandomAccessFile(fileName, "rw")) {
+            file.setLength(100);
+        }
+        assertThrows(IOException.class, () -> BinaryFormat.readMatrix(fileName));
+    }
+
+}
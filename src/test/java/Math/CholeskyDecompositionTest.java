@@ -0,0 +1,146 @@
+package Math;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class CholeskyDecompositionTest {
+
+    private Matrix positiveDefinite(int n, Random random) {
+        Matrix a = new Matrix(n, n, -1, 1, random);
+        Matrix result = new Matrix(n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double sum = i == j ? n : 0.0;
+                for (int k = 0; k < n; k++) {
+                    sum += a.getValue(i, k) * a.getValue(j, k);
+                }
+                result.setValue(i, j, sum);
+            }
+        }
+        return result;
+    }
+
+    private void assertFactor(Matrix a, Matrix l, double delta) {
+        int n = a.getRow();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (j > i) {
+                    assertEquals(0.0, l.getValue(i, j), 0.0);
+                }
+                double sum = 0.0;
+                for (int k = 0; k < n; k++) {
+                    sum += l.getValue(i, k) * l.getValue(j, k);
+                }
+                assertEquals(a.getValue(i, j), sum, delta);
+            }
+        }
+    }
+
+    @Test
+    public void testFactor() throws MatrixNotSquare, MatrixNotSymmetric, MatrixNotPositiveDefinite {
+        for (int n : new int[]{1, 7, 64, 150}) {
+            Matrix a = positiveDefinite(n, new Random(n));
+            assertFactor(a, new CholeskyDecomposition(a).getL(), 1e-9);
+            assertFactor(a, a.choleskyDecomposition(), 1e-9);
+        }
+        ForkJoinPool pool = new ForkJoinPool(3);
+        long threshold = Parallelism.getThreshold();
+        try {
+            Matrix a = positiveDefinite(150, new Random(5));
+            Matrix sequential = new CholeskyDecomposition(a).getL();
+            Parallelism.setPool(pool);
+            Parallelism.setThreshold(0);
+            Matrix parallel = new CholeskyDecomposition(a).getL();
+            for (int i = 0; i < 150; i++) {
+                for (int j = 0; j < 150; j++) {
+                    assertEquals(sequential.getValue(i, j), parallel.getValue(i, j), 0.0);
+                }
+            }
+        } finally {
+            Parallelism.setPool(null);
+            Parallelism.setThreshold(threshold);
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSolveAndDeterminant() throws MatrixNotSquare, MatrixNotSymmetric, MatrixNotPositiveDefinite,
+            MatrixRowMismatch, MatrixColumnMismatch {
+        Random random = new Random(2);
+        Matrix a = positiveDefinite(90, random);
+        CholeskyDecomposition cholesky = new CholeskyDecomposition(a);
+        Vector x = new Vector(90, 0.0);
+        for (int i = 0; i < 90; i++) {
+            x.setValue(i, random.nextDouble());
+        }
+        Vector solution = cholesky.solve(a.multiplyWithVectorFromRight(x));
+        for (int i = 0; i < 90; i++) {
+            assertEquals(x.getValue(i), solution.getValue(i), 1e-10);
+        }
+        Matrix b = new Matrix(90, 4, -1, 1, random);
+        Matrix solutions = cholesky.solve(b);
+        for (int j = 0; j < 4; j++) {
+            Vector column = new Vector(90, 0.0);
+            for (int i = 0; i < 90; i++) {
+                column.setValue(i, solutions.getValue(i, j));
+            }
+            Vector check = a.multiplyWithVectorFromRight(column);
+            for (int i = 0; i < 90; i++) {
+                assertEquals(b.getValue(i, j), check.getValue(i), 1e-10);
+            }
+        }
+        Matrix small = positiveDefinite(6, random);
+        CholeskyDecomposition smallCholesky = new CholeskyDecomposition(small);
+        assertEquals(Math.log(small.determinant()), smallCholesky.logDeterminant(), 1e-9);
+        assertEquals(small.determinant(), smallCholesky.determinant(), 1e-6 * small.determinant());
+        Matrix large = new Matrix(400);
+        large.multiplyWithConstant(10.0);
+        assertEquals(Double.POSITIVE_INFINITY, new CholeskyDecomposition(large).determinant(), 0.0);
+        assertEquals(400 * Math.log(10.0), new CholeskyDecomposition(large).logDeterminant(), 1e-9);
+        assertThrows(MatrixRowMismatch.class, () -> cholesky.solve(new Vector(3, 1.0)));
+    }
+
+    @Test
+    public void testUpdateAndDowndate() throws MatrixNotSquare, MatrixNotSymmetric, MatrixNotPositiveDefinite,
+            MatrixRowMismatch {
+        Random random = new Random(3);
+        Matrix a = positiveDefinite(40, random);
+        CholeskyDecomposition cholesky = new CholeskyDecomposition(a);
+        Vector x = new Vector(40, 0.0);
+        for (int i = 0; i < 40; i++) {
+            x.setValue(i, random.nextDouble());
+        }
+        cholesky.update(x);
+        Matrix updated = a.clone();
+        for (int i = 0; i < 40; i++) {
+            for (int j = 0; j < 40; j++) {
+                updated.setValue(i, j, a.getValue(i, j) + x.getValue(i) * x.getValue(j));
+            }
+        }
+        assertFactor(updated, cholesky.getL(), 1e-9);
+        cholesky.downdate(x);
+        assertFactor(a, cholesky.getL(), 1e-9);
+        Matrix before = cholesky.getL();
+        Vector big = new Vector(40, 100.0);
+        assertThrows(MatrixNotPositiveDefinite.class, () -> cholesky.downdate(big));
+        assertFactor(a, before, 1e-9);
+        assertEquals(before.getValue(39, 39), cholesky.getL().getValue(39, 39), 0.0);
+        assertThrows(MatrixRowMismatch.class, () -> cholesky.update(new Vector(3, 1.0)));
+    }
+
+    @Test
+    public void testErrors() {
+        Matrix notSymmetric = new Matrix(3, 3);
+        notSymmetric.setValue(0, 1, 1.0);
+        assertThrows(MatrixNotSymmetric.class, () -> new CholeskyDecomposition(notSymmetric));
+        Matrix notPositive = new Matrix(3);
+        notPositive.setValue(2, 2, -1.0);
+        assertThrows(MatrixNotPositiveDefinite.class, () -> new CholeskyDecomposition(notPositive));
+        assertThrows(MatrixNotSquare.class, () -> new CholeskyDecomposition(new Matrix(2, 3)));
+    }
+
+}
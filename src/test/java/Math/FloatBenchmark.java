@@ -0,0 +1,57 @@
+package Math;
+
+import java.util.Random;
+
+/**
+ * Compares the single precision {@link FloatMatrix} and {@link FloatVector} with their double counterparts on the
+ * calling thread. Not a unit test; run its main method directly, optionally passing the matrix size as an argument.
+ * Start the JVM with --add-modules jdk.incubator.vector to measure the SIMD kernels, where float runs on twice as many
+ * lanes; without them both precisions run the same scalar loops and only the memory traffic is halved.
+ */
+public class FloatBenchmark {
+
+    private interface Operation {
+        Object run() throws Exception;
+    }
+
+    private static int sink;
+
+    private static double time(Operation operation, int repetitions) throws Exception {
+        for (int i = 0; i < 3; i++) {
+            sink += operation.run().hashCode();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < repetitions; i++) {
+            sink += operation.run().hashCode();
+        }
+        return (System.nanoTime() - start) / 1e6;
+    }
+
+    private static void report(String name, double doubleTime, double floatTime) {
+        System.out.printf("%-28s double %9.1f ms  float %9.1f ms  (%.1fx)%n", name, doubleTime, floatTime, doubleTime / floatTime);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1024;
+        Parallelism.setPool(null);
+        Random random = new Random(1);
+        Matrix a = new Matrix(n, n, -1, 1, random);
+        Matrix b = new Matrix(n, n, -1, 1, random);
+        Vector x = new Vector(n, 0.0);
+        for (int i = 0; i < n; i++) {
+            x.setValue(i, random.nextDouble());
+        }
+        FloatMatrix floatA = new FloatMatrix(a), floatB = new FloatMatrix(b);
+        FloatVector floatX = new FloatVector(x);
+        report("multiply", time(() -> a.multiply(b), 3), time(() -> floatA.multiply(floatB), 3));
+        report("multiplyWithVectorFromRight", time(() -> a.multiplyWithVectorFromRight(x), 200),
+                time(() -> floatA.multiplyWithVectorFromRight(floatX), 200));
+        report("multiplyWithVectorFromLeft", time(() -> a.multiplyWithVectorFromLeft(x), 200),
+                time(() -> floatA.multiplyWithVectorFromLeft(floatX), 200));
+        report("transpose", time(a::transpose, 20), time(floatA::transpose, 20));
+        Vector row = a.getRow(0);
+        FloatVector floatRow = floatA.getRow(0);
+        report("dotProduct", time(() -> row.dotProduct(x), 100000), time(() -> floatRow.dotProduct(floatX), 100000));
+    }
+
+}
@@ -0,0 +1,123 @@
+package Math;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class FloatMatrixTest {
+
+    @Test
+    public void testMultiply() throws Exception{
+        Matrix random1 = new Matrix(30, 40, -1, 1, new Random(1));
+        Matrix random2 = new Matrix(40, 20, -1, 1, new Random(2));
+        Matrix expected = random1.multiply(random2);
+        FloatMatrix result = new FloatMatrix(random1).multiply(new FloatMatrix(random2));
+        assertEquals(30, result.getRow());
+        assertEquals(20, result.getColumn());
+        for (int i = 0; i < 30; i++) {
+            for (int j = 0; j < 20; j++) {
+                assertEquals(expected.getValue(i, j), result.getValue(i, j), 0.0001);
+            }
+        }
+    }
+
+    @Test
+    public void testLargeMultiply() throws Exception{
+        Random random = new Random(4);
+        for (int[] shape : new int[][]{{67, 130, 45}, {150, 300, 530}, {3, 1000, 70}}) {
+            Matrix random1 = new Matrix(shape[0], shape[1], -1, 1, random);
+            Matrix random2 = new Matrix(shape[1], shape[2], -1, 1, random);
+            Matrix expected = random1.multiply(random2);
+            FloatMatrix float1 = new FloatMatrix(random1), float2 = new FloatMatrix(random2);
+            FloatMatrix result = float1.multiply(float2);
+            for (int i = 0; i < shape[0]; i++) {
+                for (int j = 0; j < shape[2]; j++) {
+                    assertEquals(expected.getValue(i, j), result.getValue(i, j), 1e-4 * shape[1]);
+                }
+            }
+            java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(3);
+            Parallelism.setPool(pool);
+            Parallelism.setThreshold(0);
+            try {
+                FloatMatrix parallel = float1.multiply(float2);
+                for (int i = 0; i < shape[0]; i++) {
+                    for (int j = 0; j < shape[2]; j++) {
+                        assertEquals(result.getValue(i, j), parallel.getValue(i, j), 0.0f);
+                    }
+                }
+            } finally {
+                Parallelism.setPool(null);
+                Parallelism.setThreshold(Parallelism.DEFAULT_THRESHOLD);
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testLargeTransposeAndVectors() throws Exception{
+        Matrix matrix = new Matrix(75, 131, -1, 1, new Random(5));
+        Vector right = new Vector(131, 0.0), left = new Vector(75, 0.0);
+        for (int i = 0; i < 131; i++) {
+            right.setValue(i, Math.sin(i));
+        }
+        for (int i = 0; i < 75; i++) {
+            left.setValue(i, Math.cos(i));
+        }
+        FloatMatrix floatMatrix = new FloatMatrix(matrix);
+        FloatMatrix transpose = floatMatrix.transpose();
+        assertEquals(131, transpose.getRow());
+        for (int i = 0; i < 75; i++) {
+            for (int j = 0; j < 131; j++) {
+                assertEquals(floatMatrix.getValue(i, j), transpose.getValue(j, i), 0.0f);
+            }
+        }
+        Vector expectedRight = matrix.multiplyWithVectorFromRight(right);
+        FloatVector resultRight = floatMatrix.multiplyWithVectorFromRight(new FloatVector(right));
+        for (int i = 0; i < 75; i++) {
+            assertEquals(expectedRight.getValue(i), resultRight.getValue(i), 1e-4);
+        }
+        Vector expectedLeft = matrix.multiplyWithVectorFromLeft(left);
+        FloatVector resultLeft = floatMatrix.multiplyWithVectorFromLeft(new FloatVector(left));
+        for (int i = 0; i < 131; i++) {
+            assertEquals(expectedLeft.getValue(i), resultLeft.getValue(i), 1e-4);
+        }
+    }
+
+    @Test
+    public void testMultiplyPropagatesNaN() throws Exception{
+        FloatMatrix zeros = new FloatMatrix(2, 2);
+        FloatMatrix other = new FloatMatrix(2, 2);
+        other.setValue(0, 1, Float.NaN);
+        other.setValue(1, 0, Float.POSITIVE_INFINITY);
+        FloatMatrix result = zeros.multiply(other);
+        assertTrue(Float.isNaN(result.getValue(0, 0)));
+        assertTrue(Float.isNaN(result.getValue(1, 1)));
+    }
+
+    @Test
+    public void testTransposeAndVectors() throws Exception{
+        FloatMatrix matrix = new FloatMatrix(3, 4, 1, 10, new Random(3));
+        FloatMatrix transpose = matrix.transpose();
+        assertEquals(matrix.getValue(1, 2), transpose.getValue(2, 1), 0.0f);
+        FloatVector ones = new FloatVector(4, 1.0f);
+        FloatVector right = matrix.multiplyWithVectorFromRight(ones);
+        FloatVector left = transpose.multiplyWithVectorFromLeft(ones);
+        assertEquals(matrix.sumOfElements(), right.sumOfElements(), 0.001f);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(right.getValue(i), left.getValue(i), 0.0001f);
+        }
+    }
+
+    @Test
+    public void testConversionAndAdd() throws Exception{
+        Matrix identity = new Matrix(5);
+        FloatMatrix matrix = new FloatMatrix(identity);
+        matrix.add(new FloatMatrix(identity));
+        assertEquals(10, matrix.sumOfElements(), 0.0f);
+        assertEquals(10, matrix.toMatrix().sumOfElements(), 0.0);
+        assertEquals(10, matrix.elementProduct(new FloatMatrix(identity)).sumOfElements(), 0.0f);
+    }
+
+}
@@ -0,0 +1,48 @@
+package Math;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class FloatTensorTest {
+
+    @Test
+    public void testBroadcastAdd() {
+        FloatTensor a = new FloatTensor(new float[]{1, 2, 3, 4, 5, 6}, new int[]{2, 3});
+        FloatTensor b = new FloatTensor(new float[]{10, 20, 30}, new int[]{3});
+        FloatTensor sum = a.add(b);
+        assertArrayEquals(new int[]{2, 3}, sum.getShape());
+        assertArrayEquals(new float[]{11, 22, 33, 14, 25, 36}, sum.getData(), 0.0f);
+        FloatTensor column = new FloatTensor(new float[]{1, 2}, new int[]{2, 1});
+        assertArrayEquals(new float[]{1, 2, 3, 8, 10, 12}, a.hadamardProduct(column).getData(), 0.0f);
+        assertArrayEquals(new float[]{0, 1, 2, 2, 3, 4}, a.subtract(column).getData(), 0.0f);
+    }
+
+    @Test
+    public void testTransposeMatchesTensor() {
+        double[] data = new double[24];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i;
+        }
+        Tensor tensor = new Tensor(data, new int[]{2, 3, 4});
+        FloatTensor floatTensor = new FloatTensor(tensor);
+        int[] axes = {1, 2, 0};
+        Tensor expected = tensor.transpose(axes);
+        FloatTensor result = floatTensor.transpose(axes);
+        assertArrayEquals(expected.getShape(), result.getShape());
+        assertArrayEquals(expected.getData(), result.toTensor().getData(), 0.0);
+    }
+
+    @Test
+    public void testBatchMultiply() {
+        FloatTensor a = new FloatTensor(new float[]{1, 2, 3, 4, 9, 10, 11, 12}, new int[]{2, 2, 2});
+        FloatTensor b = new FloatTensor(new float[]{5, 6, 7, 8}, new int[]{2, 2});
+        FloatTensor result = a.multiply(b);
+        assertArrayEquals(new int[]{2, 2, 2}, result.getShape());
+        assertArrayEquals(new float[]{19, 22, 43, 50, 115, 134, 139, 162}, result.getData(), 0.0f);
+        assertTrue(Arrays.equals(new int[]{2, 2, 2}, a.reshape(new int[]{2, 2, 2}).getShape()));
+    }
+
+}
@@ -0,0 +1,71 @@
+package Math;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FloatVectorTest {
+    FloatVector smallVector1, smallVector2;
+
+    @Before
+    public void setUp() {
+        smallVector1 = new FloatVector(new float[]{2, 3, 4, 5, 6});
+        smallVector2 = new FloatVector(new float[]{8, 7, 6, 5, 4});
+    }
+
+    @Test
+    public void testArithmetic() throws Exception{
+        assertEquals(110, smallVector1.dotProduct(smallVector2), 0.0);
+        assertEquals(90, smallVector1.dotProduct(), 0.0);
+        assertEquals(-10, smallVector1.difference(smallVector2).sumOfElements(), 0.0);
+        assertEquals(110, smallVector1.elementProduct(smallVector2).sumOfElements(), 0.0);
+        assertEquals(0.8411910, smallVector1.cosineSimilarity(smallVector2), 0.000001);
+        smallVector1.add(smallVector2);
+        assertEquals(50, smallVector1.sumOfElements(), 0.0);
+        smallVector1.multiply(0.5f);
+        assertEquals(25, smallVector1.sumOfElements(), 0.0);
+    }
+
+    @Test
+    public void testLargeArithmetic() throws Exception{
+        float[] data1 = new float[103], data2 = new float[103];
+        double dot = 0, sum = 0, squares = 0;
+        for (int i = 0; i < 103; i++) {
+            data1[i] = (float) Math.sin(i);
+            data2[i] = (float) Math.cos(i);
+            dot += (double) data1[i] * data2[i];
+            sum += data1[i];
+            squares += (double) data1[i] * data1[i];
+        }
+        FloatVector vector1 = new FloatVector(data1), vector2 = new FloatVector(data2);
+        assertEquals(dot, vector1.dotProduct(vector2), 1e-4);
+        assertEquals(sum, vector1.sumOfElements(), 1e-4);
+        assertEquals(squares, vector1.dotProduct(), 1e-4);
+        FloatVector difference = vector1.difference(vector2);
+        FloatVector product = vector1.elementProduct(vector2);
+        vector1.subtract(vector2);
+        vector2.multiply(2.0f);
+        for (int i = 0; i < 103; i++) {
+            assertEquals(data1[i] - data2[i], difference.getValue(i), 0.0f);
+            assertEquals(data1[i] * data2[i], product.getValue(i), 0.0f);
+            assertEquals(data1[i] - data2[i], vector1.getValue(i), 0.0f);
+            assertEquals(2.0f * data2[i], vector2.getValue(i), 0.0f);
+        }
+    }
+
+    @Test
+    public void testConversion() {
+        Vector vector = smallVector1.toVector();
+        assertEquals(20, vector.sumOfElements(), 0.0);
+        FloatVector converted = new FloatVector(new Vector(new double[]{0.1, 0.2}));
+        assertEquals(0.1f, converted.getValue(0), 0.0f);
+        assertEquals(2, converted.size());
+    }
+
+    @Test(expected = VectorSizeMismatch.class)
+    public void testSizeMismatch() throws Exception{
+        smallVector1.dotProduct(new FloatVector(3, 1.0f));
+    }
+
+}
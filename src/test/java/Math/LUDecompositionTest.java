@@ -0,0 +1,108 @@
+package Math;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class LUDecompositionTest {
+
+    private Matrix product(Matrix a, Matrix b) {
+        Matrix result = new Matrix(a.getRow(), b.getColumn());
+        for (int i = 0; i < a.getRow(); i++) {
+            for (int j = 0; j < b.getColumn(); j++) {
+                double sum = 0.0;
+                for (int k = 0; k < a.getColumn(); k++) {
+                    sum += a.getValue(i, k) * b.getValue(k, j);
+                }
+                result.setValue(i, j, sum);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testFactors() throws MatrixNotSquare {
+        for (int n : new int[]{1, 5, 64, 150}) {
+            Matrix a = new Matrix(n, n, -1, 1, new Random(n));
+            LUDecomposition lu = a.luDecomposition();
+            assertFalse(lu.isSingular());
+            Matrix l = lu.getL();
+            Matrix u = lu.getU();
+            int[] pivot = lu.getPivot();
+            Matrix product = product(l, u);
+            for (int i = 0; i < n; i++) {
+                assertEquals(1.0, l.getValue(i, i), 0.0);
+                for (int j = 0; j < n; j++) {
+                    assertTrue(Math.abs(l.getValue(i, j)) <= 1.0);
+                    assertEquals(a.getValue(pivot[i], j), product.getValue(i, j), 1e-10);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSolve() throws MatrixNotSquare, MatrixRowMismatch, MatrixColumnMismatch, DeterminantZero {
+        Random random = new Random(1);
+        Matrix a = new Matrix(130, 130, -1, 1, random);
+        LUDecomposition lu = new LUDecomposition(a);
+        Vector x = new Vector(130, 0.0);
+        for (int i = 0; i < 130; i++) {
+            x.setValue(i, random.nextDouble());
+        }
+        Vector solution = lu.solve(a.multiplyWithVectorFromRight(x));
+        for (int i = 0; i < 130; i++) {
+            assertEquals(x.getValue(i), solution.getValue(i), 1e-9);
+        }
+        Matrix b = new Matrix(130, 7, -1, 1, random);
+        Matrix solutions = lu.solve(b);
+        Matrix check = product(a, solutions);
+        for (int i = 0; i < 130; i++) {
+            for (int j = 0; j < 7; j++) {
+                assertEquals(b.getValue(i, j), check.getValue(i, j), 1e-9);
+            }
+        }
+        assertThrows(MatrixRowMismatch.class, () -> lu.solve(new Vector(5, 1.0)));
+        assertThrows(MatrixRowMismatch.class, () -> lu.solve(new Matrix(5, 2)));
+    }
+
+    @Test
+    public void testDeterminantAndInverse() throws MatrixNotSquare, DeterminantZero {
+        Matrix a = new Matrix(3, 3);
+        double[][] items = {{0, 2, 1}, {1, 1, 0}, {3, 0, 1}};
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                a.setValue(i, j, items[i][j]);
+            }
+        }
+        LUDecomposition lu = new LUDecomposition(a);
+        assertEquals(-5.0, lu.determinant(), 1e-12);
+        Matrix identity = product(a, lu.inverse());
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                assertEquals(i == j ? 1.0 : 0.0, identity.getValue(i, j), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    public void testSingular() throws MatrixNotSquare {
+        Matrix a = new Matrix(100, 100);
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 100; j++) {
+                a.setValue(i, j, i + j);
+            }
+        }
+        LUDecomposition lu = new LUDecomposition(a);
+        assertTrue(lu.isSingular() || Math.abs(lu.determinant()) < 1e-6);
+        Matrix zero = new Matrix(4, 4);
+        LUDecomposition singular = new LUDecomposition(zero);
+        assertTrue(singular.isSingular());
+        assertEquals(0.0, singular.determinant(), 0.0);
+        assertThrows(DeterminantZero.class, singular::inverse);
+        assertThrows(DeterminantZero.class, () -> singular.solve(new Vector(4, 1.0)));
+        assertThrows(MatrixNotSquare.class, () -> new LUDecomposition(new Matrix(3, 4)));
+    }
+
+}
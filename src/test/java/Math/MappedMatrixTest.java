@@ -0,0 +1,130 @@
+package Math;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class MappedMatrixTest {
+
+    private String temporaryFile() throws IOException {
+        File file = File.createTempFile("mapped", ".smat");
+        file.deleteOnExit();
+        return file.getPath();
+    }
+
+    private void assertMatrixEquals(Matrix expected, Matrix actual, double delta) {
+        assertEquals(expected.getRow(), actual.getRow());
+        assertEquals(expected.getColumn(), actual.getColumn());
+        for (int i = 0; i < expected.getRow(); i++) {
+            for (int j = 0; j < expected.getColumn(); j++) {
+                assertEquals(expected.getValue(i, j), actual.getValue(i, j), delta);
+            }
+        }
+    }
+
+    @Test
+    public void testAccess() throws IOException {
+        String fileName = temporaryFile();
+        Matrix matrix = new Matrix(23, 7, -1, 1, new Random(1));
+        BinaryFormat.write(fileName, matrix);
+        try (MappedMatrix mapped = MappedMatrix.open(fileName, false, 8 * 7 * 3)) {
+            assertEquals(23, mapped.getRow());
+            assertEquals(7, mapped.getColumn());
+            assertFalse(mapped.isWritable());
+            mapped.verify();
+            for (int i = 0; i < 23; i++) {
+                Vector row = mapped.getRow(i);
+                for (int j = 0; j < 7; j++) {
+                    assertEquals(matrix.getValue(i, j), mapped.getValue(i, j), 0.0);
+                    assertEquals(matrix.getValue(i, j), row.getValue(j), 0.0);
+                }
+            }
+            int start = 0;
+            for (Matrix block : mapped.rowBlocks(5)) {
+                assertEquals(start + 5 <= 23 ? 5 : 3, block.getRow());
+                for (int i = 0; i < block.getRow(); i++) {
+                    for (int j = 0; j < 7; j++) {
+                        assertEquals(matrix.getValue(start + i, j), block.getValue(i, j), 0.0);
+                    }
+                }
+                start += block.getRow();
+            }
+            assertEquals(23, start);
+            assertThrows(UnsupportedOperationException.class, () -> mapped.setValue(0, 0, 1.0));
+            assertThrows(IndexOutOfBoundsException.class, () -> mapped.getValue(23, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> mapped.getRows(20, 4));
+        }
+    }
+
+    @Test
+    public void testWrite() throws IOException {
+        String fileName = temporaryFile();
+        Random random = new Random(2);
+        Matrix expected = new Matrix(40, 9);
+        try (MappedMatrix mapped = MappedMatrix.create(fileName, 40, 9, 8 * 9 * 4)) {
+            mapped.verify();
+            for (int k = 0; k < 50; k++) {
+                int i = random.nextInt(40), j = random.nextInt(9);
+                double value = random.nextDouble();
+                mapped.setValue(i, j, value);
+                expected.setValue(i, j, value);
+            }
+            Matrix rows = new Matrix(6, 9, -1, 1, random);
+            mapped.setRows(30, rows);
+            for (int i = 0; i < 6; i++) {
+                for (int j = 0; j < 9; j++) {
+                    expected.setValue(30 + i, j, rows.getValue(i, j));
+                }
+            }
+            assertMatrixEquals(expected, mapped.getRows(0, 40), 0.0);
+        }
+        assertMatrixEquals(expected, BinaryFormat.readMatrix(fileName), 0.0);
+        try (MappedMatrix mapped = MappedMatrix.open(fileName, true)) {
+            mapped.setValue(39, 8, 5.0);
+        }
+        assertEquals(5.0, BinaryFormat.readMatrix(fileName).getValue(39, 8), 0.0);
+    }
+
+    @Test
+    public void testCorruption() throws IOException {
+        String fileName = temporaryFile();
+        BinaryFormat.write(fileName, new Matrix(10, 10, -1, 1, new Random(3)));
+        try (RandomAccessFile file = new RandomAccessFile(fileName, "rw")) {
+            file.seek(64 + 8 * 55);
+            file.write(7);
+        }
+        try (MappedMatrix mapped = MappedMatrix.open(fileName, false)) {
+            assertThrows(IOException.class, mapped::verify);
+        }
+        BinaryFormat.write(fileName, new Vector(3, 1.0));
+        assertThrows(IOException.class, () -> MappedMatrix.open(fileName, false));
+    }
+
+    @Test
+    public void testMultiplyAndTranspose() throws IOException, MatrixRowColumnMismatch {
+        Random random = new Random(4);
+        Matrix a = new Matrix(17, 13, -1, 1, random);
+        Matrix b = new Matrix(13, 11, -1, 1, random);
+        String aFile = temporaryFile(), bFile = temporaryFile(), productFile = temporaryFile(), transposeFile = temporaryFile();
+        BinaryFormat.write(aFile, a);
+        BinaryFormat.write(bFile, b);
+        try (MappedMatrix mappedA = MappedMatrix.open(aFile, false, 8 * 13 * 2);
+             MappedMatrix mappedB = MappedMatrix.open(bFile, false)) {
+            try (MappedMatrix product = mappedA.multiply(mappedB, productFile, 5)) {
+                assertMatrixEquals(a.multiply(b), product.getRows(0, 17), 1e-12);
+            }
+            try (MappedMatrix transposed = mappedA.transpose(transposeFile, 4)) {
+                assertMatrixEquals(a.transpose(), transposed.getRows(0, 13), 0.0);
+            }
+            assertThrows(MatrixRowColumnMismatch.class, () -> mappedA.multiply(mappedA, productFile));
+        }
+        assertMatrixEquals(a.multiply(b), BinaryFormat.readMatrix(productFile), 1e-12);
+        assertMatrixEquals(a.transpose(), BinaryFormat.readMatrix(transposeFile), 0.0);
+    }
+
+}
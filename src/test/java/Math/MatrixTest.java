@@ -115,6 +115,38 @@ public class MatrixTest {
         assertEquals(originalSum, result.sumOfElements(), 0.0001);
     }
 
+    @Test
+    public void testMultiplyWithVectorShapes() throws Exception{
+        Random rand = new Random(4);
+        for (int[] shape : new int[][]{{1, 1}, {3, 5}, {7, 1030}, {1030, 7}, {21, 33}}) {
+            Matrix m = new Matrix(shape[0], shape[1], -1, 1, rand);
+            Vector x = new Vector(shape[1], 0.0);
+            for (int j = 0; j < shape[1]; j++) {
+                x.setValue(j, rand.nextDouble());
+            }
+            Vector y = new Vector(shape[0], 0.0);
+            for (int i = 0; i < shape[0]; i++) {
+                y.setValue(i, rand.nextDouble());
+            }
+            Vector right = m.multiplyWithVectorFromRight(x);
+            Vector left = m.multiplyWithVectorFromLeft(y);
+            for (int i = 0; i < shape[0]; i++) {
+                double sum = 0.0;
+                for (int j = 0; j < shape[1]; j++) {
+                    sum += m.getValue(i, j) * x.getValue(j);
+                }
+                assertEquals(sum, right.getValue(i), 1e-12);
+            }
+            for (int j = 0; j < shape[1]; j++) {
+                double sum = 0.0;
+                for (int i = 0; i < shape[0]; i++) {
+                    sum += y.getValue(i) * m.getValue(i, j);
+                }
+                assertEquals(sum, left.getValue(j), 1e-12);
+            }
+        }
+    }
+
     @Test
     public void testColumnSum() {
         Random rand = new Random();
@@ -158,7 +190,7 @@ public class MatrixTest {
         result = large.elementProduct(large);
         assertEquals(1000000, result.sumOfElements(), 0.0);
         result = random.elementProduct(identity);
-        assertEquals(result.trace(), result.sumOfElements(), 0.0);
+        assertEquals(result.trace(), result.sumOfElements(), 1e-10);
     }
 
     @Test
@@ -211,12 +243,194 @@ public class MatrixTest {
     @Test
     public void testCharacteristics() throws Exception{
         ArrayList<Eigenvector> vectors = small.characteristics();
-        assertEquals(2, vectors.size(), 0);
+        assertEquals(3, vectors.size(), 0);
+        assertEquals(3, vectors.get(0).eigenValue(), 1e-12);
+        assertEquals(0, vectors.get(2).eigenValue(), 1e-12);
         vectors = identity.characteristics();
         assertEquals(100, vectors.size(), 0);
         vectors = medium.characteristics();
-        assertEquals(46, vectors.size(), 0);
+        assertEquals(100, vectors.size(), 0);
+        assertEquals(100, vectors.get(0).eigenValue(), 1e-10);
+        for (int i = 1; i < 100; i++) {
+            assertEquals(0, vectors.get(i).eigenValue(), 1e-10);
+        }
+    }
+
+    @Test
+    public void testRowViews() throws Exception{
+        Vector row = random.getRowView(5);
+        assertEquals(random.rowSum(5), row.sumOfElements(), 0.0);
+        row.setValue(3, 100);
+        assertEquals(100, random.getValue(5, 3), 0.0);
+        Vector readOnly = random.getReadOnlyRowView(5);
+        assertEquals(100, readOnly.getValue(3), 0.0);
+        assertTrue(readOnly.isReadOnly());
+        assertThrows(UnsupportedOperationException.class, () -> readOnly.setValue(0, 1));
+    }
+
+    @Test
+    public void testCompensatedSummation() {
+        for (SummationMode mode : SummationMode.values()) {
+            assertEquals(1000000, large.sumOfElements(mode), 0.0);
+            assertEquals(1000, large.columnSum(7, mode), 0.0);
+            assertEquals(1000, large.rowSum(7, mode), 0.0);
+            assertEquals(originalSum, random.sumOfElements(mode), 0.0001);
+        }
+        double[] data = new double[33 * 17];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = Math.pow(10, i % 13) * Math.sin(i);
+        }
+        Matrix matrix = new Matrix(33, 17, data);
+        assertEquals(Vector.wrap(data).sumOfElements(), matrix.sumOfElements(), 0.0);
+        assertEquals(Summation.sum(data, 0, data.length, SummationMode.NAIVE), matrix.sumOfElements(SummationMode.NAIVE), 0.0);
+        assertEquals(matrix.sumOfElements(), matrix.sumOfElements(SummationMode.NAIVE), 0.0);
+        for (int j = 0; j < 17; j++) {
+            assertEquals(matrix.columnSum(j), matrix.columnSum(j, SummationMode.NAIVE), 0.0);
+        }
+    }
+
+    @Test
+    public void testIntoOperations() throws Exception{
+        Matrix result = new Matrix(100, 100);
+        random.sumInto(identity, result);
+        assertEquals(originalSum + 100, result.sumOfElements(), 0.0001);
+        result.differenceInto(identity, result);
+        assertEquals(originalSum, result.sumOfElements(), 0.0001);
+        Matrix transposed = new Matrix(100, 100);
+        random.transposeInto(transposed);
+        assertEquals(random.getValue(3, 7), transposed.getValue(7, 3), 0.0);
+        assertThrows(MatrixDimensionMismatch.class, () -> small.sumInto(small, result));
+        assertThrows(MatrixDimensionMismatch.class, () -> small.transposeInto(result));
+        assertThrows(IllegalArgumentException.class, () -> transposed.transposeInto(transposed));
+        Matrix copy = random.clone();
+        copy.sumInto(random, copy);
+        assertEquals(2 * originalSum, copy.sumOfElements(), 0.0001);
+        random.sumInto(identity, identity);
+        assertEquals(originalSum + 100, identity.sumOfElements(), 0.0001);
+    }
+
+    @Test
+    public void testNonSquareLayout() throws Exception{
+        Matrix m = new Matrix(3, 5);
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 5; j++) {
+                m.setValue(i, j, 10 * i + j);
+            }
+        }
+        Matrix t = m.transpose();
+        assertEquals(5, t.getRow());
+        assertEquals(21, t.getValue(1, 2), 0.0);
+        Matrix p = m.partial(1, 2, 2, 4);
+        assertEquals(2, p.getRow());
+        assertEquals(3, p.getColumn());
+        assertEquals(13, p.getValue(0, 1), 0.0);
+        assertEquals(24, p.getValue(1, 2), 0.0);
+        assertEquals(20 + 21 + 22 + 23 + 24, m.getRow(2).sumOfElements(), 0.0);
+        assertEquals(0 + 10 + 20 + 3 * 3, m.columnSum(3, SummationMode.KAHAN), 0.0);
+        Matrix product = m.multiply(t);
+        assertEquals(0 * 20 + 1 * 21 + 2 * 22 + 3 * 23 + 4 * 24, product.getValue(0, 2), 0.0);
+    }
+
+    private static Matrix naiveProduct(Matrix a, Matrix b) {
+        Matrix result = new Matrix(a.getRow(), b.getColumn());
+        for (int i = 0; i < a.getRow(); i++) {
+            for (int j = 0; j < b.getColumn(); j++) {
+                double sum = 0;
+                for (int k = 0; k < a.getColumn(); k++) {
+                    sum += a.getValue(i, k) * b.getValue(k, j);
+                }
+                result.setValue(i, j, sum);
+            }
+        }
+        return result;
     }
 
+    private static void assertMatrixEquals(Matrix expected, Matrix actual, double delta) {
+        assertEquals(expected.getRow(), actual.getRow());
+        assertEquals(expected.getColumn(), actual.getColumn());
+        for (int i = 0; i < expected.getRow(); i++) {
+            for (int j = 0; j < expected.getColumn(); j++) {
+                assertEquals(expected.getValue(i, j), actual.getValue(i, j), delta);
+            }
+        }
+    }
+
+    @Test
+    public void testBlockedMultiply() throws Exception{
+        Random rand = new Random(5);
+        Matrix a = new Matrix(137, 301, -1, 1, rand);
+        Matrix b = new Matrix(301, 70, -1, 1, rand);
+        assertMatrixEquals(naiveProduct(a, b), a.multiply(b), 1e-11);
+        Matrix c = new Matrix(137, 70, -1, 1, rand);
+        assertMatrixEquals(naiveProduct(a.transpose(), c), a.transposeMultiply(c), 1e-11);
+        Matrix d = new Matrix(45, 301, -1, 1, rand);
+        assertMatrixEquals(naiveProduct(a, d.transpose()), a.multiplyTranspose(d), 1e-11);
+        assertThrows(MatrixRowColumnMismatch.class, () -> a.transposeMultiply(b));
+        assertThrows(MatrixRowColumnMismatch.class, () -> a.multiplyTranspose(b));
+    }
+
+    @Test
+    public void testParallel() throws Exception{
+        Random rand = new Random(7);
+        Matrix a = new Matrix(203, 150, -1, 1, rand);
+        Matrix b = new Matrix(150, 97, -1, 1, rand);
+        Matrix thin = new Matrix(6, 150, -1, 1, rand);
+        Vector x = new Vector(150, 0.5);
+        Vector y = new Vector(203, 0.25);
+        Matrix product = a.multiply(b);
+        Matrix thinProduct = thin.multiply(b);
+        Vector right = a.multiplyWithVectorFromRight(x);
+        Vector left = a.multiplyWithVectorFromLeft(y);
+        Matrix squared = a.elementProduct(a);
+        Matrix transposed = a.transpose();
+        java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(3);
+        try {
+            assertMatrixEquals(product, a.multiply(b, pool), 0.0);
+            Parallelism.setPool(pool);
+            Parallelism.setThreshold(0);
+            assertMatrixEquals(product, a.multiply(b), 0.0);
+            assertMatrixEquals(thinProduct, thin.multiply(b), 0.0);
+            assertArrayEquals(right.toArray(), a.multiplyWithVectorFromRight(x).toArray(), 0.0);
+            assertArrayEquals(left.toArray(), a.multiplyWithVectorFromLeft(y).toArray(), 0.0);
+            assertMatrixEquals(squared, a.elementProduct(a), 0.0);
+            assertMatrixEquals(transposed, a.transpose(), 0.0);
+        } finally {
+            Parallelism.setPool(null);
+            Parallelism.setThreshold(Parallelism.DEFAULT_THRESHOLD);
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testStrassen() throws Exception{
+        Random rand = new Random(11);
+        Matrix a = new Matrix(530, 515, -1, 1, rand);
+        Matrix b = new Matrix(515, 601, -1, 1, rand);
+        Matrix classic = a.multiply(b, MultiplicationMode.CLASSIC);
+        Matrix strassen = a.multiply(b, MultiplicationMode.STRASSEN);
+        double bound = a.multiplicationErrorBound(b, MultiplicationMode.STRASSEN);
+        assertTrue(bound > a.multiplicationErrorBound(b, MultiplicationMode.CLASSIC));
+        assertMatrixEquals(classic, strassen, bound);
+        assertMatrixEquals(classic, strassen, 1e-10);
+        assertMatrixEquals(random.multiply(identity), random.multiply(identity, MultiplicationMode.STRASSEN), 0.0);
+        assertThrows(MatrixRowColumnMismatch.class, () -> a.multiply(a, MultiplicationMode.STRASSEN));
+    }
+
+    @Test
+    public void testBlockedTranspose() throws Exception{
+        Random rand = new Random(13);
+        Matrix a = new Matrix(70, 45, -1, 1, rand);
+        Matrix t = a.transpose();
+        for (int i = 0; i < 70; i++) {
+            for (int j = 0; j < 45; j++) {
+                assertEquals(a.getValue(i, j), t.getValue(j, i), 0.0);
+            }
+        }
+        Matrix square = new Matrix(67, 67, -1, 1, rand);
+        Matrix expected = square.transpose();
+        square.transposeInPlace();
+        assertMatrixEquals(expected, square, 0.0);
+        assertThrows(MatrixNotSquare.class, a::transposeInPlace);
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package Math;
+
+import java.util.Random;
+
+/**
+ * Compares {@link Matrix#multiply(Matrix)} with the textbook i-j-k loop on square matrices of several sizes. Not a unit
+ * test; run its main method directly, optionally passing the sizes as arguments.
+ */
+public class MultiplyBenchmark {
+
+    private static double[] naive(double[] a, double[] b, int n) {
+        double[] c = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double sum = 0.0;
+                for (int k = 0; k < n; k++) {
+                    sum += a[i * n + k] * b[k * n + j];
+                }
+                c[i * n + j] = sum;
+            }
+        }
+        return c;
+    }
+
+    public static void main(String[] args) throws MatrixRowColumnMismatch {
+        int[] sizes = {256, 512, 1024};
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+        Random random = new Random(1);
+        for (int n : sizes) {
+            Matrix a = new Matrix(n, n, -1, 1, random);
+            Matrix b = new Matrix(n, n, -1, 1, random);
+            for (int i = 0; i < 3; i++) {
+                a.multiply(b);
+            }
+            long start = System.nanoTime();
+            a.multiply(b);
+            double blocked = (System.nanoTime() - start) / 1e6;
+            naive(a.getData(), b.getData(), n);
+            start = System.nanoTime();
+            naive(a.getData(), b.getData(), n);
+            double classic = (System.nanoTime() - start) / 1e6;
+            double gflops = 2.0 * n * n * n / blocked / 1e6;
+            System.out.printf("n=%5d  i-j-k %9.1f ms  multiply %8.1f ms  (%.1f GFLOP/s, %.1fx)%n", n, classic, blocked, gflops, classic / blocked);
+        }
+    }
+
+}
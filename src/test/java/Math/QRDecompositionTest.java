@@ -0,0 +1,156 @@
+package Math;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class QRDecompositionTest {
+
+    private Matrix product(Matrix a, Matrix b) {
+        Matrix result = new Matrix(a.getRow(), b.getColumn());
+        for (int i = 0; i < a.getRow(); i++) {
+            for (int j = 0; j < b.getColumn(); j++) {
+                double sum = 0.0;
+                for (int k = 0; k < a.getColumn(); k++) {
+                    sum += a.getValue(i, k) * b.getValue(k, j);
+                }
+                result.setValue(i, j, sum);
+            }
+        }
+        return result;
+    }
+
+    private void assertFactorization(Matrix a, QRDecomposition qr, double delta) {
+        Matrix q = qr.getQ();
+        Matrix r = qr.getR();
+        int[] pivot = qr.getPivot();
+        int m = a.getRow(), n = a.getColumn();
+        Matrix product = product(q, r);
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                assertEquals(a.getValue(i, pivot[j]), product.getValue(i, j), delta);
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                assertEquals(0.0, r.getValue(i, j), 0.0);
+            }
+            for (int j = 0; j < n; j++) {
+                double dot = 0.0;
+                for (int k = 0; k < m; k++) {
+                    dot += q.getValue(k, i) * q.getValue(k, j);
+                }
+                assertEquals(i == j ? 1.0 : 0.0, dot, delta);
+            }
+        }
+    }
+
+    @Test
+    public void testFactorization() {
+        for (int[] shape : new int[][]{{1, 1}, {5, 3}, {40, 40}, {150, 70}}) {
+            Matrix a = new Matrix(shape[0], shape[1], -1, 1, new Random(shape[0]));
+            assertFactorization(a, a.qrDecomposition(), 1e-12);
+            QRDecomposition pivoted = new QRDecomposition(a, true);
+            assertFactorization(a, pivoted, 1e-12);
+            Matrix r = pivoted.getR();
+            for (int i = 1; i < shape[1]; i++) {
+                assertTrue(Math.abs(r.getValue(i, i)) <= Math.abs(r.getValue(i - 1, i - 1)) * (1 + 1e-12));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new QRDecomposition(new Matrix(2, 3)));
+    }
+
+    @Test
+    public void testLeastSquares() throws MatrixRowMismatch, DeterminantZero, MatrixNotSquare {
+        Random random = new Random(6);
+        Matrix a = new Matrix(200, 12, -1, 1, random);
+        Matrix x = new Matrix(12, 3, -1, 1, random);
+        Matrix b = product(a, x);
+        for (int i = 0; i < 200; i++) {
+            for (int j = 0; j < 3; j++) {
+                b.setValue(i, j, b.getValue(i, j) + 1e-3 * random.nextGaussian());
+            }
+        }
+        Matrix normal = product(a.transpose(), a);
+        Matrix rightHandSide = product(a.transpose(), b);
+        Matrix expected = new LUDecomposition(normal).solve(rightHandSide);
+        Matrix solution = new QRDecomposition(a).solveLeastSquares(b);
+        Matrix pivotedSolution = new QRDecomposition(a, true).solveLeastSquares(b);
+        Matrix tallSkinny = QRDecomposition.tallSkinnyLeastSquares(a, b);
+        for (int i = 0; i < 12; i++) {
+            for (int j = 0; j < 3; j++) {
+                assertEquals(expected.getValue(i, j), solution.getValue(i, j), 1e-10);
+                assertEquals(expected.getValue(i, j), pivotedSolution.getValue(i, j), 1e-10);
+                assertEquals(expected.getValue(i, j), tallSkinny.getValue(i, j), 1e-10);
+            }
+        }
+        Vector column = new Vector(200, 0.0);
+        for (int i = 0; i < 200; i++) {
+            column.setValue(i, b.getValue(i, 1));
+        }
+        Vector vectorSolution = new QRDecomposition(a).solveLeastSquares(column);
+        for (int i = 0; i < 12; i++) {
+            assertEquals(solution.getValue(i, 1), vectorSolution.getValue(i), 1e-12);
+        }
+        assertThrows(MatrixRowMismatch.class, () -> new QRDecomposition(a).solveLeastSquares(new Matrix(5, 1)));
+    }
+
+    @Test
+    public void testRankDetection() throws MatrixRowMismatch, DeterminantZero {
+        Random random = new Random(8);
+        Matrix basis = new Matrix(60, 4, -1, 1, random);
+        Matrix mixing = new Matrix(4, 9, -1, 1, random);
+        Matrix a = product(basis, mixing);
+        QRDecomposition pivoted = new QRDecomposition(a, true);
+        assertEquals(4, pivoted.rank());
+        Matrix b = product(a, new Matrix(9, 1, -1, 1, random));
+        Matrix x = pivoted.solveLeastSquares(b);
+        Matrix fitted = product(a, x);
+        int zeros = 0;
+        for (int i = 0; i < 9; i++) {
+            if (x.getValue(i, 0) == 0.0) {
+                zeros++;
+            }
+        }
+        assertEquals(5, zeros);
+        for (int i = 0; i < 60; i++) {
+            assertEquals(b.getValue(i, 0), fitted.getValue(i, 0), 1e-9);
+        }
+        Matrix singular = new Matrix(5, 2);
+        assertThrows(DeterminantZero.class, () -> new QRDecomposition(singular).solveLeastSquares(new Matrix(5, 1)));
+    }
+
+    @Test
+    public void testTallSkinny() {
+        Random random = new Random(9);
+        Matrix a = new Matrix(3 * QRDecomposition.TALL_SKINNY_BLOCK_ROWS + 17, 6, -1, 1, random);
+        Matrix r = QRDecomposition.tallSkinnyR(a);
+        Matrix expected = new QRDecomposition(a).getR();
+        for (int i = 0; i < 6; i++) {
+            double sign = Math.signum(r.getValue(i, i)) * Math.signum(expected.getValue(i, i));
+            for (int j = 0; j < 6; j++) {
+                assertEquals(expected.getValue(i, j), sign * r.getValue(i, j), 1e-10);
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(3);
+        long threshold = Parallelism.getThreshold();
+        try {
+            Parallelism.setPool(pool);
+            Parallelism.setThreshold(0);
+            Matrix parallel = QRDecomposition.tallSkinnyR(a);
+            for (int i = 0; i < 6; i++) {
+                for (int j = 0; j < 6; j++) {
+                    assertEquals(r.getValue(i, j), parallel.getValue(i, j), 0.0);
+                }
+            }
+        } finally {
+            Parallelism.setPool(null);
+            Parallelism.setThreshold(threshold);
+            pool.shutdown();
+        }
+    }
+
+}
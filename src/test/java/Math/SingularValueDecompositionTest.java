@@ -0,0 +1,183 @@
+package Math;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class SingularValueDecompositionTest {
+
+    private void assertOrthonormalColumns(Matrix q, double delta) {
+        for (int i = 0; i < q.getColumn(); i++) {
+            for (int j = 0; j < q.getColumn(); j++) {
+                double dot = 0.0;
+                for (int k = 0; k < q.getRow(); k++) {
+                    dot += q.getValue(k, i) * q.getValue(k, j);
+                }
+                assertEquals(i == j ? 1.0 : 0.0, dot, delta);
+            }
+        }
+    }
+
+    private void assertReconstruction(Matrix a, SingularValueDecomposition svd, double delta) {
+        Matrix u = svd.getU();
+        Matrix v = svd.getV();
+        for (int i = 0; i < a.getRow(); i++) {
+            for (int j = 0; j < a.getColumn(); j++) {
+                double sum = 0.0;
+                for (int r = 0; r < svd.size(); r++) {
+                    sum += u.getValue(i, r) * svd.getSingularValue(r) * v.getValue(j, r);
+                }
+                assertEquals(a.getValue(i, j), sum, delta);
+            }
+        }
+    }
+
+    private Matrix lowRank(int m, int n, double[] singularValues, Random random) {
+        int k = singularValues.length;
+        double[] left = new QRDecomposition(new Matrix(m, k, -1, 1, random)).getQ().getData();
+        double[] right = new QRDecomposition(new Matrix(n, k, -1, 1, random)).getQ().getData();
+        Matrix result = new Matrix(m, n);
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                double sum = 0.0;
+                for (int r = 0; r < k; r++) {
+                    sum += left[i * k + r] * singularValues[r] * right[j * k + r];
+                }
+                result.setValue(i, j, sum);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testFullDecomposition() {
+        for (int[] shape : new int[][]{{1, 1}, {6, 6}, {50, 20}, {20, 50}, {65, 65}}) {
+            Matrix a = new Matrix(shape[0], shape[1], -1, 1, new Random(shape[0] * 100 + shape[1]));
+            SingularValueDecomposition svd = a.singularValueDecomposition();
+            assertEquals(Math.min(shape[0], shape[1]), svd.size());
+            assertOrthonormalColumns(svd.getU(), 1e-12);
+            assertOrthonormalColumns(svd.getV(), 1e-12);
+            assertReconstruction(a, svd, 1e-12);
+            for (int i = 1; i < svd.size(); i++) {
+                assertTrue(svd.getSingularValue(i) <= svd.getSingularValue(i - 1));
+            }
+        }
+    }
+
+    @Test
+    public void testKnownSingularValues() throws MatrixNotSquare, MatrixNotSymmetric, MatrixRowColumnMismatch {
+        Random random = new Random(3);
+        double[] expected = {10, 5, 2, 1, 0.5};
+        Matrix a = lowRank(40, 30, expected, random);
+        SingularValueDecomposition svd = new SingularValueDecomposition(a);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(expected[i], svd.getSingularValue(i), 1e-12);
+        }
+        assertEquals(5, svd.rank());
+        Matrix gram = a.transpose().multiply(a);
+        double[] eigenvalues = new SymmetricEigenDecomposition(gram).getEigenvalues();
+        for (int i = 0; i < 5; i++) {
+            assertEquals(eigenvalues[i], svd.getSingularValue(i) * svd.getSingularValue(i), 1e-10);
+        }
+        Vector left = svd.getLeftSingularVector(0);
+        Vector right = svd.getRightSingularVector(0);
+        for (int i = 0; i < 40; i++) {
+            double sum = 0.0;
+            for (int j = 0; j < 30; j++) {
+                sum += a.getValue(i, j) * right.getValue(j);
+            }
+            assertEquals(expected[0] * left.getValue(i), sum, 1e-10);
+        }
+    }
+
+    @Test
+    public void testRankDeficient() {
+        Matrix diagonal = new Matrix(3, 3);
+        diagonal.setValue(0, 0, 1.0);
+        diagonal.setValue(1, 1, 2.0);
+        Random random = new Random(13);
+        Matrix tall = lowRank(8, 5, new double[]{3, 1}, random);
+        Matrix wide = lowRank(4, 7, new double[]{2}, random);
+        for (Matrix a : new Matrix[]{diagonal, tall, wide, new Matrix(4, 3)}) {
+            SingularValueDecomposition svd = new SingularValueDecomposition(a);
+            assertOrthonormalColumns(svd.getU(), 1e-12);
+            assertOrthonormalColumns(svd.getV(), 1e-12);
+            assertReconstruction(a, svd, 1e-12);
+        }
+        assertEquals(2, new SingularValueDecomposition(diagonal).rank());
+    }
+
+    @Test
+    public void testRandomized() {
+        Random random = new Random(5);
+        double[] spectrum = new double[20];
+        for (int i = 0; i < 20; i++) {
+            spectrum[i] = Math.pow(0.7, i);
+        }
+        Matrix a = lowRank(300, 200, spectrum, random);
+        SingularValueDecomposition svd = SingularValueDecomposition.randomized(a, 5);
+        assertEquals(5, svd.size());
+        assertOrthonormalColumns(svd.getU(), 1e-10);
+        assertOrthonormalColumns(svd.getV(), 1e-10);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(spectrum[i], svd.getSingularValue(i), 1e-8);
+        }
+        SingularValueDecomposition exact = SingularValueDecomposition.randomized(a, 20, 5, 1, new Random(2));
+        assertReconstruction(a, exact, 1e-10);
+        assertEquals(0, SingularValueDecomposition.randomized(a, 0).size());
+        assertThrows(IllegalArgumentException.class, () -> SingularValueDecomposition.randomized(a, 201));
+    }
+
+    @Test
+    public void testRandomizedSparse() throws VectorSizeMismatch {
+        Random random = new Random(7);
+        Matrix dense = new Matrix(120, 90);
+        for (int i = 0; i < 120; i++) {
+            for (int j = 0; j < 90; j++) {
+                if (random.nextDouble() < 0.1) {
+                    dense.setValue(i, j, random.nextDouble() * Math.pow(0.9, j));
+                }
+            }
+        }
+        SingularValueDecomposition expected = SingularValueDecomposition.randomized(dense, 6, 10, 3, new Random(3));
+        for (SparseFormat format : SparseFormat.values()) {
+            SparseMatrix sparse = new SparseMatrix(dense, format);
+            SingularValueDecomposition svd = SingularValueDecomposition.randomized(sparse, 6, 10, 3, new Random(3));
+            assertEquals(6, svd.size());
+            assertOrthonormalColumns(svd.getU(), 1e-10);
+            assertOrthonormalColumns(svd.getV(), 1e-10);
+            for (int i = 0; i < 6; i++) {
+                assertEquals(expected.getSingularValue(i), svd.getSingularValue(i), 1e-10);
+                assertEquals(1.0, Math.abs(expected.getRightSingularVector(i).dotProduct(svd.getRightSingularVector(i))), 1e-8);
+            }
+        }
+        SingularValueDecomposition exact = new SingularValueDecomposition(dense);
+        SingularValueDecomposition approximation = SingularValueDecomposition.randomized(new SparseMatrix(dense, SparseFormat.CSR), 3);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(exact.getSingularValue(i), approximation.getSingularValue(i), 1e-4 * exact.getSingularValue(0));
+        }
+        assertThrows(IllegalArgumentException.class, () -> SingularValueDecomposition.randomized(new SparseMatrix(dense, SparseFormat.CSC), 91));
+    }
+
+    @Test
+    public void testParallel() {
+        Matrix a = new Matrix(70, 70, -1, 1, new Random(11));
+        SingularValueDecomposition sequential = new SingularValueDecomposition(a);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        long threshold = Parallelism.getThreshold();
+        try {
+            Parallelism.setPool(pool);
+            Parallelism.setThreshold(0);
+            SingularValueDecomposition parallel = new SingularValueDecomposition(a);
+            assertArrayEquals(sequential.getSingularValues(), parallel.getSingularValues(), 0.0);
+        } finally {
+            Parallelism.setPool(null);
+            Parallelism.setThreshold(threshold);
+            pool.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+package Math;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class SparseMatrixTest {
+
+    private Matrix randomSparse(int row, int col, double density, Random random) {
+        Matrix result = new Matrix(row, col);
+        for (int i = 0; i < row; i++) {
+            for (int j = 0; j < col; j++) {
+                if (random.nextDouble() < density) {
+                    result.setValue(i, j, random.nextDouble() * 2 - 1);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void assertMatrixEquals(Matrix expected, Matrix actual, double delta) {
+        assertEquals(expected.getRow(), actual.getRow());
+        assertEquals(expected.getColumn(), actual.getColumn());
+        for (int i = 0; i < expected.getRow(); i++) {
+            for (int j = 0; j < expected.getColumn(); j++) {
+                assertEquals(expected.getValue(i, j), actual.getValue(i, j), delta);
+            }
+        }
+    }
+
+    @Test
+    public void testBuilder() {
+        SparseMatrix.Builder builder = new SparseMatrix.Builder(3, 4);
+        builder.add(2, 1, 5.0).add(0, 3, 1.0).add(2, 1, -2.0).add(1, 0, 4.0).add(0, 0, 2.0).add(1, 2, 1.0).add(1, 2, -1.0);
+        for (SparseFormat format : SparseFormat.values()) {
+            SparseMatrix sparse = builder.build(format);
+            assertEquals(format, sparse.getFormat());
+            assertEquals(4, sparse.nonZeroCount());
+            assertEquals(3.0, sparse.getValue(2, 1), 0.0);
+            assertEquals(2.0, sparse.getValue(0, 0), 0.0);
+            assertEquals(0.0, sparse.getValue(1, 2), 0.0);
+            assertEquals(0.0, sparse.getValue(2, 3), 0.0);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.add(3, 0, 1.0));
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.add(0, -1, 1.0));
+    }
+
+    @Test
+    public void testConversions() {
+        Matrix dense = randomSparse(30, 20, 0.1, new Random(1));
+        SparseMatrix csr = new SparseMatrix(dense, SparseFormat.CSR);
+        SparseMatrix csc = new SparseMatrix(dense, SparseFormat.CSC);
+        assertMatrixEquals(dense, csr.toMatrix(), 0.0);
+        assertMatrixEquals(dense, csc.toMatrix(), 0.0);
+        assertMatrixEquals(dense, csr.toFormat(SparseFormat.CSC).toMatrix(), 0.0);
+        assertMatrixEquals(dense, csc.toFormat(SparseFormat.CSR).toMatrix(), 0.0);
+        assertEquals(csr.nonZeroCount(), csc.nonZeroCount());
+        SparseMatrix transposed = csr.transpose();
+        assertEquals(SparseFormat.CSC, transposed.getFormat());
+        assertMatrixEquals(dense.transpose(), transposed.toMatrix(), 0.0);
+        assertMatrixEquals(dense.transpose(), csc.transpose().toMatrix(), 0.0);
+    }
+
+    @Test
+    public void testProducts() throws MatrixColumnMismatch, MatrixRowMismatch, MatrixRowColumnMismatch {
+        Random random = new Random(2);
+        Matrix dense = randomSparse(50, 40, 0.15, random);
+        Vector right = new Vector(40, 0.0);
+        for (int i = 0; i < 40; i++) {
+            right.setValue(i, random.nextDouble());
+        }
+        Vector left = new Vector(50, 0.0);
+        for (int i = 0; i < 50; i++) {
+            left.setValue(i, random.nextDouble());
+        }
+        Matrix other = new Matrix(40, 7, -1, 1, random);
+        Vector expectedRight = dense.multiplyWithVectorFromRight(right);
+        Vector expectedLeft = dense.multiplyWithVectorFromLeft(left);
+        Matrix expectedProduct = dense.multiply(other);
+        for (SparseFormat format : SparseFormat.values()) {
+            SparseMatrix sparse = new SparseMatrix(dense, format);
+            Vector actualRight = sparse.multiplyWithVectorFromRight(right);
+            for (int i = 0; i < 50; i++) {
+                assertEquals(expectedRight.getValue(i), actualRight.getValue(i), 1e-12);
+            }
+            Vector actualLeft = sparse.multiplyWithVectorFromLeft(left);
+            for (int i = 0; i < 40; i++) {
+                assertEquals(expectedLeft.getValue(i), actualLeft.getValue(i), 1e-12);
+            }
+            assertMatrixEquals(expectedProduct, sparse.multiply(other), 1e-12);
+            assertThrows(MatrixColumnMismatch.class, () -> sparse.multiplyWithVectorFromRight(left));
+            assertThrows(MatrixRowMismatch.class, () -> sparse.multiplyWithVectorFromLeft(right));
+            assertThrows(MatrixRowColumnMismatch.class, () -> sparse.multiply(new Matrix(50, 2)));
+        }
+    }
+
+    @Test
+    public void testElementProduct() throws MatrixDimensionMismatch {
+        Random random = new Random(3);
+        Matrix a = randomSparse(25, 30, 0.3, random);
+        Matrix b = randomSparse(25, 30, 0.3, random);
+        Matrix expected = a.elementProduct(b);
+        SparseMatrix csr = new SparseMatrix(a, SparseFormat.CSR);
+        SparseMatrix csc = new SparseMatrix(b, SparseFormat.CSC);
+        assertMatrixEquals(expected, csr.elementProduct(csc).toMatrix(), 0.0);
+        assertMatrixEquals(expected, csc.elementProduct(csr).toMatrix(), 0.0);
+        assertMatrixEquals(expected, csr.elementProduct(b).toMatrix(), 0.0);
+        assertMatrixEquals(expected, csc.elementProduct(a).toMatrix(), 0.0);
+        assertThrows(MatrixDimensionMismatch.class, () -> csr.elementProduct(new Matrix(30, 25)));
+    }
+
+    @Test
+    public void testSums() {
+        Matrix dense = randomSparse(20, 15, 0.4, new Random(4));
+        for (int i = 0; i < 20; i++) {
+            dense.setValue(i, i % 15, dense.getValue(i, i % 15) + 5.0);
+        }
+        Vector columnSums = dense.sumOfRows();
+        for (SparseFormat format : SparseFormat.values()) {
+            SparseMatrix sparse = new SparseMatrix(dense, format);
+            for (int i = 0; i < 20; i++) {
+                assertEquals(dense.rowSum(i), sparse.rowSum(i), 1e-12);
+                assertEquals(dense.rowSum(i), sparse.sumOfColumns().getValue(i), 1e-12);
+            }
+            for (int j = 0; j < 15; j++) {
+                assertEquals(dense.columnSum(j), sparse.columnSum(j), 1e-12);
+                assertEquals(columnSums.getValue(j), sparse.sumOfRows().getValue(j), 1e-12);
+            }
+            assertEquals(dense.sumOfElements(), sparse.sumOfElements(), 1e-12);
+            Matrix normalized = dense.clone();
+            normalized.columnWiseNormalize();
+            sparse.columnWiseNormalize();
+            assertMatrixEquals(normalized, sparse.toMatrix(), 1e-12);
+        }
+    }
+
+    @Test
+    public void testOperator() throws MatrixNotSquare, MatrixNotSymmetric, MatrixDimensionMismatch {
+        Matrix dense = randomSparse(30, 30, 0.2, new Random(5));
+        Matrix symmetric = dense.sum(dense.transpose());
+        SparseMatrix sparse = new SparseMatrix(symmetric, SparseFormat.CSC);
+        ArrayList<Eigenvector> eigenvectors = SubspaceIteration.topEigenpairs(sparse.asOperator(), 3);
+        SymmetricEigenDecomposition expected = new SymmetricEigenDecomposition(symmetric);
+        for (int r = 0; r < 3; r++) {
+            assertEquals(expected.getEigenvalue(r), eigenvectors.get(r).eigenValue(), 1e-8);
+        }
+        assertThrows(MatrixNotSquare.class, () -> new SparseMatrix(new Matrix(2, 3), SparseFormat.CSR).asOperator());
+    }
+
+    @Test
+    public void testRectangularOperator() {
+        Random random = new Random(8);
+        Matrix dense = randomSparse(40, 25, 0.2, random);
+        Matrix x = new Matrix(25, 6, -1, 1, random);
+        Matrix z = new Matrix(40, 6, -1, 1, random);
+        double[] expected = new double[40 * 6], expectedTranspose = new double[25 * 6];
+        dense.asRectangularOperator().multiply(x.getData(), expected, 6);
+        dense.asRectangularOperator().multiplyTranspose(z.getData(), expectedTranspose, 6);
+        for (SparseFormat format : SparseFormat.values()) {
+            RectangularOperator operator = new SparseMatrix(dense, format).asRectangularOperator();
+            assertEquals(40, operator.getRow());
+            assertEquals(25, operator.getColumn());
+            double[] y = new double[40 * 6], yTranspose = new double[25 * 6];
+            Arrays.fill(y, 5.0);
+            operator.multiply(x.getData(), y, 6);
+            operator.multiplyTranspose(z.getData(), yTranspose, 6);
+            assertArrayEquals(expected, y, 1e-12);
+            assertArrayEquals(expectedTranspose, yTranspose, 1e-12);
+        }
+    }
+
+    @Test
+    public void testParallel() throws MatrixColumnMismatch, MatrixRowMismatch, MatrixRowColumnMismatch {
+        Random random = new Random(6);
+        Matrix dense = randomSparse(200, 150, 0.05, random);
+        Vector v = new Vector(150, 0.0);
+        for (int i = 0; i < 150; i++) {
+            v.setValue(i, random.nextDouble());
+        }
+        Vector u = new Vector(200, 1.0);
+        Matrix other = new Matrix(150, 9, -1, 1, random);
+        SparseMatrix csr = new SparseMatrix(dense, SparseFormat.CSR);
+        SparseMatrix csc = new SparseMatrix(dense, SparseFormat.CSC);
+        Vector sequential = csr.multiplyWithVectorFromRight(v);
+        Vector sequentialLeft = csc.multiplyWithVectorFromLeft(u);
+        Matrix sequentialProduct = csr.multiply(other);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        long threshold = Parallelism.getThreshold();
+        try {
+            Parallelism.setPool(pool);
+            Parallelism.setThreshold(0);
+            assertArrayEquals(sequential.toArray(), csr.multiplyWithVectorFromRight(v).toArray(), 0.0);
+            assertArrayEquals(sequentialLeft.toArray(), csc.multiplyWithVectorFromLeft(u).toArray(), 0.0);
+            assertMatrixEquals(sequentialProduct, csr.multiply(other), 0.0);
+        } finally {
+            Parallelism.setPool(null);
+            Parallelism.setThreshold(threshold);
+            pool.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package Math;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SparseVectorTest {
+    SparseVector sparse1, sparse2;
+    Vector dense1;
+
+    @Before
+    public void setUp() {
+        sparse1 = new SparseVector(1000, new int[]{900, 3, 10}, new double[]{4, 1, 2});
+        sparse2 = new SparseVector(1000, new int[]{10, 500, 900}, new double[]{5, 7, 1});
+        double[] data = new double[1000];
+        for (int i = 0; i < 1000; i++) {
+            data[i] = i;
+        }
+        dense1 = new Vector(data);
+    }
+
+    @Test
+    public void testUnsortedConstructor() {
+        SparseVector vector = new SparseVector(50, new int[]{40, 7, 0, 23}, new double[]{1, 2, 0, 4});
+        assertEquals(3, vector.nonZeroCount());
+        assertEquals(7, vector.getIndex(0));
+        assertEquals(23, vector.getIndex(1));
+        assertEquals(40, vector.getIndex(2));
+        assertEquals(4, vector.getValue(23), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> new SparseVector(50, new int[]{3, 9, 3}, new double[]{1, 2, 3}));
+        assertThrows(IndexOutOfBoundsException.class, () -> new SparseVector(50, new int[]{-1, 9}, new double[]{1, 2}));
+        assertThrows(IndexOutOfBoundsException.class, () -> new SparseVector(50, new int[]{50}, new double[]{1}));
+    }
+
+    @Test
+    public void testGetAndSetValue() {
+        assertEquals(3, sparse1.nonZeroCount());
+        assertEquals(3, sparse1.getIndex(0));
+        assertEquals(4, sparse1.getValue(900), 0.0);
+        assertEquals(0, sparse1.getValue(899), 0.0);
+        sparse1.setValue(5, 8);
+        assertEquals(4, sparse1.nonZeroCount());
+        assertEquals(5, sparse1.getIndex(1));
+        sparse1.setValue(5, 0);
+        assertEquals(3, sparse1.nonZeroCount());
+        sparse1.addValue(3, 2);
+        assertEquals(3, sparse1.getValue(3), 0.0);
+        SparseVector oneHot = new SparseVector(100, 7, 1.0);
+        assertEquals(1, oneHot.nonZeroCount());
+        assertEquals(1, oneHot.sumOfElements(), 0.0);
+    }
+
+    @Test
+    public void testDotProduct() throws Exception{
+        assertEquals(14, sparse1.dotProduct(sparse2), 0.0);
+        assertEquals(3 + 20 + 3600, sparse1.dotProduct(dense1), 0.0);
+        assertEquals(3 + 20 + 3600, dense1.dotProduct(sparse1), 0.0);
+        assertEquals(21, sparse1.dotProduct(), 0.0);
+        assertEquals(Math.sqrt(21), sparse1.l2Norm(), 0.0);
+        NumericVector numeric = sparse2;
+        assertEquals(dense1.dotProduct(sparse2.toVector()), dense1.dotProduct(numeric), 0.0);
+    }
+
+    @Test
+    public void testCosineSimilarity() throws Exception{
+        Vector dense2 = sparse2.toVector();
+        assertEquals(sparse1.toVector().cosineSimilarity(dense2), sparse1.cosineSimilarity(sparse2), 0.000001);
+        assertEquals(sparse1.toVector().cosineSimilarity(dense1), dense1.cosineSimilarity(sparse1), 0.000001);
+    }
+
+    @Test
+    public void testAdd() throws Exception{
+        sparse1.add(sparse2);
+        assertEquals(4, sparse1.nonZeroCount());
+        assertEquals(20, sparse1.sumOfElements(), 0.0);
+        assertEquals(7, sparse1.getValue(10), 0.0);
+        sparse1.add(new SparseVector(1000, 3, -1.0));
+        assertEquals(3, sparse1.nonZeroCount());
+        dense1.add(sparse2);
+        assertEquals(499500 + 13, dense1.sumOfElements(), 0.0);
+    }
+
+    @Test
+    public void testL1Normalize() {
+        sparse1.l1Normalize();
+        assertEquals(1.0, sparse1.sumOfElements(), 0.0000001);
+        assertEquals(3, sparse1.nonZeroCount());
+    }
+
+    @Test
+    public void testMatrixMultiply() throws Exception{
+        Matrix matrix = new Matrix(20, 1000, -1, 1, new java.util.Random(1));
+        Vector expected = matrix.multiplyWithVectorFromRight(sparse1.toVector());
+        Vector result = matrix.multiplyWithVectorFromRight(sparse1);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(expected.getValue(i), result.getValue(i), 0.0000001);
+        }
+        SparseVector left = new SparseVector(20, new int[]{2, 19}, new double[]{1, 3});
+        expected = matrix.multiplyWithVectorFromLeft(left.toVector());
+        result = matrix.multiplyWithVectorFromLeft(left);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(expected.getValue(i), result.getValue(i), 0.0000001);
+        }
+    }
+
+    @Test(expected = VectorSizeMismatch.class)
+    public void testSizeMismatch() throws Exception{
+        sparse1.dotProduct(new SparseVector(10));
+    }
+
+}
@@ -0,0 +1,48 @@
+package Math;
+
+import java.util.Random;
+
+/**
+ * Compares the classical and the Strassen-Winograd {@link MultiplicationMode}s on square matrices of several sizes,
+ * reporting the time of both, the largest difference between their results and the error bound of the Strassen
+ * product. Not a unit test; run its main method directly, optionally passing the sizes as arguments.
+ */
+public class StrassenBenchmark {
+
+    private static double maxDifference(Matrix a, Matrix b) {
+        double max = 0.0;
+        for (int i = 0; i < a.getRow(); i++) {
+            for (int j = 0; j < a.getColumn(); j++) {
+                max = Math.max(max, Math.abs(a.getValue(i, j) - b.getValue(i, j)));
+            }
+        }
+        return max;
+    }
+
+    public static void main(String[] args) throws MatrixRowColumnMismatch {
+        int[] sizes = {512, 1000, 1024, 2048};
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+        Random random = new Random(1);
+        for (int n : sizes) {
+            Matrix a = new Matrix(n, n, -1, 1, random);
+            Matrix b = new Matrix(n, n, -1, 1, random);
+            a.multiply(b, MultiplicationMode.CLASSIC);
+            a.multiply(b, MultiplicationMode.STRASSEN);
+            long start = System.nanoTime();
+            Matrix classic = a.multiply(b, MultiplicationMode.CLASSIC);
+            double classicTime = (System.nanoTime() - start) / 1e6;
+            start = System.nanoTime();
+            Matrix strassen = a.multiply(b, MultiplicationMode.STRASSEN);
+            double strassenTime = (System.nanoTime() - start) / 1e6;
+            System.out.printf("n=%5d  classic %9.1f ms  strassen %9.1f ms  (%.2fx)  difference %.2e  bound %.2e%n",
+                    n, classicTime, strassenTime, classicTime / strassenTime, maxDifference(classic, strassen),
+                    a.multiplicationErrorBound(b, MultiplicationMode.STRASSEN));
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package Math;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SubspaceIterationTest {
+
+    private Matrix covariance(int n, int samples, Random random) {
+        Matrix data = new Matrix(samples, n);
+        for (int s = 0; s < samples; s++) {
+            for (int i = 0; i < n; i++) {
+                data.setValue(s, i, random.nextGaussian() * (1.0 + 20.0 / (i + 1)));
+            }
+        }
+        Matrix result = new Matrix(n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double sum = 0.0;
+                for (int s = 0; s < samples; s++) {
+                    sum += data.getValue(s, i) * data.getValue(s, j);
+                }
+                result.setValue(i, j, sum / samples);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testMatchesFullDecomposition() throws MatrixNotSquare, MatrixNotSymmetric {
+        Matrix a = covariance(120, 300, new Random(4));
+        ArrayList<Eigenvector> top = a.topEigenpairs(8);
+        SymmetricEigenDecomposition full = new SymmetricEigenDecomposition(a);
+        assertEquals(8, top.size());
+        for (int r = 0; r < 8; r++) {
+            Eigenvector expected = full.getEigenvector(r);
+            Eigenvector actual = top.get(r);
+            assertEquals(expected.eigenValue(), actual.eigenValue(), 1e-8 * full.getEigenvalue(0));
+            double dot = 0.0;
+            for (int i = 0; i < 120; i++) {
+                dot += expected.getValue(i) * actual.getValue(i);
+            }
+            assertEquals(1.0, Math.abs(dot), 1e-6);
+        }
+    }
+
+    @Test
+    public void testImplicitOperator() {
+        int n = 2000;
+        LinearOperator diagonal = new LinearOperator() {
+            @Override
+            public int size() {
+                return n;
+            }
+
+            @Override
+            public void multiply(double[] x, int xOffset, double[] y, int yOffset) {
+                for (int i = 0; i < n; i++) {
+                    y[yOffset + i] = x[xOffset + i] / (i + 1);
+                }
+            }
+        };
+        ArrayList<Eigenvector> top = SubspaceIteration.topEigenpairs(diagonal, 3, 1e-10, 1000, new Random(2));
+        for (int r = 0; r < 3; r++) {
+            assertEquals(1.0 / (r + 1), top.get(r).eigenValue(), 1e-9);
+            assertEquals(1.0, Math.abs(top.get(r).getValue(r)), 1e-6);
+        }
+        ArrayList<Eigenvector> capped = SubspaceIteration.topEigenpairs(diagonal, 3, 0.0, 2, new Random(2));
+        assertEquals(3, capped.size());
+        assertTrue(SubspaceIteration.topEigenpairs(diagonal, 0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> SubspaceIteration.topEigenpairs(diagonal, n + 1));
+    }
+
+    @Test
+    public void testIndefinite() throws MatrixNotSquare, MatrixNotSymmetric, MatrixDimensionMismatch {
+        int n = 60;
+        Random random = new Random(6);
+        Matrix q = new Matrix(n, n, -1, 1, random);
+        Matrix a = q.sum(q.transpose());
+        for (int i = 0; i < n; i++) {
+            a.addValue(i, i, i < 5 ? -40.0 : 0.0);
+        }
+        SymmetricEigenDecomposition full = new SymmetricEigenDecomposition(a);
+        assertTrue(Math.abs(full.getEigenvalue(n - 1)) > 2 * full.getEigenvalue(0));
+        ArrayList<Eigenvector> top = a.topEigenpairs(4);
+        for (int r = 0; r < 4; r++) {
+            assertEquals(full.getEigenvalue(r), top.get(r).eigenValue(), 1e-6 * Math.abs(full.getEigenvalue(n - 1)));
+        }
+    }
+
+    @Test
+    public void testErrors() {
+        Matrix notSymmetric = new Matrix(3, 3);
+        notSymmetric.setValue(0, 2, 1.0);
+        assertThrows(MatrixNotSymmetric.class, () -> notSymmetric.topEigenpairs(1));
+        assertThrows(MatrixNotSquare.class, () -> new Matrix(2, 3).asOperator());
+    }
+
+}
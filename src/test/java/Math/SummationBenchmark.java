@@ -0,0 +1,40 @@
+package Math;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+/**
+ * Compares the speed and the accuracy of the {@link SummationMode}s on a long vector whose items span many orders of
+ * magnitude. Not a unit test; run its main method directly.
+ */
+public class SummationBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        Random random = new Random(1);
+        double[] data = new double[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12));
+        }
+        BigDecimal exact = BigDecimal.ZERO;
+        for (double value : data) {
+            exact = exact.add(new BigDecimal(value));
+        }
+        Vector vector = Vector.wrap(data);
+        for (SummationMode mode : SummationMode.values()) {
+            double sum = 0;
+            for (int i = 0; i < 5; i++) {
+                sum = vector.sumOfElements(mode);
+            }
+            int repetitions = 20;
+            long start = System.nanoTime();
+            for (int i = 0; i < repetitions; i++) {
+                sum = vector.sumOfElements(mode);
+            }
+            double nanos = (System.nanoTime() - start) / (double) repetitions / size;
+            double error = new BigDecimal(sum).subtract(exact).abs().doubleValue();
+            System.out.printf("%-8s %.3f ns/item  absolute error %.3e%n", mode, nanos, error);
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+package Math;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class SymmetricEigenDecompositionTest {
+
+    private Matrix symmetric(int n, Random random) {
+        Matrix result = new Matrix(n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++) {
+                double value = 2 * random.nextDouble() - 1;
+                result.setValue(i, j, value);
+                result.setValue(j, i, value);
+            }
+        }
+        return result;
+    }
+
+    private void assertDecomposition(Matrix a, SymmetricEigenDecomposition decomposition, double delta) {
+        int n = a.getRow();
+        assertEquals(n, decomposition.size());
+        double[] eigenvalues = decomposition.getEigenvalues();
+        Matrix q = decomposition.getEigenvectors();
+        for (int r = 0; r < n; r++) {
+            if (r > 0) {
+                assertTrue(eigenvalues[r - 1] >= eigenvalues[r]);
+            }
+            assertEquals(eigenvalues[r], decomposition.getEigenvalue(r), 0.0);
+            Eigenvector vector = decomposition.getEigenvector(r);
+            assertEquals(eigenvalues[r], vector.eigenValue(), 0.0);
+            for (int i = 0; i < n; i++) {
+                double sum = 0.0;
+                for (int k = 0; k < n; k++) {
+                    sum += a.getValue(i, k) * vector.getValue(k);
+                }
+                assertEquals(eigenvalues[r] * vector.getValue(i), sum, delta);
+                assertEquals(q.getValue(i, r), vector.getValue(i), 0.0);
+            }
+            for (int s = 0; s <= r; s++) {
+                double dot = 0.0;
+                for (int k = 0; k < n; k++) {
+                    dot += q.getValue(k, r) * q.getValue(k, s);
+                }
+                assertEquals(r == s ? 1.0 : 0.0, dot, delta);
+            }
+        }
+    }
+
+    @Test
+    public void testDecomposition() throws MatrixNotSquare, MatrixNotSymmetric {
+        for (int n : new int[]{1, 2, 3, 10, 33, 80}) {
+            Matrix a = symmetric(n, new Random(n));
+            assertDecomposition(a, new SymmetricEigenDecomposition(a), 1e-10);
+        }
+    }
+
+    @Test
+    public void testKnownEigenvalues() throws MatrixNotSquare, MatrixNotSymmetric {
+        Matrix a = new Matrix(4, 4);
+        double[] diagonal = {5, -2, 7, 0};
+        for (int i = 0; i < 4; i++) {
+            a.setValue(i, i, diagonal[i]);
+        }
+        SymmetricEigenDecomposition decomposition = new SymmetricEigenDecomposition(a);
+        assertArrayEquals(new double[]{7, 5, 0, -2}, decomposition.getEigenvalues(), 0.0);
+        Matrix tridiagonal = new Matrix(50, 50);
+        for (int i = 0; i < 50; i++) {
+            tridiagonal.setValue(i, i, 2);
+            if (i > 0) {
+                tridiagonal.setValue(i, i - 1, -1);
+                tridiagonal.setValue(i - 1, i, -1);
+            }
+        }
+        double[] eigenvalues = new SymmetricEigenDecomposition(tridiagonal).getEigenvalues();
+        for (int k = 1; k <= 50; k++) {
+            assertEquals(2 - 2 * Math.cos(k * Math.PI / 51), eigenvalues[50 - k], 1e-12);
+        }
+    }
+
+    @Test
+    public void testParallel() throws MatrixNotSquare, MatrixNotSymmetric {
+        Matrix a = symmetric(90, new Random(7));
+        SymmetricEigenDecomposition sequential = new SymmetricEigenDecomposition(a);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        long threshold = Parallelism.getThreshold();
+        try {
+            Parallelism.setPool(pool);
+            Parallelism.setThreshold(0);
+            SymmetricEigenDecomposition parallel = new SymmetricEigenDecomposition(a);
+            assertArrayEquals(sequential.getEigenvalues(), parallel.getEigenvalues(), 0.0);
+        } finally {
+            Parallelism.setPool(null);
+            Parallelism.setThreshold(threshold);
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testErrors() {
+        Matrix notSymmetric = new Matrix(3, 3);
+        notSymmetric.setValue(0, 2, 1.0);
+        assertThrows(MatrixNotSymmetric.class, () -> new SymmetricEigenDecomposition(notSymmetric));
+        assertThrows(MatrixNotSquare.class, () -> new SymmetricEigenDecomposition(new Matrix(2, 3)));
+    }
+
+}
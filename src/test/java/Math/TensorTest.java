@@ -360,4 +360,32 @@ public class TensorTest {
         System.out.println("Batch Matrix Multiplication: " + batchMatrixMul);
         System.out.println("=== END DEMONSTRATION ===");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testTransposePermutations() {
+        int[] shape = {3, 4, 5, 37};
+        double[] data = new double[3 * 4 * 5 * 37];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i;
+        }
+        Tensor tensor = new Tensor(data, shape);
+        int[][] permutations = {{0, 1, 3, 2}, {3, 2, 1, 0}, {1, 0, 2, 3}, {2, 3, 0, 1}, {0, 1, 2, 3}};
+        for (int[] axes : permutations) {
+            Tensor transposed = tensor.transpose(axes);
+            int[] index = new int[4];
+            int[] source = new int[4];
+            for (index[0] = 0; index[0] < shape[axes[0]]; index[0]++) {
+                for (index[1] = 0; index[1] < shape[axes[1]]; index[1]++) {
+                    for (index[2] = 0; index[2] < shape[axes[2]]; index[2]++) {
+                        for (index[3] = 0; index[3] < shape[axes[3]]; index[3]++) {
+                            for (int d = 0; d < 4; d++) {
+                                source[axes[d]] = index[d];
+                            }
+                            assertEquals(tensor.getValue(source), transposed.getValue(index), 0.0);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package Math;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class VectorBatchTest {
+    ArrayList<Vector> vectors;
+    VectorBatch batch;
+    Matrix weights;
+
+    @Before
+    public void setUp() throws Exception {
+        Random random = new Random(1);
+        vectors = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            double[] data = new double[20];
+            for (int j = 0; j < data.length; j++) {
+                data[j] = random.nextDouble() - 0.5;
+            }
+            vectors.add(new Vector(data));
+        }
+        batch = new VectorBatch(vectors);
+        weights = new Matrix(30, 20, -1, 1, random);
+    }
+
+    @Test
+    public void testViews() {
+        assertEquals(150, batch.getCount());
+        assertEquals(20, batch.getDimension());
+        assertEquals(vectors.get(7).getValue(3), batch.getValue(7, 3), 0.0);
+        batch.getVector(7).setValue(3, 5.0);
+        assertEquals(5.0, batch.getValue(7, 3), 0.0);
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getVector(150));
+    }
+
+    @Test
+    public void testDotProductAndCosine() throws Exception {
+        Vector query = vectors.get(0);
+        Vector dots = batch.dotProduct(query);
+        Vector cosines = batch.cosineSimilarity(query);
+        Vector pairwise = batch.cosineSimilarity(batch);
+        for (int i = 0; i < vectors.size(); i++) {
+            assertEquals(vectors.get(i).dotProduct(query), dots.getValue(i), 1e-12);
+            assertEquals(vectors.get(i).cosineSimilarity(query), cosines.getValue(i), 1e-12);
+            assertEquals(1.0, pairwise.getValue(i), 1e-12);
+        }
+        assertThrows(VectorSizeMismatch.class, () -> batch.dotProduct(new Vector(3, 0.0)));
+    }
+
+    @Test
+    public void testActivations() throws Exception {
+        batch.softmax();
+        Vector expected = new Vector(vectors.get(4).toArray());
+        expected.softmax();
+        for (int j = 0; j < 20; j++) {
+            assertEquals(expected.getValue(j), batch.getValue(4, j), 1e-15);
+        }
+        assertEquals(1.0, batch.getVector(9).sumOfElements(), 1e-12);
+        batch.add(new Vector(20, -1.0));
+        batch.relu();
+        assertEquals(0.0, batch.getVector(9).sumOfElements(), 0.0);
+    }
+
+    @Test
+    public void testMultiplyWithMatrix() throws Exception {
+        VectorBatch right = weights.multiplyWithBatchFromRight(batch);
+        assertEquals(30, right.getDimension());
+        for (int i = 0; i < vectors.size(); i++) {
+            Vector expected = weights.multiplyWithVectorFromRight(vectors.get(i));
+            for (int j = 0; j < 30; j++) {
+                assertEquals(expected.getValue(j), right.getValue(i, j), 1e-12);
+            }
+        }
+        VectorBatch left = weights.multiplyWithBatchFromLeft(right);
+        assertEquals(20, left.getDimension());
+        Vector expected = right.getVector(17);
+        expected = weights.multiplyWithVectorFromLeft(expected);
+        for (int j = 0; j < 20; j++) {
+            assertEquals(expected.getValue(j), left.getValue(17, j), 1e-12);
+        }
+        assertThrows(MatrixColumnMismatch.class, () -> weights.multiplyWithBatchFromRight(right));
+    }
+
+    @Test
+    public void testParallelMultiplyWithMatrix() throws Exception {
+        VectorBatch right = weights.multiplyWithBatchFromRight(batch);
+        VectorBatch left = weights.multiplyWithBatchFromLeft(right);
+        java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(3);
+        try {
+            Parallelism.setPool(pool);
+            Parallelism.setThreshold(0);
+            assertArrayEquals(right.getData(), weights.multiplyWithBatchFromRight(batch).getData(), 0.0);
+            assertArrayEquals(left.getData(), weights.multiplyWithBatchFromLeft(right).getData(), 0.0);
+        } finally {
+            Parallelism.setPool(null);
+            Parallelism.setThreshold(Parallelism.DEFAULT_THRESHOLD);
+            pool.shutdown();
+        }
+    }
+
+}
@@ -199,7 +199,7 @@ public class VectorTest {
     @org.junit.Test
     public void testL1NormalizeLarge() {
         largeVector1.l1Normalize();
-        assertEquals(1.0, largeVector1.sumOfElements(), 0.0);
+        assertEquals(1.0, largeVector1.sumOfElements(), 1e-12);
     }
 
     @org.junit.Test
@@ -226,4 +226,187 @@ public class VectorTest {
         assertEquals(0.5007497, similarity, 0.000001);
     }
 
-}
\ No newline at end of file
+    @org.junit.Test
+    public void testGrowAndShrink() {
+        Vector vector = new Vector(0, 0.0);
+        for (int i = 0; i < 1000; i++) {
+            vector.add(i);
+        }
+        assertEquals(1000, vector.size());
+        assertEquals(499500, vector.sumOfElements(), 0.0);
+        vector.insert(1000, -1);
+        assertEquals(-1, vector.getValue(1000), 0.0);
+        vector.insert(0, 5);
+        assertEquals(5, vector.getValue(0), 0.0);
+        assertEquals(0, vector.getValue(1), 0.0);
+        vector.remove(0);
+        vector.remove(1000);
+        assertEquals(1000, vector.size());
+        assertEquals(499500, vector.sumOfElements(), 0.0);
+        vector.trimToSize();
+        vector.add(1);
+        assertEquals(1001, vector.size());
+    }
+
+    @org.junit.Test(expected = IndexOutOfBoundsException.class)
+    public void testGetValueOutOfSize() {
+        Vector vector = new Vector(0, 0.0);
+        vector.add(1);
+        vector.getValue(1);
+    }
+
+    @org.junit.Test
+    public void testWrap() {
+        double[] data = {1, 2, 3, 4, 5, 6};
+        Vector vector = Vector.wrap(data, 2, 3);
+        assertEquals(3, vector.size());
+        assertEquals(12, vector.sumOfElements(), 0.0);
+        vector.setValue(0, 10);
+        assertEquals(10, data[2], 0.0);
+        data[4] = 20;
+        assertEquals(20, vector.getValue(2), 0.0);
+        vector.add(7);
+        vector.setValue(0, 0);
+        assertEquals(10, data[2], 0.0);
+        assertEquals(6, data[5], 0.0);
+        assertEquals(7, vector.getValue(3), 0.0);
+    }
+
+    @org.junit.Test
+    public void testToArrayAndCopyInto() {
+        assertArrayEquals(data1, smallVector1.toArray(), 0.0);
+        double[] target = new double[7];
+        smallVector1.copyInto(target, 2);
+        assertEquals(0, target[1], 0.0);
+        assertEquals(2, target[2], 0.0);
+        assertEquals(6, target[6], 0.0);
+    }
+
+    @org.junit.Test
+    public void testSigmoidWithDerivative() throws Exception{
+        Vector smallVector3 = new Vector(data1);
+        Vector derivative = new Vector(5, 0.0);
+        smallVector3.sigmoidWithDerivative(derivative);
+        assertEquals(0.8807971, smallVector3.getValue(0), 0.000001);
+        assertEquals(0.8807971 * (1 - 0.8807971), derivative.getValue(0), 0.000001);
+        Vector output = new Vector(5, 0.0);
+        smallVector1.tanh(output);
+        assertEquals(Math.tanh(2), output.getValue(0), 0.0);
+        assertEquals(2, smallVector1.getValue(0), 0.0);
+    }
+
+    @org.junit.Test
+    public void testSoftmax() throws Exception{
+        Vector output = new Vector(5, 0.0);
+        largeVector1.softmax();
+        assertEquals(1.0, largeVector1.sumOfElements(), 0.000001);
+        smallVector1.softmax(output);
+        assertEquals(1.0, output.sumOfElements(), 0.000001);
+        assertEquals(4, output.maxIndex());
+        double logSum = smallVector1.logSumExp();
+        assertEquals(Math.log(Math.exp(2) + Math.exp(3) + Math.exp(4) + Math.exp(5) + Math.exp(6)), logSum, 0.000001);
+        smallVector1.logSoftmax();
+        assertEquals(Math.log(output.getValue(2)), smallVector1.getValue(2), 0.000001);
+    }
+
+    @org.junit.Test
+    public void testLeakyReluAndGelu() {
+        Vector vector = new Vector(new double[]{-2, -1, 0, 1, 2});
+        vector.leakyRelu(0.1);
+        assertEquals(-0.2, vector.getValue(0), 0.000001);
+        assertEquals(2, vector.getValue(4), 0.0);
+        vector = new Vector(new double[]{-1, 0, 1});
+        vector.gelu();
+        assertEquals(-0.158808, vector.getValue(0), 0.000001);
+        assertEquals(0, vector.getValue(1), 0.0);
+        assertEquals(0.841192, vector.getValue(2), 0.000001);
+    }
+
+    @org.junit.Test
+    public void testAxpy() throws Exception{
+        smallVector1.axpy(2, smallVector2);
+        assertEquals(80, smallVector1.sumOfElements(), 0.0);
+        assertEquals(18, smallVector1.getValue(0), 0.0);
+    }
+
+    @org.junit.Test
+    public void testCompensatedSummation() throws Exception{
+        Vector vector = new Vector(0, 0.0);
+        vector.add(1.0);
+        for (int i = 0; i < 1000000; i++) {
+            vector.add(1e-16);
+        }
+        vector.add(-1.0);
+        assertTrue(Math.abs(vector.sumOfElements(SummationMode.NAIVE) - 1e-10) > 1e-12);
+        assertEquals(1e-10, vector.sumOfElements(SummationMode.KAHAN), 1e-22);
+        assertEquals(1e-10, vector.sumOfElements(SummationMode.PAIRWISE), 1e-14);
+        for (SummationMode mode : SummationMode.values()) {
+            assertEquals(500500, largeVector1.sumOfElements(mode), 0.0);
+            assertEquals(167167000, largeVector1.dotProduct(largeVector2, mode), 0.0);
+            assertEquals(Math.sqrt(333833500), largeVector1.l2Norm(mode), 0.0);
+        }
+    }
+
+    @org.junit.Test
+    public void testIntoOperations() throws Exception {
+        Vector result = new Vector(5, 0.0);
+        smallVector1.productInto(2, result);
+        assertEquals(40, result.sumOfElements(), 0.0);
+        smallVector1.differenceInto(smallVector2, result);
+        assertEquals(-10, result.sumOfElements(), 0.0);
+        Vector biased = new Vector(6, 0.0);
+        smallVector1.biasedInto(biased);
+        assertEquals(1, biased.getValue(0), 0.0);
+        assertEquals(21, biased.sumOfElements(), 0.0);
+        Vector skipped = new Vector(largeVector1.skipVectorSize(3, 1), 0.0);
+        largeVector1.skipVectorInto(3, 1, skipped);
+        assertEquals(largeVector1.skipVector(3, 1).sumOfElements(), skipped.sumOfElements(), 0.0);
+        assertThrows(VectorSizeMismatch.class, () -> smallVector1.productInto(2, biased));
+    }
+
+    @org.junit.Test
+    public void testSelection() {
+        TopK top = largeVector1.topK(3);
+        assertEquals(3, top.size());
+        assertEquals(999, top.getIndex(0));
+        assertEquals(997, top.getIndex(2));
+        assertEquals(998, top.getValue(2), 0.0);
+        assertEquals(5, smallVector1.topK(10).size());
+        assertEquals(0, smallVector1.topK(0).size());
+        assertEquals(0, smallVector1.argmin());
+        assertEquals(999, largeVector2.argmin());
+        assertArrayEquals(new int[]{4, 3, 2, 1, 0}, smallVector2.argsort());
+        Vector ties = new Vector(new double[]{1, 3, 3, 2, 3});
+        assertArrayEquals(new int[]{1, 2, 4}, ties.topK(3).getIndices());
+        assertArrayEquals(new int[]{0, 3, 1, 2, 4}, ties.argsort());
+    }
+
+    @org.junit.Test
+    public void testParallelTopK() {
+        java.util.Random random = new java.util.Random(3);
+        double[] data = new double[500000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = Math.floor(random.nextDouble() * 100000);
+        }
+        Vector scores = Vector.wrap(data);
+        TopK sequential = scores.topK(10);
+        assertArrayEquals(sequential.getIndices(), scores.parallelTopK(10).getIndices());
+        java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(3);
+        try {
+            Parallelism.setPool(pool);
+            assertArrayEquals(sequential.getIndices(), scores.parallelTopK(10).getIndices());
+            Parallelism.setThreshold(0);
+            assertArrayEquals(sequential.getIndices(), scores.parallelTopK(10).getIndices());
+            assertArrayEquals(new int[]{2, 0}, Vector.wrap(new double[]{3, 1, 5}).parallelTopK(2).getIndices());
+        } finally {
+            Parallelism.setPool(null);
+            Parallelism.setThreshold(Parallelism.DEFAULT_THRESHOLD);
+            pool.shutdown();
+        }
+        int[] order = scores.argsort();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(data[order[data.length - 1 - i]], sequential.getValue(i), 0.0);
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package Math;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class WorkspaceTest {
+
+    @Test
+    public void testRecycling() {
+        Workspace workspace = new Workspace();
+        Vector first;
+        Matrix matrix;
+        try (Workspace.Scope scope = workspace.scope()) {
+            first = scope.vector(10);
+            first.setValue(3, 5.0);
+            matrix = scope.matrix(3, 4);
+            matrix.setValue(1, 2, 7.0);
+        }
+        assertEquals(1, workspace.pooledVectorCount());
+        assertEquals(1, workspace.pooledMatrixCount());
+        try (Workspace.Scope scope = workspace.scope()) {
+            Vector second = scope.vector(10);
+            assertSame(first, second);
+            assertEquals(0.0, second.sumOfElements(), 0.0);
+            assertNotSame(first, scope.vector(10));
+            assertNotSame(matrix, scope.matrix(4, 3));
+            assertSame(matrix, scope.matrix(3, 4));
+            assertEquals(0.0, matrix.sumOfElements(), 0.0);
+        }
+        assertEquals(2, workspace.pooledVectorCount());
+        assertEquals(2, workspace.pooledMatrixCount());
+        workspace.clear();
+        assertEquals(0, workspace.pooledVectorCount());
+    }
+
+    @Test
+    public void testNestedScopes() {
+        Workspace workspace = new Workspace();
+        Workspace.Scope outer = workspace.scope();
+        Vector kept = outer.vector(5);
+        try (Workspace.Scope inner = workspace.scope()) {
+            inner.vector(5);
+            assertThrows(IllegalStateException.class, () -> outer.vector(5));
+        }
+        assertEquals(1, workspace.pooledVectorCount());
+        assertNotSame(kept, outer.vector(5));
+        outer.close();
+        assertEquals(2, workspace.pooledVectorCount());
+        assertThrows(IllegalStateException.class, outer::close);
+    }
+
+}